@@ -4,8 +4,11 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
 
+import com.cheatsheet.distributedlock.enums.LockMode;
 import com.cheatsheet.distributedlock.enums.LockType;
+import com.cheatsheet.distributedlock.enums.ReleaseMode;
 
 /**
  * 메서드에 선언하여 분산 락을 적용하는 커스텀 애너테이션
@@ -26,10 +29,17 @@ public @interface DistributedLock {
     LockType type() default LockType.REDIS_LUA;
     
     /**
-     * 타임아웃 (초)
+     * 타임아웃 (단위는 timeUnit, 기본 초)
      */
     int timeout() default 10;
     
+    /**
+     * 타임아웃 단위
+     * MILLISECONDS로 지정하면 수 밀리초 단위의 짧은 만료 시간을 사용할 수 있습니다.
+     * 밀리초 만료를 지원하지 않는 구현체에서는 초 단위로 올림됩니다.
+     */
+    TimeUnit timeUnit() default TimeUnit.SECONDS;
+    
     /**
      * 락 획득 실패 시 재시도 횟수
      */
@@ -39,4 +49,28 @@ public @interface DistributedLock {
      * 재시도 간격 (밀리초)
      */
     long retryInterval() default 100;
+    
+    /**
+     * 락 획득 대기 시간 (밀리초)
+     * 0보다 크면 해제 알림을 받을 때까지 대기하며, 알림을 받거나 대기 시간이 끝났을 때만 재시도합니다.
+     */
+    long waitTime() default 0;
+    
+    /**
+     * 락 모드
+     * READ는 여러 보유자가 동시에 획득할 수 있으며, 읽기/쓰기 락을 지원하는 타입(REDIS_READ_WRITE)에서만 사용할 수 있습니다.
+     */
+    LockMode mode() default LockMode.WRITE;
+    
+    /**
+     * 최대 동시 보유자 수
+     * 1보다 크면 세마포어로 동작하여 클러스터 전체에서 지정한 수만큼 동시에 보유할 수 있습니다.
+     */
+    int permits() default 1;
+    
+    /**
+     * 락 해제 방식
+     * ASYNC로 지정하면 메서드 본문이 끝나는 즉시 반환하고, 해제는 백그라운드에서 다른 스레드의 해제와 묶어 보냅니다.
+     */
+    ReleaseMode releaseMode() default ReleaseMode.SYNC;
 }
@@ -1,21 +1,35 @@
 package com.cheatsheet.distributedlock.aspect;
 
 import com.cheatsheet.distributedlock.annotation.DistributedLock;
+import com.cheatsheet.distributedlock.enums.LockMode;
 import com.cheatsheet.distributedlock.enums.LockType;
+import com.cheatsheet.distributedlock.enums.ReleaseMode;
 import com.cheatsheet.distributedlock.exception.LockAcquisitionException;
+import com.cheatsheet.distributedlock.model.LockHandle;
 import com.cheatsheet.distributedlock.service.DistributedLockService;
+import com.cheatsheet.distributedlock.service.LocalCoalescingLockService;
 import com.cheatsheet.distributedlock.service.LockRetryService;
+import com.cheatsheet.distributedlock.service.ReactiveDistributedLockService;
+import com.cheatsheet.distributedlock.service.ReadWriteLockService;
+import com.cheatsheet.distributedlock.service.SemaphoreLockService;
+import com.cheatsheet.distributedlock.util.LockKeyCompactor;
 import com.cheatsheet.distributedlock.util.SpelKeyResolver;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
+import org.reactivestreams.Publisher;
 import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -28,21 +42,47 @@ import java.util.stream.Collectors;
 public class DistributedLockAspect {
     
     private final Map<LockType, DistributedLockService> lockServices;
+    private final Map<LockType, DistributedLockService> readLockServices;
+    private final Map<LockType, SemaphoreLockService> semaphoreServices;
+    private final Map<LockType, ReactiveDistributedLockService> reactiveLockServices;
     private final LockRetryService lockRetryService;
+    private final LockKeyCompactor keyCompactor;
     
     /**
      * 생성자: 모든 DistributedLockService 구현체를 주입받아 LockType별로 매핑
+     * 각 구현체는 LocalCoalescingLockService로 감싸, 같은 키에 대해 JVM당 한 스레드만 원격 경합하도록 합니다.
+     * 소유권이 스레드에 묶인 구현체와 대기 순서를 지켜야 하는 공정 락은 감싸지 않습니다.
+     * 세마포어와 Reactive 구현체도 LockType별로 매핑하고, 해석된 락 키는 keyCompactor로 변환합니다.
      * 
      * @param lockServiceList 모든 DistributedLockService 구현체 리스트
+     * @param semaphoreServiceList 모든 SemaphoreLockService 구현체 리스트
+     * @param reactiveLockServiceList 모든 ReactiveDistributedLockService 구현체 리스트
      * @param lockRetryService 락 재시도 서비스
+     * @param keyCompactor 락 키 변환기 (사용하지 않으면 LockKeyCompactor.disabled())
      */
-    public DistributedLockAspect(List<DistributedLockService> lockServiceList, LockRetryService lockRetryService) {
+    public DistributedLockAspect(List<DistributedLockService> lockServiceList,
+                                 List<SemaphoreLockService> semaphoreServiceList,
+                                 List<ReactiveDistributedLockService> reactiveLockServiceList,
+                                 LockRetryService lockRetryService,
+                                 LockKeyCompactor keyCompactor) {
         this.lockServices = lockServiceList.stream()
                 .collect(Collectors.toMap(
                         DistributedLockService::getSupportedType,
-                        Function.identity()
+                        LocalCoalescingLockService::decorate
                 ));
+        this.readLockServices = lockServiceList.stream()
+                .filter(ReadWriteLockService.class::isInstance)
+                .map(ReadWriteLockService.class::cast)
+                .collect(Collectors.toMap(
+                        DistributedLockService::getSupportedType,
+                        ReadWriteLockService::readLock
+                ));
+        this.semaphoreServices = semaphoreServiceList.stream()
+                .collect(Collectors.toMap(SemaphoreLockService::getSupportedType, Function.identity()));
+        this.reactiveLockServices = reactiveLockServiceList.stream()
+                .collect(Collectors.toMap(ReactiveDistributedLockService::getSupportedType, Function.identity()));
         this.lockRetryService = lockRetryService;
+        this.keyCompactor = keyCompactor;
         log.info("DistributedLockAspect initialized with {} lock services", lockServices.size());
     }
     
@@ -60,17 +100,35 @@ public class DistributedLockAspect {
         String lockKey = resolveLockKey(distributedLock.key(), joinPoint);
         log.debug("Resolved lock key: {}", lockKey);
         
-        // 2. 락 타입에 따라 적절한 서비스 선택
-        DistributedLockService lockService = selectLockService(distributedLock.type());
+        // Mono/Flux를 반환하는 메서드는 구독 시점에 획득하고 종료/취소 시점에 해제
+        Class<?> returnType = ((MethodSignature) joinPoint.getSignature()).getMethod().getReturnType();
+        if (Mono.class.isAssignableFrom(returnType) || Flux.class.isAssignableFrom(returnType)) {
+            return aroundReactive(joinPoint, distributedLock, lockKey, returnType);
+        }
+        
+        // 2. 락 타입, 모드, 허용 개수에 따라 적절한 서비스 선택
+        DistributedLockService lockService = selectLockService(distributedLock);
         
-        // 3. 재시도 설정이 있는 경우 @Retryable을 통한 재시도, 없는 경우 직접 획득
+        // 3. 대기 시간이 있는 경우 해제 알림 기반 대기, 재시도 설정이 있는 경우 @Retryable을 통한 재시도,
+        //    둘 다 없는 경우 직접 획득
+        //    초 이외의 단위로 지정한 타임아웃은 밀리초 정밀도의 Duration API로 전달
+        boolean seconds = distributedLock.timeUnit() == TimeUnit.SECONDS;
+        Duration timeout = leaseTime(distributedLock);
         boolean acquired;
-        if (distributedLock.retryCount() > 0) {
+        if (distributedLock.waitTime() > 0) {
+            acquired = seconds
+                    ? lockService.tryAcquireLock(lockKey, distributedLock.timeout(), distributedLock.waitTime())
+                    : lockService.tryAcquireLock(lockKey, timeout, distributedLock.waitTime());
+        } else if (distributedLock.retryCount() > 0) {
             // @Retryable을 통한 재시도 (LockRetryService 사용)
-            acquired = lockRetryService.acquireLockWithRetry(lockService, lockKey, distributedLock.timeout());
+            acquired = seconds
+                    ? lockRetryService.acquireLockWithRetry(lockService, lockKey, distributedLock.timeout())
+                    : lockRetryService.acquireLockWithRetry(lockService, lockKey, timeout);
         } else {
             // 재시도 없이 단일 시도
-            acquired = lockService.acquireLock(lockKey, distributedLock.timeout());
+            acquired = seconds
+                    ? lockService.acquireLock(lockKey, distributedLock.timeout())
+                    : lockService.acquireLock(lockKey, timeout);
         }
         
         if (!acquired) {
@@ -86,18 +144,115 @@ public class DistributedLockAspect {
             // 4. 원본 메서드 실행
             return joinPoint.proceed();
         } finally {
-            // 5. 락 해제 (반드시 실행)
-            boolean released = lockService.releaseLock(lockKey);
+            // 5. 락 해제 (반드시 실행) - ASYNC 모드는 해제를 백그라운드로 넘기고 바로 반환
+            boolean released = distributedLock.releaseMode() == ReleaseMode.ASYNC
+                    ? lockService.releaseLockInBackground(lockKey)
+                    : lockService.releaseLock(lockKey);
             if (released) {
-                log.debug("Lock released: {}", lockKey);
+                log.debug("Lock released: {}, mode={}", lockKey, distributedLock.releaseMode());
             } else {
                 log.warn("Failed to release lock: {}", lockKey);
             }
         }
     }
     
+    /**
+     * Mono/Flux를 반환하는 메서드에 락을 적용합니다.
+     * 메서드가 반환한 파이프라인을 구독하기 전에 락을 획득하고, 완료, 오류, 취소 신호에서 해제합니다.
+     * 원본 메서드도 락을 획득한 뒤에 호출되며, 이 과정에서 어떤 스레드도 블로킹하지 않습니다.
+     * 
+     * @param joinPoint 메서드 실행 지점
+     * @param distributedLock 애너테이션 인스턴스
+     * @param lockKey 락 키
+     * @param returnType 메서드 반환 타입 (Mono 또는 Flux)
+     * @return 락으로 감싼 Mono 또는 Flux
+     */
+    private Object aroundReactive(ProceedingJoinPoint joinPoint, DistributedLock distributedLock,
+                                  String lockKey, Class<?> returnType) {
+        ReactiveDistributedLockService lockService = selectReactiveLockService(distributedLock);
+        Mono<LockHandle> acquisition = acquireReactive(lockService, lockKey, distributedLock);
+        Function<LockHandle, Mono<Boolean>> release = handle -> lockService.releaseLock(handle)
+                .doOnNext(released -> {
+                    if (released) {
+                        log.debug("Lock released: {}", lockKey);
+                    } else {
+                        log.warn("Failed to release lock: {}", lockKey);
+                    }
+                });
+        
+        if (Flux.class.isAssignableFrom(returnType)) {
+            return Flux.usingWhen(
+                    acquisition,
+                    handle -> Flux.from(proceedReactive(joinPoint)),
+                    release,
+                    (handle, error) -> release.apply(handle),
+                    release);
+        }
+        return Mono.usingWhen(
+                acquisition,
+                handle -> Mono.from(proceedReactive(joinPoint)),
+                release,
+                (handle, error) -> release.apply(handle),
+                release);
+    }
+    
+    /**
+     * 애너테이션 설정에 따라 Reactive 락 획득 Mono를 구성합니다.
+     * 대기 시간이 있으면 해제 알림 기반 대기, 재시도 설정이 있으면 retryInterval 간격으로 재시도합니다.
+     * 락 서비스 호출 자체도 구독 시점까지 미룹니다.
+     */
+    private Mono<LockHandle> acquireReactive(ReactiveDistributedLockService lockService, String lockKey,
+                                             DistributedLock distributedLock) {
+        boolean seconds = distributedLock.timeUnit() == TimeUnit.SECONDS;
+        Duration timeout = leaseTime(distributedLock);
+        Mono<LockHandle> acquisition;
+        if (distributedLock.waitTime() > 0) {
+            acquisition = Mono.defer(() -> seconds
+                    ? lockService.tryAcquireLock(lockKey, distributedLock.timeout(), distributedLock.waitTime())
+                    : lockService.tryAcquireLock(lockKey, timeout, distributedLock.waitTime()));
+        } else if (distributedLock.retryCount() > 0) {
+            acquisition = Mono.defer(() -> seconds
+                            ? lockService.acquireLock(lockKey, distributedLock.timeout())
+                            : lockService.acquireLock(lockKey, timeout))
+                    .retryWhen(Retry.fixedDelay(distributedLock.retryCount(),
+                                    Duration.ofMillis(distributedLock.retryInterval()))
+                            .filter(LockAcquisitionException.class::isInstance)
+                            .onRetryExhaustedThrow((spec, signal) -> signal.failure()));
+        } else {
+            acquisition = Mono.defer(() -> seconds
+                    ? lockService.acquireLock(lockKey, distributedLock.timeout())
+                    : lockService.acquireLock(lockKey, timeout));
+        }
+        
+        return acquisition
+                .onErrorMap(LockAcquisitionException.class, e -> new LockAcquisitionException(
+                        "Failed to acquire lock after retries: " + lockKey, lockKey, e))
+                .doOnNext(handle -> log.debug("Lock acquired: {}", lockKey));
+    }
+    
+    /**
+     * 애너테이션의 timeout과 timeUnit으로 만료 시간을 계산합니다.
+     */
+    private static Duration leaseTime(DistributedLock distributedLock) {
+        return Duration.of(distributedLock.timeout(), distributedLock.timeUnit().toChronoUnit());
+    }
+    
+    /**
+     * 원본 메서드를 호출하여 반환된 Publisher를 얻습니다.
+     * 호출 중 발생한 예외는 오류 신호로 전달합니다.
+     */
+    private Publisher<?> proceedReactive(ProceedingJoinPoint joinPoint) {
+        try {
+            Object result = joinPoint.proceed();
+            return result != null ? (Publisher<?>) result : Mono.empty();
+        } catch (Throwable e) {
+            return Mono.error(e);
+        }
+    }
+    
     /**
      * SpEL 표현식을 평가하여 동적 락 키를 생성합니다.
+     * 키 압축이 활성화되어 있으면 평가된 키를 고정 길이 해시 키로 바꿉니다.
      * 
      * @param keyExpression SpEL 표현식
      * @param joinPoint 메서드 실행 지점
@@ -108,7 +263,30 @@ public class DistributedLockAspect {
         Method method = signature.getMethod();
         Object[] args = joinPoint.getArgs();
         
-        return SpelKeyResolver.resolve(keyExpression, method, args);
+        return keyCompactor.compact(SpelKeyResolver.resolve(keyExpression, method, args));
+    }
+    
+    /**
+     * 애너테이션 설정에 따라 Lock Service를 선택합니다.
+     * permits가 1보다 크면 세마포어, mode가 READ면 읽기 락, 그 외에는 배타 락을 사용합니다.
+     * 
+     * @param distributedLock 애너테이션 인스턴스
+     * @return 사용할 Lock Service
+     * @throws IllegalArgumentException 지원하지 않는 조합인 경우
+     */
+    private DistributedLockService selectLockService(DistributedLock distributedLock) {
+        if (distributedLock.permits() < 1) {
+            throw new IllegalArgumentException("Permits must be positive: " + distributedLock.permits());
+        }
+        if (distributedLock.permits() > 1) {
+            if (distributedLock.mode() == LockMode.READ) {
+                throw new IllegalArgumentException("Permits cannot be combined with READ mode");
+            }
+            return selectSemaphoreService(distributedLock.type()).withPermits(distributedLock.permits());
+        }
+        return distributedLock.mode() == LockMode.READ
+                ? selectReadLockService(distributedLock.type())
+                : selectLockService(distributedLock.type());
     }
     
     /**
@@ -126,4 +304,53 @@ public class DistributedLockAspect {
         return service;
     }
     
+    /**
+     * 락 타입에 해당하는 읽기 락 서비스를 선택합니다.
+     * 
+     * @param lockType 락 타입
+     * @return 해당 타입의 읽기 락 서비스
+     * @throws IllegalArgumentException 읽기 락을 지원하지 않는 락 타입인 경우
+     */
+    private DistributedLockService selectReadLockService(LockType lockType) {
+        DistributedLockService service = readLockServices.get(lockType);
+        if (service == null) {
+            throw new IllegalArgumentException("Lock type does not support READ mode: " + lockType);
+        }
+        return service;
+    }
+    
+    /**
+     * 락 타입에 해당하는 세마포어 서비스를 선택합니다.
+     * 
+     * @param lockType 락 타입
+     * @return 해당 타입의 세마포어 서비스
+     * @throws IllegalArgumentException 세마포어를 지원하지 않는 락 타입인 경우
+     */
+    private SemaphoreLockService selectSemaphoreService(LockType lockType) {
+        SemaphoreLockService service = semaphoreServices.get(lockType);
+        if (service == null) {
+            throw new IllegalArgumentException("Lock type does not support permits: " + lockType);
+        }
+        return service;
+    }
+    
+    /**
+     * 애너테이션 설정에 해당하는 Reactive 락 서비스를 선택합니다.
+     * Reactive 메서드는 단일 허용 개수의 WRITE 모드만 지원합니다.
+     * 
+     * @param distributedLock 애너테이션 인스턴스
+     * @return 해당 타입의 Reactive 락 서비스
+     * @throws IllegalArgumentException 지원하지 않는 조합이거나 Reactive 구현이 없는 락 타입인 경우
+     */
+    private ReactiveDistributedLockService selectReactiveLockService(DistributedLock distributedLock) {
+        if (distributedLock.mode() == LockMode.READ || distributedLock.permits() != 1) {
+            throw new IllegalArgumentException("Reactive methods support only WRITE mode with a single permit");
+        }
+        ReactiveDistributedLockService service = reactiveLockServices.get(distributedLock.type());
+        if (service == null) {
+            throw new IllegalArgumentException("Lock type does not support reactive methods: " + distributedLock.type());
+        }
+        return service;
+    }
+    
 }
@@ -0,0 +1,43 @@
+package com.cheatsheet.distributedlock.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.cheatsheet.distributedlock.service.AsyncDistributedLockService;
+import com.cheatsheet.distributedlock.service.ExecutorAsyncLockService;
+import com.cheatsheet.distributedlock.service.MysqlSessionLockService;
+import com.cheatsheet.distributedlock.service.PostgresAdvisoryLockService;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 비동기 락 설정
+ * JDBC 락은 비동기 드라이버가 없으므로 요청 스레드와 분리된 전용 스레드 풀에서 실행합니다.
+ */
+@Configuration
+public class AsyncLockConfig {
+
+    @Bean(name = "jdbcLockExecutor", destroyMethod = "shutdown")
+    public ExecutorService jdbcLockExecutor(
+            @Value("${distributed-lock.jdbc.async.pool-size:16}") int poolSize) {
+        return Executors.newFixedThreadPool(poolSize,
+                Thread.ofPlatform().name("jdbc-lock-", 0).daemon(true).factory());
+    }
+
+    @Bean
+    public AsyncDistributedLockService mysqlAsyncLockService(
+            MysqlSessionLockService mysqlSessionLockService,
+            @Qualifier("jdbcLockExecutor") ExecutorService jdbcLockExecutor) {
+        return new ExecutorAsyncLockService(mysqlSessionLockService, jdbcLockExecutor);
+    }
+
+    @Bean
+    public AsyncDistributedLockService postgresAsyncLockService(
+            PostgresAdvisoryLockService postgresAdvisoryLockService,
+            @Qualifier("jdbcLockExecutor") ExecutorService jdbcLockExecutor) {
+        return new ExecutorAsyncLockService(postgresAdvisoryLockService, jdbcLockExecutor);
+    }
+}
@@ -1,8 +1,14 @@
 package com.cheatsheet.distributedlock.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
 import org.springframework.retry.annotation.EnableRetry;
+import org.springframework.retry.interceptor.RetryOperationsInterceptor;
+
+import com.cheatsheet.distributedlock.service.LockRetryService;
+import com.cheatsheet.distributedlock.util.LockKeyCompactor;
 
 /**
  * 분산 락 AOP 설정
@@ -12,4 +18,29 @@ import org.springframework.retry.annotation.EnableRetry;
 @EnableRetry // Spring Retry 활성화
 public class DistributedLockConfig {
     // DistributedLockAspect는 @Component로 자동 등록되므로 별도 Bean 정의 불필요
+
+    /**
+     * LockRetryService의 @Retryable이 사용하는 재시도 정책
+     * 재시도 간격은 보유자의 남은 보유 시간을 따르고, 모를 때만 고정 간격을 사용합니다.
+     */
+    @Bean(name = LockRetryService.INTERCEPTOR)
+    public RetryOperationsInterceptor lockRetryInterceptor(
+            @Value("${distributed-lock.retry.max-attempts:4}") int maxAttempts,
+            @Value("${distributed-lock.retry.delay-millis:100}") long delayMillis,
+            @Value("${distributed-lock.retry.jitter-millis:20}") long jitterMillis,
+            @Value("${distributed-lock.retry.max-delay-millis:1000}") long maxDelayMillis) {
+        return LockRetryService.interceptor(maxAttempts, delayMillis, jitterMillis, maxDelayMillis);
+    }
+
+    /**
+     * @DistributedLock 키를 고정 길이 해시 키로 줄이는 변환기 (기본 비활성화)
+     */
+    @Bean
+    public LockKeyCompactor lockKeyCompactor(
+            @Value("${distributed-lock.key-compaction.enabled:false}") boolean enabled,
+            @Value("${distributed-lock.key-compaction.prefix:lk:}") String prefix,
+            @Value("${distributed-lock.key-compaction.keep-segments:0}") int keepSegments,
+            @Value("${distributed-lock.key-compaction.debug:false}") boolean debug) {
+        return new LockKeyCompactor(enabled, prefix, keepSegments, debug);
+    }
 }
@@ -0,0 +1,87 @@
+package com.cheatsheet.distributedlock.config;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.cheatsheet.distributedlock.service.LockConnectionMetrics;
+
+import javax.sql.DataSource;
+
+/**
+ * 락 전용 JDBC 커넥션 풀 설정
+ * 애플리케이션 풀(JPA 등)과 같은 풀을 쓰면 쿼리가 몰릴 때 락 획득/해제가 커넥션을 기다리므로,
+ * 접속 정보만 애플리케이션 풀에서 복사하고 크기가 작은 별도 풀을 만듭니다.
+ * 풀 지표는 LockConnectionMetrics와 JMX(HikariPoolMXBean)로 확인할 수 있습니다.
+ *
+ * 세션 락은 해제될 때까지 커넥션을 고정하므로 풀 크기가 곧 이 JVM이 동시에 보유할 수 있는 락 수입니다.
+ * - 비동기 API 스레드가 모두 락을 기다려도 커넥션이 모자라지 않도록 최소 distributed-lock.jdbc.async.pool-size개
+ * - 풀이 가득 차면 connectionTimeout(기본 250ms, Hikari 최솟값)마다 실패하고, 호출자의 대기 시간이 남은 동안만 다시 빌림
+ */
+@Configuration
+public class LockDataSourceConfig {
+
+    @Bean(name = "mysqlLockDataSource", destroyMethod = "close")
+    public HikariDataSource mysqlLockDataSource(
+            @Qualifier("mysqlDataSource") DataSource mysqlDataSource,
+            LockConnectionMetrics lockConnectionMetrics,
+            @Value("${distributed-lock.jdbc.mysql.maximum-pool-size:16}") int maximumPoolSize,
+            @Value("${distributed-lock.jdbc.mysql.minimum-idle:2}") int minimumIdle,
+            @Value("${distributed-lock.jdbc.connection-timeout-millis:250}") long connectionTimeoutMillis,
+            @Value("${distributed-lock.jdbc.async.pool-size:16}") int asyncPoolSize) {
+        return lockDataSource((HikariConfig) mysqlDataSource, "mysql-lock",
+                Math.max(maximumPoolSize, asyncPoolSize), minimumIdle, connectionTimeoutMillis, lockConnectionMetrics);
+    }
+
+    @Bean(name = "mysqlLockJdbcTemplate")
+    public JdbcTemplate mysqlLockJdbcTemplate(@Qualifier("mysqlLockDataSource") DataSource mysqlLockDataSource) {
+        return new JdbcTemplate(mysqlLockDataSource);
+    }
+
+    @Bean(name = "postgresLockDataSource", destroyMethod = "close")
+    public HikariDataSource postgresLockDataSource(
+            @Qualifier("postgresDataSource") DataSource postgresDataSource,
+            LockConnectionMetrics lockConnectionMetrics,
+            @Value("${distributed-lock.jdbc.postgresql.maximum-pool-size:16}") int maximumPoolSize,
+            @Value("${distributed-lock.jdbc.postgresql.minimum-idle:2}") int minimumIdle,
+            @Value("${distributed-lock.jdbc.connection-timeout-millis:250}") long connectionTimeoutMillis,
+            @Value("${distributed-lock.jdbc.async.pool-size:16}") int asyncPoolSize) {
+        return lockDataSource((HikariConfig) postgresDataSource, "postgres-lock",
+                Math.max(maximumPoolSize, asyncPoolSize), minimumIdle, connectionTimeoutMillis, lockConnectionMetrics);
+    }
+
+    @Bean(name = "postgresLockJdbcTemplate")
+    public JdbcTemplate postgresLockJdbcTemplate(@Qualifier("postgresLockDataSource") DataSource postgresLockDataSource) {
+        return new JdbcTemplate(postgresLockDataSource);
+    }
+
+    /**
+     * 애플리케이션 풀의 접속 설정을 복사해 락 전용 풀을 만듭니다.
+     *
+     * @param application 애플리케이션 풀 설정
+     * @param poolName 락 전용 풀 이름 (지표 이름의 접두사)
+     * @param maximumPoolSize 최대 커넥션 수
+     * @param minimumIdle 최소 유휴 커넥션 수
+     * @param connectionTimeoutMillis 풀이 가득 찼을 때 한 번에 커넥션을 기다리는 시간 (밀리초, 250 미만이면 250)
+     * @param metrics 커넥션 대기/사용 시간을 기록할 지표
+     * @return 락 전용 풀
+     */
+    static HikariDataSource lockDataSource(HikariConfig application, String poolName,
+                                           int maximumPoolSize, int minimumIdle, long connectionTimeoutMillis,
+                                           LockConnectionMetrics metrics) {
+        // 애플리케이션 풀처럼 첫 커넥션 요청 시점에 풀을 시작
+        HikariDataSource dataSource = new HikariDataSource();
+        application.copyStateTo(dataSource);
+        dataSource.setPoolName(poolName);
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        dataSource.setMinimumIdle(Math.min(minimumIdle, maximumPoolSize));
+        dataSource.setConnectionTimeout(Math.max(connectionTimeoutMillis, 250));
+        dataSource.setMetricsTrackerFactory(metrics);
+        dataSource.setRegisterMbeans(true);
+        return dataSource;
+    }
+}
@@ -0,0 +1,16 @@
+package com.cheatsheet.distributedlock.enums;
+
+/**
+ * 락 획득 모드를 정의하는 열거형
+ */
+public enum LockMode {
+    /**
+     * 쓰기(배타) 락 - 모든 락 타입에서 사용 가능
+     */
+    WRITE,
+    
+    /**
+     * 읽기(공유) 락 - 읽기/쓰기 락을 지원하는 락 타입(REDIS_READ_WRITE)에서만 사용 가능
+     */
+    READ
+}
@@ -22,5 +22,30 @@ public enum LockType {
     /**
      * Redis SETNX Lock
      */
-    REDIS_SETNX
+    REDIS_SETNX,
+    
+    /**
+     * Redis Reentrant Lock (소유자 + 보유 횟수 Hash)
+     */
+    REDIS_REENTRANT,
+    
+    /**
+     * Redis Read-Write Lock (다중 읽기 / 단일 쓰기)
+     */
+    REDIS_READ_WRITE,
+    
+    /**
+     * Redis Fair Lock (FIFO 대기열 + 직접 넘김)
+     */
+    REDIS_FAIR,
+
+    /**
+     * Redis Quorum Lock (독립 노드 과반수 획득, Redlock)
+     */
+    REDIS_QUORUM,
+
+    /**
+     * Redis Hash Lock (네임스페이스별 Hash 필드 + 필드 TTL, Redis 7.4 이상)
+     */
+    REDIS_HASH
 }
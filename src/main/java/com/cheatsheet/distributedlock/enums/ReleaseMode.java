@@ -0,0 +1,17 @@
+package com.cheatsheet.distributedlock.enums;
+
+/**
+ * 락 해제 방식을 정의하는 열거형
+ */
+public enum ReleaseMode {
+    /**
+     * 메서드 종료 시 해제 응답을 받을 때까지 대기
+     */
+    SYNC,
+    
+    /**
+     * 해제를 백그라운드 해제기에 넘기고 바로 반환 - 지원하지 않는 락 타입은 SYNC로 동작
+     * 해제가 반영되기 전까지 같은 키의 다음 획득은 실패하거나 해제 알림을 기다립니다.
+     */
+    ASYNC
+}
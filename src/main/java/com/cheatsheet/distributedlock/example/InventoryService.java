@@ -1,12 +1,15 @@
 package com.cheatsheet.distributedlock.example;
 
 import com.cheatsheet.distributedlock.annotation.DistributedLock;
+import com.cheatsheet.distributedlock.enums.LockMode;
 import com.cheatsheet.distributedlock.enums.LockType;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.framework.AopContext;
 import org.springframework.stereotype.Service;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 재고 관리 서비스 - 분산 락 사용 예제
@@ -27,6 +30,12 @@ public class InventoryService {
      */
     private final Map<String, Integer> inventory = new ConcurrentHashMap<>();
     
+    /**
+     * 상품별로 마지막으로 반영된 쓰기의 펜싱 토큰
+     * 실제 환경에서는 재고 행의 컬럼으로 저장하여 조건부 UPDATE로 검증합니다.
+     */
+    private final Map<String, Long> lastFencingTokens = new ConcurrentHashMap<>();
+    
     /**
      * 초기 재고를 설정합니다.
      * 
@@ -198,6 +207,204 @@ public class InventoryService {
         return decreaseStockInternal(productId, quantity);
     }
     
+    /**
+     * 해제 알림 대기를 포함한 재고 감소
+     * 
+     * 락이 이미 보유 중이면 최대 3초 동안 해제 알림을 기다립니다.
+     * 고정 간격으로 폴링하지 않고, 보유자가 락을 해제하거나 TTL이 만료되어
+     * 알림을 받았을 때만 다시 획득을 시도합니다.
+     * 
+     * 사용 시나리오:
+     * - 경합이 잦아 고정 간격 재시도의 지연이 부담되는 경우
+     * - 재시도로 인한 Redis 부하를 줄여야 하는 경우
+     * 
+     * @param productId 상품 ID
+     * @param quantity 감소할 수량
+     * @return 감소 후 남은 재고
+     */
+    @DistributedLock(
+        key = "'product:' + #productId",
+        type = LockType.REDIS_LUA,
+        timeout = 10,
+        waitTime = 3000
+    )
+    public int decreaseStockWithWait(String productId, int quantity) {
+        log.info("[With Wait] Decreasing stock for product {}: {} units", productId, quantity);
+        return decreaseStockInternal(productId, quantity);
+    }
+    
+    /**
+     * Redis 재진입 락을 사용한 재고 감소
+     * 
+     * 같은 락 키로 보호되는 다른 메서드 안에서 호출되어도 교착 없이 다시 획득합니다.
+     * 중첩 획득은 스레드 로컬 보유 횟수만 증가시키므로 Redis 호출이 추가되지 않습니다.
+     * 
+     * @param productId 상품 ID
+     * @param quantity 감소할 수량
+     * @return 감소 후 남은 재고
+     */
+    @DistributedLock(
+        key = "'product:' + #productId",
+        type = LockType.REDIS_REENTRANT,
+        timeout = 10
+    )
+    public int decreaseStockWithReentrant(String productId, int quantity) {
+        log.info("[Redis Reentrant] Decreasing stock for product {}: {} units", productId, quantity);
+        return decreaseStockInternal(productId, quantity);
+    }
+    
+    /**
+     * 재진입 락을 보유한 채로 여러 번 재고를 감소시킵니다.
+     * 
+     * 프록시를 통해 decreaseStockWithReentrant()를 호출하므로 내부 호출마다
+     * 같은 락 키를 다시 획득하며, 재진입 락이 아니라면 첫 내부 호출에서 실패합니다.
+     * 
+     * @param productId 상품 ID
+     * @param quantity 회당 감소할 수량
+     * @param times 감소 횟수
+     * @return 감소 후 남은 재고
+     */
+    @DistributedLock(
+        key = "'product:' + #productId",
+        type = LockType.REDIS_REENTRANT,
+        timeout = 10
+    )
+    public int decreaseStockRepeatedly(String productId, int quantity, int times) {
+        InventoryService self = (InventoryService) AopContext.currentProxy();
+        int remaining = getStock(productId);
+        for (int i = 0; i < times; i++) {
+            remaining = self.decreaseStockWithReentrant(productId, quantity);
+        }
+        return remaining;
+    }
+    
+    /**
+     * Redis 읽기 락을 사용한 재고 조회
+     * 
+     * 읽기 락은 여러 요청이 동시에 보유할 수 있으므로 조회 요청끼리는 서로를 기다리지 않고,
+     * 같은 키의 쓰기 락(decreaseStockWithReadWrite)이 보유 중일 때만 막힙니다.
+     * 
+     * @param productId 상품 ID
+     * @return 현재 재고 수량
+     */
+    @DistributedLock(
+        key = "'stock-rw:' + #productId",
+        type = LockType.REDIS_READ_WRITE,
+        mode = LockMode.READ,
+        timeout = 10,
+        waitTime = 1000
+    )
+    public int getStockWithReadLock(String productId) {
+        return getStock(productId);
+    }
+    
+    /**
+     * Redis 쓰기 락을 사용한 재고 감소
+     * 
+     * 쓰기 락은 다른 읽기/쓰기 보유자를 모두 배제합니다.
+     * 
+     * @param productId 상품 ID
+     * @param quantity 감소할 수량
+     * @return 감소 후 남은 재고
+     */
+    @DistributedLock(
+        key = "'stock-rw:' + #productId",
+        type = LockType.REDIS_READ_WRITE,
+        mode = LockMode.WRITE,
+        timeout = 10,
+        waitTime = 1000
+    )
+    public int decreaseStockWithReadWrite(String productId, int quantity) {
+        log.info("[Redis Read-Write] Decreasing stock for product {}: {} units", productId, quantity);
+        return decreaseStockInternal(productId, quantity);
+    }
+    
+    /**
+     * 세마포어를 사용한 외부 재고 동기화
+     * 
+     * 클러스터 전체에서 최대 8개의 요청만 동시에 외부 창고 시스템을 호출하도록 제한합니다.
+     * 보유 슬롯은 timeout이 지나면 자동으로 회수되므로, 요청 처리 중 노드가 죽어도 슬롯이 고갈되지 않습니다.
+     * 
+     * @param productId 상품 ID
+     * @return 현재 재고 수량
+     */
+    @DistributedLock(
+        key = "'warehouse-sync'",
+        permits = 8,
+        timeout = 30,
+        waitTime = 2000
+    )
+    public int syncStockWithWarehouse(String productId) {
+        log.info("[Semaphore] Syncing stock with warehouse for product {}", productId);
+        return getStock(productId);
+    }
+    
+    /**
+     * Redis 공정 락을 사용한 재고 감소
+     * 
+     * 요청은 도착 순서대로 락을 얻으며, 해제 시 다음 대기자에게 락이 바로 넘어갑니다.
+     * 경합이 심한 인기 상품에서 일부 요청이 계속 밀려나는 기아 상태와 꼬리 지연을 줄입니다.
+     * 
+     * @param productId 상품 ID
+     * @param quantity 감소할 수량
+     * @return 감소 후 남은 재고
+     */
+    @DistributedLock(
+        key = "'product-fair:' + #productId",
+        type = LockType.REDIS_FAIR,
+        timeout = 10,
+        waitTime = 5000
+    )
+    public int decreaseStockFairly(String productId, int quantity) {
+        log.info("[Redis Fair] Decreasing stock for product {}: {} units", productId, quantity);
+        return decreaseStockInternal(productId, quantity);
+    }
+
+    /**
+     * Redis 과반수(Redlock) 락을 사용한 재고 감소
+     *
+     * 독립된 여러 Redis 노드 중 과반수에서 락을 얻어야 성공하므로,
+     * 단일 Redis 노드 장애나 페일오버 중에도 상호 배제가 유지됩니다.
+     * distributed-lock.redis.quorum.nodes 설정이 있어야 사용할 수 있습니다.
+     *
+     * @param productId 상품 ID
+     * @param quantity 감소할 수량
+     * @return 감소 후 남은 재고
+     */
+    @DistributedLock(
+        key = "'product-quorum:' + #productId",
+        type = LockType.REDIS_QUORUM,
+        timeout = 10,
+        waitTime = 3000
+    )
+    public int decreaseStockWithQuorum(String productId, int quantity) {
+        log.info("[Redis Quorum] Decreasing stock for product {}: {} units", productId, quantity);
+        return decreaseStockInternal(productId, quantity);
+    }
+
+    /**
+     * 밀리초 단위의 짧은 만료 시간으로 재고를 감소합니다.
+     * 
+     * 임계 구역이 수 밀리초면 끝나는 핫 상품에서는 보유자가 비정상 종료되어도
+     * 1초가 아니라 설정한 만료 시간(여기서는 200ms)만 지나면 다른 요청이 락을 획득할 수 있습니다.
+     * Redis 구현은 PX로 만료 시간을 설정합니다.
+     * 
+     * @param productId 상품 ID
+     * @param quantity 감소할 수량
+     * @return 감소 후 남은 재고
+     */
+    @DistributedLock(
+        key = "'product-hot:' + #productId",
+        type = LockType.REDIS_LUA,
+        timeout = 200,
+        timeUnit = TimeUnit.MILLISECONDS,
+        waitTime = 1000
+    )
+    public int decreaseStockWithShortLease(String productId, int quantity) {
+        log.info("[Short Lease] Decreasing stock for product {}: {} units", productId, quantity);
+        return decreaseStockInternal(productId, quantity);
+    }
+
     /**
      * 복잡한 SpEL 표현식을 사용한 재고 감소
      * 
@@ -225,6 +432,38 @@ public class InventoryService {
         return decreaseStockInternal(productId, quantity);
     }
     
+    /**
+     * 펜싱 토큰을 검증하며 재고를 감소합니다.
+     * 
+     * 락이 GC 일시정지 등으로 만료된 뒤에도 작업을 이어가는 이전 보유자는
+     * 새 보유자보다 작은 토큰을 들고 있으므로, 저장소 쪽에서 그 쓰기를 거부할 수 있습니다.
+     * 토큰은 RedisLuaLockService.getLockMetadata(key).getFencingToken() 또는
+     * 비동기/Reactive API의 LockHandle.getFencingToken()으로 얻습니다.
+     * 
+     * @param productId 상품 ID
+     * @param quantity 감소할 수량
+     * @param fencingToken 락 획득 시 발급된 펜싱 토큰
+     * @return 감소 후 남은 재고
+     * @throws IllegalStateException 이미 더 큰 토큰으로 쓰기가 반영되었거나 재고가 부족한 경우
+     */
+    public int decreaseStockWithFencingToken(String productId, int quantity, long fencingToken) {
+        int[] remaining = new int[1];
+        // 같은 상품에 대한 토큰 비교와 재고 감소를 원자적으로 수행
+        lastFencingTokens.compute(productId, (id, lastToken) -> {
+            if (lastToken != null && fencingToken < lastToken) {
+                log.warn("Rejected stale write for product {}: token={}, lastToken={}", 
+                         productId, fencingToken, lastToken);
+                throw new IllegalStateException(
+                    String.format("Stale fencing token for product %s: token=%d, lastToken=%d",
+                                 productId, fencingToken, lastToken)
+                );
+            }
+            remaining[0] = decreaseStockInternal(productId, quantity);
+            return fencingToken;
+        });
+        return remaining[0];
+    }
+    
     /**
      * 실제 재고 감소 로직 (내부 메서드)
      * 
@@ -266,6 +505,7 @@ public class InventoryService {
      */
     public void clearAllStock() {
         inventory.clear();
+        lastFencingTokens.clear();
         log.info("All stock cleared");
     }
 }
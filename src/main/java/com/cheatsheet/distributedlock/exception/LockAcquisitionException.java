@@ -4,12 +4,27 @@ package com.cheatsheet.distributedlock.exception;
  * 락 획득 실패 시 발생하는 예외
  */
 public class LockAcquisitionException extends LockException {
-    
+
+    /**
+     * 다시 시도할 만한 시간 (밀리초, 알 수 없으면 0)
+     */
+    private final long retryAfterMillis;
+
     public LockAcquisitionException(String message, String lockKey) {
+        this(message, lockKey, 0);
+    }
+
+    public LockAcquisitionException(String message, String lockKey, long retryAfterMillis) {
         super(message, lockKey, LockOperation.ACQUIRE);
+        this.retryAfterMillis = retryAfterMillis;
     }
-    
+
     public LockAcquisitionException(String message, String lockKey, Throwable cause) {
         super(message, lockKey, LockOperation.ACQUIRE, cause);
+        this.retryAfterMillis = 0;
+    }
+
+    public long getRetryAfterMillis() {
+        return retryAfterMillis;
     }
 }
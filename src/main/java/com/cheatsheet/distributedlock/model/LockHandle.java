@@ -0,0 +1,65 @@
+package com.cheatsheet.distributedlock.model;
+
+import com.cheatsheet.distributedlock.enums.LockType;
+
+import java.time.Instant;
+
+/**
+ * 비동기 API로 획득한 락을 나타내는 객체
+ * 해제에 필요한 소유자 ID를 함께 들고 있으므로, 획득한 스레드와 다른 스레드에서도 해제할 수 있습니다.
+ */
+public class LockHandle {
+
+    private final String lockKey;
+    private final String ownerId;
+    private final LockType lockType;
+    private final Instant acquiredAt;
+    private final long fencingToken;
+
+    public LockHandle(String lockKey, String ownerId, LockType lockType, Instant acquiredAt) {
+        this(lockKey, ownerId, lockType, acquiredAt, 0);
+    }
+
+    public LockHandle(String lockKey, String ownerId, LockType lockType, Instant acquiredAt, long fencingToken) {
+        this.lockKey = lockKey;
+        this.ownerId = ownerId;
+        this.lockType = lockType;
+        this.acquiredAt = acquiredAt;
+        this.fencingToken = fencingToken;
+    }
+
+    public String getLockKey() {
+        return lockKey;
+    }
+
+    public String getOwnerId() {
+        return ownerId;
+    }
+
+    public LockType getLockType() {
+        return lockType;
+    }
+
+    public Instant getAcquiredAt() {
+        return acquiredAt;
+    }
+
+    /**
+     * 락 획득 시 발급된 펜싱 토큰을 반환합니다.
+     * 같은 락 키에 대해 획득할 때마다 증가하며, 토큰을 발급하지 않는 구현에서는 0입니다.
+     */
+    public long getFencingToken() {
+        return fencingToken;
+    }
+
+    @Override
+    public String toString() {
+        return "LockHandle{" +
+                "lockKey='" + lockKey + '\'' +
+                ", ownerId='" + ownerId + '\'' +
+                ", lockType=" + lockType +
+                ", acquiredAt=" + acquiredAt +
+                ", fencingToken=" + fencingToken +
+                '}';
+    }
+}
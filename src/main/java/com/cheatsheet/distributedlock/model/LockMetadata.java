@@ -1,5 +1,6 @@
 package com.cheatsheet.distributedlock.model;
 
+import java.time.Duration;
 import java.time.Instant;
 
 /**
@@ -10,13 +11,23 @@ public class LockMetadata {
     private final String lockKey;
     private final String ownerId;
     private final Instant acquiredAt;
-    private final int timeoutSeconds;
+    private final Duration timeout;
+    private final long fencingToken;
     
     public LockMetadata(String lockKey, String ownerId, Instant acquiredAt, int timeoutSeconds) {
+        this(lockKey, ownerId, acquiredAt, timeoutSeconds, 0);
+    }
+    
+    public LockMetadata(String lockKey, String ownerId, Instant acquiredAt, int timeoutSeconds, long fencingToken) {
+        this(lockKey, ownerId, acquiredAt, Duration.ofSeconds(timeoutSeconds), fencingToken);
+    }
+    
+    public LockMetadata(String lockKey, String ownerId, Instant acquiredAt, Duration timeout, long fencingToken) {
         this.lockKey = lockKey;
         this.ownerId = ownerId;
         this.acquiredAt = acquiredAt;
-        this.timeoutSeconds = timeoutSeconds;
+        this.timeout = timeout;
+        this.fencingToken = fencingToken;
     }
     
     public String getLockKey() {
@@ -31,8 +42,27 @@ public class LockMetadata {
         return acquiredAt;
     }
     
+    /**
+     * 만료 시간을 초 단위로 반환합니다. 1초 미만은 올림됩니다.
+     */
     public int getTimeoutSeconds() {
-        return timeoutSeconds;
+        long seconds = timeout.getSeconds() + (timeout.getNano() > 0 ? 1 : 0);
+        return (int) Math.min(seconds, Integer.MAX_VALUE);
+    }
+    
+    /**
+     * 획득 시 설정한 만료 시간을 밀리초 정밀도로 반환합니다.
+     */
+    public Duration getTimeout() {
+        return timeout;
+    }
+    
+    /**
+     * 락 획득 시 발급된 펜싱 토큰을 반환합니다.
+     * 같은 락 키에 대해 획득할 때마다 증가하며, 토큰을 발급하지 않는 구현에서는 0입니다.
+     */
+    public long getFencingToken() {
+        return fencingToken;
     }
     
     @Override
@@ -41,7 +71,8 @@ public class LockMetadata {
                 "lockKey='" + lockKey + '\'' +
                 ", ownerId='" + ownerId + '\'' +
                 ", acquiredAt=" + acquiredAt +
-                ", timeoutSeconds=" + timeoutSeconds +
+                ", timeout=" + timeout +
+                ", fencingToken=" + fencingToken +
                 '}';
     }
 }
@@ -0,0 +1,73 @@
+package com.cheatsheet.distributedlock.service;
+
+import com.cheatsheet.distributedlock.enums.LockType;
+import com.cheatsheet.distributedlock.model.LockHandle;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 호출 스레드를 점유하지 않는 비동기 락 인터페이스
+ *
+ * 획득 결과는 LockHandle로 전달되며, 해제는 핸들로 수행하므로 획득과 해제가 서로 다른 스레드에서 일어나도 됩니다.
+ * 락이 이미 보유 중이면 Future가 LockAcquisitionException으로 완료되고,
+ * 저장소 연결 오류는 LockConnectionException으로 완료됩니다.
+ */
+public interface AsyncDistributedLockService {
+
+    /**
+     * 대기 없이 한 번 락 획득을 시도합니다.
+     * @param lockKey 락 식별자
+     * @param timeoutSeconds 타임아웃 (초)
+     * @return 획득한 락 핸들
+     */
+    CompletableFuture<LockHandle> acquireLockAsync(String lockKey, int timeoutSeconds);
+
+    /**
+     * 지정한 대기 시간 동안 락 획득을 시도합니다.
+     * 기본 구현은 대기 없이 한 번만 시도하며, 해제 알림을 지원하는 구현체가 재정의합니다.
+     * @param lockKey 락 식별자
+     * @param timeoutSeconds 타임아웃 (초)
+     * @param waitMillis 최대 대기 시간 (밀리초)
+     * @return 획득한 락 핸들
+     */
+    default CompletableFuture<LockHandle> tryAcquireLockAsync(String lockKey, int timeoutSeconds, long waitMillis) {
+        return acquireLockAsync(lockKey, timeoutSeconds);
+    }
+
+    /**
+     * 밀리초 정밀도의 타임아웃으로 대기 없이 한 번 락 획득을 시도합니다.
+     * 기본 구현은 초 단위로 올림하여 acquireLockAsync(String, int)를 호출합니다.
+     * @param lockKey 락 식별자
+     * @param timeout 타임아웃
+     * @return 획득한 락 핸들
+     */
+    default CompletableFuture<LockHandle> acquireLockAsync(String lockKey, Duration timeout) {
+        return acquireLockAsync(lockKey, DistributedLockService.toTimeoutSeconds(timeout));
+    }
+
+    /**
+     * 밀리초 정밀도의 타임아웃으로 지정한 대기 시간 동안 락 획득을 시도합니다.
+     * 기본 구현은 초 단위로 올림하여 tryAcquireLockAsync(String, int, long)을 호출합니다.
+     * @param lockKey 락 식별자
+     * @param timeout 타임아웃
+     * @param waitMillis 최대 대기 시간 (밀리초)
+     * @return 획득한 락 핸들
+     */
+    default CompletableFuture<LockHandle> tryAcquireLockAsync(String lockKey, Duration timeout, long waitMillis) {
+        return tryAcquireLockAsync(lockKey, DistributedLockService.toTimeoutSeconds(timeout), waitMillis);
+    }
+
+    /**
+     * 락을 해제합니다.
+     * @param handle 획득 시 받은 락 핸들
+     * @return 락 해제 성공 여부
+     */
+    CompletableFuture<Boolean> releaseLockAsync(LockHandle handle);
+
+    /**
+     * 이 서비스가 지원하는 락 타입을 반환합니다.
+     * @return 지원하는 락 타입
+     */
+    LockType getSupportedType();
+}
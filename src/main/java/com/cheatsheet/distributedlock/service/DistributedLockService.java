@@ -2,6 +2,8 @@ package com.cheatsheet.distributedlock.service;
 
 import com.cheatsheet.distributedlock.enums.LockType;
 
+import java.time.Duration;
+
 /**
  * 모든 락 구현이 따르는 공통 인터페이스
  */
@@ -15,6 +17,41 @@ public interface DistributedLockService {
      */
     boolean acquireLock(String lockKey, int timeoutSeconds);
     
+    /**
+     * 지정한 대기 시간 동안 락 획득을 시도합니다.
+     * 기본 구현은 대기 없이 한 번만 시도하며, 해제 알림을 지원하는 구현체가 재정의합니다.
+     * @param lockKey 락 식별자
+     * @param timeoutSeconds 타임아웃 (초)
+     * @param waitMillis 최대 대기 시간 (밀리초)
+     * @return 락 획득 성공 여부
+     */
+    default boolean tryAcquireLock(String lockKey, int timeoutSeconds, long waitMillis) {
+        return acquireLock(lockKey, timeoutSeconds);
+    }
+    
+    /**
+     * 밀리초 정밀도의 타임아웃으로 락을 획득합니다.
+     * 기본 구현은 초 단위로 올림하여 acquireLock(String, int)를 호출하며, 밀리초 만료를 지원하는 구현체가 재정의합니다.
+     * @param lockKey 락 식별자
+     * @param timeout 타임아웃 - 0 이하인 경우 기본값 사용
+     * @return 락 획득 성공 여부
+     */
+    default boolean acquireLock(String lockKey, Duration timeout) {
+        return acquireLock(lockKey, toTimeoutSeconds(timeout));
+    }
+    
+    /**
+     * 밀리초 정밀도의 타임아웃으로 지정한 대기 시간 동안 락 획득을 시도합니다.
+     * 기본 구현은 초 단위로 올림하여 tryAcquireLock(String, int, long)을 호출합니다.
+     * @param lockKey 락 식별자
+     * @param timeout 타임아웃 - 0 이하인 경우 기본값 사용
+     * @param waitMillis 최대 대기 시간 (밀리초)
+     * @return 락 획득 성공 여부
+     */
+    default boolean tryAcquireLock(String lockKey, Duration timeout, long waitMillis) {
+        return tryAcquireLock(lockKey, toTimeoutSeconds(timeout), waitMillis);
+    }
+    
     /**
      * 락을 해제합니다.
      * @param lockKey 락 식별자
@@ -22,9 +59,70 @@ public interface DistributedLockService {
      */
     boolean releaseLock(String lockKey);
     
+    /**
+     * 락 해제를 백그라운드로 넘기고 바로 반환합니다.
+     * 해제 요청을 모아 보낼 수 있는 구현체만 재정의하며, 기본 구현은 즉시 해제합니다.
+     * @param lockKey 락 식별자
+     * @return 해제했거나 해제 요청을 넘겼으면 true (보유하지 않은 락이면 false)
+     */
+    default boolean releaseLockInBackground(String lockKey) {
+        return releaseLock(lockKey);
+    }
+    
+    /**
+     * 이 스레드의 직전 획득 실패를 기준으로 다시 시도할 만한 시간을 반환합니다.
+     * 실패 응답으로 보유자의 남은 만료 시간을 알 수 있는 구현체만 재정의하며, 기본 구현은 알 수 없음(0)을 반환합니다.
+     * @param lockKey 락 식별자
+     * @return 재시도까지 기다릴 시간 (밀리초, 알 수 없으면 0)
+     */
+    default long retryAfterMillis(String lockKey) {
+        return 0;
+    }
+    
+    /**
+     * 락 소유권이 획득한 스레드에 묶여 있는지 여부를 반환합니다.
+     * 스레드에 묶인 락은 다른 스레드가 해제할 수 없으므로, JVM 내부에서 스레드 간에 넘겨줄 수 없습니다.
+     * @return 스레드 단위 소유권 여부
+     */
+    default boolean isThreadBound() {
+        return false;
+    }
+    
+    /**
+     * 원격 대기 순서(FIFO)대로 락을 넘겨주는지 여부를 반환합니다.
+     * 공정 락을 JVM 내부에서 병합하면 로컬 대기자가 먼저 대기한 다른 노드의 대기자를 앞지르므로 병합하지 않습니다.
+     * @return 공정 락 여부
+     */
+    default boolean isFair() {
+        return false;
+    }
+    
     /**
      * 이 서비스가 지원하는 락 타입을 반환합니다.
      * @return 지원하는 락 타입
      */
     LockType getSupportedType();
+    
+    /**
+     * 타임아웃을 초 단위로 올림합니다. 1초 미만의 양수 타임아웃은 1초가 됩니다.
+     * @param timeout 타임아웃
+     * @return 타임아웃 (초) - 0 이하인 경우 0
+     */
+    static int toTimeoutSeconds(Duration timeout) {
+        if (timeout.isNegative() || timeout.isZero()) {
+            return 0;
+        }
+        long seconds = timeout.getSeconds() + (timeout.getNano() > 0 ? 1 : 0);
+        return (int) Math.min(seconds, Integer.MAX_VALUE);
+    }
+    
+    /**
+     * 타임아웃이 초 단위로 나누어떨어지는지 확인합니다.
+     * 나누어떨어지면 모든 구현체가 지원하는 초 단위 API로 전달해도 정밀도가 손실되지 않습니다.
+     * @param timeout 타임아웃
+     * @return 초 단위 타임아웃 여부
+     */
+    static boolean isWholeSeconds(Duration timeout) {
+        return timeout.getNano() == 0 && timeout.getSeconds() <= Integer.MAX_VALUE;
+    }
 }
@@ -0,0 +1,79 @@
+package com.cheatsheet.distributedlock.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import com.cheatsheet.distributedlock.enums.LockType;
+import com.cheatsheet.distributedlock.exception.LockAcquisitionException;
+import com.cheatsheet.distributedlock.model.LockHandle;
+import com.cheatsheet.distributedlock.util.LockOwnerIds;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * 블로킹 락 서비스를 전용 Executor에서 실행하는 비동기 어댑터
+ *
+ * JDBC 드라이버처럼 비동기 API가 없는 저장소의 락에 사용합니다.
+ * 블로킹 호출은 전용 Executor의 스레드만 점유하므로, 호출 측 요청 스레드는 대기하지 않습니다.
+ * 스레드에 소유권이 묶인 서비스는 획득과 해제가 다른 스레드에서 일어날 수 있어 감쌀 수 없습니다.
+ */
+@Slf4j
+public class ExecutorAsyncLockService implements AsyncDistributedLockService {
+
+    private final DistributedLockService delegate;
+    private final Executor executor;
+
+    public ExecutorAsyncLockService(DistributedLockService delegate, Executor executor) {
+        if (delegate.isThreadBound()) {
+            throw new IllegalArgumentException(
+                    "Thread-bound lock service cannot be used asynchronously: " + delegate.getSupportedType());
+        }
+        this.delegate = delegate;
+        this.executor = executor;
+    }
+
+    @Override
+    public LockType getSupportedType() {
+        return delegate.getSupportedType();
+    }
+
+    @Override
+    public CompletableFuture<LockHandle> acquireLockAsync(String lockKey, int timeoutSeconds) {
+        return CompletableFuture.supplyAsync(
+                () -> toHandle(delegate.acquireLock(lockKey, timeoutSeconds), lockKey), executor);
+    }
+
+    @Override
+    public CompletableFuture<LockHandle> tryAcquireLockAsync(String lockKey, int timeoutSeconds, long waitMillis) {
+        return CompletableFuture.supplyAsync(
+                () -> toHandle(delegate.tryAcquireLock(lockKey, timeoutSeconds, waitMillis), lockKey), executor);
+    }
+
+    @Override
+    public CompletableFuture<LockHandle> acquireLockAsync(String lockKey, Duration timeout) {
+        return CompletableFuture.supplyAsync(
+                () -> toHandle(delegate.acquireLock(lockKey, timeout), lockKey), executor);
+    }
+
+    @Override
+    public CompletableFuture<LockHandle> tryAcquireLockAsync(String lockKey, Duration timeout, long waitMillis) {
+        return CompletableFuture.supplyAsync(
+                () -> toHandle(delegate.tryAcquireLock(lockKey, timeout, waitMillis), lockKey), executor);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> releaseLockAsync(LockHandle handle) {
+        return CompletableFuture.supplyAsync(() -> delegate.releaseLock(handle.getLockKey()), executor);
+    }
+
+    private LockHandle toHandle(boolean acquired, String lockKey) {
+        if (!acquired) {
+            throw new LockAcquisitionException("Lock is already held: " + lockKey, lockKey);
+        }
+        log.debug("Acquired {} lock on async executor: key={}", delegate.getSupportedType(), lockKey);
+        // 위임 서비스가 소유자를 직접 관리하므로 핸들의 소유자 ID는 식별용
+        return new LockHandle(lockKey, LockOwnerIds.next(), delegate.getSupportedType(), Instant.now());
+    }
+}
@@ -0,0 +1,220 @@
+package com.cheatsheet.distributedlock.service;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import javax.sql.DataSource;
+
+/**
+ * 세션 단위 DB 락(MySQL GET_LOCK, PostgreSQL Advisory Lock)을 획득한 물리 커넥션에 고정(pin)하는 관리자
+ *
+ * 세션 락은 커넥션에 묶이므로 풀에서 매번 커넥션을 빌리면
+ * 해제가 다른 커넥션에서 실행되어 실패하고, 락은 원래 커넥션이 풀로 돌아간 뒤에도 남아
+ * 그 커넥션을 다음에 빌린 코드가 모르는 채로 물려받습니다.
+ * - 획득마다 풀에서 커넥션을 하나 빌리고, 성공하면 그 커넥션을 락 키에 고정
+ * - 해제는 반드시 고정된 커넥션에서 실행한 뒤 커넥션을 풀에 반납
+ * - 해제 중 오류가 난 커넥션은 락이 남아 있을 수 있으므로 반납하지 않고 풀에서 제거(Hikari evict)
+ *
+ * 락은 획득한 스레드와 다른 스레드(로컬 넘김, 비동기 해제)에서 해제될 수 있으므로 고정된 커넥션을 다른 획득에 재사용하지 않습니다.
+ * 재사용하면 다른 스레드의 해제가 같은 커넥션의 락 대기 뒤에 줄을 서고,
+ * 같은 세션의 획득은 중첩 획득으로 성공하므로 넘겨받은 스레드와 원래 스레드가 동시에 락을 보유하게 됩니다.
+ * 따라서 동시에 보유할 수 있는 락 수는 락 전용 풀 크기로 제한됩니다.
+ *
+ * 풀이 모두 고정된 상태에서 Hikari 기본 connectionTimeout(30초)만큼 기다리지 않도록,
+ * 락 전용 풀의 connectionTimeout은 짧게 두고(LockDataSourceConfig) 호출자의 대기 시간이 남아 있는 동안만 다시 빌립니다.
+ */
+@Slf4j
+final class JdbcLockSessions {
+
+    private final DataSource dataSource;
+
+    /**
+     * 락 키별로 락을 보유한 커넥션
+     */
+    private final Map<String, PinnedConnection> byKey = new ConcurrentHashMap<>();
+
+    /**
+     * 풀에서 빌려 반납하지 않은 커넥션 수 (획득 대기 중 포함)
+     */
+    private final AtomicInteger borrowed = new AtomicInteger();
+
+    JdbcLockSessions(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * 풀에서 새 커넥션을 빌려 획득 문장을 실행합니다.
+     * 성공하면 커넥션을 락 키에 고정하고, 실패하면 바로 반납합니다.
+     *
+     * @param lockKey 락 식별자
+     * @param waitMillis 호출자의 최대 대기 시간 (밀리초) - 풀이 가득 차 있으면 이 시간 동안만 커넥션을 기다림
+     * @param action 커넥션에서 실행할 획득 문장
+     * @param acquired 획득 결과가 성공인지 판단하는 조건
+     * @return 획득 문장의 결과
+     * @throws SQLException 커넥션 또는 쿼리 오류 (대기 시간 안에 풀에서 커넥션을 빌리지 못한 경우 포함)
+     */
+    <T> T acquire(String lockKey, long waitMillis, SqlAction<T> action, Predicate<T> acquired) throws SQLException {
+        PinnedConnection connection = borrow(waitMillis);
+        T result;
+        try {
+            result = connection.run(action);
+        } catch (SQLException e) {
+            evict(connection);
+            throw e;
+        }
+        if (acquired.test(result)) {
+            byKey.put(lockKey, connection);
+        } else {
+            giveBack(connection);
+        }
+        return result;
+    }
+
+    /**
+     * 락을 획득한 커넥션에서 해제 문장을 실행하고 커넥션을 반납합니다.
+     *
+     * @param lockKey 락 식별자
+     * @param action 커넥션에서 실행할 해제 문장
+     * @return 해제 문장의 결과 (이 노드가 보유하지 않은 락이면 null)
+     * @throws SQLException 커넥션 또는 쿼리 오류 (커넥션은 풀에서 제거됨)
+     */
+    <T> T release(String lockKey, SqlAction<T> action) throws SQLException {
+        // 먼저 제거하여 같은 키의 해제가 동시에 들어와도 한 번만 실행
+        PinnedConnection connection = byKey.remove(lockKey);
+        if (connection == null) {
+            return null;
+        }
+        T result;
+        try {
+            result = connection.run(action);
+        } catch (SQLException e) {
+            evict(connection);
+            throw e;
+        }
+        giveBack(connection);
+        return result;
+    }
+
+    /**
+     * 풀에서 빌려 반납하지 않은 커넥션 수를 반환합니다. (락 보유 + 획득 대기)
+     */
+    int pinnedConnectionCount() {
+        return borrowed.get();
+    }
+
+    /**
+     * 이 노드가 보유 중인 락 키 수를 반환합니다.
+     */
+    int heldLockCount() {
+        return byKey.size();
+    }
+
+    /**
+     * 단일 값 쿼리를 실행합니다.
+     *
+     * @param connection 커넥션
+     * @param type 결과 타입 (Integer, Boolean)
+     * @param sql 쿼리
+     * @param args 바인딩할 인자
+     * @return 첫 행 첫 열의 값 (행이 없거나 NULL이면 null)
+     */
+    static <T> T queryForObject(Connection connection, Class<T> type, String sql, Object... args) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            for (int i = 0; i < args.length; i++) {
+                statement.setObject(i + 1, args[i]);
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                if (!resultSet.next()) {
+                    return null;
+                }
+                Object value = type == Boolean.class ? resultSet.getBoolean(1) : resultSet.getInt(1);
+                return resultSet.wasNull() ? null : type.cast(value);
+            }
+        }
+    }
+
+    /**
+     * 풀에서 커넥션을 빌립니다. 풀의 connectionTimeout 안에 빌리지 못하면 대기 시간이 남은 동안만 다시 시도합니다.
+     * 대기 시간이 0 이하이면 connectionTimeout 동안 한 번만 기다립니다.
+     */
+    private PinnedConnection borrow(long waitMillis) throws SQLException {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(waitMillis, 0));
+        while (true) {
+            try {
+                PinnedConnection connection = new PinnedConnection(dataSource.getConnection());
+                borrowed.incrementAndGet();
+                return connection;
+            } catch (SQLTransientConnectionException e) {
+                if (deadline - System.nanoTime() <= 0) {
+                    throw e;
+                }
+                log.debug("Lock connection pool exhausted; retrying within wait budget: {}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 락을 보유하지 않은 커넥션을 풀에 반납합니다.
+     */
+    private void giveBack(PinnedConnection connection) {
+        borrowed.decrementAndGet();
+        try {
+            connection.connection.close();
+        } catch (SQLException e) {
+            log.warn("Failed to return lock connection to pool: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 오류가 난 커넥션을 풀에서 제거합니다. 커넥션이 닫히면 DB가 남은 세션 락을 해제합니다.
+     */
+    private void evict(PinnedConnection connection) {
+        borrowed.decrementAndGet();
+        log.warn("Evicting lock connection after error");
+        try {
+            if (dataSource instanceof HikariDataSource hikari) {
+                hikari.evictConnection(connection.connection);
+            } else {
+                connection.connection.close();
+            }
+        } catch (SQLException e) {
+            log.warn("Failed to close lock connection: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 커넥션에서 실행할 문장
+     */
+    @FunctionalInterface
+    interface SqlAction<T> {
+        T run(Connection connection) throws SQLException;
+    }
+
+    /**
+     * 풀에서 빌린 커넥션
+     * JDBC 커넥션은 스레드 간에 안전하게 공유할 수 없으므로 문장을 한 번에 하나씩 실행합니다.
+     */
+    private static final class PinnedConnection {
+
+        private final Connection connection;
+
+        private PinnedConnection(Connection connection) {
+            this.connection = connection;
+        }
+
+        synchronized <T> T run(SqlAction<T> action) throws SQLException {
+            return action.run(connection);
+        }
+    }
+}
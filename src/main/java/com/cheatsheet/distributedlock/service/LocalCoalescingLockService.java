@@ -0,0 +1,347 @@
+package com.cheatsheet.distributedlock.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import com.cheatsheet.distributedlock.enums.LockType;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Predicate;
+
+/**
+ * JVM 내부 대기자 병합(coalescing) 데코레이터
+ *
+ * 같은 락 키에 대해 JVM당 한 스레드만 원격 저장소(Redis, DB)와 경합하고,
+ * 나머지 스레드는 로컬 FIFO 큐에서 대기합니다.
+ * 보유자가 해제할 때 로컬 대기자가 있으면 원격 락을 해제하지 않고 다음 대기자에게 그대로 넘깁니다.
+ * 핫 키에서는 원격 호출 수가 로컬 동시성만큼 줄어듭니다.
+ *
+ * 원격 락의 만료 시간이 절반 이상 지났다면 넘기지 않고 원격에서 해제하여,
+ * 만료 직전의 락을 다음 대기자가 이어받지 않도록 합니다.
+ */
+@Slf4j
+public class LocalCoalescingLockService implements DistributedLockService {
+
+    private final DistributedLockService delegate;
+
+    /**
+     * 락 키별 로컬 상태 (사용 중인 스레드가 없으면 제거)
+     */
+    private final Map<String, KeyState> states = new ConcurrentHashMap<>();
+
+    public LocalCoalescingLockService(DistributedLockService delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * 병합할 수 있는 구현체만 감쌉니다.
+     * 소유권이 스레드에 묶인 구현체는 스레드 간에 넘겨줄 수 없고,
+     * 공정 락은 로컬 넘겨주기가 원격 대기 순서를 어기므로 그대로 반환합니다.
+     *
+     * @param delegate 원격 락 구현체
+     * @return 병합 데코레이터 또는 원래 구현체
+     */
+    public static DistributedLockService decorate(DistributedLockService delegate) {
+        if (delegate.isThreadBound() || delegate.isFair()) {
+            return delegate;
+        }
+        return new LocalCoalescingLockService(delegate);
+    }
+
+    @Override
+    public LockType getSupportedType() {
+        return delegate.getSupportedType();
+    }
+
+    @Override
+    public boolean acquireLock(String lockKey, int timeoutSeconds) {
+        return tryAcquireLock(lockKey, Duration.ofSeconds(timeoutSeconds), 0);
+    }
+
+    @Override
+    public boolean acquireLock(String lockKey, Duration timeout) {
+        return tryAcquireLock(lockKey, timeout, 0);
+    }
+
+    @Override
+    public boolean tryAcquireLock(String lockKey, int timeoutSeconds, long waitMillis) {
+        return tryAcquireLock(lockKey, Duration.ofSeconds(timeoutSeconds), waitMillis);
+    }
+
+    /**
+     * 로컬 큐를 거쳐 락을 획득합니다.
+     * 로컬 보유자가 없으면 원격 락을 획득하고, 있으면 대기 시간 동안 로컬에서 순서를 기다립니다.
+     *
+     * @param lockKey 락 식별자
+     * @param timeout 타임아웃
+     * @param waitMillis 최대 대기 시간 (밀리초)
+     * @return 락 획득 성공 여부
+     */
+    @Override
+    public boolean tryAcquireLock(String lockKey, Duration timeout, long waitMillis) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(waitMillis, 0));
+        Thread current = Thread.currentThread();
+        KeyState state = retain(lockKey);
+
+        boolean owner = false;
+        boolean nested = false;
+        Waiter waiter = null;
+        synchronized (state) {
+            if (state.holder == current) {
+                nested = true;
+            } else if (!state.held) {
+                state.held = true;
+                state.holder = current;
+                owner = true;
+            } else if (waitMillis > 0) {
+                waiter = new Waiter(current);
+                state.waiters.addLast(waiter);
+            }
+        }
+
+        if (nested) {
+            // 같은 스레드의 중첩 획득은 재진입 여부를 원격 구현체가 판단
+            return acquireNested(lockKey, timeout, waitMillis, state);
+        }
+
+        if (!owner && waiter == null) {
+            log.debug("Lock is held by another local thread: key={}", lockKey);
+            release(lockKey, state);
+            return false;
+        }
+
+        if (waiter != null && !awaitTurn(state, waiter, deadline)) {
+            log.debug("Timed out waiting in local queue: key={}", lockKey);
+            release(lockKey, state);
+            return false;
+        }
+
+        synchronized (state) {
+            if (state.remoteHeld) {
+                log.debug("Lock handed off locally without remote round trip: key={}", lockKey);
+                return true;
+            }
+        }
+
+        return acquireRemote(lockKey, timeout, deadline, state);
+    }
+
+    /**
+     * 락을 해제합니다.
+     * 로컬 대기자가 있고 원격 락이 충분히 남아 있으면 원격 해제 없이 다음 대기자에게 넘깁니다.
+     *
+     * @param lockKey 락 식별자
+     * @return 락 해제 성공 여부
+     */
+    @Override
+    public boolean releaseLock(String lockKey) {
+        return releaseVia(lockKey, delegate::releaseLock);
+    }
+
+    /**
+     * 락 해제를 백그라운드로 넘깁니다.
+     * 로컬 대기자에게 넘길 수 있으면 원격 해제 없이 넘기고, 그렇지 않을 때만 원격 구현체의 백그라운드 해제를 사용합니다.
+     *
+     * @param lockKey 락 식별자
+     * @return 해제했거나 해제 요청을 넘겼으면 true
+     */
+    @Override
+    public boolean releaseLockInBackground(String lockKey) {
+        return releaseVia(lockKey, delegate::releaseLockInBackground);
+    }
+
+    /**
+     * 원격 구현체가 직전 획득 실패에서 알게 된 재시도 시점을 반환합니다.
+     * 원격 획득은 호출 스레드에서 위임하므로 원격 구현체의 스레드별 기록을 그대로 사용할 수 있습니다.
+     *
+     * @param lockKey 락 식별자
+     * @return 재시도까지 기다릴 시간 (밀리초, 알 수 없으면 0)
+     */
+    @Override
+    public long retryAfterMillis(String lockKey) {
+        return delegate.retryAfterMillis(lockKey);
+    }
+
+    private boolean releaseVia(String lockKey, Predicate<String> remoteRelease) {
+        KeyState state = states.get(lockKey);
+        if (state == null) {
+            return remoteRelease.test(lockKey);
+        }
+
+        boolean nested = false;
+        boolean remoteHeld;
+        synchronized (state) {
+            remoteHeld = state.remoteHeld;
+            if (state.nestedDepth > 0 && state.holder == Thread.currentThread()) {
+                state.nestedDepth--;
+                nested = true;
+            } else if (remoteHeld && !state.waiters.isEmpty() && isLeaseFresh(state)) {
+                grant(state, state.waiters.pollFirst());
+                release(lockKey, state);
+                return true;
+            } else if (remoteHeld) {
+                state.remoteHeld = false;
+            }
+        }
+
+        if (nested) {
+            try {
+                return remoteRelease.test(lockKey);
+            } finally {
+                release(lockKey, state);
+            }
+        }
+        if (!remoteHeld) {
+            // 이 데코레이터를 거쳐 획득하지 않은 락
+            return remoteRelease.test(lockKey);
+        }
+
+        try {
+            return remoteRelease.test(lockKey);
+        } finally {
+            passLocalOwnership(state);
+            release(lockKey, state);
+        }
+    }
+
+    private boolean acquireNested(String lockKey, Duration timeout, long waitMillis, KeyState state) {
+        boolean acquired = acquireDelegate(lockKey, timeout, waitMillis);
+        if (acquired) {
+            synchronized (state) {
+                state.nestedDepth++;
+            }
+        } else {
+            release(lockKey, state);
+        }
+        return acquired;
+    }
+
+    private boolean acquireRemote(String lockKey, Duration timeout, long deadline, KeyState state) {
+        long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+        boolean acquired;
+        try {
+            acquired = acquireDelegate(lockKey, timeout, remainingMillis);
+        } catch (RuntimeException e) {
+            passLocalOwnership(state);
+            release(lockKey, state);
+            throw e;
+        }
+
+        if (acquired) {
+            synchronized (state) {
+                state.remoteHeld = true;
+                state.remoteAcquiredAt = System.nanoTime();
+                state.leaseNanos = timeout.isNegative() ? 0 : timeout.toNanos();
+            }
+            return true;
+        }
+
+        // 원격 획득 실패 시 다음 로컬 대기자가 직접 원격 경합
+        passLocalOwnership(state);
+        release(lockKey, state);
+        return false;
+    }
+
+    /**
+     * 원격 구현체로 획득을 위임합니다.
+     * 초 단위로 나누어떨어지는 타임아웃은 모든 구현체가 지원하는 초 단위 API로 전달합니다.
+     */
+    private boolean acquireDelegate(String lockKey, Duration timeout, long waitMillis) {
+        if (DistributedLockService.isWholeSeconds(timeout)) {
+            int timeoutSeconds = (int) timeout.getSeconds();
+            return waitMillis > 0
+                    ? delegate.tryAcquireLock(lockKey, timeoutSeconds, waitMillis)
+                    : delegate.acquireLock(lockKey, timeoutSeconds);
+        }
+        return waitMillis > 0
+                ? delegate.tryAcquireLock(lockKey, timeout, waitMillis)
+                : delegate.acquireLock(lockKey, timeout);
+    }
+
+    private boolean awaitTurn(KeyState state, Waiter waiter, long deadline) {
+        while (!waiter.granted) {
+            long remainingNanos = deadline - System.nanoTime();
+            if (remainingNanos <= 0 || Thread.currentThread().isInterrupted()) {
+                break;
+            }
+            LockSupport.parkNanos(this, remainingNanos);
+        }
+        synchronized (state) {
+            if (!waiter.granted) {
+                state.waiters.remove(waiter);
+                return false;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * 로컬 소유권을 다음 대기자에게 넘기거나, 대기자가 없으면 비웁니다.
+     */
+    private void passLocalOwnership(KeyState state) {
+        synchronized (state) {
+            Waiter next = state.waiters.pollFirst();
+            if (next != null) {
+                grant(state, next);
+            } else {
+                state.held = false;
+                state.holder = null;
+            }
+        }
+    }
+
+    private void grant(KeyState state, Waiter next) {
+        state.holder = next.thread;
+        next.granted = true;
+        LockSupport.unpark(next.thread);
+    }
+
+    private boolean isLeaseFresh(KeyState state) {
+        return state.leaseNanos > 0 && System.nanoTime() - state.remoteAcquiredAt < state.leaseNanos / 2;
+    }
+
+    private KeyState retain(String lockKey) {
+        return states.compute(lockKey, (key, state) -> {
+            KeyState retained = state != null ? state : new KeyState();
+            retained.references++;
+            return retained;
+        });
+    }
+
+    private void release(String lockKey, KeyState state) {
+        states.computeIfPresent(lockKey, (key, current) -> {
+            if (current != state) {
+                return current;
+            }
+            return --current.references == 0 ? null : current;
+        });
+    }
+
+    /**
+     * 락 키별 로컬 상태 (references는 states 맵의 compute 안에서만, 나머지는 상태 객체 모니터 안에서만 변경)
+     */
+    private static final class KeyState {
+        private int references;
+        private boolean held;
+        private Thread holder;
+        private int nestedDepth;
+        private boolean remoteHeld;
+        private long remoteAcquiredAt;
+        private long leaseNanos;
+        private final Deque<Waiter> waiters = new ArrayDeque<>();
+    }
+
+    private static final class Waiter {
+        private final Thread thread;
+        private volatile boolean granted;
+
+        private Waiter(Thread thread) {
+            this.thread = thread;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.cheatsheet.distributedlock.service;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+import com.zaxxer.hikari.metrics.PoolStats;
+import io.lettuce.core.metrics.CommandLatencyRecorder;
+import io.lettuce.core.protocol.ProtocolKeyword;
+import org.springframework.stereotype.Component;
+
+import java.net.SocketAddress;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 락 전용 연결 자원의 지연 시간 지표
+ *
+ * 락 트래픽만 측정하므로 캐시 조회나 JPA 쿼리 같은 다른 워크로드와 섞이지 않은 락 지연 시간을 볼 수 있습니다.
+ * - Redis: 락 전용 ClientResources에 등록되어 명령 종류별 완료 지연 시간을 기록 ("redis.FCALL" 등)
+ * - JDBC: 락 전용 Hikari 풀에 등록되어 커넥션 대기 시간("{풀}.acquire"), 사용 시간("{풀}.usage"),
+ *   대기 시간 초과 횟수("{풀}.timeout")와 풀 상태를 기록
+ * - 게이지: 구현체가 등록한 현재 값 (MySQL 세션 락이 고정 중인 커넥션 수 등)
+ *
+ * micrometer-core 없이 동작하도록 누적 횟수, 평균, 최대값만 가볍게 집계합니다.
+ */
+@Component
+public class LockConnectionMetrics implements MetricsTrackerFactory {
+
+    private final Map<String, Latency> latencies = new ConcurrentHashMap<>();
+    private final Map<String, PoolStats> pools = new ConcurrentHashMap<>();
+    private final Map<String, LongSupplier> gauges = new ConcurrentHashMap<>();
+    private final CommandLatencyRecorder redisRecorder = new RedisRecorder();
+
+    /**
+     * 이름별 지연 시간 집계를 반환합니다. 없으면 새로 만듭니다.
+     *
+     * @param name 지표 이름
+     * @return 지연 시간 집계
+     */
+    public Latency latency(String name) {
+        return latencies.computeIfAbsent(name, key -> new Latency());
+    }
+
+    /**
+     * 락 전용 Hikari 풀의 상태(활성/유휴/대기 스레드 수)를 반환합니다.
+     *
+     * @param poolName 풀 이름
+     * @return 풀 상태 (등록되지 않은 풀이면 null)
+     */
+    public PoolStats poolStats(String poolName) {
+        return pools.get(poolName);
+    }
+
+    /**
+     * 현재 값을 읽는 게이지를 등록합니다. 같은 이름이면 교체합니다.
+     *
+     * @param name 지표 이름
+     * @param value 현재 값을 반환하는 함수
+     */
+    public void gauge(String name, LongSupplier value) {
+        gauges.put(name, value);
+    }
+
+    /**
+     * 게이지의 현재 값을 반환합니다.
+     *
+     * @param name 지표 이름
+     * @return 현재 값 (등록되지 않았으면 null)
+     */
+    public Long gaugeValue(String name) {
+        LongSupplier value = gauges.get(name);
+        return value != null ? value.getAsLong() : null;
+    }
+
+    /**
+     * Lettuce ClientResources에 등록할 명령 지연 시간 기록기를 반환합니다.
+     */
+    public CommandLatencyRecorder redisRecorder() {
+        return redisRecorder;
+    }
+
+    /**
+     * 현재까지 집계한 지표를 이름순으로 반환합니다.
+     *
+     * @return 지표 이름 -> 요약 문자열
+     */
+    public Map<String, String> snapshot() {
+        Map<String, String> snapshot = new TreeMap<>();
+        latencies.forEach((name, latency) -> snapshot.put(name, latency.toString()));
+        pools.forEach((name, stats) -> snapshot.put(name + ".pool", String.format(
+                "active=%d, idle=%d, pending=%d, total=%d/%d",
+                stats.getActiveConnections(), stats.getIdleConnections(), stats.getPendingThreads(),
+                stats.getTotalConnections(), stats.getMaxConnections())));
+        gauges.forEach((name, value) -> snapshot.put(name, Long.toString(value.getAsLong())));
+        return snapshot;
+    }
+
+    @Override
+    public IMetricsTracker create(String poolName, PoolStats poolStats) {
+        pools.put(poolName, poolStats);
+        Latency acquire = latency(poolName + ".acquire");
+        Latency usage = latency(poolName + ".usage");
+        Latency timeout = latency(poolName + ".timeout");
+        return new IMetricsTracker() {
+            @Override
+            public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                acquire.record(elapsedAcquiredNanos);
+            }
+
+            @Override
+            public void recordConnectionUsageMillis(long elapsedBorrowedMillis) {
+                usage.record(TimeUnit.MILLISECONDS.toNanos(elapsedBorrowedMillis));
+            }
+
+            @Override
+            public void recordConnectionTimeout() {
+                timeout.record(0);
+            }
+
+            @Override
+            public void close() {
+                pools.remove(poolName, poolStats);
+            }
+        };
+    }
+
+    private class RedisRecorder implements CommandLatencyRecorder {
+
+        @Override
+        public void recordCommandLatency(SocketAddress local, SocketAddress remote, ProtocolKeyword commandType,
+                                         long firstResponseLatency, long completionLatency) {
+            latency("redis." + commandType).record(completionLatency);
+        }
+    }
+
+    /**
+     * 누적 횟수, 합계, 최대값으로 구성한 지연 시간 집계
+     */
+    public static final class Latency {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        void record(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        public long count() {
+            return count.sum();
+        }
+
+        public long meanMicros() {
+            long n = count.sum();
+            return n == 0 ? 0 : TimeUnit.NANOSECONDS.toMicros(totalNanos.sum() / n);
+        }
+
+        public long maxMicros() {
+            return TimeUnit.NANOSECONDS.toMicros(maxNanos.get());
+        }
+
+        @Override
+        public String toString() {
+            return String.format("count=%d, mean=%dus, max=%dus", count(), meanMicros(), maxMicros());
+        }
+    }
+}
@@ -2,21 +2,41 @@ package com.cheatsheet.distributedlock.service;
 
 import com.cheatsheet.distributedlock.exception.LockAcquisitionException;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.retry.annotation.Backoff;
+import org.springframework.retry.RetryContext;
 import org.springframework.retry.annotation.Retryable;
+import org.springframework.retry.backoff.BackOffContext;
+import org.springframework.retry.backoff.BackOffInterruptedException;
+import org.springframework.retry.backoff.BackOffPolicy;
+import org.springframework.retry.backoff.Sleeper;
+import org.springframework.retry.backoff.ThreadWaitSleeper;
+import org.springframework.retry.interceptor.RetryInterceptorBuilder;
+import org.springframework.retry.interceptor.RetryOperationsInterceptor;
+import org.springframework.retry.policy.SimpleRetryPolicy;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
 /**
  * 락 획득 재시도를 담당하는 서비스
  * @Retryable 애너테이션을 사용하여 선언적 재시도 로직 제공
+ *
+ * 재시도 간격은 고정값 대신 실패 응답에서 알게 된 보유자의 남은 보유 시간을 따릅니다
+ * (DistributedLockService.retryAfterMillis). 알 수 없으면 기본 간격을 사용합니다.
  */
 @Service
 @Slf4j
 public class LockRetryService {
     
+    /**
+     * 재시도 정책(RetryOperationsInterceptor) 빈 이름
+     */
+    public static final String INTERCEPTOR = "lockRetryInterceptor";
+    
     /**
      * @Retryable을 사용한 재시도 로직을 포함한 락 획득을 시도합니다.
-     * 최대 4번 시도 (최초 1회 + 재시도 3회), 재시도 간격 100ms
+     * 기본 최대 4번 시도 (최초 1회 + 재시도 3회), 재시도 간격은 보유자의 남은 보유 시간 (모르면 100ms)
      * 
      * @param lockService Lock Service
      * @param lockKey 락 키
@@ -24,11 +44,7 @@ public class LockRetryService {
      * @return 락 획득 성공 여부
      * @throws LockAcquisitionException 락 획득 실패 시 (재시도 트리거용)
      */
-    @Retryable(
-            retryFor = LockAcquisitionException.class,
-            maxAttempts = 4, // 최초 시도 1회 + 재시도 3회
-            backoff = @Backoff(delay = 100) // 재시도 간격 100ms
-    )
+    @Retryable(interceptor = INTERCEPTOR)
     public boolean acquireLockWithRetry(
             DistributedLockService lockService,
             String lockKey,
@@ -39,11 +55,115 @@ public class LockRetryService {
         boolean acquired = lockService.acquireLock(lockKey, timeout);
         
         if (!acquired) {
-            log.debug("Lock acquisition failed, will retry: {}", lockKey);
-            throw new LockAcquisitionException("Lock acquisition failed, retrying: " + lockKey, lockKey);
+            throw retry(lockService, lockKey);
+        }
+        
+        log.debug("Lock acquired successfully: {}", lockKey);
+        return true;
+    }
+    
+    /**
+     * 밀리초 정밀도의 타임아웃으로 @Retryable 재시도 로직을 포함한 락 획득을 시도합니다.
+     * 
+     * @param lockService Lock Service
+     * @param lockKey 락 키
+     * @param timeout 타임아웃
+     * @return 락 획득 성공 여부
+     * @throws LockAcquisitionException 락 획득 실패 시 (재시도 트리거용)
+     */
+    @Retryable(interceptor = INTERCEPTOR)
+    public boolean acquireLockWithRetry(
+            DistributedLockService lockService,
+            String lockKey,
+            Duration timeout
+    ) {
+        log.debug("Attempting to acquire lock: {}, timeout={}ms", lockKey, timeout.toMillis());
+        
+        boolean acquired = lockService.acquireLock(lockKey, timeout);
+        
+        if (!acquired) {
+            throw retry(lockService, lockKey);
         }
         
         log.debug("Lock acquired successfully: {}", lockKey);
         return true;
     }
+    
+    /**
+     * 락 획득 재시도 정책을 만듭니다.
+     * LockAcquisitionException만 재시도하며, 대기 시간은 RetryAfterBackOffPolicy가 정합니다.
+     * 
+     * @param maxAttempts 최대 시도 횟수 (최초 시도 포함)
+     * @param delayMillis 재시도 시점을 모를 때의 간격 (밀리초)
+     * @param jitterMillis 재시도 시점에 더할 최대 무작위 지연 - 같은 해제를 기다리던 노드들이 동시에 몰리지 않도록 분산
+     * @param maxDelayMillis 한 번에 기다릴 최대 시간 (밀리초)
+     * @return 재시도 인터셉터
+     */
+    public static RetryOperationsInterceptor interceptor(int maxAttempts, long delayMillis,
+                                                         long jitterMillis, long maxDelayMillis) {
+        return RetryInterceptorBuilder.stateless()
+                .retryPolicy(new SimpleRetryPolicy(maxAttempts, Map.of(LockAcquisitionException.class, true)))
+                .backOffPolicy(new RetryAfterBackOffPolicy(delayMillis, jitterMillis, maxDelayMillis))
+                .build();
+    }
+    
+    private static LockAcquisitionException retry(DistributedLockService lockService, String lockKey) {
+        long retryAfterMillis = lockService.retryAfterMillis(lockKey);
+        log.debug("Lock acquisition failed, will retry: {}, retryAfter={}ms", lockKey, retryAfterMillis);
+        return new LockAcquisitionException("Lock acquisition failed, retrying: " + lockKey, lockKey, retryAfterMillis);
+    }
+    
+    /**
+     * 직전 실패의 재시도 시점(LockAcquisitionException.getRetryAfterMillis)만큼 기다리는 백오프 정책
+     * - 재시도 시점을 알면 그 시간에 0 ~ jitterMillis의 무작위 지연을 더해 기다림 (최대 maxDelayMillis)
+     * - 모르면 고정 간격(delayMillis)으로 기다림
+     */
+    static final class RetryAfterBackOffPolicy implements BackOffPolicy {
+        
+        private final long delayMillis;
+        private final long jitterMillis;
+        private final long maxDelayMillis;
+        private final Sleeper sleeper;
+        
+        RetryAfterBackOffPolicy(long delayMillis, long jitterMillis, long maxDelayMillis) {
+            this(delayMillis, jitterMillis, maxDelayMillis, new ThreadWaitSleeper());
+        }
+        
+        RetryAfterBackOffPolicy(long delayMillis, long jitterMillis, long maxDelayMillis, Sleeper sleeper) {
+            this.delayMillis = delayMillis;
+            this.jitterMillis = jitterMillis;
+            this.maxDelayMillis = maxDelayMillis;
+            this.sleeper = sleeper;
+        }
+        
+        @Override
+        public BackOffContext start(RetryContext context) {
+            return new RetryAfterContext(context);
+        }
+        
+        @Override
+        public void backOff(BackOffContext backOffContext) throws BackOffInterruptedException {
+            long sleepMillis = nextDelayMillis(((RetryAfterContext) backOffContext).retryContext().getLastThrowable());
+            try {
+                sleeper.sleep(sleepMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new BackOffInterruptedException("Thread interrupted while sleeping", e);
+            }
+        }
+        
+        long nextDelayMillis(Throwable lastError) {
+            long retryAfterMillis = lastError instanceof LockAcquisitionException acquisitionError
+                    ? acquisitionError.getRetryAfterMillis()
+                    : 0;
+            if (retryAfterMillis <= 0) {
+                return delayMillis;
+            }
+            long jitter = jitterMillis > 0 ? ThreadLocalRandom.current().nextLong(jitterMillis + 1) : 0;
+            return Math.min(retryAfterMillis + jitter, maxDelayMillis);
+        }
+        
+        private record RetryAfterContext(RetryContext retryContext) implements BackOffContext {
+        }
+    }
 }
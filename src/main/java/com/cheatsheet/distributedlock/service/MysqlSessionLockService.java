@@ -1,26 +1,55 @@
 package com.cheatsheet.distributedlock.service;
 
-import lombok.RequiredArgsConstructor;
+import com.zaxxer.hikari.HikariDataSource;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 
 import com.cheatsheet.distributedlock.enums.LockType;
 import com.cheatsheet.distributedlock.exception.LockConnectionException;
 
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.Duration;
+
 /**
  * MySQL 세션 락을 사용한 분산 락 구현
  * GET_LOCK 및 RELEASE_LOCK 함수를 활용합니다.
+ * 
+ * 세션 락은 커넥션에 묶이므로 획득한 커넥션을 락 키에 고정하고 같은 커넥션에서 해제합니다 (JdbcLockSessions).
+ * 커넥션은 보유한 락이 모두 해제된 뒤에만 락 전용 풀에 반납됩니다.
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class MysqlSessionLockService implements DistributedLockService {
     
-    @Qualifier("mysqlJdbcTemplate")
-    private final JdbcTemplate jdbcTemplate;
+    private final JdbcLockSessions sessions;
+    
+    /**
+     * @param jdbcTemplate 락 전용 커넥션 풀(LockDataSourceConfig)의 JdbcTemplate
+     */
+    public MysqlSessionLockService(JdbcTemplate jdbcTemplate) {
+        this.sessions = new JdbcLockSessions(jdbcTemplate.getDataSource());
+    }
+    
+    /**
+     * 고정 중인 커넥션 수와 보유 락 수를 "{풀}.pinned-connections", "{풀}.held-locks" 게이지로 등록합니다.
+     * 
+     * @param jdbcTemplate 락 전용 커넥션 풀(LockDataSourceConfig)의 JdbcTemplate
+     * @param metrics 락 연결 자원 지표
+     */
+    @Autowired
+    public MysqlSessionLockService(@Qualifier("mysqlLockJdbcTemplate") JdbcTemplate jdbcTemplate,
+                                   LockConnectionMetrics metrics) {
+        this(jdbcTemplate);
+        String poolName = jdbcTemplate.getDataSource() instanceof HikariDataSource hikari
+                ? hikari.getPoolName()
+                : "mysql-lock";
+        metrics.gauge(poolName + ".pinned-connections", sessions::pinnedConnectionCount);
+        metrics.gauge(poolName + ".held-locks", sessions::heldLockCount);
+    }
     
     @Override
     public LockType getSupportedType() {
@@ -36,17 +65,29 @@ public class MysqlSessionLockService implements DistributedLockService {
      */
     @Override
     public boolean acquireLock(String lockKey, int timeoutSeconds) {
+        return acquireLock(lockKey, Duration.ofSeconds(timeoutSeconds));
+    }
+    
+    /**
+     * MySQL GET_LOCK 함수를 사용하여 밀리초 정밀도의 대기 시간으로 락을 획득합니다.
+     * GET_LOCK은 소수점 이하 초를 허용하므로 0.005처럼 밀리초 단위 대기 시간을 그대로 전달합니다.
+     * 
+     * @param lockKey 락 식별자
+     * @param timeout 타임아웃
+     * @return 락 획득 성공 여부
+     */
+    @Override
+    public boolean acquireLock(String lockKey, Duration timeout) {
         try {
+            BigDecimal timeoutSeconds = toFractionalSeconds(timeout);
             log.debug("Attempting to acquire MySQL session lock: key={}, timeout={}s", lockKey, timeoutSeconds);
             
-            // GET_LOCK(str, timeout) 함수 호출
+            // GET_LOCK(str, timeout) 함수 호출 - 풀에서 빌린 커넥션에서 실행하고 성공하면 고정
             // 반환값: 1 = 성공, 0 = 타임아웃, NULL = 에러
-            Integer result = jdbcTemplate.queryForObject(
-                "SELECT GET_LOCK(?, ?)",
-                Integer.class,
-                lockKey,
-                timeoutSeconds
-            );
+            Integer result = sessions.acquire(lockKey, timeout.toMillis(),
+                    connection -> JdbcLockSessions.queryForObject(connection, Integer.class,
+                            "SELECT GET_LOCK(?, ?)", lockKey, timeoutSeconds),
+                    value -> value != null && value == 1);
             
             boolean acquired = result != null && result == 1;
             
@@ -61,7 +102,7 @@ public class MysqlSessionLockService implements DistributedLockService {
             
             return acquired;
             
-        } catch (DataAccessException e) {
+        } catch (SQLException e) {
             log.error("Database connection error while acquiring MySQL lock: key={}", lockKey, e);
             throw new LockConnectionException("MySQL", lockKey, e);
         }
@@ -69,6 +110,7 @@ public class MysqlSessionLockService implements DistributedLockService {
     
     /**
      * MySQL RELEASE_LOCK 함수를 사용하여 락을 해제합니다.
+     * 락을 획득한 커넥션에서 실행하며, 이 노드가 획득하지 않은 락은 해제하지 않습니다.
      * 
      * @param lockKey 락 식별자
      * @return 락 해제 성공 여부
@@ -78,29 +120,51 @@ public class MysqlSessionLockService implements DistributedLockService {
         try {
             log.debug("Attempting to release MySQL session lock: key={}", lockKey);
             
-            // RELEASE_LOCK(str) 함수 호출
-            // 반환값: 1 = 성공, 0 = 락이 존재하지 않음, NULL = 에러
-            Integer result = jdbcTemplate.queryForObject(
-                "SELECT RELEASE_LOCK(?)",
-                Integer.class,
-                lockKey
-            );
+            // RELEASE_LOCK(str) 함수 호출 - 락을 획득한 커넥션에서 실행
+            // 반환값: 1 = 성공, 0 = 다른 세션의 락, NULL = 락이 존재하지 않음
+            Integer result = sessions.release(lockKey,
+                    connection -> JdbcLockSessions.queryForObject(connection, Integer.class,
+                            "SELECT RELEASE_LOCK(?)", lockKey));
             
             boolean released = result != null && result == 1;
             
             if (released) {
                 log.debug("Successfully released MySQL session lock: key={}", lockKey);
             } else if (result != null && result == 0) {
-                log.warn("Attempted to release non-existent MySQL lock: key={}", lockKey);
+                log.warn("Attempted to release MySQL lock held by another session: key={}", lockKey);
             } else {
-                log.error("MySQL RELEASE_LOCK returned NULL for key={}", lockKey);
+                log.warn("Attempted to release non-existent MySQL lock: key={}", lockKey);
             }
             
             return released;
             
-        } catch (DataAccessException e) {
+        } catch (SQLException e) {
             log.error("Database connection error while releasing MySQL lock: key={}", lockKey, e);
             throw new LockConnectionException("MySQL", lockKey, e);
         }
     }
+    
+    /**
+     * 락을 보유하여 풀에 반납하지 않은 커넥션 수를 반환합니다.
+     */
+    public int pinnedConnectionCount() {
+        return sessions.pinnedConnectionCount();
+    }
+    
+    /**
+     * 이 노드가 보유 중인 락 키 수를 반환합니다.
+     */
+    public int heldLockCount() {
+        return sessions.heldLockCount();
+    }
+    
+    /**
+     * 타임아웃을 밀리초 정밀도의 소수 초로 변환합니다. (예: 5ms -> 0.005)
+     * 
+     * @param timeout 타임아웃
+     * @return GET_LOCK에 전달할 소수 초
+     */
+    static BigDecimal toFractionalSeconds(Duration timeout) {
+        return BigDecimal.valueOf(timeout.toMillis(), 3);
+    }
 }
@@ -1,26 +1,62 @@
 package com.cheatsheet.distributedlock.service;
 
-import lombok.RequiredArgsConstructor;
+import com.zaxxer.hikari.HikariDataSource;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Service;
 
 import com.cheatsheet.distributedlock.enums.LockType;
 import com.cheatsheet.distributedlock.exception.LockConnectionException;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
 /**
  * PostgreSQL Advisory Lock을 사용한 분산 락 구현
  * pg_try_advisory_lock 및 pg_advisory_unlock 함수를 활용합니다.
+ * 
+ * Advisory Lock은 세션(커넥션)에 묶이므로 획득한 커넥션을 락 키에 고정하고 같은 커넥션에서 해제합니다 (JdbcLockSessions).
+ * 획득(acquireLock)은 만료 시간 인자와 관계없이 논블로킹이며, 대기는 tryAcquireLock의 대기 시간으로만 합니다.
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class PostgresAdvisoryLockService implements DistributedLockService {
     
-    @Qualifier("postgresJdbcTemplate")
-    private final JdbcTemplate jdbcTemplate;
+    /**
+     * lock_timeout 초과 시 PostgreSQL이 반환하는 SQLSTATE (lock_not_available)
+     */
+    private static final String LOCK_NOT_AVAILABLE = "55P03";
+    
+    private final JdbcLockSessions sessions;
+    
+    /**
+     * @param jdbcTemplate 락 전용 커넥션 풀(LockDataSourceConfig)의 JdbcTemplate
+     */
+    public PostgresAdvisoryLockService(JdbcTemplate jdbcTemplate) {
+        this.sessions = new JdbcLockSessions(jdbcTemplate.getDataSource());
+    }
+    
+    /**
+     * 고정 중인 커넥션 수와 보유 락 수를 "{풀}.pinned-connections", "{풀}.held-locks" 게이지로 등록합니다.
+     * 
+     * @param jdbcTemplate 락 전용 커넥션 풀(LockDataSourceConfig)의 JdbcTemplate
+     * @param metrics 락 연결 자원 지표
+     */
+    @Autowired
+    public PostgresAdvisoryLockService(@Qualifier("postgresLockJdbcTemplate") JdbcTemplate jdbcTemplate,
+                                       LockConnectionMetrics metrics) {
+        this(jdbcTemplate);
+        String poolName = jdbcTemplate.getDataSource() instanceof HikariDataSource hikari
+                ? hikari.getPoolName()
+                : "postgres-lock";
+        metrics.gauge(poolName + ".pinned-connections", sessions::pinnedConnectionCount);
+        metrics.gauge(poolName + ".held-locks", sessions::heldLockCount);
+    }
     
     @Override
     public LockType getSupportedType() {
@@ -42,35 +78,78 @@ public class PostgresAdvisoryLockService implements DistributedLockService {
      * PostgreSQL pg_try_advisory_lock 함수를 사용하여 논블로킹 방식으로 락을 획득합니다.
      * 
      * @param lockKey 락 식별자
-     * @param timeoutSeconds 타임아웃 (초) - Advisory Lock은 타임아웃을 지원하지 않으므로 무시됨
+     * @param timeoutSeconds 타임아웃 (초) - Advisory Lock은 만료 시간을 지원하지 않으므로 무시됨
      * @return 락 획득 성공 여부
      */
     @Override
     public boolean acquireLock(String lockKey, int timeoutSeconds) {
+        return tryAcquireLock(lockKey, timeoutSeconds, 0);
+    }
+    
+    /**
+     * PostgreSQL pg_try_advisory_lock 함수를 사용하여 논블로킹 방식으로 락을 획득합니다.
+     * 초 단위 API와 같은 동작이며, 대기하려면 tryAcquireLock을 사용합니다.
+     * 
+     * @param lockKey 락 식별자
+     * @param timeout 타임아웃 - Advisory Lock은 만료 시간을 지원하지 않으므로 무시됨
+     * @return 락 획득 성공 여부
+     */
+    @Override
+    public boolean acquireLock(String lockKey, Duration timeout) {
+        return tryAcquireLock(lockKey, timeout, 0);
+    }
+    
+    /**
+     * 최대 waitMillis 동안 대기하며 락을 획득합니다.
+     * 
+     * @param lockKey 락 식별자
+     * @param timeoutSeconds 타임아웃 (초) - 무시됨
+     * @param waitMillis 최대 대기 시간 (밀리초) - 0 이하이면 논블로킹으로 한 번만 시도
+     * @return 락 획득 성공 여부
+     */
+    @Override
+    public boolean tryAcquireLock(String lockKey, int timeoutSeconds, long waitMillis) {
+        return tryAcquireLock(lockKey, Duration.ofSeconds(timeoutSeconds), waitMillis);
+    }
+    
+    /**
+     * 최대 waitMillis 동안 대기하며 락을 획득합니다.
+     * 고정할 커넥션에서 lock_timeout을 대기 시간으로 설정한 뒤 블로킹 pg_advisory_lock을 호출하므로,
+     * 락이 풀리면 즉시 획득하고 대기 시간이 지나면 실패합니다.
+     * 
+     * @param lockKey 락 식별자
+     * @param timeout 타임아웃 - 무시됨
+     * @param waitMillis 최대 대기 시간 (밀리초) - 0 이하이면 논블로킹으로 한 번만 시도
+     * @return 락 획득 성공 여부
+     */
+    @Override
+    public boolean tryAcquireLock(String lockKey, Duration timeout, long waitMillis) {
         try {
             long hashKey = hashLockKey(lockKey);
-            log.debug("Attempting to acquire PostgreSQL advisory lock: key={}, hashKey={}", lockKey, hashKey);
+            log.debug("Attempting to acquire PostgreSQL advisory lock: key={}, hashKey={}, wait={}ms",
+                    lockKey, hashKey, waitMillis);
             
-            // pg_try_advisory_lock(key) 함수 호출 (논블로킹)
-            // 반환값: true = 성공, false = 실패 (이미 다른 세션이 보유 중)
-            Boolean result = jdbcTemplate.queryForObject(
-                "SELECT pg_try_advisory_lock(?)",
-                Boolean.class,
-                hashKey
-            );
+            Boolean result = sessions.acquire(lockKey, waitMillis,
+                    connection -> waitMillis > 0
+                            ? lockWithTimeout(connection, hashKey, waitMillis)
+                            // pg_try_advisory_lock(key) 함수 호출 (논블로킹)
+                            // 반환값: true = 성공, false = 실패 (이미 다른 세션이 보유 중)
+                            : JdbcLockSessions.queryForObject(connection, Boolean.class,
+                                    "SELECT pg_try_advisory_lock(?)", hashKey),
+                    Boolean.TRUE::equals);
             
             boolean acquired = result != null && result;
             
             if (acquired) {
                 log.debug("Successfully acquired PostgreSQL advisory lock: key={}, hashKey={}", lockKey, hashKey);
             } else {
-                log.warn("Failed to acquire PostgreSQL advisory lock (already held): key={}, hashKey={}", 
-                        lockKey, hashKey);
+                log.warn("Failed to acquire PostgreSQL advisory lock (already held): key={}, hashKey={}, wait={}ms", 
+                        lockKey, hashKey, waitMillis);
             }
             
             return acquired;
             
-        } catch (DataAccessException e) {
+        } catch (SQLException e) {
             log.error("Database connection error while acquiring PostgreSQL lock: key={}", lockKey, e);
             throw new LockConnectionException("PostgreSQL", lockKey, e);
         }
@@ -78,6 +157,7 @@ public class PostgresAdvisoryLockService implements DistributedLockService {
     
     /**
      * PostgreSQL pg_advisory_unlock 함수를 사용하여 락을 해제합니다.
+     * 락을 획득한 커넥션에서 실행하며, 이 노드가 획득하지 않은 락은 해제하지 않습니다.
      * 
      * @param lockKey 락 식별자
      * @return 락 해제 성공 여부
@@ -88,13 +168,11 @@ public class PostgresAdvisoryLockService implements DistributedLockService {
             long hashKey = hashLockKey(lockKey);
             log.debug("Attempting to release PostgreSQL advisory lock: key={}, hashKey={}", lockKey, hashKey);
             
-            // pg_advisory_unlock(key) 함수 호출
-            // 반환값: true = 성공, false = 락이 존재하지 않거나 다른 세션이 보유 중
-            Boolean result = jdbcTemplate.queryForObject(
-                "SELECT pg_advisory_unlock(?)",
-                Boolean.class,
-                hashKey
-            );
+            // pg_advisory_unlock(key) 함수 호출 - 락을 획득한 커넥션에서 실행
+            // 반환값: true = 성공, false = 락이 존재하지 않거나 다른 세션이 보유 중 (이 노드가 획득하지 않았으면 null)
+            Boolean result = sessions.release(lockKey,
+                    connection -> JdbcLockSessions.queryForObject(connection, Boolean.class,
+                            "SELECT pg_advisory_unlock(?)", hashKey));
             
             boolean released = result != null && result;
             
@@ -107,9 +185,48 @@ public class PostgresAdvisoryLockService implements DistributedLockService {
             
             return released;
             
-        } catch (DataAccessException e) {
+        } catch (SQLException e) {
             log.error("Database connection error while releasing PostgreSQL lock: key={}", lockKey, e);
             throw new LockConnectionException("PostgreSQL", lockKey, e);
         }
     }
+    
+    /**
+     * 락을 보유하여 풀에 반납하지 않은 커넥션 수를 반환합니다.
+     */
+    public int pinnedConnectionCount() {
+        return sessions.pinnedConnectionCount();
+    }
+    
+    /**
+     * 이 노드가 보유 중인 락 키 수를 반환합니다.
+     */
+    public int heldLockCount() {
+        return sessions.heldLockCount();
+    }
+    
+    /**
+     * 한 커넥션에서 lock_timeout을 설정하고 블로킹 pg_advisory_lock을 호출합니다.
+     * 
+     * @return 획득 여부 (lock_timeout 초과 시 false)
+     */
+    private static Boolean lockWithTimeout(Connection connection, long hashKey, long waitMillis) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET lock_timeout = '" + waitMillis + "ms'");
+        }
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_advisory_lock(?)")) {
+            statement.setLong(1, hashKey);
+            statement.execute();
+            return true;
+        } catch (SQLException e) {
+            if (LOCK_NOT_AVAILABLE.equals(e.getSQLState())) {
+                return false;
+            }
+            throw e;
+        } finally {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("RESET lock_timeout");
+            }
+        }
+    }
 }
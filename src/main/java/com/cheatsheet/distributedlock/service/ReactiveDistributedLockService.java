@@ -0,0 +1,107 @@
+package com.cheatsheet.distributedlock.service;
+
+import com.cheatsheet.distributedlock.enums.LockType;
+import com.cheatsheet.distributedlock.model.LockHandle;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * 블로킹 없이 동작하는 Reactor 기반 락 인터페이스
+ *
+ * 모든 연산은 구독 시점에 실행됩니다.
+ * 락이 이미 보유 중이면 LockAcquisitionException, 저장소 연결 오류는 LockConnectionException으로 종료됩니다.
+ */
+public interface ReactiveDistributedLockService {
+
+    /**
+     * 대기 없이 한 번 락 획득을 시도합니다.
+     * @param lockKey 락 식별자
+     * @param timeoutSeconds 타임아웃 (초)
+     * @return 획득한 락 핸들
+     */
+    Mono<LockHandle> acquireLock(String lockKey, int timeoutSeconds);
+
+    /**
+     * 지정한 대기 시간 동안 락 획득을 시도합니다.
+     * 기본 구현은 대기 없이 한 번만 시도하며, 해제 알림을 지원하는 구현체가 재정의합니다.
+     * @param lockKey 락 식별자
+     * @param timeoutSeconds 타임아웃 (초)
+     * @param waitMillis 최대 대기 시간 (밀리초)
+     * @return 획득한 락 핸들
+     */
+    default Mono<LockHandle> tryAcquireLock(String lockKey, int timeoutSeconds, long waitMillis) {
+        return acquireLock(lockKey, timeoutSeconds);
+    }
+
+    /**
+     * 밀리초 정밀도의 타임아웃으로 대기 없이 한 번 락 획득을 시도합니다.
+     * 기본 구현은 초 단위로 올림하여 acquireLock(String, int)를 호출합니다.
+     * @param lockKey 락 식별자
+     * @param timeout 타임아웃
+     * @return 획득한 락 핸들
+     */
+    default Mono<LockHandle> acquireLock(String lockKey, Duration timeout) {
+        return acquireLock(lockKey, DistributedLockService.toTimeoutSeconds(timeout));
+    }
+
+    /**
+     * 밀리초 정밀도의 타임아웃으로 지정한 대기 시간 동안 락 획득을 시도합니다.
+     * 기본 구현은 초 단위로 올림하여 tryAcquireLock(String, int, long)을 호출합니다.
+     * @param lockKey 락 식별자
+     * @param timeout 타임아웃
+     * @param waitMillis 최대 대기 시간 (밀리초)
+     * @return 획득한 락 핸들
+     */
+    default Mono<LockHandle> tryAcquireLock(String lockKey, Duration timeout, long waitMillis) {
+        return tryAcquireLock(lockKey, DistributedLockService.toTimeoutSeconds(timeout), waitMillis);
+    }
+
+    /**
+     * 락을 해제합니다.
+     * @param handle 획득 시 받은 락 핸들
+     * @return 락 해제 성공 여부
+     */
+    Mono<Boolean> releaseLock(LockHandle handle);
+
+    /**
+     * 구독 시 락을 획득하고, 원본 Mono가 완료, 오류, 취소될 때 해제합니다.
+     * @param lockKey 락 식별자
+     * @param timeoutSeconds 타임아웃 (초)
+     * @param waitMillis 최대 대기 시간 (밀리초)
+     * @param source 락 안에서 실행할 Mono
+     * @return 락으로 감싼 Mono
+     */
+    default <T> Mono<T> withLock(String lockKey, int timeoutSeconds, long waitMillis, Mono<T> source) {
+        return Mono.usingWhen(
+                tryAcquireLock(lockKey, timeoutSeconds, waitMillis),
+                handle -> source,
+                this::releaseLock,
+                (handle, error) -> releaseLock(handle),
+                this::releaseLock);
+    }
+
+    /**
+     * 구독 시 락을 획득하고, 원본 Flux가 완료, 오류, 취소될 때 해제합니다.
+     * @param lockKey 락 식별자
+     * @param timeoutSeconds 타임아웃 (초)
+     * @param waitMillis 최대 대기 시간 (밀리초)
+     * @param source 락 안에서 실행할 Flux
+     * @return 락으로 감싼 Flux
+     */
+    default <T> Flux<T> withLock(String lockKey, int timeoutSeconds, long waitMillis, Flux<T> source) {
+        return Flux.usingWhen(
+                tryAcquireLock(lockKey, timeoutSeconds, waitMillis),
+                handle -> source,
+                this::releaseLock,
+                (handle, error) -> releaseLock(handle),
+                this::releaseLock);
+    }
+
+    /**
+     * 이 서비스가 지원하는 락 타입을 반환합니다.
+     * @return 지원하는 락 타입
+     */
+    LockType getSupportedType();
+}
@@ -0,0 +1,123 @@
+package com.cheatsheet.distributedlock.service;
+
+import com.cheatsheet.distributedlock.enums.LockType;
+
+import java.time.Duration;
+
+/**
+ * 읽기/쓰기 락을 지원하는 구현이 따르는 인터페이스
+ *
+ * DistributedLockService의 acquireLock/releaseLock은 쓰기(배타) 락으로 동작하며,
+ * 읽기 락은 여러 보유자가 동시에 획득할 수 있습니다.
+ */
+public interface ReadWriteLockService extends DistributedLockService {
+
+    /**
+     * 읽기 락을 획득합니다.
+     * @param lockKey 락 식별자
+     * @param timeoutSeconds 타임아웃 (초)
+     * @return 락 획득 성공 여부
+     */
+    boolean acquireReadLock(String lockKey, int timeoutSeconds);
+
+    /**
+     * 지정한 대기 시간 동안 읽기 락 획득을 시도합니다.
+     * @param lockKey 락 식별자
+     * @param timeoutSeconds 타임아웃 (초)
+     * @param waitMillis 최대 대기 시간 (밀리초)
+     * @return 락 획득 성공 여부
+     */
+    boolean tryAcquireReadLock(String lockKey, int timeoutSeconds, long waitMillis);
+
+    /**
+     * 밀리초 정밀도의 타임아웃으로 읽기 락을 획득합니다.
+     * 기본 구현은 초 단위로 올림하여 acquireReadLock(String, int)를 호출합니다.
+     * @param lockKey 락 식별자
+     * @param timeout 타임아웃 - 0 이하인 경우 기본값 사용
+     * @return 락 획득 성공 여부
+     */
+    default boolean acquireReadLock(String lockKey, Duration timeout) {
+        return acquireReadLock(lockKey, DistributedLockService.toTimeoutSeconds(timeout));
+    }
+
+    /**
+     * 밀리초 정밀도의 타임아웃으로 지정한 대기 시간 동안 읽기 락 획득을 시도합니다.
+     * 기본 구현은 초 단위로 올림하여 tryAcquireReadLock(String, int, long)을 호출합니다.
+     * @param lockKey 락 식별자
+     * @param timeout 타임아웃 - 0 이하인 경우 기본값 사용
+     * @param waitMillis 최대 대기 시간 (밀리초)
+     * @return 락 획득 성공 여부
+     */
+    default boolean tryAcquireReadLock(String lockKey, Duration timeout, long waitMillis) {
+        return tryAcquireReadLock(lockKey, DistributedLockService.toTimeoutSeconds(timeout), waitMillis);
+    }
+
+    /**
+     * 읽기 락을 해제합니다.
+     * @param lockKey 락 식별자
+     * @return 락 해제 성공 여부
+     */
+    boolean releaseReadLock(String lockKey);
+
+    /**
+     * 보유 중인 쓰기 락을 해제하지 않고 읽기 락으로 전환합니다.
+     * 전환 후에는 releaseLock 또는 releaseReadLock으로 해제합니다.
+     * @param lockKey 락 식별자
+     * @return 전환 성공 여부
+     */
+    boolean downgradeToReadLock(String lockKey);
+
+    /**
+     * 보유 중인 읽기 락을 쓰기 락으로 전환합니다.
+     * 다른 읽기 보유자가 있으면 대기하지 않고 실패합니다 (두 읽기 보유자가 서로를 기다리는 교착 방지).
+     * @param lockKey 락 식별자
+     * @return 전환 성공 여부
+     */
+    boolean tryUpgradeToWriteLock(String lockKey);
+
+    /**
+     * 읽기 락을 DistributedLockService 형태로 노출합니다.
+     * 재시도, 대기 등 배타 락과 같은 획득 경로에서 읽기 락을 사용할 수 있습니다.
+     * @return 읽기 락 뷰
+     */
+    default DistributedLockService readLock() {
+        ReadWriteLockService readWriteLockService = this;
+        return new DistributedLockService() {
+
+            @Override
+            public boolean acquireLock(String lockKey, int timeoutSeconds) {
+                return readWriteLockService.acquireReadLock(lockKey, timeoutSeconds);
+            }
+
+            @Override
+            public boolean tryAcquireLock(String lockKey, int timeoutSeconds, long waitMillis) {
+                return readWriteLockService.tryAcquireReadLock(lockKey, timeoutSeconds, waitMillis);
+            }
+
+            @Override
+            public boolean acquireLock(String lockKey, Duration timeout) {
+                return readWriteLockService.acquireReadLock(lockKey, timeout);
+            }
+
+            @Override
+            public boolean tryAcquireLock(String lockKey, Duration timeout, long waitMillis) {
+                return readWriteLockService.tryAcquireReadLock(lockKey, timeout, waitMillis);
+            }
+
+            @Override
+            public boolean releaseLock(String lockKey) {
+                return readWriteLockService.releaseReadLock(lockKey);
+            }
+
+            @Override
+            public boolean isThreadBound() {
+                return readWriteLockService.isThreadBound();
+            }
+
+            @Override
+            public LockType getSupportedType() {
+                return readWriteLockService.getSupportedType();
+            }
+        };
+    }
+}
@@ -0,0 +1,282 @@
+package com.cheatsheet.distributedlock.service;
+
+import io.lettuce.core.AbstractRedisClient;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.ScriptOutputType;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisFunctionAsyncCommands;
+import io.lettuce.core.api.async.RedisScriptingAsyncCommands;
+import io.lettuce.core.cluster.RedisClusterClient;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.codec.StringCodec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import com.cheatsheet.distributedlock.enums.LockType;
+import com.cheatsheet.distributedlock.exception.LockAcquisitionException;
+import com.cheatsheet.distributedlock.exception.LockConnectionException;
+import com.cheatsheet.distributedlock.model.LockHandle;
+import com.cheatsheet.distributedlock.util.LockOwnerIds;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lettuce 비동기 명령을 사용한 Redis Lua 락의 비동기 구현
+ *
+ * RedisLuaLockService와 같은 스크립트와 키 배치(RedisLockKeyLayout)를 사용하므로 두 서비스가 같은 락을 두고 경합할 수 있습니다.
+ * 네트워크 응답이나 해제 알림을 기다리는 동안 어떤 스레드도 점유하지 않으며,
+ * 후속 처리는 Lettuce 이벤트 루프에서 이어서 실행됩니다.
+ * Function 라이브러리가 등록되어 있으면 EVAL 대신 FCALL로 같은 함수를 호출합니다.
+ */
+@Slf4j
+@Service
+public class RedisAsyncLockService implements AsyncDistributedLockService {
+
+    /**
+     * 기본 만료 시간 (초) - 데드락 방지용
+     */
+    private static final int DEFAULT_TIMEOUT_SECONDS = 30;
+
+    private final RedisLockConnections lockConnections;
+    private final RedisLockReleaseSubscriber releaseSubscriber;
+    private final RedisLeaseWatchdog leaseWatchdog;
+    private final RedisLockFunctions lockFunctions;
+    private final RedisLockKeyLayout keyLayout;
+
+    private StatefulConnection<String, String> connection;
+    private RedisScriptingAsyncCommands<String, String> commands;
+    private RedisFunctionAsyncCommands<String, String> functionCommands;
+
+    public RedisAsyncLockService(RedisLockConnections lockConnections,
+                                 RedisLockReleaseSubscriber releaseSubscriber,
+                                 RedisLeaseWatchdog leaseWatchdog,
+                                 RedisLockFunctions lockFunctions,
+                                 RedisLockKeyLayout keyLayout) {
+        this.lockConnections = lockConnections;
+        this.releaseSubscriber = releaseSubscriber;
+        this.leaseWatchdog = leaseWatchdog;
+        this.lockFunctions = lockFunctions;
+        this.keyLayout = keyLayout;
+    }
+
+    /**
+     * 락 트래픽 전용 Lettuce 클라이언트(RedisLockConnections)로 문자열 코덱 연결을 엽니다.
+     */
+    @PostConstruct
+    public void init() {
+        AbstractRedisClient client = lockConnections.client();
+        if (client instanceof RedisClusterClient clusterClient) {
+            StatefulRedisClusterConnection<String, String> clusterConnection = clusterClient.connect(StringCodec.UTF8);
+            this.connection = clusterConnection;
+            this.commands = clusterConnection.async();
+            this.functionCommands = clusterConnection.async();
+        } else {
+            StatefulRedisConnection<String, String> standaloneConnection = ((RedisClient) client).connect(StringCodec.UTF8);
+            this.connection = standaloneConnection;
+            this.commands = standaloneConnection.async();
+            this.functionCommands = standaloneConnection.async();
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    @Override
+    public LockType getSupportedType() {
+        return LockType.REDIS_LUA;
+    }
+
+    /**
+     * Lua 스크립트를 비동기로 실행하여 락 획득을 한 번 시도합니다.
+     *
+     * @param lockKey 락 식별자
+     * @param timeoutSeconds 타임아웃 (초) - 0 이하인 경우 기본값 사용
+     * @return 획득한 락 핸들 (이미 보유 중이면 LockAcquisitionException으로 완료)
+     */
+    @Override
+    public CompletableFuture<LockHandle> acquireLockAsync(String lockKey, int timeoutSeconds) {
+        return acquireLockAsync(lockKey, Duration.ofSeconds(timeoutSeconds));
+    }
+
+    /**
+     * 밀리초 정밀도의 만료 시간(PX)으로 락 획득을 한 번 시도합니다.
+     *
+     * @param lockKey 락 식별자
+     * @param timeout 타임아웃 - 0 이하인 경우 기본값 사용
+     * @return 획득한 락 핸들 (이미 보유 중이면 LockAcquisitionException으로 완료)
+     */
+    @Override
+    public CompletableFuture<LockHandle> acquireLockAsync(String lockKey, Duration timeout) {
+        return attempt(lockKey, timeout).thenApply(handle -> requireAcquired(handle, lockKey));
+    }
+
+    /**
+     * 해제 알림을 받을 때까지 대기하며 락 획득을 시도합니다.
+     * 대기는 해제 알림 Future와 타이머로 이어지므로 대기 중에 스레드를 점유하지 않습니다.
+     *
+     * @param lockKey 락 식별자
+     * @param timeoutSeconds 타임아웃 (초) - 0 이하인 경우 기본값 사용
+     * @param waitMillis 최대 대기 시간 (밀리초)
+     * @return 획득한 락 핸들 (대기 시간 안에 획득하지 못하면 LockAcquisitionException으로 완료)
+     */
+    @Override
+    public CompletableFuture<LockHandle> tryAcquireLockAsync(String lockKey, int timeoutSeconds, long waitMillis) {
+        return tryAcquireLockAsync(lockKey, Duration.ofSeconds(timeoutSeconds), waitMillis);
+    }
+
+    /**
+     * 밀리초 정밀도의 만료 시간으로 해제 알림을 받을 때까지 대기하며 락 획득을 시도합니다.
+     *
+     * @param lockKey 락 식별자
+     * @param timeout 타임아웃 - 0 이하인 경우 기본값 사용
+     * @param waitMillis 최대 대기 시간 (밀리초)
+     * @return 획득한 락 핸들 (대기 시간 안에 획득하지 못하면 LockAcquisitionException으로 완료)
+     */
+    @Override
+    public CompletableFuture<LockHandle> tryAcquireLockAsync(String lockKey, Duration timeout, long waitMillis) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(waitMillis, 0));
+        return attemptUntil(lockKey, timeout, deadline).thenApply(handle -> requireAcquired(handle, lockKey));
+    }
+
+    /**
+     * 핸들의 소유자 ID로 검증하여 락을 비동기로 해제합니다.
+     *
+     * @param handle 획득 시 받은 락 핸들
+     * @return 락 해제 성공 여부
+     */
+    @Override
+    public CompletableFuture<Boolean> releaseLockAsync(LockHandle handle) {
+        String lockKey = handle.getLockKey();
+        String redisKey = keyLayout.apply(lockKey);
+        log.debug("Attempting to release Redis Lua lock asynchronously: key={}, ownerId={}",
+                lockKey, handle.getOwnerId());
+
+        return execute(RedisLuaLockService.RELEASE_LOCK_SCRIPT, RedisLockFunctions.RELEASE_FUNCTION,
+                        new String[] {redisKey}, handle.getOwnerId(), RedisLockReleaseSubscriber.releaseChannel(redisKey))
+                .handle((result, error) -> {
+                    if (error != null) {
+                        log.error("Error while releasing Redis Lua lock asynchronously: key={}", lockKey, error);
+                        throw new LockConnectionException("Redis", lockKey, error);
+                    }
+
+                    leaseWatchdog.unwatch(redisKey, handle.getOwnerId());
+                    boolean released = result != null && result == 1;
+                    if (released) {
+                        log.debug("Successfully released Redis Lua lock asynchronously: key={}", lockKey);
+                    } else {
+                        log.warn("Failed to release Redis Lua lock (owner mismatch or not exists): key={}", lockKey);
+                    }
+                    return released;
+                });
+    }
+
+    /**
+     * 대기 시간이 끝날 때까지 해제 알림마다 재시도합니다.
+     * 신호 유실을 막기 위해 각 시도 전에 대기자로 먼저 등록합니다.
+     *
+     * @return 획득한 락 핸들 (실패 시 null)
+     */
+    private CompletableFuture<LockHandle> attemptUntil(String lockKey, Duration timeout, long deadline) {
+        String redisKey = keyLayout.apply(lockKey);
+        CompletableFuture<Void> released = releaseSubscriber.register(redisKey);
+
+        return attempt(lockKey, timeout)
+                .thenCompose(handle -> {
+                    long remainingNanos = deadline - System.nanoTime();
+                    if (handle != null || remainingNanos <= 0) {
+                        return CompletableFuture.completedFuture(handle);
+                    }
+
+                    log.debug("Waiting for Redis Lua lock release asynchronously: key={}, remaining={}ms",
+                            lockKey, TimeUnit.NANOSECONDS.toMillis(remainingNanos));
+                    return released.completeOnTimeout(null, remainingNanos, TimeUnit.NANOSECONDS)
+                            .thenCompose(signal -> {
+                                releaseSubscriber.unregister(redisKey, released);
+                                // 대기 시간이 소진되었으면 마지막 시도
+                                return System.nanoTime() - deadline >= 0
+                                        ? attempt(lockKey, timeout)
+                                        : attemptUntil(lockKey, timeout, deadline);
+                            });
+                })
+                .whenComplete((handle, error) -> releaseSubscriber.unregister(redisKey, released));
+    }
+
+    /**
+     * 락 획득 스크립트를 한 번 실행합니다.
+     *
+     * @return 획득한 락 핸들 (이미 보유 중이면 null)
+     */
+    private CompletableFuture<LockHandle> attempt(String lockKey, Duration timeout) {
+        String redisKey = keyLayout.apply(lockKey);
+        String ownerId = LockOwnerIds.next();
+        Duration effectiveTimeout = leaseWatchdog.effectiveTimeout(
+                timeout.isNegative() || timeout.isZero() ? Duration.ofSeconds(DEFAULT_TIMEOUT_SECONDS) : timeout);
+
+        log.debug("Attempting to acquire Redis Lua lock asynchronously: key={}, timeout={}ms, ownerId={}",
+                lockKey, effectiveTimeout.toMillis(), ownerId);
+
+        return execute(RedisLuaLockService.ACQUIRE_LOCK_SCRIPT, RedisLockFunctions.ACQUIRE_FUNCTION,
+                        new String[] {redisKey, RedisLuaLockService.fenceKey(redisKey)},
+                        ownerId, String.valueOf(effectiveTimeout.toMillis()))
+                .handle((result, error) -> {
+                    if (error != null) {
+                        log.error("Error while acquiring Redis Lua lock asynchronously: key={}", lockKey, error);
+                        throw new LockConnectionException("Redis", lockKey, error);
+                    }
+
+                    if (result == null || result <= 0) {
+                        log.debug("Failed to acquire Redis Lua lock (already held): key={}", lockKey);
+                        return null;
+                    }
+
+                    leaseWatchdog.watch(redisKey, ownerId);
+                    log.debug("Successfully acquired Redis Lua lock asynchronously: key={}, ownerId={}, fencingToken={}",
+                            lockKey, ownerId, result);
+                    return new LockHandle(lockKey, ownerId, LockType.REDIS_LUA, Instant.now(), result);
+                });
+    }
+
+    /**
+     * Function 라이브러리가 등록되어 있으면 FCALL로, 아니면 같은 본문의 스크립트를 EVAL로 실행합니다.
+     * 함수가 없다는 오류를 받으면 라이브러리를 다시 등록하고 한 번 재시도하며,
+     * 서버가 함수를 지원하지 않으면 EVAL로 다시 보냅니다.
+     */
+    private CompletableFuture<Long> execute(String script, String function, String[] keys, String... args) {
+        if (!lockFunctions.isAvailable()) {
+            return commands.<Long>eval(script, ScriptOutputType.INTEGER, keys, args).toCompletableFuture();
+        }
+
+        return functionCommands.<Long>fcall(function, ScriptOutputType.INTEGER, keys, args)
+                .toCompletableFuture()
+                .exceptionallyCompose(error -> {
+                    if (lockFunctions.fallBackIfUnsupported(error)) {
+                        return commands.<Long>eval(script, ScriptOutputType.INTEGER, keys, args).toCompletableFuture();
+                    }
+                    if (!RedisLockFunctions.isFunctionMissing(error)) {
+                        return CompletableFuture.failedFuture(error);
+                    }
+                    log.warn("Redis lock function {} not found; reloading library", function);
+                    return functionCommands.functionLoad(RedisLockFunctions.LIBRARY, true)
+                            .toCompletableFuture()
+                            .thenCompose(library -> functionCommands.<Long>fcall(
+                                    function, ScriptOutputType.INTEGER, keys, args).toCompletableFuture());
+                });
+    }
+
+    private static LockHandle requireAcquired(LockHandle handle, String lockKey) {
+        if (handle == null) {
+            throw new LockAcquisitionException("Lock is already held: " + lockKey, lockKey);
+        }
+        return handle;
+    }
+}
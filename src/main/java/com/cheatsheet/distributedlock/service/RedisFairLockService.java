@@ -0,0 +1,458 @@
+package com.cheatsheet.distributedlock.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import com.cheatsheet.distributedlock.enums.LockType;
+import com.cheatsheet.distributedlock.exception.LockConnectionException;
+import com.cheatsheet.distributedlock.util.LockOwnerIds;
+
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Redis FIFO 대기열을 사용한 공정(fair) 분산 락 구현
+ *
+ * 락을 바로 얻지 못한 요청자는 대기열(List)에 번호표를 받고 도착 순서대로 락을 얻습니다.
+ * 보유자가 해제하면 락 키를 삭제하지 않고 대기열의 다음 생존 대기자에게 바로 넘기며,
+ * 그 대기자의 넘김 채널에만 발행하므로 다른 대기자는 깨어나지 않습니다.
+ *
+ * 대기자는 대기하는 동안 주기적으로 heartbeat를 갱신하며,
+ * heartbeat가 끊긴 대기자(죽은 노드, 대기 포기)는 대기열 맨 앞에 도달했을 때 건너뜁니다.
+ *
+ * 사용하는 키 (redisKey는 RedisLockKeyLayout을 적용한 락 키이므로 Redis Cluster에서도 네 키가 같은 슬롯에 놓임)
+ * - redisKey: 현재 보유자 ID (String)
+ * - redisKey:queue: 대기열 (List)
+ * - redisKey:waiters: 대기자별 요청 만료 시간 ms (Hash)
+ * - redisKey:heartbeats: 대기자별 heartbeat 만료 시각 ms (Sorted Set)
+ */
+@Slf4j
+@Service
+public class RedisFairLockService implements DistributedLockService {
+
+    /**
+     * 공통 Lua 코드
+     * - Redis 서버 시각(ms) 계산
+     * - heartbeat가 끊긴 대기자를 대기열 앞에서 제거하고 맨 앞의 생존 대기자를 반환하는 함수
+     */
+    private static final String SCRIPT_PRELUDE = """
+        local lockKey = KEYS[1]
+        local queueKey = KEYS[2]
+        local waitersKey = KEYS[3]
+        local heartbeatsKey = KEYS[4]
+        local time = redis.call('TIME')
+        local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+        local function liveHead()
+            while true do
+                local head = redis.call('LINDEX', queueKey, 0)
+                if not head then
+                    return nil
+                end
+                local deadline = redis.call('ZSCORE', heartbeatsKey, head)
+                if deadline and tonumber(deadline) > now then
+                    return head
+                end
+                redis.call('LPOP', queueKey)
+                redis.call('HDEL', waitersKey, head)
+                redis.call('ZREM', heartbeatsKey, head)
+            end
+        end
+
+        local function dequeue(ownerId)
+            redis.call('LREM', queueKey, 0, ownerId)
+            redis.call('HDEL', waitersKey, ownerId)
+            redis.call('ZREM', heartbeatsKey, ownerId)
+        end
+        """;
+
+    /**
+     * 대기 없는 락 획득 Lua Script
+     * - 락이 비어 있고 생존 대기자가 없을 때만 획득 (대기자 새치기 방지)
+     */
+    private static final String ACQUIRE_LOCK_SCRIPT = SCRIPT_PRELUDE + """
+        local ownerId = ARGV[1]
+        local ttl = ARGV[2]
+
+        if redis.call('EXISTS', lockKey) == 0 and not liveHead() then
+            redis.call('SET', lockKey, ownerId, 'PX', ttl)
+            return 1
+        end
+        return 0
+        """;
+
+    /**
+     * 대기열 등록 및 획득 시도 Lua Script
+     * - 이미 락을 넘겨받았으면 성공 반환
+     * - 대기열에 없으면 맨 뒤에 등록하고, heartbeat 갱신
+     * - 락이 비어 있고 자신이 맨 앞의 생존 대기자면 획득
+     */
+    private static final String ENQUEUE_SCRIPT = SCRIPT_PRELUDE + """
+        local ownerId = ARGV[1]
+        local ttl = ARGV[2]
+        local heartbeatTimeout = tonumber(ARGV[3])
+
+        if redis.call('GET', lockKey) == ownerId then
+            return 1
+        end
+
+        if not redis.call('ZSCORE', heartbeatsKey, ownerId) then
+            redis.call('RPUSH', queueKey, ownerId)
+            redis.call('HSET', waitersKey, ownerId, ttl)
+        end
+        redis.call('ZADD', heartbeatsKey, now + heartbeatTimeout, ownerId)
+
+        if redis.call('EXISTS', lockKey) == 0 and liveHead() == ownerId then
+            dequeue(ownerId)
+            redis.call('SET', lockKey, ownerId, 'PX', ttl)
+            return 1
+        end
+
+        redis.call('PEXPIRE', queueKey, heartbeatTimeout * 2)
+        redis.call('PEXPIRE', waitersKey, heartbeatTimeout * 2)
+        redis.call('PEXPIRE', heartbeatsKey, heartbeatTimeout * 2)
+        return 0
+        """;
+
+    /**
+     * 대기 포기 Lua Script
+     * - 대기열에서 제거
+     * - 포기 직전에 락을 넘겨받았으면 1 반환 (호출자가 보유자가 됨)
+     */
+    private static final String CANCEL_SCRIPT = SCRIPT_PRELUDE + """
+        local ownerId = ARGV[1]
+
+        dequeue(ownerId)
+        if redis.call('GET', lockKey) == ownerId then
+            return 1
+        end
+        return 0
+        """;
+
+    /**
+     * 락 해제 Lua Script
+     * - 소유자를 검증한 후, 생존 대기자가 있으면 락 키를 삭제하지 않고 다음 대기자에게 넘김 (2 반환)
+     * - 넘김 시 다음 대기자의 넘김 채널에만 발행
+     * - 대기자가 없으면 삭제 후 해제 채널에 발행 (1 반환)
+     */
+    private static final String RELEASE_LOCK_SCRIPT = SCRIPT_PRELUDE + """
+        local ownerId = ARGV[1]
+        local releaseChannel = ARGV[2]
+        local handoffChannelPrefix = ARGV[3]
+
+        if redis.call('GET', lockKey) ~= ownerId then
+            return 0
+        end
+
+        local nextOwner = liveHead()
+        if nextOwner then
+            local ttl = redis.call('HGET', waitersKey, nextOwner)
+            dequeue(nextOwner)
+            redis.call('SET', lockKey, nextOwner, 'PX', ttl)
+            redis.call('PUBLISH', handoffChannelPrefix .. nextOwner, lockKey)
+            return 2
+        end
+
+        redis.call('DEL', lockKey)
+        redis.call('PUBLISH', releaseChannel, lockKey)
+        return 1
+        """;
+
+    /**
+     * 기본 만료 시간 (초) - 데드락 방지용
+     */
+    private static final int DEFAULT_TIMEOUT_SECONDS = 30;
+
+    /**
+     * heartbeat 갱신 주기 대비 만료 배수
+     */
+    private static final int HEARTBEAT_TIMEOUT_MULTIPLIER = 3;
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisLeaseWatchdog leaseWatchdog;
+    private final RedisLockReleaseSubscriber releaseSubscriber;
+    private final RedisLockKeyLayout keyLayout;
+    private final long heartbeatIntervalMillis;
+    private RedisScript<Long> acquireLockScript;
+    private RedisScript<Long> enqueueScript;
+    private RedisScript<Long> cancelScript;
+    private RedisScript<Long> releaseLockScript;
+
+    /**
+     * 락 키별 소유자 ID 저장
+     */
+    private final Map<String, String> lockOwnerMap = new ConcurrentHashMap<>();
+
+    public RedisFairLockService(StringRedisTemplate redisTemplate,
+                                RedisLockReleaseSubscriber releaseSubscriber,
+                                RedisLeaseWatchdog leaseWatchdog,
+                                RedisLockKeyLayout keyLayout,
+                                @Value("${distributed-lock.redis.fair.heartbeat-interval-millis:1000}") long heartbeatIntervalMillis) {
+        this.redisTemplate = redisTemplate;
+        this.releaseSubscriber = releaseSubscriber;
+        this.leaseWatchdog = leaseWatchdog;
+        this.keyLayout = keyLayout;
+        this.heartbeatIntervalMillis = heartbeatIntervalMillis;
+    }
+
+    @PostConstruct
+    public void init() {
+        this.acquireLockScript = RedisScript.of(ACQUIRE_LOCK_SCRIPT, Long.class);
+        this.enqueueScript = RedisScript.of(ENQUEUE_SCRIPT, Long.class);
+        this.cancelScript = RedisScript.of(CANCEL_SCRIPT, Long.class);
+        this.releaseLockScript = RedisScript.of(RELEASE_LOCK_SCRIPT, Long.class);
+    }
+
+    @Override
+    public LockType getSupportedType() {
+        return LockType.REDIS_FAIR;
+    }
+
+    /**
+     * 대기열 순서대로 넘겨주므로 JVM 내부 병합으로 순서를 바꾸지 않아야 합니다.
+     */
+    @Override
+    public boolean isFair() {
+        return true;
+    }
+
+    /**
+     * 대기 없이 락 획득을 시도합니다.
+     * 락이 비어 있어도 대기 중인 요청자가 있으면 새치기하지 않고 실패합니다.
+     *
+     * @param lockKey 락 식별자
+     * @param timeoutSeconds 타임아웃 (초) - 0 이하인 경우 기본값 사용
+     * @return 락 획득 성공 여부
+     */
+    @Override
+    public boolean acquireLock(String lockKey, int timeoutSeconds) {
+        return acquireLock(lockKey, Duration.ofSeconds(timeoutSeconds));
+    }
+
+    /**
+     * 밀리초 정밀도의 만료 시간으로 대기 없이 락 획득을 시도합니다.
+     *
+     * @param lockKey 락 식별자
+     * @param timeout 타임아웃 - 0 이하인 경우 기본값 사용
+     * @return 락 획득 성공 여부
+     */
+    @Override
+    public boolean acquireLock(String lockKey, Duration timeout) {
+        String ownerId = LockOwnerIds.next();
+        String redisKey = keyLayout.apply(lockKey);
+        try {
+            log.debug("Attempting to acquire Redis fair lock: key={}, ownerId={}", lockKey, ownerId);
+
+            Long result = redisTemplate.execute(
+                    acquireLockScript,
+                    keys(redisKey),
+                    ownerId,
+                    String.valueOf(leaseMillis(timeout))
+            );
+
+            boolean acquired = result != null && result == 1;
+            if (acquired) {
+                onAcquired(lockKey, redisKey, ownerId);
+            } else {
+                log.debug("Failed to acquire Redis fair lock (held or waiters queued): key={}", lockKey);
+            }
+            return acquired;
+
+        } catch (Exception e) {
+            log.error("Error while acquiring Redis fair lock: key={}", lockKey, e);
+            throw new LockConnectionException("Redis", lockKey, e);
+        }
+    }
+
+    /**
+     * 대기열에 번호표를 받고 차례가 올 때까지 대기합니다.
+     * 보유자가 해제하면 락을 직접 넘겨받으며, 넘김 신호는 이 대기자에게만 전달됩니다.
+     * 보유자가 해제하지 못하고 만료된 경우에는 만료 알림이나 heartbeat 주기에 맞춰 다시 확인합니다.
+     *
+     * @param lockKey 락 식별자
+     * @param timeoutSeconds 타임아웃 (초) - 0 이하인 경우 기본값 사용
+     * @param waitMillis 최대 대기 시간 (밀리초)
+     * @return 락 획득 성공 여부
+     */
+    @Override
+    public boolean tryAcquireLock(String lockKey, int timeoutSeconds, long waitMillis) {
+        return tryAcquireLock(lockKey, Duration.ofSeconds(timeoutSeconds), waitMillis);
+    }
+
+    /**
+     * 밀리초 정밀도의 만료 시간으로 대기열에 번호표를 받고 차례가 올 때까지 대기합니다.
+     *
+     * @param lockKey 락 식별자
+     * @param timeout 타임아웃 - 0 이하인 경우 기본값 사용
+     * @param waitMillis 최대 대기 시간 (밀리초)
+     * @return 락 획득 성공 여부
+     */
+    @Override
+    public boolean tryAcquireLock(String lockKey, Duration timeout, long waitMillis) {
+        if (waitMillis <= 0) {
+            return acquireLock(lockKey, timeout);
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitMillis);
+        String ownerId = LockOwnerIds.next();
+        String redisKey = keyLayout.apply(lockKey);
+        long leaseMillis = leaseMillis(timeout);
+        long heartbeatTimeoutMillis = heartbeatIntervalMillis * HEARTBEAT_TIMEOUT_MULTIPLIER;
+
+        // 신호 유실을 막기 위해 대기열 등록 전에 넘김 신호부터 등록
+        CompletableFuture<Void> handoff = releaseSubscriber.registerHandoff(ownerId);
+        CompletableFuture<Void> expired = releaseSubscriber.register(redisKey);
+        try {
+            while (true) {
+                if (enqueue(lockKey, redisKey, ownerId, leaseMillis, heartbeatTimeoutMillis)) {
+                    onAcquired(lockKey, redisKey, ownerId);
+                    return true;
+                }
+
+                long remainingNanos = deadline - System.nanoTime();
+                if (remainingNanos <= 0) {
+                    return cancel(lockKey, redisKey, ownerId);
+                }
+
+                long waitNanos = Math.min(remainingNanos, TimeUnit.MILLISECONDS.toNanos(heartbeatIntervalMillis));
+                try {
+                    CompletableFuture.anyOf(handoff, expired).get(waitNanos, TimeUnit.NANOSECONDS);
+                } catch (TimeoutException e) {
+                    // heartbeat 갱신을 위해 다시 등록 스크립트 실행
+                }
+                if (expired.isDone()) {
+                    releaseSubscriber.unregister(redisKey, expired);
+                    expired = releaseSubscriber.register(redisKey);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return cancel(lockKey, redisKey, ownerId);
+        } catch (ExecutionException e) {
+            cancel(lockKey, redisKey, ownerId);
+            throw new IllegalStateException("Handoff signal completed exceptionally", e);
+        } finally {
+            releaseSubscriber.unregisterHandoff(ownerId, handoff);
+            releaseSubscriber.unregister(redisKey, expired);
+        }
+    }
+
+    /**
+     * 락을 해제합니다.
+     * 대기 중인 생존 대기자가 있으면 키를 삭제하지 않고 다음 대기자에게 바로 넘깁니다.
+     *
+     * @param lockKey 락 식별자
+     * @return 락 해제 성공 여부
+     */
+    @Override
+    public boolean releaseLock(String lockKey) {
+        String ownerId = lockOwnerMap.get(lockKey);
+        if (ownerId == null) {
+            log.warn("Attempted to release lock without owner ID: key={}", lockKey);
+            return false;
+        }
+
+        String redisKey = keyLayout.apply(lockKey);
+        try {
+            log.debug("Attempting to release Redis fair lock: key={}, ownerId={}", lockKey, ownerId);
+
+            Long result = redisTemplate.execute(
+                    releaseLockScript,
+                    keys(redisKey),
+                    ownerId,
+                    RedisLockReleaseSubscriber.releaseChannel(redisKey),
+                    RedisLockReleaseSubscriber.HANDOFF_CHANNEL_PREFIX
+            );
+
+            // 넘겨받은 대기자가 같은 JVM이면 이미 새 소유자를 기록했을 수 있으므로 자신의 항목만 제거
+            if (lockOwnerMap.remove(lockKey, ownerId)) {
+                leaseWatchdog.unwatch(redisKey, ownerId);
+            }
+
+            if (result != null && result == 2) {
+                log.debug("Handed off Redis fair lock to next waiter: key={}", lockKey);
+            } else if (result != null && result == 1) {
+                log.debug("Successfully released Redis fair lock: key={}", lockKey);
+            } else {
+                log.warn("Failed to release Redis fair lock (owner mismatch or not exists): key={}", lockKey);
+            }
+
+            return result != null && result > 0;
+
+        } catch (Exception e) {
+            log.error("Error while releasing Redis fair lock: key={}", lockKey, e);
+            throw new LockConnectionException("Redis", lockKey, e);
+        }
+    }
+
+    private boolean enqueue(String lockKey, String redisKey, String ownerId, long leaseMillis,
+                            long heartbeatTimeoutMillis) {
+        try {
+            Long result = redisTemplate.execute(
+                    enqueueScript,
+                    keys(redisKey),
+                    ownerId,
+                    String.valueOf(leaseMillis),
+                    String.valueOf(heartbeatTimeoutMillis)
+            );
+            return result != null && result == 1;
+
+        } catch (Exception e) {
+            log.error("Error while waiting in Redis fair lock queue: key={}", lockKey, e);
+            throw new LockConnectionException("Redis", lockKey, e);
+        }
+    }
+
+    /**
+     * 대기열에서 빠집니다. 포기 직전에 락을 넘겨받았다면 보유자로 처리합니다.
+     */
+    private boolean cancel(String lockKey, String redisKey, String ownerId) {
+        try {
+            Long result = redisTemplate.execute(cancelScript, keys(redisKey), ownerId);
+            boolean handedOff = result != null && result == 1;
+            if (handedOff) {
+                onAcquired(lockKey, redisKey, ownerId);
+            } else {
+                log.debug("Gave up waiting in Redis fair lock queue: key={}", lockKey);
+            }
+            return handedOff;
+
+        } catch (Exception e) {
+            log.error("Error while leaving Redis fair lock queue: key={}", lockKey, e);
+            throw new LockConnectionException("Redis", lockKey, e);
+        }
+    }
+
+    private void onAcquired(String lockKey, String redisKey, String ownerId) {
+        lockOwnerMap.put(lockKey, ownerId);
+        leaseWatchdog.watch(redisKey, ownerId);
+        log.debug("Successfully acquired Redis fair lock: key={}, ownerId={}", lockKey, ownerId);
+    }
+
+    private long leaseMillis(Duration timeout) {
+        return leaseWatchdog.effectiveTimeout(
+                timeout.isNegative() || timeout.isZero() ? Duration.ofSeconds(DEFAULT_TIMEOUT_SECONDS) : timeout)
+                .toMillis();
+    }
+
+    /**
+     * 락 키와 대기열 관련 키 목록을 반환합니다.
+     * 모두 redisKey의 해시 태그를 공유하므로 같은 슬롯에 놓입니다.
+     *
+     * @param redisKey 레이아웃이 적용된 Redis 키
+     * @return [락 키, 대기열, 대기자 정보, heartbeat]
+     */
+    static List<String> keys(String redisKey) {
+        return List.of(redisKey, redisKey + ":queue", redisKey + ":waiters", redisKey + ":heartbeats");
+    }
+}
@@ -0,0 +1,328 @@
+package com.cheatsheet.distributedlock.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Service;
+
+import com.cheatsheet.distributedlock.enums.LockType;
+import com.cheatsheet.distributedlock.exception.LockConnectionException;
+import com.cheatsheet.distributedlock.model.LockMetadata;
+import com.cheatsheet.distributedlock.util.LockOwnerIds;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 네임스페이스별 Redis Hash의 필드로 락을 저장하는 분산 락 구현 (Redis 7.4 이상)
+ *
+ * 락마다 최상위 키를 만드는 대신, 락 키의 앞 namespace-segments개 ':' 세그먼트를 네임스페이스로 보고
+ * "{네임스페이스}locks" Hash의 필드(나머지 부분)로 저장합니다. 예: "product:42" → Hash "product:locks", 필드 "42"
+ * - 만료 시간은 필드 단위 TTL(HPEXPIRE)로 지정하여 필드마다 따로 만료
+ * - 소유자 ID는 바이너리(LockOwnerIds.toBytes)로 저장
+ * - 펜싱 토큰은 같은 Hash의 빈 이름 필드("")에 있는 네임스페이스 카운터로 발급 (만료 없음, 단조 증가)
+ * 최상위 키 하나당 드는 메타데이터(딕셔너리 엔트리, 만료 딕셔너리, 키 객체)와 락별 펜싱 키가 없어지므로
+ * 잘게 나눈 락이 많을수록 메모리가 줄어듭니다.
+ *
+ * 주의:
+ * - 한 네임스페이스의 락은 모두 같은 키(클러스터에서는 같은 슬롯)에 있으므로 노드 간에 분산되지 않습니다.
+ * - 필드 만료는 키스페이스 알림에 필드 이름이 없으므로, 대기자는 해제 채널 알림이나 보유자의 남은 만료 시간까지 기다립니다.
+ * - 임대 연장(워치독)은 지원하지 않습니다.
+ */
+@Slf4j
+@Service
+public class RedisHashLockService implements DistributedLockService {
+
+    /**
+     * Hash 락 획득 Lua Script
+     * - 필드가 없으면(만료된 필드 포함) 네임스페이스 카운터를 증가시키고 필드를 설정한 뒤 필드 만료 시간(ARGV[3], 밀리초) 지정
+     * - 증가된 펜싱 토큰 반환 (항상 1 이상)
+     * - 이미 존재하면 보유자의 남은 만료 시간(밀리초)을 음수로 반환 (만료 시간이 없으면 0)
+     */
+    static final String ACQUIRE_SCRIPT = """
+        local hash = KEYS[1]
+        local field = ARGV[1]
+
+        if redis.call('HEXISTS', hash, field) == 0 then
+            local token = redis.call('HINCRBY', hash, '', 1)
+            redis.call('HSET', hash, field, ARGV[2])
+            redis.call('HPEXPIRE', hash, ARGV[3], 'FIELDS', 1, field)
+            return token
+        end
+
+        local remaining = redis.call('HPTTL', hash, 'FIELDS', 1, field)[1]
+        if remaining > 0 then
+            return -remaining
+        end
+        return 0
+        """;
+
+    /**
+     * Hash 락 해제 Lua Script
+     * - 필드의 소유자를 검증한 후 삭제하고 해제 채널(ARGV[3])에 발행하여 대기자를 깨움
+     * - 소유자가 일치하지 않으면 실패 반환
+     */
+    static final String RELEASE_SCRIPT = """
+        local hash = KEYS[1]
+        local field = ARGV[1]
+
+        if redis.call('HGET', hash, field) == ARGV[2] then
+            redis.call('HDEL', hash, field)
+            redis.call('PUBLISH', ARGV[3], ARGV[1])
+            return 1
+        end
+        return 0
+        """;
+
+    /**
+     * Hash 키 접미사 (네임스페이스 뒤에 붙음)
+     */
+    static final String HASH_KEY_SUFFIX = "locks";
+
+    /**
+     * 기본 만료 시간 (초) - 데드락 방지용
+     */
+    private static final int DEFAULT_TIMEOUT_SECONDS = 30;
+
+    private static final RedisScript<Long> ACQUIRE = RedisScript.of(ACQUIRE_SCRIPT, Long.class);
+    private static final RedisScript<Long> RELEASE = RedisScript.of(RELEASE_SCRIPT, Long.class);
+    private static final RedisSerializer<Long> RESULT_SERIALIZER = new GenericToStringSerializer<>(Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisLockReleaseSubscriber releaseSubscriber;
+    private final int namespaceSegments;
+
+    /**
+     * 락 키별 보유 정보 저장
+     */
+    private final Map<String, LockMetadata> lockOwnerMap = new ConcurrentHashMap<>();
+
+    public RedisHashLockService(StringRedisTemplate redisTemplate,
+                                RedisLockReleaseSubscriber releaseSubscriber,
+                                @Value("${distributed-lock.redis.hash.namespace-segments:1}") int namespaceSegments) {
+        this.redisTemplate = redisTemplate;
+        this.releaseSubscriber = releaseSubscriber;
+        this.namespaceSegments = Math.max(1, namespaceSegments);
+    }
+
+    @Override
+    public LockType getSupportedType() {
+        return LockType.REDIS_HASH;
+    }
+
+    /**
+     * Hash 필드로 락을 획득합니다.
+     *
+     * @param lockKey 락 식별자
+     * @param timeoutSeconds 타임아웃 (초) - 0 이하인 경우 기본값 사용
+     * @return 락 획득 성공 여부
+     */
+    @Override
+    public boolean acquireLock(String lockKey, int timeoutSeconds) {
+        return acquireLock(lockKey, Duration.ofSeconds(timeoutSeconds));
+    }
+
+    /**
+     * 밀리초 정밀도의 필드 만료 시간으로 Hash 필드 락을 획득합니다.
+     *
+     * @param lockKey 락 식별자
+     * @param timeout 타임아웃 - 0 이하인 경우 기본값 사용
+     * @return 락 획득 성공 여부
+     */
+    @Override
+    public boolean acquireLock(String lockKey, Duration timeout) {
+        return attempt(lockKey, timeout) > 0;
+    }
+
+    /**
+     * 해제 알림 또는 보유자의 남은 만료 시간까지 대기하며 락 획득을 시도합니다.
+     *
+     * @param lockKey 락 식별자
+     * @param timeoutSeconds 타임아웃 (초) - 0 이하인 경우 기본값 사용
+     * @param waitMillis 최대 대기 시간 (밀리초)
+     * @return 락 획득 성공 여부
+     */
+    @Override
+    public boolean tryAcquireLock(String lockKey, int timeoutSeconds, long waitMillis) {
+        return tryAcquireLock(lockKey, Duration.ofSeconds(timeoutSeconds), waitMillis);
+    }
+
+    /**
+     * 밀리초 정밀도의 만료 시간으로 해제 알림 또는 보유자의 남은 만료 시간까지 대기하며 락 획득을 시도합니다.
+     * 필드 만료는 알림이 없으므로 실패 응답의 남은 만료 시간이 지나면 다시 시도합니다.
+     *
+     * @param lockKey 락 식별자
+     * @param timeout 타임아웃 - 0 이하인 경우 기본값 사용
+     * @param waitMillis 최대 대기 시간 (밀리초)
+     * @return 락 획득 성공 여부
+     */
+    @Override
+    public boolean tryAcquireLock(String lockKey, Duration timeout, long waitMillis) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(waitMillis, 0));
+
+        while (true) {
+            // 신호 유실을 막기 위해 획득 시도 전에 대기자로 먼저 등록
+            CompletableFuture<Void> released = releaseSubscriber.register(lockKey);
+            try {
+                long result = attempt(lockKey, timeout);
+                if (result > 0) {
+                    return true;
+                }
+
+                long remainingNanos = deadline - System.nanoTime();
+                if (remainingNanos <= 0) {
+                    return false;
+                }
+                long holderNanos = TimeUnit.MILLISECONDS.toNanos(-result);
+                long waitNanos = holderNanos > 0 ? Math.min(remainingNanos, holderNanos) : remainingNanos;
+
+                log.debug("Waiting for Redis Hash lock release: key={}, remaining={}ms",
+                        lockKey, TimeUnit.NANOSECONDS.toMillis(remainingNanos));
+                released.get(waitNanos, TimeUnit.NANOSECONDS);
+
+            } catch (TimeoutException e) {
+                if (deadline - System.nanoTime() > 0) {
+                    continue;
+                }
+                // 대기 시간 소진 - 마지막 시도
+                return acquireLock(lockKey, timeout);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Release signal completed exceptionally", e);
+            } finally {
+                releaseSubscriber.unregister(lockKey, released);
+            }
+        }
+    }
+
+    /**
+     * 소유자를 검증하여 Hash 필드 락을 해제합니다.
+     *
+     * @param lockKey 락 식별자
+     * @return 락 해제 성공 여부
+     */
+    @Override
+    public boolean releaseLock(String lockKey) {
+        LockMetadata metadata = lockOwnerMap.get(lockKey);
+        if (metadata == null) {
+            log.warn("Attempted to release lock without owner ID: key={}", lockKey);
+            return false;
+        }
+
+        try {
+            HashLocation location = locate(lockKey, namespaceSegments);
+            Long result = redisTemplate.execute(RELEASE, RedisSerializer.byteArray(), RESULT_SERIALIZER,
+                    List.of(location.hashKey()),
+                    bytes(location.field()),
+                    LockOwnerIds.toBytes(metadata.getOwnerId()),
+                    bytes(RedisLockReleaseSubscriber.releaseChannel(lockKey)));
+            boolean released = result != null && result == 1;
+
+            lockOwnerMap.remove(lockKey);
+            if (released) {
+                log.debug("Successfully released Redis Hash lock: key={}", lockKey);
+            } else {
+                log.warn("Failed to release Redis Hash lock (owner mismatch or expired): key={}", lockKey);
+            }
+            return released;
+
+        } catch (Exception e) {
+            log.error("Error while releasing Redis Hash lock: key={}", lockKey, e);
+            throw new LockConnectionException("Redis", lockKey, e);
+        }
+    }
+
+    /**
+     * 락 키의 보유 정보(소유자 ID, 펜싱 토큰)를 반환합니다.
+     *
+     * @param lockKey 락 식별자
+     * @return 보유 정보 (보유하지 않았으면 null)
+     */
+    public LockMetadata getLockMetadata(String lockKey) {
+        return lockOwnerMap.get(lockKey);
+    }
+
+    /**
+     * 획득 스크립트를 한 번 실행합니다.
+     *
+     * @return 펜싱 토큰 (실패 시 보유자의 남은 만료 시간을 음수로, 모르면 0)
+     */
+    private long attempt(String lockKey, Duration timeout) {
+        try {
+            HashLocation location = locate(lockKey, namespaceSegments);
+            String ownerId = LockOwnerIds.next();
+            Duration effectiveTimeout = timeout.isNegative() || timeout.isZero()
+                    ? Duration.ofSeconds(DEFAULT_TIMEOUT_SECONDS)
+                    : timeout;
+
+            log.debug("Attempting to acquire Redis Hash lock: key={}, hash={}, timeout={}ms",
+                    lockKey, location.hashKey(), effectiveTimeout.toMillis());
+
+            Long result = redisTemplate.execute(ACQUIRE, RedisSerializer.byteArray(), RESULT_SERIALIZER,
+                    List.of(location.hashKey()),
+                    bytes(location.field()),
+                    LockOwnerIds.toBytes(ownerId),
+                    bytes(String.valueOf(effectiveTimeout.toMillis())));
+            long token = result != null ? result : 0;
+
+            if (token > 0) {
+                lockOwnerMap.put(lockKey, new LockMetadata(lockKey, ownerId, Instant.now(), effectiveTimeout, token));
+                log.debug("Successfully acquired Redis Hash lock: key={}, ownerId={}, fencingToken={}",
+                        lockKey, ownerId, token);
+            } else {
+                log.debug("Failed to acquire Redis Hash lock (already held): key={}, holderRemaining={}ms",
+                        lockKey, -token);
+            }
+            return token;
+
+        } catch (Exception e) {
+            log.error("Error while acquiring Redis Hash lock: key={}", lockKey, e);
+            throw new LockConnectionException("Redis", lockKey, e);
+        }
+    }
+
+    /**
+     * 락 키를 Hash 키와 필드로 나눕니다.
+     * 앞 segments개 ':' 세그먼트(구분자 포함)가 네임스페이스이며, 남은 부분이 없으면 공용 Hash("locks")의 필드가 됩니다.
+     *
+     * @param lockKey 락 식별자
+     * @param segments 네임스페이스 세그먼트 수
+     * @return Hash 키와 필드
+     */
+    static HashLocation locate(String lockKey, int segments) {
+        int end = -1;
+        for (int i = 0; i < segments; i++) {
+            end = lockKey.indexOf(':', end + 1);
+            if (end < 0) {
+                break;
+            }
+        }
+        if (end < 0 || end == lockKey.length() - 1) {
+            return new HashLocation(HASH_KEY_SUFFIX, lockKey);
+        }
+        return new HashLocation(lockKey.substring(0, end + 1) + HASH_KEY_SUFFIX, lockKey.substring(end + 1));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 락이 저장되는 Hash 키와 필드
+     */
+    record HashLocation(String hashKey, String field) {
+    }
+}
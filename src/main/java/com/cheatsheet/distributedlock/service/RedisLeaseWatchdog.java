@@ -0,0 +1,201 @@
+package com.cheatsheet.distributedlock.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 락 임대(lease) 연장 워치독
+ *
+ * 워치독 모드가 켜져 있으면 Redis 락은 짧은 임대 시간으로 획득되고,
+ * 이 JVM이 보유한 모든 락의 임대를 주기적으로 한 번의 Lua 호출로 연장합니다.
+ * Redis Cluster에서는 다중 키 스크립트가 한 슬롯에만 실행될 수 있으므로 슬롯별로 나누어 연장합니다.
+ * 연장 스크립트는 애플리케이션 캐시 트래픽과 섞이지 않도록 락 명령 실행기의 전용 연결로 보냅니다.
+ * 노드가 죽으면 연장이 멈추므로 락은 임대 시간 안에 풀립니다.
+ */
+@Slf4j
+@Component
+public class RedisLeaseWatchdog {
+
+    /**
+     * 일괄 임대 연장 Lua Script
+     * - KEYS[i]의 소유자가 ARGV[i + 1]과 일치하면 만료 시간을 연장
+     * - 재진입 락(Hash)은 owner 필드로 소유자를 확인
+     * - 소유자가 바뀌었거나 사라진 키 목록을 반환
+     */
+    static final String RENEW_LEASES_SCRIPT = """
+        local leaseMillis = ARGV[1]
+        local lost = {}
+
+        for i, lockKey in ipairs(KEYS) do
+            local owner
+            if redis.call('TYPE', lockKey).ok == 'hash' then
+                owner = redis.call('HGET', lockKey, 'owner')
+            else
+                owner = redis.call('GET', lockKey)
+            end
+            if owner == ARGV[i + 1] then
+                redis.call('PEXPIRE', lockKey, leaseMillis)
+            else
+                table.insert(lost, lockKey)
+            end
+        end
+
+        return lost
+        """;
+
+    private final RedisLockCommandExecutor commandExecutor;
+    private final RedisLockKeyLayout keyLayout;
+    private final boolean enabled;
+    private final int leaseSeconds;
+
+    /**
+     * 연장 대상 락 (락 키 -> 소유자 ID)
+     */
+    private final Map<String, String> leases = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService scheduler;
+
+    public RedisLeaseWatchdog(RedisLockCommandExecutor commandExecutor,
+                              RedisLockKeyLayout keyLayout,
+                              @Value("${distributed-lock.redis.watchdog.enabled:false}") boolean enabled,
+                              @Value("${distributed-lock.redis.watchdog.lease-seconds:3}") int leaseSeconds) {
+        this.commandExecutor = commandExecutor;
+        this.keyLayout = keyLayout;
+        this.enabled = enabled;
+        this.leaseSeconds = leaseSeconds;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        long renewIntervalMillis = Math.max(TimeUnit.SECONDS.toMillis(leaseSeconds) / 3, 100);
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "redis-lease-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::renewLeases, renewIntervalMillis, renewIntervalMillis, TimeUnit.MILLISECONDS);
+        log.info("Redis lease watchdog started: lease={}s, renewInterval={}ms", leaseSeconds, renewIntervalMillis);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getLeaseSeconds() {
+        return leaseSeconds;
+    }
+
+    /**
+     * 워치독 모드가 켜져 있으면 임대 시간을, 아니면 요청된 타임아웃을 반환합니다.
+     *
+     * @param timeoutSeconds 요청된 타임아웃 (초)
+     * @return 실제로 Redis에 설정할 만료 시간 (초)
+     */
+    public int effectiveTimeout(int timeoutSeconds) {
+        return enabled ? leaseSeconds : timeoutSeconds;
+    }
+
+    /**
+     * 워치독이 켜져 있으면 요청된 타임아웃 대신 임대 시간을 반환합니다.
+     *
+     * @param timeout 요청된 타임아웃
+     * @return 실제로 Redis 키에 설정할 만료 시간
+     */
+    public Duration effectiveTimeout(Duration timeout) {
+        return enabled ? Duration.ofSeconds(leaseSeconds) : timeout;
+    }
+
+    /**
+     * 획득한 락을 임대 연장 대상에 등록합니다.
+     *
+     * @param lockKey 락 식별자
+     * @param ownerId 소유자 ID
+     */
+    public void watch(String lockKey, String ownerId) {
+        if (enabled) {
+            leases.put(lockKey, ownerId);
+        }
+    }
+
+    /**
+     * 락을 임대 연장 대상에서 제외합니다.
+     *
+     * @param lockKey 락 식별자
+     */
+    public void unwatch(String lockKey) {
+        leases.remove(lockKey);
+    }
+
+    /**
+     * 지정한 소유자로 등록된 경우에만 락을 임대 연장 대상에서 제외합니다.
+     * 해제 응답을 기다리는 동안 같은 키를 다시 획득한 다른 소유자의 등록을 지우지 않기 위해 사용합니다.
+     *
+     * @param lockKey 락 식별자
+     * @param ownerId 소유자 ID
+     */
+    public void unwatch(String lockKey, String ownerId) {
+        leases.remove(lockKey, ownerId);
+    }
+
+    /**
+     * 보유 중인 모든 락의 임대를 한 번의 스크립트 호출로 연장합니다. (클러스터에서는 슬롯별 한 번)
+     */
+    void renewLeases() {
+        if (leases.isEmpty()) {
+            return;
+        }
+
+        List<String> lockKeys = new ArrayList<>(leases.keySet());
+        for (List<String> group : keyLayout.groupBySlot(lockKeys)) {
+            renewLeases(group);
+        }
+    }
+
+    private void renewLeases(List<String> lockKeys) {
+        List<String> keys = new ArrayList<>(lockKeys.size());
+        List<String> ownerIds = new ArrayList<>(lockKeys.size());
+        for (String lockKey : lockKeys) {
+            String ownerId = leases.get(lockKey);
+            if (ownerId != null) {
+                keys.add(lockKey);
+                ownerIds.add(ownerId);
+            }
+        }
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        try {
+            List<String> lost = commandExecutor.renewLeases(keys, ownerIds, TimeUnit.SECONDS.toMillis(leaseSeconds));
+            for (String lockKey : lost) {
+                leases.remove(lockKey, ownerIds.get(keys.indexOf(lockKey)));
+                log.warn("Lost Redis lock lease before release: key={}", lockKey);
+            }
+            log.debug("Renewed {} Redis lock lease(s)", keys.size() - lost.size());
+        } catch (Exception e) {
+            log.error("Error while renewing Redis lock leases: count={}", keys.size(), e);
+        }
+    }
+}
@@ -0,0 +1,466 @@
+package com.cheatsheet.distributedlock.service;
+
+import io.lettuce.core.AbstractRedisClient;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisNoScriptException;
+import io.lettuce.core.api.StatefulConnection;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.BaseRedisAsyncCommands;
+import io.lettuce.core.api.sync.BaseRedisCommands;
+import io.lettuce.core.cluster.RedisClusterClient;
+import io.lettuce.core.cluster.api.StatefulRedisClusterConnection;
+import io.lettuce.core.codec.RedisCodec;
+import io.lettuce.core.codec.ToByteBufEncoder;
+import io.lettuce.core.output.CommandOutput;
+import io.lettuce.core.output.ValueListOutput;
+import io.lettuce.core.protocol.CommandArgs;
+import io.lettuce.core.protocol.CommandType;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * 단일 락 획득/해제 스크립트를 Lettuce 연결에 직접 전달하는 저수준 실행기
+ *
+ * StringRedisTemplate 경로는 호출마다 키 목록, 만료 시간 문자열, 키와 소유자 ID의 UTF-8 byte[],
+ * 직렬화기 변환 결과와 boxed Long 응답을 만듭니다. 이 실행기는 다음 방법으로 호출 스레드의 할당을 줄입니다.
+ * - 스크립트 SHA와 함수 이름은 시작 시 한 번 byte[]로 인코딩해 재사용
+ * - 키와 인자는 중간 byte[] 없이 Netty 버퍼에 바로 UTF-8로 기록하는 코덱 사용
+ * - 펜싱 키는 슬롯별로 만들어 둔 문자열을 재사용하고, 해제 채널은 문자열을 이어 붙이지 않고 스레드별로 재사용하는 접두사 뷰로 전달
+ * - 만료 시간은 정수 인자로, 응답은 primitive long으로 받음
+ *
+ * 동기 호출은 명령이 기록되고 응답을 받은 뒤에 반환하므로, 다음 호출에서 스레드별 뷰를 바꿔도 안전합니다.
+ * 응답을 받지 못하고 예외로 끝난 경우에는 아직 기록되지 않았을 수 있으므로 해당 스레드의 뷰를 버립니다.
+ *
+ * 다중 키 일괄 획득/해제는 비동기로 보내므로, 슬롯별로 나눈 그룹을 각 마스터에 동시에 보낼 수 있습니다.
+ * 클러스터 연결은 첫 번째 키의 슬롯으로 명령을 라우팅합니다.
+ * 워치독의 일괄 임대 연장도 같은 락 연결로 실행합니다.
+ */
+@Slf4j
+@Component
+public class RedisLockCommandExecutor {
+
+    private static final ThreadLocal<ArgumentBuffer> BUFFERS = ThreadLocal.withInitial(ArgumentBuffer::new);
+
+    static final byte[] ACQUIRE_SCRIPT = encode(RedisLuaLockService.ACQUIRE_LOCK_SCRIPT);
+    private static final byte[] RELEASE_SCRIPT = encode(RedisLuaLockService.RELEASE_LOCK_SCRIPT);
+    static final byte[] ACQUIRE_SHA = encode(RedisScript.of(RedisLuaLockService.ACQUIRE_LOCK_SCRIPT).getSha1());
+    private static final byte[] RELEASE_SHA = encode(RedisScript.of(RedisLuaLockService.RELEASE_LOCK_SCRIPT).getSha1());
+    static final byte[] ACQUIRE_FUNCTION = encode(RedisLockFunctions.ACQUIRE_FUNCTION);
+    private static final byte[] RELEASE_FUNCTION = encode(RedisLockFunctions.RELEASE_FUNCTION);
+    private static final byte[] ACQUIRE_ALL_SCRIPT = encode(RedisLuaLockService.ACQUIRE_ALL_SCRIPT);
+    private static final byte[] RELEASE_ALL_SCRIPT = encode(RedisLuaLockService.RELEASE_ALL_SCRIPT);
+    private static final byte[] ACQUIRE_ALL_SHA = encode(RedisScript.of(RedisLuaLockService.ACQUIRE_ALL_SCRIPT).getSha1());
+    private static final byte[] RELEASE_ALL_SHA = encode(RedisScript.of(RedisLuaLockService.RELEASE_ALL_SCRIPT).getSha1());
+    private static final byte[] ACQUIRE_ALL_FUNCTION = encode(RedisLockFunctions.ACQUIRE_ALL_FUNCTION);
+    private static final byte[] RELEASE_ALL_FUNCTION = encode(RedisLockFunctions.RELEASE_ALL_FUNCTION);
+    private static final byte[] RENEW_LEASES_SCRIPT = encode(RedisLeaseWatchdog.RENEW_LEASES_SCRIPT);
+    private static final byte[] RENEW_LEASES_SHA = encode(RedisScript.of(RedisLeaseWatchdog.RENEW_LEASES_SCRIPT).getSha1());
+
+    private final RedisLockConnections lockConnections;
+    private final RedisLockFunctions lockFunctions;
+    private final RedisLockAcquirePipeline acquirePipeline;
+
+    private StatefulConnection<CharSequence, CharSequence> connection;
+    private BaseRedisCommands<CharSequence, CharSequence> commands;
+    private BaseRedisAsyncCommands<CharSequence, CharSequence> asyncCommands;
+
+    public RedisLockCommandExecutor(RedisLockConnections lockConnections,
+                                    RedisLockFunctions lockFunctions,
+                                    RedisLockAcquirePipeline acquirePipeline) {
+        this.lockConnections = lockConnections;
+        this.lockFunctions = lockFunctions;
+        this.acquirePipeline = acquirePipeline;
+    }
+
+    /**
+     * 락 트래픽 전용 Lettuce 클라이언트(RedisLockConnections)로 락 명령 연결을 엽니다.
+     */
+    @PostConstruct
+    public void init() {
+        AbstractRedisClient client = lockConnections.client();
+        if (client instanceof RedisClusterClient clusterClient) {
+            StatefulRedisClusterConnection<CharSequence, CharSequence> clusterConnection =
+                    clusterClient.connect(LockArgumentCodec.INSTANCE);
+            this.connection = clusterConnection;
+            this.commands = clusterConnection.sync();
+            this.asyncCommands = clusterConnection.async();
+        } else {
+            StatefulRedisConnection<CharSequence, CharSequence> standaloneConnection =
+                    ((RedisClient) client).connect(LockArgumentCodec.INSTANCE);
+            this.connection = standaloneConnection;
+            this.commands = standaloneConnection.sync();
+            this.asyncCommands = standaloneConnection.async();
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    /**
+     * 락 획득 스크립트를 실행합니다.
+     * 자동 파이프라이닝이 켜져 있으면 다른 스레드의 획득 요청과 함께 한 번에 기록합니다.
+     *
+     * @param lockKey 락 식별자
+     * @param ownerId 소유자 ID
+     * @param ttlMillis 만료 시간 (밀리초)
+     * @return 발급된 펜싱 토큰 (이미 보유 중이면 보유자의 남은 만료 시간을 음수로, 모르면 0)
+     */
+    public long acquire(String lockKey, String ownerId, long ttlMillis) {
+        if (acquirePipeline.isEnabled()) {
+            return acquirePipeline.acquire(lockKey, ownerId, ttlMillis);
+        }
+        ArgumentBuffer buffer = BUFFERS.get();
+        boolean viaFunction = lockFunctions.isAvailable();
+        try {
+            if (viaFunction) {
+                return dispatch(CommandType.FCALL, acquireArgs(ACQUIRE_FUNCTION, lockKey, ownerId, ttlMillis, buffer));
+            }
+            try {
+                return dispatch(CommandType.EVALSHA, acquireArgs(ACQUIRE_SHA, lockKey, ownerId, ttlMillis, buffer));
+            } catch (RedisNoScriptException e) {
+                // 스크립트 캐시에 없으면(재시작, SCRIPT FLUSH) 본문을 EVAL로 보내 다시 캐시에 올림
+                return dispatch(CommandType.EVAL, acquireArgs(ACQUIRE_SCRIPT, lockKey, ownerId, ttlMillis, buffer));
+            }
+        } catch (RuntimeException e) {
+            BUFFERS.remove();
+            if (viaFunction && lockFunctions.fallBackIfUnsupported(e)) {
+                return acquire(lockKey, ownerId, ttlMillis);
+            }
+            if (!RedisLockFunctions.isFunctionMissing(e)) {
+                throw e;
+            }
+            Long token = lockFunctions.call(RedisLockFunctions.ACQUIRE_FUNCTION,
+                    List.of(lockKey, RedisLuaLockService.fenceKey(lockKey)), ownerId, ttlMillis);
+            return token != null ? token : 0;
+        }
+    }
+
+    /**
+     * 소유자를 검증하여 락 해제 스크립트를 실행합니다.
+     *
+     * @param lockKey 락 식별자
+     * @param ownerId 소유자 ID
+     * @return 락 해제 성공 여부
+     */
+    public boolean release(String lockKey, String ownerId) {
+        ArgumentBuffer buffer = BUFFERS.get();
+        boolean viaFunction = lockFunctions.isAvailable();
+        try {
+            if (viaFunction) {
+                return dispatch(CommandType.FCALL, releaseArgs(RELEASE_FUNCTION, lockKey, ownerId, buffer)) == 1;
+            }
+            try {
+                return dispatch(CommandType.EVALSHA, releaseArgs(RELEASE_SHA, lockKey, ownerId, buffer)) == 1;
+            } catch (RedisNoScriptException e) {
+                return dispatch(CommandType.EVAL, releaseArgs(RELEASE_SCRIPT, lockKey, ownerId, buffer)) == 1;
+            }
+        } catch (RuntimeException e) {
+            BUFFERS.remove();
+            if (viaFunction && lockFunctions.fallBackIfUnsupported(e)) {
+                return release(lockKey, ownerId);
+            }
+            if (!RedisLockFunctions.isFunctionMissing(e)) {
+                throw e;
+            }
+            Long result = lockFunctions.call(RedisLockFunctions.RELEASE_FUNCTION,
+                    List.of(lockKey), ownerId, RedisLockReleaseSubscriber.releaseChannel(lockKey));
+            return result != null && result == 1;
+        }
+    }
+
+    /**
+     * 같은 슬롯에 있는 여러 락을 한 번의 스크립트 호출로 모두 획득하거나, 하나도 획득하지 않습니다.
+     *
+     * @param redisKeys 같은 슬롯의 Redis 키 목록
+     * @param ownerId 소유자 ID
+     * @param ttlMillis 만료 시간 (밀리초)
+     * @return 모든 락에 기록할 펜싱 토큰 (획득 실패 시 0)
+     */
+    public CompletableFuture<Long> acquireAllAsync(List<String> redisKeys, String ownerId, long ttlMillis) {
+        return dispatchAsync(ACQUIRE_ALL_FUNCTION, ACQUIRE_ALL_SHA, ACQUIRE_ALL_SCRIPT, target -> {
+            CommandArgs<CharSequence, CharSequence> args = new CommandArgs<>(LockArgumentCodec.INSTANCE)
+                    .add(target)
+                    .add(redisKeys.size() * 2);
+            redisKeys.forEach(args::addKey);
+            redisKeys.forEach(redisKey -> args.addKey(RedisLuaLockService.fenceKey(redisKey)));
+            return args.addValue(ownerId).add(ttlMillis);
+        });
+    }
+
+    /**
+     * 같은 슬롯에 있는 여러 락을 각 소유자 ID로 검증하여 한 번의 스크립트 호출로 해제합니다.
+     *
+     * @param redisKeys 같은 슬롯의 Redis 키 목록
+     * @param ownerIds 키별 소유자 ID (redisKeys와 같은 순서)
+     * @return 해제된 락 개수
+     */
+    public CompletableFuture<Long> releaseAllAsync(List<String> redisKeys, List<String> ownerIds) {
+        return dispatchAsync(RELEASE_ALL_FUNCTION, RELEASE_ALL_SHA, RELEASE_ALL_SCRIPT, target -> {
+            CommandArgs<CharSequence, CharSequence> args = new CommandArgs<>(LockArgumentCodec.INSTANCE)
+                    .add(target)
+                    .add(redisKeys.size());
+            redisKeys.forEach(args::addKey);
+            args.addValue(RedisLockReleaseSubscriber.RELEASE_CHANNEL_PREFIX);
+            ownerIds.forEach(args::addValue);
+            return args;
+        });
+    }
+
+    /**
+     * 획득 인자: {함수 이름 | SHA | 본문} 2 lockKey fenceKey ownerId ttlMillis
+     */
+    /**
+     * 같은 슬롯에 있는 여러 락의 임대를 한 번의 스크립트 호출로 연장합니다.
+     *
+     * @param redisKeys 같은 슬롯의 Redis 키 목록
+     * @param ownerIds 키별 소유자 ID
+     * @param leaseMillis 임대 시간 (밀리초)
+     * @return 소유자가 바뀌었거나 사라져 연장하지 못한 키 목록
+     */
+    public List<String> renewLeases(List<String> redisKeys, List<String> ownerIds, long leaseMillis) {
+        Function<byte[], CommandArgs<CharSequence, CharSequence>> args = target -> {
+            CommandArgs<CharSequence, CharSequence> commandArgs = new CommandArgs<>(LockArgumentCodec.INSTANCE)
+                    .add(target)
+                    .add(redisKeys.size());
+            redisKeys.forEach(commandArgs::addKey);
+            commandArgs.add(leaseMillis);
+            ownerIds.forEach(commandArgs::addValue);
+            return commandArgs;
+        };
+        List<CharSequence> lost;
+        try {
+            lost = dispatchList(CommandType.EVALSHA, args.apply(RENEW_LEASES_SHA));
+        } catch (RedisNoScriptException e) {
+            lost = dispatchList(CommandType.EVAL, args.apply(RENEW_LEASES_SCRIPT));
+        }
+        return lost.stream().map(CharSequence::toString).toList();
+    }
+
+    private static CommandArgs<CharSequence, CharSequence> acquireArgs(byte[] target, String lockKey, String ownerId,
+                                                                       long ttlMillis, ArgumentBuffer buffer) {
+        return new CommandArgs<>(LockArgumentCodec.INSTANCE)
+                .add(target)
+                .add(2)
+                .addKey(lockKey)
+                .addKey(RedisLuaLockService.fenceKey(lockKey))
+                .addValue(ownerId)
+                .add(ttlMillis);
+    }
+
+    /**
+     * 해제 인자: {함수 이름 | SHA | 본문} 1 lockKey ownerId releaseChannel
+     */
+    private static CommandArgs<CharSequence, CharSequence> releaseArgs(byte[] target, String lockKey, String ownerId,
+                                                                       ArgumentBuffer buffer) {
+        return new CommandArgs<>(LockArgumentCodec.INSTANCE)
+                .add(target)
+                .add(1)
+                .addKey(lockKey)
+                .addValue(ownerId)
+                .addValue(buffer.releaseChannel.of(lockKey));
+    }
+
+    private long dispatch(CommandType type, CommandArgs<CharSequence, CharSequence> args) {
+        LongOutput output = new LongOutput();
+        commands.dispatch(type, output, args);
+        return output.value;
+    }
+
+    private List<CharSequence> dispatchList(CommandType type, CommandArgs<CharSequence, CharSequence> args) {
+        return commands.dispatch(type, new ValueListOutput<>(LockArgumentCodec.INSTANCE), args);
+    }
+
+    /**
+     * FCALL 또는 EVALSHA로 비동기 실행하고, 함수나 스크립트가 서버에 없거나 서버가 함수를 지원하지 않으면
+     * 본문을 EVAL로 다시 보냅니다.
+     * 이벤트 루프에서 이어지므로 라이브러리 재등록 같은 블로킹 작업은 하지 않습니다.
+     */
+    private CompletableFuture<Long> dispatchAsync(byte[] function, byte[] sha, byte[] script,
+                                                  Function<byte[], CommandArgs<CharSequence, CharSequence>> args) {
+        boolean viaFunction = lockFunctions.isAvailable();
+        CompletableFuture<Long> first = viaFunction
+                ? sendAsync(CommandType.FCALL, args.apply(function))
+                : sendAsync(CommandType.EVALSHA, args.apply(sha));
+        return first.exceptionallyCompose(error -> isNoScript(error) || RedisLockFunctions.isFunctionMissing(error)
+                        || viaFunction && lockFunctions.fallBackIfUnsupported(error)
+                ? sendAsync(CommandType.EVAL, args.apply(script))
+                : CompletableFuture.failedFuture(error));
+    }
+
+    private CompletableFuture<Long> sendAsync(CommandType type, CommandArgs<CharSequence, CharSequence> args) {
+        LongOutput output = new LongOutput();
+        return asyncCommands.dispatch(type, output, args).toCompletableFuture().thenApply(ignored -> output.value);
+    }
+
+    static boolean isNoScript(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof RedisNoScriptException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static byte[] encode(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 정수 응답을 boxing 없이 보관하는 출력
+     */
+    static final class LongOutput extends CommandOutput<CharSequence, CharSequence, Long> {
+
+        private long value;
+
+        LongOutput() {
+            super(LockArgumentCodec.INSTANCE, null);
+        }
+
+        long value() {
+            return value;
+        }
+
+        @Override
+        public void set(long integer) {
+            this.value = integer;
+        }
+    }
+
+    /**
+     * 스레드별로 재사용하는 인자 뷰
+     */
+    private static final class ArgumentBuffer {
+
+        private final JoinedSequence releaseChannel =
+                new JoinedSequence(RedisLockReleaseSubscriber.RELEASE_CHANNEL_PREFIX, null);
+    }
+
+    /**
+     * 고정 접두사 또는 접미사와 락 키를 이어 붙인 것처럼 보이는 CharSequence
+     * - 새 문자열을 만들지 않고 코덱이 두 부분을 차례로 버퍼에 기록
+     */
+    private static final class JoinedSequence implements CharSequence {
+
+        private final String prefix;
+        private final String suffix;
+        private String key;
+
+        JoinedSequence(String prefix, String suffix) {
+            this.prefix = prefix;
+            this.suffix = suffix;
+        }
+
+        JoinedSequence of(String key) {
+            this.key = key;
+            return this;
+        }
+
+        void writeTo(ByteBuf target) {
+            if (prefix != null) {
+                ByteBufUtil.writeUtf8(target, prefix);
+            }
+            ByteBufUtil.writeUtf8(target, key);
+            if (suffix != null) {
+                ByteBufUtil.writeUtf8(target, suffix);
+            }
+        }
+
+        @Override
+        public int length() {
+            return (prefix != null ? prefix.length() : 0) + key.length() + (suffix != null ? suffix.length() : 0);
+        }
+
+        @Override
+        public char charAt(int index) {
+            int prefixLength = prefix != null ? prefix.length() : 0;
+            if (index < prefixLength) {
+                return prefix.charAt(index);
+            }
+            index -= prefixLength;
+            if (index < key.length()) {
+                return key.charAt(index);
+            }
+            return suffix.charAt(index - key.length());
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return toString().subSequence(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return (prefix != null ? prefix : "") + key + (suffix != null ? suffix : "");
+        }
+    }
+
+    /**
+     * 키와 값을 중간 byte[] 없이 Netty 버퍼에 UTF-8로 바로 기록하는 코덱
+     * - 응답은 정수만 받으므로 디코딩은 문자열로 단순 변환
+     */
+    static final class LockArgumentCodec implements RedisCodec<CharSequence, CharSequence>,
+            ToByteBufEncoder<CharSequence, CharSequence> {
+
+        static final LockArgumentCodec INSTANCE = new LockArgumentCodec();
+
+        @Override
+        public CharSequence decodeKey(ByteBuffer bytes) {
+            return StandardCharsets.UTF_8.decode(bytes).toString();
+        }
+
+        @Override
+        public CharSequence decodeValue(ByteBuffer bytes) {
+            return StandardCharsets.UTF_8.decode(bytes).toString();
+        }
+
+        @Override
+        public ByteBuffer encodeKey(CharSequence key) {
+            // 클러스터 슬롯 계산 등 ByteBuffer가 필요한 경로에서만 사용
+            return StandardCharsets.UTF_8.encode(CharBuffer.wrap(key));
+        }
+
+        @Override
+        public ByteBuffer encodeValue(CharSequence value) {
+            return encodeKey(value);
+        }
+
+        @Override
+        public void encodeKey(CharSequence key, ByteBuf target) {
+            write(key, target);
+        }
+
+        @Override
+        public void encodeValue(CharSequence value, ByteBuf target) {
+            write(value, target);
+        }
+
+        @Override
+        public int estimateSize(Object keyOrValue) {
+            return ByteBufUtil.utf8MaxBytes((CharSequence) keyOrValue);
+        }
+
+        private static void write(CharSequence value, ByteBuf target) {
+            if (value instanceof JoinedSequence joined) {
+                joined.writeTo(target);
+            } else {
+                ByteBufUtil.writeUtf8(target, value);
+            }
+        }
+    }
+}
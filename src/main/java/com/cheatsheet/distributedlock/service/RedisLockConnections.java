@@ -0,0 +1,153 @@
+package com.cheatsheet.distributedlock.service;
+
+import io.lettuce.core.AbstractRedisClient;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.cluster.ClusterClientOptions;
+import io.lettuce.core.cluster.RedisClusterClient;
+import io.lettuce.core.resource.ClientResources;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.RedisPassword;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+
+/**
+ * 락 트래픽 전용 Lettuce 클라이언트
+ *
+ * 애플리케이션의 캐시 조회(MGET 등)와 같은 이벤트 루프를 쓰면 느린 응답 처리 뒤에 락 해제 응답이 줄을 서므로,
+ * 락 명령 실행기와 비동기 락 서비스는 이 클래스가 만든 별도 클라이언트로 연결을 엽니다.
+ * - 접속 대상, 인증, TLS, 명령 타임아웃은 애플리케이션 커넥션 팩토리 설정을 그대로 따름
+ * - I/O와 계산 스레드가 분리된 전용 ClientResources(io-threads 개)를 사용
+ * - 명령 완료 지연 시간을 LockConnectionMetrics에 "redis.{명령}" 이름으로 기록
+ *
+ * dedicated=false이거나 Sentinel/소켓 연결이면 애플리케이션의 Lettuce 클라이언트를 공유합니다 (지표 없음).
+ */
+@Slf4j
+@Component
+public class RedisLockConnections {
+
+    private final LettuceConnectionFactory connectionFactory;
+    private final LockConnectionMetrics metrics;
+    private final boolean dedicated;
+    private final int ioThreads;
+
+    private ClientResources clientResources;
+    private AbstractRedisClient client;
+
+    public RedisLockConnections(LettuceConnectionFactory connectionFactory,
+                                LockConnectionMetrics metrics,
+                                @Value("${distributed-lock.redis.connection.dedicated:true}") boolean dedicated,
+                                @Value("${distributed-lock.redis.connection.io-threads:2}") int ioThreads) {
+        this.connectionFactory = connectionFactory;
+        this.metrics = metrics;
+        this.dedicated = dedicated;
+        this.ioThreads = ioThreads;
+    }
+
+    /**
+     * 애플리케이션 커넥션 팩토리 설정으로 락 전용 클라이언트를 만듭니다.
+     */
+    @PostConstruct
+    public void init() {
+        if (!dedicated || connectionFactory.isRedisSentinelAware()
+                || connectionFactory.getSocketConfiguration() != null) {
+            log.info("Lock traffic shares the application Lettuce client: dedicated={}", dedicated);
+            return;
+        }
+
+        LettuceClientConfiguration clientConfiguration = connectionFactory.getClientConfiguration();
+        ClientResources.Builder resources = ClientResources.builder()
+                .ioThreadPoolSize(ioThreads)
+                .computationThreadPoolSize(ioThreads)
+                .commandLatencyRecorder(metrics.redisRecorder());
+        // 클러스터 노드 주소 변환 등 애플리케이션이 지정한 주소 해석 방식은 그대로 사용
+        clientConfiguration.getClientResources().ifPresent(shared -> resources
+                .socketAddressResolver(shared.socketAddressResolver()));
+        this.clientResources = resources.build();
+
+        if (connectionFactory.isClusterAware()) {
+            RedisClusterClient clusterClient = RedisClusterClient.create(clientResources,
+                    clusterUris(connectionFactory.getClusterConfiguration(), clientConfiguration));
+            clientConfiguration.getClientOptions()
+                    .filter(ClusterClientOptions.class::isInstance)
+                    .map(ClusterClientOptions.class::cast)
+                    .ifPresent(clusterClient::setOptions);
+            this.client = clusterClient;
+        } else {
+            RedisClient redisClient = RedisClient.create(clientResources,
+                    standaloneUri(connectionFactory.getStandaloneConfiguration(), clientConfiguration));
+            clientConfiguration.getClientOptions().ifPresent(redisClient::setOptions);
+            this.client = redisClient;
+        }
+        log.info("Dedicated Lettuce client for lock traffic: cluster={}, ioThreads={}",
+                connectionFactory.isClusterAware(), ioThreads);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (client != null) {
+            client.shutdown();
+        }
+        if (clientResources != null) {
+            clientResources.shutdown();
+        }
+    }
+
+    /**
+     * 락 연결을 열 Lettuce 클라이언트를 반환합니다.
+     *
+     * @return 전용 클라이언트 (공유 모드이면 애플리케이션 클라이언트)
+     */
+    public AbstractRedisClient client() {
+        return client != null ? client : connectionFactory.getRequiredNativeClient();
+    }
+
+    /**
+     * 전용 클라이언트 사용 여부를 반환합니다.
+     */
+    public boolean isDedicated() {
+        return client != null;
+    }
+
+    static RedisURI standaloneUri(RedisStandaloneConfiguration standalone, LettuceClientConfiguration clientConfiguration) {
+        RedisURI.Builder builder = RedisURI.builder()
+                .withHost(standalone.getHostName())
+                .withPort(standalone.getPort())
+                .withDatabase(standalone.getDatabase());
+        return withClientSettings(builder, standalone.getUsername(), standalone.getPassword(), clientConfiguration);
+    }
+
+    static List<RedisURI> clusterUris(RedisClusterConfiguration cluster, LettuceClientConfiguration clientConfiguration) {
+        return cluster.getClusterNodes().stream()
+                .map(node -> withClientSettings(RedisURI.builder().withHost(node.getHost()).withPort(node.getPort()),
+                        cluster.getUsername(), cluster.getPassword(), clientConfiguration))
+                .toList();
+    }
+
+    private static RedisURI withClientSettings(RedisURI.Builder builder, String username, RedisPassword password,
+                                               LettuceClientConfiguration clientConfiguration) {
+        builder.withSsl(clientConfiguration.isUseSsl())
+                .withTimeout(clientConfiguration.getCommandTimeout());
+        if (clientConfiguration.isUseSsl()) {
+            builder.withVerifyPeer(clientConfiguration.getVerifyMode())
+                    .withStartTls(clientConfiguration.isStartTls());
+        }
+        clientConfiguration.getClientName().ifPresent(builder::withClientName);
+        if (password.isPresent()) {
+            if (username != null) {
+                builder.withAuthentication(username, password.get());
+            } else {
+                builder.withPassword(password.get());
+            }
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,259 @@
+package com.cheatsheet.distributedlock.service;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.ScriptOutputType;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.sync.RedisCommands;
+import io.lettuce.core.cluster.RedisClusterClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 락 스크립트를 Redis 7 Function 라이브러리로 등록하고 FCALL로 호출하는 컴포넌트
+ *
+ * Function은 스크립트 캐시와 달리 RDB/AOF에 저장되고 복제본에도 전파되므로,
+ * 재시작이나 페일오버 후에도 EVALSHA의 NOSCRIPT 재전송 없이 바로 호출할 수 있습니다.
+ *
+ * 버전 관리:
+ * - distlock_version 함수가 등록된 라이브러리 버전을 반환하며, 시작 시 이 노드의 버전보다 낮을 때만 교체합니다.
+ * - 함수가 없다는 오류를 받으면 라이브러리를 다시 등록하고 한 번 재시도합니다.
+ *
+ * Redis 7 미만이거나 distributed-lock.redis.functions.enabled=false이면 EVAL 경로를 그대로 사용합니다.
+ * 시작 시 확인하지 못했으면(연결 오류 등) 확인될 때까지 EVAL 경로를 사용하고 이후 호출에서 다시 확인하며,
+ * FCALL이 "unknown command"로 실패하면(함수를 지원하지 않는 서버로 페일오버 등) EVAL 경로로 전환합니다.
+ * Redis Cluster에서는 라이브러리를 마스터마다 등록해야 하므로 EVALSHA 경로를 사용합니다.
+ *
+ * 라이브러리 확인/등록과 FCALL 재시도는 애플리케이션 StringRedisTemplate이 아니라
+ * 락 전용 클라이언트(RedisLockConnections)로 처음 필요할 때 연 연결을 사용합니다.
+ */
+@Slf4j
+@Component
+public class RedisLockFunctions {
+
+    /**
+     * 라이브러리 이름과 버전 - 함수 동작을 바꾸면 버전을 올립니다.
+     */
+    static final String LIBRARY_NAME = "distlock";
+    static final long LIBRARY_VERSION = 1;
+
+    static final String VERSION_FUNCTION = "distlock_version";
+    static final String ACQUIRE_FUNCTION = "distlock_acquire";
+    static final String RELEASE_FUNCTION = "distlock_release";
+    static final String ACQUIRE_ALL_FUNCTION = "distlock_acquire_all";
+    static final String RELEASE_ALL_FUNCTION = "distlock_release_all";
+
+    /**
+     * 락 Function 라이브러리
+     * - 함수 본문은 RedisLuaLockService의 스크립트를 그대로 사용하여 EVAL 경로와 동작이 같음
+     */
+    static final String LIBRARY = "#!lua name=" + LIBRARY_NAME + "\n"
+            + "redis.register_function{function_name='" + VERSION_FUNCTION + "', "
+            + "callback=function() return " + LIBRARY_VERSION + " end, flags={'no-writes'}}\n"
+            + function(ACQUIRE_FUNCTION, RedisLuaLockService.ACQUIRE_LOCK_SCRIPT)
+            + function(RELEASE_FUNCTION, RedisLuaLockService.RELEASE_LOCK_SCRIPT)
+            + function(ACQUIRE_ALL_FUNCTION, RedisLuaLockService.ACQUIRE_ALL_SCRIPT)
+            + function(RELEASE_ALL_FUNCTION, RedisLuaLockService.RELEASE_ALL_SCRIPT);
+
+    /**
+     * 시작 시 확인에 실패했을 때 다시 확인하는 최소 간격
+     */
+    private static final long CHECK_RETRY_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    private final RedisLockConnections lockConnections;
+    private final boolean enabled;
+    private volatile boolean available;
+    private volatile boolean checked;
+    private long nextCheckNanos;
+    private StatefulRedisConnection<String, String> connection;
+
+    public RedisLockFunctions(RedisLockConnections lockConnections,
+                              @Value("${distributed-lock.redis.functions.enabled:true}") boolean enabled) {
+        this.lockConnections = lockConnections;
+        this.enabled = enabled;
+    }
+
+    /**
+     * 등록된 라이브러리 버전을 확인하고, 없거나 이전 버전이면 등록합니다.
+     */
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            log.info("Redis lock functions disabled; using EVAL scripts");
+            checked = true;
+            return;
+        }
+        if (lockConnections.client() instanceof RedisClusterClient) {
+            log.info("Redis Cluster detected; using EVAL scripts instead of lock functions");
+            checked = true;
+            return;
+        }
+
+        if (!check()) {
+            // 연결 오류 등 - 확인될 때까지 EVAL 경로를 사용
+            log.warn("Could not check Redis lock function library; using EVAL scripts until it can be checked");
+        }
+    }
+
+    @PreDestroy
+    public synchronized void destroy() {
+        if (connection != null) {
+            connection.close();
+            connection = null;
+        }
+    }
+
+    /**
+     * FCALL 경로를 사용할 수 있는지 여부를 반환합니다.
+     * 시작 시 확인하지 못했으면 일정 간격으로 다시 확인하며, 그동안에는 false를 반환합니다.
+     *
+     * @return Function 사용 가능 여부
+     */
+    public boolean isAvailable() {
+        if (!checked) {
+            retryCheck();
+        }
+        return available;
+    }
+
+    /**
+     * FCALL이 함수를 지원하지 않는 서버에서 실패했으면 EVAL 경로로 전환합니다.
+     *
+     * @param error FCALL 실패 원인
+     * @return EVAL 경로로 다시 보내야 하면 true
+     */
+    public boolean fallBackIfUnsupported(Throwable error) {
+        if (!isUnsupported(error)) {
+            return false;
+        }
+        if (available) {
+            available = false;
+            log.warn("Redis server does not support functions; switching to EVAL scripts");
+        }
+        return true;
+    }
+
+    /**
+     * 함수를 호출합니다. 함수가 없으면 라이브러리를 다시 등록하고 한 번 재시도합니다.
+     *
+     * @param function 함수 이름
+     * @param keys 키 목록
+     * @param args 인자 목록
+     * @return 정수 응답
+     */
+    public Long call(String function, List<String> keys, Object... args) {
+        try {
+            return fcall(function, keys, args);
+        } catch (RuntimeException e) {
+            if (!isFunctionMissing(e)) {
+                throw e;
+            }
+            log.warn("Redis lock function {} not found (restart or failover without persistence); reloading", function);
+            load();
+            return fcall(function, keys, args);
+        }
+    }
+
+    private Long fcall(String function, List<String> keys, Object... args) {
+        String[] values = new String[args.length];
+        for (int i = 0; i < args.length; i++) {
+            values[i] = String.valueOf(args[i]);
+        }
+        return commands().fcall(function, ScriptOutputType.INTEGER, keys.toArray(String[]::new), values);
+    }
+
+    /**
+     * 락 전용 클라이언트로 연 연결의 동기 명령을 반환합니다. 연결은 처음 호출할 때 엽니다.
+     * 단독 Redis에서만 호출되며, 노드에 연결할 수 없으면 예외를 그대로 던집니다.
+     */
+    private synchronized RedisCommands<String, String> commands() {
+        if (connection == null) {
+            connection = ((RedisClient) lockConnections.client()).connect();
+        }
+        return connection.sync();
+    }
+
+    /**
+     * 등록된 라이브러리 버전을 확인하고, 없거나 이전 버전이면 등록합니다.
+     *
+     * @return 확인 완료 여부 (연결 오류 등으로 확인하지 못했으면 false)
+     */
+    private boolean check() {
+        try {
+            long loadedVersion = loadedVersion();
+            if (loadedVersion < LIBRARY_VERSION) {
+                load();
+            } else {
+                log.info("Redis lock function library already loaded: version={}", loadedVersion);
+            }
+            available = true;
+        } catch (Exception e) {
+            if (!isUnsupported(e)) {
+                log.debug("Redis lock function library check failed", e);
+                return false;
+            }
+            log.warn("Redis server does not support functions; using EVAL scripts");
+        }
+        checked = true;
+        return true;
+    }
+
+    private synchronized void retryCheck() {
+        long now = System.nanoTime();
+        if (checked || now - nextCheckNanos < 0) {
+            return;
+        }
+        nextCheckNanos = now + CHECK_RETRY_INTERVAL_NANOS;
+        check();
+    }
+
+    private long loadedVersion() {
+        try {
+            Long version = fcall(VERSION_FUNCTION, List.of());
+            return version != null ? version : 0;
+        } catch (RuntimeException e) {
+            if (isFunctionMissing(e)) {
+                return 0;
+            }
+            throw e;
+        }
+    }
+
+    private void load() {
+        commands().functionLoad(LIBRARY, true);
+        log.info("Loaded Redis lock function library: name={}, version={}", LIBRARY_NAME, LIBRARY_VERSION);
+    }
+
+    private static String function(String name, String body) {
+        // 스크립트 본문의 KEYS/ARGV를 함수 인자로 받음
+        return "redis.register_function('" + name + "', function(KEYS, ARGV)\n" + body + "end)\n";
+    }
+
+    /**
+     * 함수 또는 라이브러리가 등록되어 있지 않다는 오류인지 확인합니다.
+     *
+     * @param error 발생한 예외
+     * @return 함수 미등록 오류 여부
+     */
+    static boolean isFunctionMissing(Throwable error) {
+        return causeMessageContains(error, "Function not found");
+    }
+
+    private static boolean isUnsupported(Throwable error) {
+        return causeMessageContains(error, "unknown command");
+    }
+
+    private static boolean causeMessageContains(Throwable error, String text) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains(text)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
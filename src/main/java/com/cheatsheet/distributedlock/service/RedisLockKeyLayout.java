@@ -0,0 +1,176 @@
+package com.cheatsheet.distributedlock.service;
+
+import io.lettuce.core.cluster.SlotHash;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis Cluster 슬롯을 고려한 락 키 배치
+ *
+ * 다중 키 스크립트는 모든 키가 같은 슬롯에 있어야 하므로(CROSSSLOT), 여러 락을 한 번에 다룰 수 있도록
+ * Redis에 저장할 키를 정합니다. 펜싱 카운터는 슬롯마다 하나이며 slotTag()로 같은 슬롯에 둡니다.
+ * - 키에 이미 해시 태그({...})가 있으면 그대로 사용
+ * - hash-tag-segments가 N이면 앞의 N개 ':' 구분 세그먼트를 해시 태그로 감쌈
+ *   (N=2: "warehouse:WH001:product:P1" -> "{warehouse:WH001}:product:P1")
+ *   같은 창고의 락이 한 슬롯에 모이므로 여러 락을 한 번의 스크립트로 획득할 수 있음
+ * - 그 외에는 클러스터 모드에서만 키 전체를 해시 태그로 감쌈 (단독 Redis에서는 키 변경 없음)
+ *
+ * 일괄 연산은 슬롯별로 묶어 각 그룹을 담당 마스터에 보냅니다.
+ */
+@Slf4j
+@Component
+public class RedisLockKeyLayout {
+
+    private final boolean cluster;
+    private final int hashTagSegments;
+
+    public RedisLockKeyLayout(RedisConnectionFactory connectionFactory,
+                              @Value("${distributed-lock.redis.cluster.hash-tag-segments:0}") int hashTagSegments) {
+        this.cluster = isCluster(connectionFactory);
+        this.hashTagSegments = hashTagSegments;
+        if (cluster) {
+            log.info("Redis Cluster detected; lock keys are hash-tagged: hashTagSegments={}", hashTagSegments);
+        }
+    }
+
+    /**
+     * 클러스터 모드 여부를 반환합니다.
+     *
+     * @return Redis Cluster 연결 여부
+     */
+    public boolean isCluster() {
+        return cluster;
+    }
+
+    /**
+     * 락 식별자를 Redis에 저장할 키로 바꿉니다.
+     *
+     * @param lockKey 락 식별자
+     * @return 해시 태그가 적용된 Redis 키 (바꿀 필요가 없으면 원래 키)
+     */
+    public String apply(String lockKey) {
+        if (hasHashTag(lockKey)) {
+            return lockKey;
+        }
+        if (hashTagSegments > 0) {
+            int end = segmentEnd(lockKey, hashTagSegments);
+            if (end > 0) {
+                return "{" + lockKey.substring(0, end) + "}" + lockKey.substring(end);
+            }
+        }
+        return cluster ? "{" + lockKey + "}" : lockKey;
+    }
+
+    /**
+     * Redis 키를 같은 슬롯끼리 묶습니다. 단독 Redis에서는 전체를 한 그룹으로 반환합니다.
+     *
+     * @param redisKeys Redis 키 목록
+     * @return 슬롯별 키 그룹 (입력 순서 유지)
+     */
+    public Collection<List<String>> groupBySlot(List<String> redisKeys) {
+        if (!cluster) {
+            return List.of(redisKeys);
+        }
+        return partitionBySlot(redisKeys).values();
+    }
+
+    /**
+     * 키의 클러스터 해시 슬롯을 계산합니다.
+     *
+     * @param key Redis 키
+     * @return 해시 슬롯 (0 ~ 16383)
+     */
+    public static int slot(String key) {
+        return SlotHash.getSlot(key);
+    }
+
+    /**
+     * 키를 해시 슬롯별로 나눕니다.
+     *
+     * @param keys Redis 키 목록
+     * @return 슬롯 -> 키 목록 (입력 순서 유지)
+     */
+    public static Map<Integer, List<String>> partitionBySlot(Collection<String> keys) {
+        Map<Integer, List<String>> groups = new LinkedHashMap<>();
+        for (String key : keys) {
+            groups.computeIfAbsent(slot(key), slot -> new ArrayList<>()).add(key);
+        }
+        return groups;
+    }
+
+    /**
+     * 지정한 슬롯에 배치되는 짧은 해시 태그를 반환합니다.
+     * "{태그}"를 포함한 키는 항상 그 슬롯에 놓이므로 슬롯별 보조 키(펜싱 카운터 등)를 만들 때 사용합니다.
+     *
+     * @param slot 해시 슬롯 (0 ~ 16383)
+     * @return 해시 태그 문자열 (중괄호 제외)
+     */
+    static String slotTag(int slot) {
+        return Integer.toString(SlotTags.TAGS[slot]);
+    }
+
+    /**
+     * 연결 팩토리가 Redis Cluster에 연결하는지 확인합니다.
+     *
+     * @param connectionFactory Redis 연결 팩토리
+     * @return 클러스터 연결 여부
+     */
+    static boolean isCluster(RedisConnectionFactory connectionFactory) {
+        return connectionFactory instanceof LettuceConnectionFactory lettuce && lettuce.isClusterAware();
+    }
+
+    /**
+     * 슬롯 계산에 쓰이는 해시 태그(비어 있지 않은 첫 번째 {...})가 있는지 확인합니다.
+     */
+    static boolean hasHashTag(String key) {
+        int start = key.indexOf('{');
+        if (start < 0) {
+            return false;
+        }
+        int end = key.indexOf('}', start + 1);
+        return end > start + 1;
+    }
+
+    private static int segmentEnd(String key, int segments) {
+        int index = -1;
+        for (int i = 0; i < segments; i++) {
+            index = key.indexOf(':', index + 1);
+            if (index < 0) {
+                return -1;
+            }
+        }
+        return index;
+    }
+
+    /**
+     * 슬롯 → 그 슬롯에 배치되는 가장 작은 정수 태그 (처음 사용할 때 한 번 계산)
+     */
+    private static final class SlotTags {
+
+        private static final int[] TAGS = compute();
+
+        private static int[] compute() {
+            int[] tags = new int[SlotHash.SLOT_COUNT];
+            Arrays.fill(tags, -1);
+            int remaining = tags.length;
+            for (int candidate = 0; remaining > 0; candidate++) {
+                int slot = SlotHash.getSlot(Integer.toString(candidate));
+                if (tags[slot] < 0) {
+                    tags[slot] = candidate;
+                    remaining--;
+                }
+            }
+            return tags;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.cheatsheet.distributedlock.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * 락 해제를 호출 스레드 밖에서 모아 보내는 백그라운드 해제기
+ *
+ * 비즈니스 스레드는 해제 요청(Redis 키와 소유자 ID)을 큐에 넣고 바로 반환합니다. 전용 스레드가
+ * - 큐에 쌓인 요청을 최대 max-batch-size개까지 꺼내 슬롯별로 묶고
+ * - 각 그룹을 소유자를 검증하는 일괄 해제 스크립트 한 번으로 보냄 (그룹끼리는 동시에 전송)
+ * 연결 오류로 실패한 그룹은 max-attempts번까지 점점 긴 간격으로 다시 보내며,
+ * 모두 실패하면 만료 시간(TTL)이 지나 자동으로 풀리도록 두고 오류를 남깁니다.
+ *
+ * 종료 시에는 새 요청을 받지 않고(호출자가 직접 동기 해제), 큐와 재시도 중인 요청이 모두 처리될 때까지
+ * shutdown-timeout-millis 동안 기다립니다.
+ */
+@Slf4j
+@Component
+public class RedisLockReleaseCoalescer {
+
+    private final RedisLockCommandExecutor commandExecutor;
+    private final RedisLockKeyLayout keyLayout;
+    private final int maxBatchSize;
+    private final int maxAttempts;
+    private final long retryBackoffMillis;
+    private final long shutdownTimeoutMillis;
+
+    private final BlockingQueue<PendingRelease> queue = new LinkedBlockingQueue<>();
+
+    /**
+     * 큐에 있거나 전송/재시도 중인 해제 요청 수
+     */
+    private final AtomicInteger pending = new AtomicInteger();
+
+    private Thread dispatcher;
+    private volatile boolean accepting;
+
+    public RedisLockReleaseCoalescer(RedisLockCommandExecutor commandExecutor,
+                                     RedisLockKeyLayout keyLayout,
+                                     @Value("${distributed-lock.redis.async-release.max-batch-size:256}") int maxBatchSize,
+                                     @Value("${distributed-lock.redis.async-release.max-attempts:5}") int maxAttempts,
+                                     @Value("${distributed-lock.redis.async-release.retry-backoff-millis:100}") long retryBackoffMillis,
+                                     @Value("${distributed-lock.redis.async-release.shutdown-timeout-millis:5000}") long shutdownTimeoutMillis) {
+        this.commandExecutor = commandExecutor;
+        this.keyLayout = keyLayout;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.retryBackoffMillis = retryBackoffMillis;
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+    }
+
+    @PostConstruct
+    public void init() {
+        this.accepting = true;
+        this.dispatcher = Thread.ofPlatform().name("redis-lock-release").daemon(true).start(this::dispatchLoop);
+    }
+
+    /**
+     * 큐에 남은 해제 요청을 모두 보낸 뒤 종료합니다.
+     */
+    @PreDestroy
+    public void destroy() {
+        accepting = false;
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(shutdownTimeoutMillis);
+        synchronized (pending) {
+            long remaining;
+            while (pending.get() > 0 && (remaining = deadline - System.nanoTime()) > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(pending, remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        if (dispatcher != null) {
+            dispatcher.interrupt();
+        }
+        int left = pending.get();
+        if (left > 0) {
+            log.warn("Shut down with {} lock releases not flushed; they will expire by TTL", left);
+        }
+    }
+
+    /**
+     * 해제 요청을 큐에 넣습니다.
+     *
+     * @param redisKey Redis 키
+     * @param ownerId 소유자 ID
+     * @return 큐에 넣었으면 true, 종료 중이라 받지 않았으면 false (호출자가 직접 해제해야 함)
+     */
+    public boolean submit(String redisKey, String ownerId) {
+        if (!accepting) {
+            return false;
+        }
+        pending.incrementAndGet();
+        queue.add(new PendingRelease(redisKey, ownerId, 1));
+        return true;
+    }
+
+    /**
+     * 큐에 있거나 전송 중인 해제 요청 수를 반환합니다.
+     */
+    public int pendingCount() {
+        return pending.get();
+    }
+
+    private void dispatchLoop() {
+        List<PendingRelease> batch = new ArrayList<>(maxBatchSize);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(queue.take());
+                queue.drainTo(batch, maxBatchSize - batch.size());
+                send(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                log.error("Failed to send lock release batch: size={}", batch.size(), e);
+                batch.forEach(this::retry);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void send(List<PendingRelease> batch) {
+        Collection<List<PendingRelease>> groups = keyLayout.isCluster()
+                ? batch.stream().collect(Collectors.groupingBy(release -> RedisLockKeyLayout.slot(release.redisKey()),
+                        LinkedHashMap::new, Collectors.toList())).values()
+                : List.of(List.copyOf(batch));
+        for (List<PendingRelease> releases : groups) {
+            CompletableFuture<Long> result;
+            try {
+                result = commandExecutor.releaseAllAsync(releases.stream().map(PendingRelease::redisKey).toList(),
+                        releases.stream().map(PendingRelease::ownerId).toList());
+            } catch (RuntimeException e) {
+                result = CompletableFuture.failedFuture(e);
+            }
+            result.whenComplete((released, error) -> {
+                if (error != null) {
+                    log.warn("Lock release batch failed: size={}, attempt={}",
+                            releases.size(), releases.get(0).attempt(), error);
+                    releases.forEach(this::retry);
+                    return;
+                }
+                if (released < releases.size()) {
+                    // 이미 만료되었거나 다른 소유자가 획득한 키는 해제할 것이 없음
+                    log.debug("Some queued lock releases were no-ops: released={}, requested={}",
+                            released, releases.size());
+                }
+                releases.forEach(release -> done());
+            });
+        }
+    }
+
+    private void retry(PendingRelease release) {
+        if (release.attempt() >= maxAttempts) {
+            log.error("Giving up lock release after {} attempts; it will expire by TTL: key={}",
+                    release.attempt(), release.redisKey());
+            done();
+            return;
+        }
+        PendingRelease next = new PendingRelease(release.redisKey(), release.ownerId(), release.attempt() + 1);
+        CompletableFuture.delayedExecutor(retryBackoffMillis * release.attempt(), TimeUnit.MILLISECONDS)
+                .execute(() -> queue.add(next));
+    }
+
+    private void done() {
+        if (pending.decrementAndGet() == 0) {
+            synchronized (pending) {
+                pending.notifyAll();
+            }
+        }
+    }
+
+    private record PendingRelease(String redisKey, String ownerId, int attempt) {
+    }
+}
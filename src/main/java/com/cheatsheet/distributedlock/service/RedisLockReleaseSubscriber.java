@@ -0,0 +1,256 @@
+package com.cheatsheet.distributedlock.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.listener.Topic;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis 락 해제 알림을 구독하여 대기 중인 스레드를 깨우는 컴포넌트
+ *
+ * 다음 신호를 수신합니다.
+ * - 해제 스크립트가 락 삭제 시 발행하는 키별 채널 메시지 (lock:release:{lockKey})
+ * - 공정 락이 다음 대기자에게 락을 직접 넘길 때 발행하는 소유자별 채널 메시지 (lock:handoff:{ownerId})
+ * - distributed-lock.redis.expired-notifications.enabled=true이면 TTL 만료 시 Redis가 발행하는 keyevent "expired" 알림
+ *
+ * 만료 알림은 락과 관계없는 키를 포함해 모든 DB의 만료 이벤트가 모든 노드로 전달되므로 기본으로 끕니다.
+ * 끈 상태에서도 REDIS_LUA, REDIS_HASH 대기자는 실패 응답으로 받은 보유자의 남은 만료 시간이 지나면 다시 시도합니다.
+ *
+ * 구독은 시작 시 정한 패턴 구독으로 고정되어 있으며, 키별 대기자는 JVM 내부 맵으로 관리합니다.
+ */
+@Slf4j
+@Component
+public class RedisLockReleaseSubscriber implements MessageListener {
+
+    /**
+     * 락 해제 채널 접두사 (해제 스크립트가 "접두사 + 락 키" 채널로 발행)
+     */
+    public static final String RELEASE_CHANNEL_PREFIX = "lock:release:";
+
+    /**
+     * 락 넘김 채널 접두사 (공정 락 해제 스크립트가 "접두사 + 다음 소유자 ID" 채널로 발행)
+     */
+    public static final String HANDOFF_CHANNEL_PREFIX = "lock:handoff:";
+
+    /**
+     * 모든 DB의 만료 이벤트 채널 패턴
+     */
+    private static final String EXPIRED_EVENT_PATTERN = "__keyevent@*__:expired";
+
+    private static final String KEYSPACE_EVENTS_PARAMETER = "notify-keyspace-events";
+
+    private final RedisMessageListenerContainer listenerContainer;
+    private final StringRedisTemplate redisTemplate;
+    private final boolean expiredNotifications;
+
+    /**
+     * 락 키별 대기자 신호
+     */
+    private final Map<String, Set<CompletableFuture<Void>>> waiters = new ConcurrentHashMap<>();
+
+    public RedisLockReleaseSubscriber(RedisMessageListenerContainer listenerContainer,
+                                      StringRedisTemplate redisTemplate,
+                                      @Value("${distributed-lock.redis.expired-notifications.enabled:false}")
+                                      boolean expiredNotifications) {
+        this.listenerContainer = listenerContainer;
+        this.redisTemplate = redisTemplate;
+        this.expiredNotifications = expiredNotifications;
+    }
+
+    @PostConstruct
+    public void init() {
+        List<Topic> topics = new ArrayList<>(List.of(
+                new PatternTopic(RELEASE_CHANNEL_PREFIX + "*"),
+                new PatternTopic(HANDOFF_CHANNEL_PREFIX + "*")
+        ));
+        if (expiredNotifications) {
+            enableExpiredNotifications();
+            topics.add(new PatternTopic(EXPIRED_EVENT_PATTERN));
+        }
+        listenerContainer.addMessageListener(this, topics);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        listenerContainer.removeMessageListener(this);
+        waiters.values().forEach(signals -> signals.forEach(signal -> signal.complete(null)));
+        waiters.clear();
+    }
+
+    /**
+     * 락 키의 해제 채널 이름을 반환합니다.
+     *
+     * @param lockKey 락 식별자
+     * @return 해제 채널 이름
+     */
+    public static String releaseChannel(String lockKey) {
+        return RELEASE_CHANNEL_PREFIX + lockKey;
+    }
+
+    /**
+     * 소유자 ID의 락 넘김 채널 이름을 반환합니다.
+     *
+     * @param ownerId 소유자 ID
+     * @return 락 넘김 채널 이름
+     */
+    public static String handoffChannel(String ownerId) {
+        return HANDOFF_CHANNEL_PREFIX + ownerId;
+    }
+
+    /**
+     * 락 넘김 신호를 기다릴 대기자를 등록합니다.
+     * 같은 락 키의 다른 대기자는 깨우지 않고, 락을 넘겨받은 소유자만 깨웁니다.
+     *
+     * @param ownerId 소유자 ID
+     * @return 락을 넘겨받으면 완료되는 신호
+     */
+    public CompletableFuture<Void> registerHandoff(String ownerId) {
+        return register(handoffChannel(ownerId));
+    }
+
+    /**
+     * 락 넘김 대기자 등록을 해제합니다.
+     *
+     * @param ownerId 소유자 ID
+     * @param signal registerHandoff()가 반환한 신호
+     */
+    public void unregisterHandoff(String ownerId, CompletableFuture<Void> signal) {
+        unregister(handoffChannel(ownerId), signal);
+    }
+
+    /**
+     * 락 해제 신호를 기다릴 대기자를 등록합니다.
+     * 신호 유실을 막기 위해 락 획득 시도 전에 등록해야 합니다.
+     *
+     * @param lockKey 락 식별자
+     * @return 해제 또는 만료 시 완료되는 신호
+     */
+    public CompletableFuture<Void> register(String lockKey) {
+        CompletableFuture<Void> signal = new CompletableFuture<>();
+        waiters.computeIfAbsent(lockKey, key -> ConcurrentHashMap.newKeySet()).add(signal);
+        return signal;
+    }
+
+    /**
+     * 대기자 등록을 해제합니다.
+     *
+     * @param lockKey 락 식별자
+     * @param signal register()가 반환한 신호
+     */
+    public void unregister(String lockKey, CompletableFuture<Void> signal) {
+        waiters.computeIfPresent(lockKey, (key, signals) -> {
+            signals.remove(signal);
+            return signals.isEmpty() ? null : signals;
+        });
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        // 락 넘김 대기자는 채널 이름으로 등록되어 있음
+        String lockKey;
+        if (channel.startsWith(HANDOFF_CHANNEL_PREFIX)) {
+            lockKey = channel;
+        } else if (channel.startsWith(RELEASE_CHANNEL_PREFIX)) {
+            lockKey = channel.substring(RELEASE_CHANNEL_PREFIX.length());
+        } else {
+            lockKey = new String(message.getBody(), StandardCharsets.UTF_8);
+        }
+
+        wake(lockKey, channel);
+    }
+
+    /**
+     * 락 키의 대기자를 모두 깨웁니다.
+     * 해제 채널 외의 경로(클라이언트 측 추적 캐시의 무효화 등)로 해제를 알게 되었을 때 사용합니다.
+     *
+     * @param lockKey 락 식별자
+     */
+    public void wake(String lockKey) {
+        wake(lockKey, "local");
+    }
+
+    private void wake(String lockKey, String source) {
+        Set<CompletableFuture<Void>> signals = waiters.remove(lockKey);
+        if (signals != null) {
+            log.debug("Waking {} waiter(s) for released lock: key={}, channel={}", signals.size(), lockKey, source);
+            signals.forEach(signal -> signal.complete(null));
+        }
+    }
+
+    /**
+     * keyevent 만료 알림(E, x 플래그)이 꺼져 있으면 현재 설정에 두 플래그만 더합니다.
+     * 다른 용도로 켜 둔 플래그는 그대로 유지합니다.
+     * CONFIG 명령이 차단된 관리형 Redis에서는 설정을 바꾸지 않고 구독만 하므로,
+     * 서버 설정(파라미터 그룹 등)에서 notify-keyspace-events에 Ex를 포함해야 만료 알림을 받습니다.
+     */
+    private void enableExpiredNotifications() {
+        String current;
+        try {
+            current = redisTemplate.execute((RedisCallback<String>) this::currentKeyspaceEvents);
+        } catch (Exception e) {
+            log.warn("Could not read Redis {} (CONFIG may be disabled); expired notifications work only if the server "
+                    + "already enables 'Ex': {}", KEYSPACE_EVENTS_PARAMETER, e.getMessage());
+            return;
+        }
+
+        String updated = withExpiredEvents(current);
+        if (updated.equals(current)) {
+            return;
+        }
+        try {
+            redisTemplate.execute((RedisCallback<Void>) connection -> {
+                connection.serverCommands().setConfig(KEYSPACE_EVENTS_PARAMETER, updated);
+                return null;
+            });
+            log.info("Enabled Redis expired notifications: {}={} (was '{}')", KEYSPACE_EVENTS_PARAMETER, updated, current);
+        } catch (Exception e) {
+            log.warn("Could not set Redis {}={} (CONFIG may be disabled); relying on release channel only: {}",
+                    KEYSPACE_EVENTS_PARAMETER, updated, e.getMessage());
+        }
+    }
+
+    private String currentKeyspaceEvents(RedisConnection connection) {
+        Properties config = connection.serverCommands().getConfig(KEYSPACE_EVENTS_PARAMETER);
+        if (config == null) {
+            return "";
+        }
+        return config.getProperty(KEYSPACE_EVENTS_PARAMETER, "");
+    }
+
+    /**
+     * 현재 notify-keyspace-events 값에 keyevent(E)와 만료(x) 플래그를 더한 값을 반환합니다.
+     * 'A'는 x를 포함하는 별칭입니다.
+     *
+     * @param current 현재 설정 값
+     * @return 두 플래그를 포함한 설정 값 (이미 포함하면 current 그대로)
+     */
+    static String withExpiredEvents(String current) {
+        String updated = current;
+        if (updated.indexOf('E') < 0) {
+            updated += "E";
+        }
+        if (updated.indexOf('x') < 0 && updated.indexOf('A') < 0) {
+            updated += "x";
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,266 @@
+package com.cheatsheet.distributedlock.service;
+
+import io.lettuce.core.AbstractRedisClient;
+import io.lettuce.core.RedisChannelHandler;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisConnectionStateListener;
+import io.lettuce.core.StatefulRedisConnectionImpl;
+import io.lettuce.core.TrackingArgs;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.push.PushListener;
+import io.lettuce.core.api.push.PushMessage;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.protocol.ProtocolVersion;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.net.SocketAddress;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Redis 클라이언트 측 추적(CLIENT TRACKING)으로 다른 소유자가 보유 중인 락 키를 기억하는 캐시
+ *
+ * 획득에 실패한 키는 RESP3 추적 연결에서 PTTL로 한 번 읽어 두고, 남은 만료 시간과 함께 로컬에 저장합니다.
+ * 읽은 키가 변경(해제, 연장, 만료)되면 서버가 무효화 메시지를 보내므로 그 전까지는
+ * - 같은 키의 획득 시도를 서버로 보내지 않고 바로 실패 처리
+ * - 대기자는 무효화 또는 기억한 만료 시각까지 로컬에서 대기
+ * 무효화를 받으면 키를 다시 읽어 비어 있을 때만 대기자를 깨웁니다 (워치독 연장으로는 깨우지 않음).
+ *
+ * 연결이 끊기면 무효화를 놓칠 수 있으므로 캐시를 비우고 재연결 후 추적을 다시 켤 때까지 사용하지 않습니다.
+ * 클러스터 또는 RESP2 연결에서는 비활성화됩니다.
+ */
+@Slf4j
+@Component
+public class RedisLockTrackingCache implements PushListener, RedisConnectionStateListener {
+
+    private static final String INVALIDATE = "invalidate";
+
+    private final RedisLockConnections lockConnections;
+    private final RedisLockReleaseSubscriber releaseSubscriber;
+    private final boolean enabled;
+    private final int maxEntries;
+
+    /**
+     * Redis 키별 보유 정보 (조회 중이면 deadlineNanos가 0)
+     */
+    private final Map<String, Entry> held = new ConcurrentHashMap<>();
+    private final LongAdder skipped = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    private StatefulRedisConnection<String, String> connection;
+    private volatile boolean tracking;
+
+    public RedisLockTrackingCache(RedisLockConnections lockConnections,
+                                  RedisLockReleaseSubscriber releaseSubscriber,
+                                  @Value("${distributed-lock.redis.tracking.enabled:false}") boolean enabled,
+                                  @Value("${distributed-lock.redis.tracking.max-entries:10000}") int maxEntries) {
+        this.lockConnections = lockConnections;
+        this.releaseSubscriber = releaseSubscriber;
+        this.enabled = enabled;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 추적 연결을 열고 CLIENT TRACKING을 켭니다.
+     */
+    @PostConstruct
+    public void init() {
+        if (!enabled) {
+            return;
+        }
+        AbstractRedisClient client = lockConnections.client();
+        if (!(client instanceof RedisClient redisClient)) {
+            log.info("Redis lock tracking cache is not supported on cluster connections; disabled");
+            return;
+        }
+        try {
+            StatefulRedisConnection<String, String> opened = redisClient.connect(StringCodec.UTF8);
+            if (opened instanceof StatefulRedisConnectionImpl<?, ?> impl
+                    && impl.getConnectionState().getNegotiatedProtocolVersion() != ProtocolVersion.RESP3) {
+                log.warn("Redis lock tracking cache requires RESP3: negotiated={}; disabled",
+                        impl.getConnectionState().getNegotiatedProtocolVersion());
+                opened.close();
+                return;
+            }
+            opened.addListener((PushListener) this);
+            opened.addListener((RedisConnectionStateListener) this);
+            opened.sync().clientTracking(new TrackingArgs().enabled(true));
+            this.connection = opened;
+            this.tracking = true;
+            log.info("Redis lock tracking cache enabled: maxEntries={}", maxEntries);
+        } catch (Exception e) {
+            log.warn("Could not enable Redis client tracking, lock attempts always reach the server: {}",
+                    e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        tracking = false;
+        held.clear();
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    /**
+     * 추적 캐시 사용 여부를 반환합니다.
+     */
+    public boolean isTracking() {
+        return tracking;
+    }
+
+    /**
+     * 다른 소유자가 보유 중인 것으로 알고 있는 키인지 확인합니다.
+     * true이면 획득 시도를 서버로 보내지 않은 것으로 집계합니다.
+     *
+     * @param redisKey Redis 키
+     * @return 보유 중으로 알려져 있으면 true
+     */
+    public boolean isHeld(String redisKey) {
+        if (heldNanos(redisKey) > 0) {
+            skipped.increment();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 알고 있는 남은 보유 시간을 반환합니다.
+     *
+     * @param redisKey Redis 키
+     * @return 남은 보유 시간 (나노초, 모르거나 만료되었으면 0)
+     */
+    public long heldNanos(String redisKey) {
+        if (!tracking) {
+            return 0;
+        }
+        Entry entry = held.get(redisKey);
+        if (entry == null || entry.deadlineNanos == 0) {
+            return 0;
+        }
+        long remaining = entry.deadlineNanos - System.nanoTime();
+        if (remaining <= 0) {
+            held.remove(redisKey, entry);
+            return 0;
+        }
+        return remaining;
+    }
+
+    /**
+     * 획득에 실패한 키를 추적 연결에서 읽어 남은 만료 시간을 기억합니다.
+     * 응답을 기다리지 않으며, 이미 기억하고 있거나 조회 중인 키는 다시 읽지 않습니다.
+     *
+     * @param redisKey Redis 키
+     */
+    public void observe(String redisKey) {
+        if (!tracking || held.size() >= maxEntries) {
+            return;
+        }
+        Entry entry = new Entry();
+        if (held.putIfAbsent(redisKey, entry) != null) {
+            return;
+        }
+        read(redisKey, entry);
+    }
+
+    /**
+     * 서버로 보내지 않고 실패 처리한 획득 시도 수를 반환합니다.
+     */
+    public long skippedCount() {
+        return skipped.sum();
+    }
+
+    /**
+     * 받은 무효화 키 수를 반환합니다.
+     */
+    public long invalidationCount() {
+        return invalidations.sum();
+    }
+
+    @Override
+    public void onPushMessage(PushMessage message) {
+        if (!INVALIDATE.equals(message.getType())) {
+            return;
+        }
+        List<Object> content = message.getContent(StringCodec.UTF8::decodeKey);
+        if (content.size() < 2 || !(content.get(1) instanceof List<?> keys)) {
+            // FLUSHALL 등으로 전체 무효화 - 기억한 키의 대기자를 모두 깨움
+            invalidateAll();
+            return;
+        }
+        for (Object key : keys) {
+            invalidate(key.toString());
+        }
+    }
+
+    @Override
+    public void onRedisDisconnected(RedisChannelHandler<?, ?> handler) {
+        if (tracking) {
+            log.warn("Redis lock tracking connection lost; cache disabled until reconnected");
+        }
+        tracking = false;
+        invalidateAll();
+    }
+
+    @Override
+    public void onRedisConnected(RedisChannelHandler<?, ?> handler, SocketAddress socketAddress) {
+        if (connection == null) {
+            return;
+        }
+        // 추적 설정은 연결 상태에 포함되지 않으므로 재연결 후 다시 켬
+        connection.async().clientTracking(new TrackingArgs().enabled(true)).whenComplete((ok, error) -> {
+            if (error != null) {
+                log.warn("Could not re-enable Redis client tracking: {}", error.getMessage());
+                return;
+            }
+            tracking = true;
+            log.info("Redis lock tracking cache re-enabled after reconnect");
+        });
+    }
+
+    private void read(String redisKey, Entry entry) {
+        connection.async().pttl(redisKey).whenComplete((ttlMillis, error) -> {
+            if (error != null || ttlMillis == null || ttlMillis <= 0) {
+                // 비어 있거나(-2) 만료 시간이 없는(-1) 키는 기억하지 않음
+                held.remove(redisKey, entry);
+                if (ttlMillis != null && ttlMillis == -2) {
+                    releaseSubscriber.wake(redisKey);
+                }
+                return;
+            }
+            entry.deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(ttlMillis);
+        });
+    }
+
+    private void invalidate(String redisKey) {
+        invalidations.increment();
+        Entry previous = held.remove(redisKey);
+        if (previous == null || !tracking) {
+            releaseSubscriber.wake(redisKey);
+            return;
+        }
+        // 해제인지 연장인지 알 수 없으므로 다시 읽어(추적도 다시 등록) 비어 있을 때만 대기자를 깨움
+        Entry entry = new Entry();
+        if (held.putIfAbsent(redisKey, entry) == null) {
+            read(redisKey, entry);
+        }
+    }
+
+    private void invalidateAll() {
+        List<String> keys = List.copyOf(held.keySet());
+        held.clear();
+        keys.forEach(releaseSubscriber::wake);
+    }
+
+    private static final class Entry {
+        private volatile long deadlineNanos;
+    }
+}
@@ -1,22 +1,39 @@
 package com.cheatsheet.distributedlock.service;
 
+import io.lettuce.core.cluster.SlotHash;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.StringRedisTemplate;
-import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 import com.cheatsheet.distributedlock.enums.LockType;
 import com.cheatsheet.distributedlock.exception.LockConnectionException;
+import com.cheatsheet.distributedlock.model.LockMetadata;
+import com.cheatsheet.distributedlock.util.LockHoldTimes;
+import com.cheatsheet.distributedlock.util.LockOwnerIds;
 
-import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
-import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * Redis Lua Script를 사용한 분산 락 구현
  * 원자적 연산을 보장하며, 락 소유자 검증을 통해 안전한 락 해제를 지원합니다.
+ * 획득 스크립트는 같은 호출 안에서 키별 펜싱 토큰을 발급하므로 추가 왕복 없이 단조 증가 토큰을 얻습니다.
+ * 단일 락 획득/해제는 할당을 줄이기 위해 RedisLockCommandExecutor로 Lettuce 연결에 직접 전달합니다.
+ * 추적 캐시(RedisLockTrackingCache)가 다른 소유자가 보유 중이라고 알고 있는 키는 서버에 획득 시도를 보내지 않습니다.
+ * 획득 실패 응답에 담긴 보유자의 남은 만료 시간과 키별 평균 보유 시간으로 재시도 대기 시간을 제안합니다 (retryAfterMillis).
  */
 @Slf4j
 @Service
@@ -24,61 +41,165 @@ public class RedisLuaLockService implements DistributedLockService {
     
     /**
      * 락 획득 Lua Script
-     * - 락이 존재하지 않으면 설정하고 만료 시간 지정
-     * - 이미 존재하면 실패 반환
+     * - 락이 존재하지 않으면 펜싱 카운터(KEYS[2])를 증가시키고 락을 설정한 뒤 만료 시간(ARGV[2], 밀리초) 지정
+     * - 증가된 펜싱 토큰 반환 (항상 1 이상)
+     * - 이미 존재하면 보유자의 남은 만료 시간(밀리초)을 음수로 반환 (만료 시간이 없으면 0)
+     *   실패한 호출자가 추가 왕복 없이 재시도 시점을 정할 수 있음
      */
-    private static final String ACQUIRE_LOCK_SCRIPT = """
+    static final String ACQUIRE_LOCK_SCRIPT = """
         local lockKey = KEYS[1]
+        local fenceKey = KEYS[2]
         local ownerId = ARGV[1]
-        local ttl = ARGV[2]
+        local ttlMillis = ARGV[2]
         
         if redis.call('EXISTS', lockKey) == 0 then
-            redis.call('SET', lockKey, ownerId, 'EX', ttl)
-            return 1
-        else
-            return 0
+            local token = redis.call('INCR', fenceKey)
+            redis.call('SET', lockKey, ownerId, 'PX', ttlMillis)
+            return token
         end
+        
+        local remaining = redis.call('PTTL', lockKey)
+        if remaining > 0 then
+            return -remaining
+        end
+        return 0
         """;
     
     /**
      * 락 해제 Lua Script
      * - 락 소유자를 검증한 후 삭제
+     * - 삭제 시 해제 채널에 발행하여 대기자를 깨움
      * - 소유자가 일치하지 않으면 실패 반환
      */
-    private static final String RELEASE_LOCK_SCRIPT = """
+    static final String RELEASE_LOCK_SCRIPT = """
         local lockKey = KEYS[1]
         local ownerId = ARGV[1]
+        local channel = ARGV[2]
         
         if redis.call('GET', lockKey) == ownerId then
-            return redis.call('DEL', lockKey)
+            redis.call('DEL', lockKey)
+            redis.call('PUBLISH', channel, lockKey)
+            return 1
         else
             return 0
         end
         """;
 
+    /**
+     * 다중 락 일괄 획득 Lua Script
+     * - KEYS 앞 절반은 락 키, 뒤 절반은 같은 순서의 펜싱 카운터 키
+     * - 모든 락 키가 비어 있을 때만 같은 소유자로 전부 설정 (만료 시간 ARGV[2], 밀리초)
+     * - 관련 카운터 중 가장 큰 값 + 1을 펜싱 토큰으로 정하고 모든 카운터를 그 값으로 올림
+     *   모든 키에서 이전 토큰보다 크고, 이후 어느 키의 토큰보다도 작으므로 키별 단조 증가가 유지됨
+     * - 펜싱 토큰 반환 (항상 1 이상), 하나라도 존재하면 아무것도 설정하지 않고 0 반환
+     */
+    static final String ACQUIRE_ALL_SCRIPT = """
+        local ownerId = ARGV[1]
+        local ttlMillis = ARGV[2]
+        local count = #KEYS / 2
+        
+        for i = 1, count do
+            if redis.call('EXISTS', KEYS[i]) == 1 then
+                return 0
+            end
+        end
+        
+        local token = 0
+        for i = count + 1, #KEYS do
+            local current = tonumber(redis.call('GET', KEYS[i])) or 0
+            if current > token then
+                token = current
+            end
+        end
+        token = token + 1
+        
+        for i = count + 1, #KEYS do
+            redis.call('SET', KEYS[i], token)
+        end
+        for i = 1, count do
+            redis.call('SET', KEYS[i], ownerId, 'PX', ttlMillis)
+        end
+        return token
+        """;
+    
+    /**
+     * 다중 락 일괄 해제 Lua Script
+     * - KEYS[i]의 소유자가 ARGV[i + 1]과 일치하는 키만 삭제하고 해제 채널에 발행
+     * - 해제된 키 개수 반환
+     */
+    static final String RELEASE_ALL_SCRIPT = """
+        local channelPrefix = ARGV[1]
+        local released = 0
+        
+        for i, lockKey in ipairs(KEYS) do
+            if redis.call('GET', lockKey) == ARGV[i + 1] then
+                redis.call('DEL', lockKey)
+                redis.call('PUBLISH', channelPrefix .. lockKey, lockKey)
+                released = released + 1
+            end
+        end
+        return released
+        """;
+
+    /**
+     * 펜싱 카운터 키 접두사
+     * 카운터는 락이 해제되거나 만료되어도 삭제하지 않아야 토큰이 단조 증가하므로,
+     * 락 키마다 두지 않고 해시 슬롯마다 하나("lock:fence:{슬롯 태그}")만 두어 최대 16384개로 제한합니다.
+     * 같은 슬롯의 락은 카운터를 공유하므로 토큰은 키별로 연속적이지 않지만 단조 증가합니다.
+     */
+    static final String FENCE_KEY_PREFIX = "lock:fence:";
+    
+    /**
+     * 슬롯별 펜싱 카운터 키 (처음 사용할 때 만듦)
+     */
+    private static final AtomicReferenceArray<String> FENCE_KEYS = new AtomicReferenceArray<>(SlotHash.SLOT_COUNT);
+    
     /**
      * 기본 만료 시간 (초) - 데드락 방지용
      */
     private static final int DEFAULT_TIMEOUT_SECONDS = 30;
     
-    private final StringRedisTemplate redisTemplate;
-    private RedisScript<Long> acquireLockScript;
-    private RedisScript<Long> releaseLockScript;
+    /**
+     * 평균 보유 시간을 따로 기록할 최대 키 수 (넘으면 전체 평균 사용)
+     */
+    private static final int MAX_HOLD_TIME_KEYS = 10_000;
+    
+    private final RedisLeaseWatchdog leaseWatchdog;
+    private final RedisLockReleaseSubscriber releaseSubscriber;
+    private final RedisLockCommandExecutor commandExecutor;
+    private final RedisLockKeyLayout keyLayout;
+    private final RedisLockReleaseCoalescer releaseCoalescer;
+    private final RedisLockTrackingCache trackingCache;
     
     /**
-     * 스레드별 락 소유자 ID 저장
-     * 각 락 키에 대해 어떤 소유자 ID로 획득했는지 추적
+     * 락 키별 보유 정보 저장
+     * 각 락 키에 대해 어떤 소유자 ID와 펜싱 토큰으로 획득했는지 추적
+     * (맵의 키는 호출자가 넘긴 락 식별자이고, Redis에는 RedisLockKeyLayout이 정한 키로 저장)
      */
-    private final Map<String, String> lockOwnerMap = new ConcurrentHashMap<>();
+    private final Map<String, LockMetadata> lockOwnerMap = new ConcurrentHashMap<>();
     
-    public RedisLuaLockService(StringRedisTemplate redisTemplate) {
-        this.redisTemplate = redisTemplate;
-    }
+    /**
+     * 키별 평균 보유 시간 (해제 시 기록)
+     */
+    private final LockHoldTimes holdTimes = new LockHoldTimes(MAX_HOLD_TIME_KEYS);
     
-    @PostConstruct
-    public void init() {
-        this.acquireLockScript = RedisScript.of(ACQUIRE_LOCK_SCRIPT, Long.class);
-        this.releaseLockScript = RedisScript.of(RELEASE_LOCK_SCRIPT, Long.class);
+    /**
+     * 이 스레드가 마지막으로 실패한 획득에서 알게 된 보유자의 만료 시각
+     */
+    private final ThreadLocal<HolderLease> lastHolderLease = new ThreadLocal<>();
+    
+    public RedisLuaLockService(RedisLockReleaseSubscriber releaseSubscriber,
+                               RedisLeaseWatchdog leaseWatchdog,
+                               RedisLockCommandExecutor commandExecutor,
+                               RedisLockKeyLayout keyLayout,
+                               RedisLockReleaseCoalescer releaseCoalescer,
+                               RedisLockTrackingCache trackingCache) {
+        this.releaseSubscriber = releaseSubscriber;
+        this.leaseWatchdog = leaseWatchdog;
+        this.commandExecutor = commandExecutor;
+        this.keyLayout = keyLayout;
+        this.releaseCoalescer = releaseCoalescer;
+        this.trackingCache = trackingCache;
     }
     
     @Override
@@ -95,32 +216,55 @@ public class RedisLuaLockService implements DistributedLockService {
      */
     @Override
     public boolean acquireLock(String lockKey, int timeoutSeconds) {
+        return acquireLock(lockKey, Duration.ofSeconds(timeoutSeconds));
+    }
+    
+    /**
+     * Lua 스크립트를 사용하여 밀리초 정밀도의 만료 시간(PX)으로 원자적으로 락을 획득합니다.
+     * 
+     * @param lockKey 락 식별자
+     * @param timeout 타임아웃 - 0 이하인 경우 기본값 사용
+     * @return 락 획득 성공 여부
+     */
+    @Override
+    public boolean acquireLock(String lockKey, Duration timeout) {
         try {
-            // 고유 소유자 ID 생성 (UUID 기반)
-            String ownerId = UUID.randomUUID().toString();
+            String redisKey = keyLayout.apply(lockKey);
             
-            // 타임아웃이 0 이하인 경우 기본값 사용
-            int effectiveTimeout = timeoutSeconds > 0 ? timeoutSeconds : DEFAULT_TIMEOUT_SECONDS;
+            // 다른 소유자가 보유 중인 것으로 알고 있으면 서버에 보내지 않음 (무효화 전까지 유효)
+            if (trackingCache.isHeld(redisKey)) {
+                rememberHolder(lockKey, TimeUnit.NANOSECONDS.toMillis(trackingCache.heldNanos(redisKey)));
+                log.debug("Skipped Redis Lua lock attempt (known to be held): key={}", lockKey);
+                return false;
+            }
+            
+            // 고유 소유자 ID 생성 (노드 접두사 + 순번)
+            String ownerId = LockOwnerIds.next();
+            
+            // 타임아웃이 0 이하인 경우 기본값 사용 (워치독 모드에서는 짧은 임대 시간 사용)
+            Duration effectiveTimeout = effectiveTimeout(timeout);
             
-            log.debug("Attempting to acquire Redis Lua lock: key={}, timeout={}s, ownerId={}", 
-                    lockKey, effectiveTimeout, ownerId);
+            log.debug("Attempting to acquire Redis Lua lock: key={}, timeout={}ms, ownerId={}", 
+                    lockKey, effectiveTimeout.toMillis(), ownerId);
             
-            // Lua 스크립트 실행
-            Long result = redisTemplate.execute(
-                    acquireLockScript,
-                    Collections.singletonList(lockKey),
-                    ownerId,
-                    String.valueOf(effectiveTimeout)
-            );
+            // Lua 스크립트 실행 (템플릿을 거치지 않고 Lettuce 연결에 직접 전달)
+            long result = commandExecutor.acquire(redisKey, ownerId, effectiveTimeout.toMillis());
             
-            boolean acquired = result != null && result == 1;
+            boolean acquired = result > 0;
             
             if (acquired) {
-                // 소유자 ID 저장 (해제 시 사용)
-                lockOwnerMap.put(lockKey, ownerId);
-                log.debug("Successfully acquired Redis Lua lock: key={}, ownerId={}", lockKey, ownerId);
+                // 소유자 ID와 펜싱 토큰 저장 (해제 및 쓰기 검증 시 사용)
+                lockOwnerMap.put(lockKey, new LockMetadata(lockKey, ownerId, Instant.now(), effectiveTimeout, result));
+                leaseWatchdog.watch(redisKey, ownerId);
+                lastHolderLease.remove();
+                log.debug("Successfully acquired Redis Lua lock: key={}, ownerId={}, fencingToken={}", 
+                        lockKey, ownerId, result);
             } else {
-                log.debug("Failed to acquire Redis Lua lock (already held): key={}", lockKey);
+                // 실패 응답은 보유자의 남은 만료 시간(밀리초)의 음수
+                rememberHolder(lockKey, -result);
+                trackingCache.observe(redisKey);
+                log.debug("Failed to acquire Redis Lua lock (already held): key={}, holderRemaining={}ms", 
+                        lockKey, -result);
             }
             
             return acquired;
@@ -131,6 +275,72 @@ public class RedisLuaLockService implements DistributedLockService {
         }
     }
     
+    /**
+     * 해제 알림을 받을 때까지 대기하며 락 획득을 시도합니다.
+     * 고정 간격 폴링 대신, 해제 채널 메시지, 보유자의 남은 만료 시간 경과, (켜져 있으면) TTL 만료 알림으로 깨어났을 때만 재시도하고
+     * 대기 시간이 모두 소진되면 마지막으로 한 번 더 시도합니다.
+     * 추적 캐시가 보유 중이라고 알고 있는 동안에는 무효화나 알고 있는 만료 시각까지 서버에 시도하지 않습니다.
+     * 
+     * @param lockKey 락 식별자
+     * @param timeoutSeconds 타임아웃 (초) - 0 이하인 경우 기본값 사용
+     * @param waitMillis 최대 대기 시간 (밀리초)
+     * @return 락 획득 성공 여부
+     */
+    @Override
+    public boolean tryAcquireLock(String lockKey, int timeoutSeconds, long waitMillis) {
+        return tryAcquireLock(lockKey, Duration.ofSeconds(timeoutSeconds), waitMillis);
+    }
+    
+    /**
+     * 밀리초 정밀도의 만료 시간으로 해제 알림을 받을 때까지 대기하며 락 획득을 시도합니다.
+     * 
+     * @param lockKey 락 식별자
+     * @param timeout 타임아웃 - 0 이하인 경우 기본값 사용
+     * @param waitMillis 최대 대기 시간 (밀리초)
+     * @return 락 획득 성공 여부
+     */
+    @Override
+    public boolean tryAcquireLock(String lockKey, Duration timeout, long waitMillis) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(waitMillis, 0));
+        String redisKey = keyLayout.apply(lockKey);
+        
+        while (true) {
+            // 신호 유실을 막기 위해 획득 시도 전에 대기자로 먼저 등록 (해제 채널은 Redis 키 기준)
+            CompletableFuture<Void> released = releaseSubscriber.register(redisKey);
+            try {
+                if (acquireLock(lockKey, timeout)) {
+                    return true;
+                }
+                
+                long remainingNanos = deadline - System.nanoTime();
+                if (remainingNanos <= 0) {
+                    return false;
+                }
+                
+                // 만료 알림을 받지 않아도 실패 응답(또는 추적 캐시)으로 알게 된 보유자의 만료 시각에는 다시 시도
+                long heldNanos = holderRemainingNanos(lockKey);
+                long waitNanos = heldNanos > 0 ? Math.min(remainingNanos, heldNanos) : remainingNanos;
+                log.debug("Waiting for Redis Lua lock release: key={}, remaining={}ms", 
+                        lockKey, TimeUnit.NANOSECONDS.toMillis(remainingNanos));
+                released.get(waitNanos, TimeUnit.NANOSECONDS);
+                
+            } catch (TimeoutException e) {
+                if (deadline - System.nanoTime() > 0) {
+                    continue;
+                }
+                // 대기 시간 소진 - 마지막 시도
+                return acquireLock(lockKey, timeout);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Release signal completed exceptionally", e);
+            } finally {
+                releaseSubscriber.unregister(redisKey, released);
+            }
+        }
+    }
+    
     /**
      * Lua 스크립트를 사용하여 락을 해제합니다.
      * 소유자 검증을 통해 자신이 획득한 락만 해제할 수 있습니다.
@@ -142,28 +352,28 @@ public class RedisLuaLockService implements DistributedLockService {
     public boolean releaseLock(String lockKey) {
         try {
             // 저장된 소유자 ID 조회
-            String ownerId = lockOwnerMap.get(lockKey);
+            LockMetadata metadata = lockOwnerMap.get(lockKey);
             
-            if (ownerId == null) {
+            if (metadata == null) {
                 log.warn("Attempted to release lock without owner ID: key={}", lockKey);
                 return false;
             }
             
+            String ownerId = metadata.getOwnerId();
+            String redisKey = keyLayout.apply(lockKey);
             log.debug("Attempting to release Redis Lua lock: key={}, ownerId={}", lockKey, ownerId);
             
             // Lua 스크립트 실행 (소유자 검증 포함)
-            Long result = redisTemplate.execute(
-                    releaseLockScript,
-                    Collections.singletonList(lockKey),
-                    ownerId
-            );
-            
-            boolean released = result != null && result == 1;
+            boolean released = commandExecutor.release(redisKey, ownerId);
             
             if (released) {
                 lockOwnerMap.remove(lockKey);
+                leaseWatchdog.unwatch(redisKey);
+                holdTimes.record(lockKey, Duration.between(metadata.getAcquiredAt(), Instant.now()));
                 log.debug("Successfully released Redis Lua lock: key={}", lockKey);
             } else {
+                // 이미 만료되었거나 다른 소유자에게 넘어간 락은 더 이상 연장하지 않음
+                leaseWatchdog.unwatch(redisKey);
                 log.warn("Failed to release Redis Lua lock (owner mismatch or not exists): key={}", lockKey);
             }
             
@@ -175,6 +385,55 @@ public class RedisLuaLockService implements DistributedLockService {
         }
     }
     
+    /**
+     * 락 해제를 백그라운드 해제기(RedisLockReleaseCoalescer)에 넘기고 바로 반환합니다.
+     * 소유자 ID는 지금 꺼내 함께 넘기므로, 해제가 반영되기 전에 같은 키를 다시 획득해도 새 소유자의 락은 해제되지 않습니다.
+     * 해제기가 종료 중이면 즉시 해제합니다.
+     * 
+     * @param lockKey 락 식별자
+     * @return 해제 요청을 넘겼으면 true (보유하지 않은 락이면 false)
+     */
+    @Override
+    public boolean releaseLockInBackground(String lockKey) {
+        LockMetadata metadata = lockOwnerMap.remove(lockKey);
+        if (metadata == null) {
+            log.warn("Attempted to release lock without owner ID: key={}", lockKey);
+            return false;
+        }
+        
+        String redisKey = keyLayout.apply(lockKey);
+        leaseWatchdog.unwatch(redisKey);
+        holdTimes.record(lockKey, Duration.between(metadata.getAcquiredAt(), Instant.now()));
+        if (releaseCoalescer.submit(redisKey, metadata.getOwnerId())) {
+            log.debug("Queued Redis Lua lock release: key={}, ownerId={}", lockKey, metadata.getOwnerId());
+            return true;
+        }
+        
+        try {
+            return commandExecutor.release(redisKey, metadata.getOwnerId());
+        } catch (Exception e) {
+            log.error("Error while releasing Redis Lua lock: key={}", lockKey, e);
+            throw new LockConnectionException("Redis", lockKey, e);
+        }
+    }
+    
+    /**
+     * 직전 획득 실패에서 받은 보유자의 남은 만료 시간과 이 키의 평균 보유 시간 중 짧은 쪽을 반환합니다.
+     * 보유자는 보통 만료 전에 해제하므로, 평균 보유 시간이 더 짧으면 그때 다시 시도하는 편이 넘김 지연이 적습니다.
+     * 
+     * @param lockKey 락 식별자
+     * @return 재시도까지 기다릴 시간 (밀리초, 이 스레드가 이 키로 실패한 적이 없거나 만료 시각이 지났으면 0)
+     */
+    @Override
+    public long retryAfterMillis(String lockKey) {
+        long remainingMillis = TimeUnit.NANOSECONDS.toMillis(holderRemainingNanos(lockKey));
+        if (remainingMillis <= 0) {
+            return 0;
+        }
+        long typicalMillis = holdTimes.typicalMillis(lockKey);
+        return typicalMillis > 0 ? Math.min(remainingMillis, typicalMillis) : remainingMillis;
+    }
+    
     /**
      * 특정 소유자 ID로 락 해제를 시도합니다.
      * 테스트 및 특수 상황에서 사용됩니다.
@@ -185,19 +444,15 @@ public class RedisLuaLockService implements DistributedLockService {
      */
     public boolean releaseLockWithOwner(String lockKey, String ownerId) {
         try {
+            String redisKey = keyLayout.apply(lockKey);
             log.debug("Attempting to release Redis Lua lock with specific owner: key={}, ownerId={}", 
                     lockKey, ownerId);
             
-            Long result = redisTemplate.execute(
-                    releaseLockScript,
-                    Collections.singletonList(lockKey),
-                    ownerId
-            );
-            
-            boolean released = result != null && result == 1;
+            boolean released = commandExecutor.release(redisKey, ownerId);
             
             if (released) {
                 lockOwnerMap.remove(lockKey);
+                leaseWatchdog.unwatch(redisKey);
                 log.debug("Successfully released Redis Lua lock: key={}", lockKey);
             } else {
                 log.warn("Failed to release Redis Lua lock (owner mismatch): key={}, ownerId={}", 
@@ -223,23 +478,21 @@ public class RedisLuaLockService implements DistributedLockService {
      */
     public boolean acquireLockWithOwner(String lockKey, int timeoutSeconds, String ownerId) {
         try {
-            int effectiveTimeout = timeoutSeconds > 0 ? timeoutSeconds : DEFAULT_TIMEOUT_SECONDS;
+            String redisKey = keyLayout.apply(lockKey);
+            Duration effectiveTimeout = effectiveTimeout(Duration.ofSeconds(timeoutSeconds));
             
-            log.debug("Attempting to acquire Redis Lua lock with specific owner: key={}, timeout={}s, ownerId={}", 
-                    lockKey, effectiveTimeout, ownerId);
+            log.debug("Attempting to acquire Redis Lua lock with specific owner: key={}, timeout={}ms, ownerId={}", 
+                    lockKey, effectiveTimeout.toMillis(), ownerId);
             
-            Long result = redisTemplate.execute(
-                    acquireLockScript,
-                    Collections.singletonList(lockKey),
-                    ownerId,
-                    String.valueOf(effectiveTimeout)
-            );
+            long result = commandExecutor.acquire(redisKey, ownerId, effectiveTimeout.toMillis());
             
-            boolean acquired = result != null && result == 1;
+            boolean acquired = result > 0;
             
             if (acquired) {
-                lockOwnerMap.put(lockKey, ownerId);
-                log.debug("Successfully acquired Redis Lua lock: key={}, ownerId={}", lockKey, ownerId);
+                lockOwnerMap.put(lockKey, new LockMetadata(lockKey, ownerId, Instant.now(), effectiveTimeout, result));
+                leaseWatchdog.watch(redisKey, ownerId);
+                log.debug("Successfully acquired Redis Lua lock: key={}, ownerId={}, fencingToken={}", 
+                        lockKey, ownerId, result);
             } else {
                 log.debug("Failed to acquire Redis Lua lock (already held): key={}", lockKey);
             }
@@ -252,6 +505,171 @@ public class RedisLuaLockService implements DistributedLockService {
         }
     }
     
+    /**
+     * 여러 락을 모두 획득하거나, 하나도 획득하지 않습니다.
+     * 모든 키는 같은 소유자 ID로 설정되므로 부분 획득에 대한 롤백은 소유자 검증 해제로 처리합니다.
+     * 
+     * 단독 Redis에서는 한 번의 Lua 스크립트 호출로 처리합니다.
+     * Redis Cluster에서는 키를 슬롯별로 묶어 각 그룹을 담당 마스터에 동시에 보내고,
+     * 한 그룹이라도 실패하면 성공한 그룹을 다시 해제합니다.
+     * 각 락에는 단일 획득과 같은 카운터에서 발급한 펜싱 토큰이 기록됩니다. (클러스터에서는 슬롯 그룹마다 다른 토큰)
+     * 
+     * @param lockKeys 락 식별자 목록
+     * @param timeoutSeconds 타임아웃 (초) - 0 이하인 경우 기본값 사용
+     * @return 모든 락 획득 성공 여부
+     */
+    public boolean acquireAll(Collection<String> lockKeys, int timeoutSeconds) {
+        List<String> keys = distinctKeys(lockKeys);
+        try {
+            String ownerId = LockOwnerIds.next();
+            Duration effectiveTimeout = effectiveTimeout(Duration.ofSeconds(timeoutSeconds));
+            List<String> redisKeys = keys.stream().map(keyLayout::apply).toList();
+            Collection<List<String>> groups = keyLayout.groupBySlot(redisKeys);
+            
+            log.debug("Attempting to acquire Redis Lua locks: keys={}, slotGroups={}, timeout={}ms, ownerId={}", 
+                    keys, groups.size(), effectiveTimeout.toMillis(), ownerId);
+            
+            // 슬롯 그룹별로 동시에 전송
+            List<List<String>> groupList = new ArrayList<>(groups);
+            List<CompletableFuture<Long>> results = new ArrayList<>();
+            for (List<String> group : groupList) {
+                results.add(commandExecutor.acquireAllAsync(group, ownerId, effectiveTimeout.toMillis()));
+            }
+            
+            List<List<String>> acquiredGroups = new ArrayList<>();
+            Map<String, Long> tokens = new HashMap<>();
+            RuntimeException failure = null;
+            for (int i = 0; i < groupList.size(); i++) {
+                try {
+                    long token = results.get(i).join();
+                    if (token > 0) {
+                        acquiredGroups.add(groupList.get(i));
+                        groupList.get(i).forEach(redisKey -> tokens.put(redisKey, token));
+                    }
+                } catch (CompletionException e) {
+                    failure = e;
+                }
+            }
+            
+            boolean acquired = acquiredGroups.size() == groups.size();
+            
+            if (acquired) {
+                Instant acquiredAt = Instant.now();
+                for (int i = 0; i < keys.size(); i++) {
+                    lockOwnerMap.put(keys.get(i), new LockMetadata(keys.get(i), ownerId, acquiredAt, effectiveTimeout,
+                            tokens.get(redisKeys.get(i))));
+                    leaseWatchdog.watch(redisKeys.get(i), ownerId);
+                }
+                log.debug("Successfully acquired Redis Lua locks: keys={}, ownerId={}", keys, ownerId);
+            } else {
+                rollback(acquiredGroups, ownerId);
+                if (failure != null) {
+                    throw failure;
+                }
+                log.debug("Failed to acquire Redis Lua locks (at least one already held): keys={}", keys);
+            }
+            
+            return acquired;
+            
+        } catch (Exception e) {
+            log.error("Error while acquiring Redis Lua locks: keys={}", keys, e);
+            throw new LockConnectionException("Redis", String.join(",", keys), e);
+        }
+    }
+    
+    /**
+     * 일부 슬롯 그룹만 획득된 경우 해당 그룹을 소유자 검증 후 해제합니다.
+     */
+    private void rollback(List<List<String>> acquiredGroups, String ownerId) {
+        List<CompletableFuture<Long>> releases = new ArrayList<>();
+        for (List<String> group : acquiredGroups) {
+            releases.add(commandExecutor.releaseAllAsync(group, Collections.nCopies(group.size(), ownerId)));
+        }
+        for (CompletableFuture<Long> release : releases) {
+            try {
+                release.join();
+            } catch (CompletionException e) {
+                // 해제에 실패한 키는 만료 시간이 지나면 풀림
+                log.warn("Failed to roll back partially acquired Redis Lua locks: ownerId={}", ownerId, e);
+            }
+        }
+    }
+    
+    /**
+     * 여러 락을 해제합니다. 각 키는 획득할 때 저장한 소유자 ID로 검증됩니다.
+     * Redis Cluster에서는 슬롯별 그룹을 담당 마스터에 동시에 보냅니다.
+     * 
+     * @param lockKeys 락 식별자 목록
+     * @return 모든 락 해제 성공 여부
+     */
+    public boolean releaseAll(Collection<String> lockKeys) {
+        List<String> requestedKeys = distinctKeys(lockKeys);
+        List<String> keys = new ArrayList<>();
+        Map<String, String> ownerByRedisKey = new HashMap<>();
+        for (String lockKey : requestedKeys) {
+            LockMetadata metadata = lockOwnerMap.get(lockKey);
+            if (metadata == null) {
+                log.warn("Attempted to release lock without owner ID: key={}", lockKey);
+                continue;
+            }
+            keys.add(lockKey);
+            ownerByRedisKey.put(keyLayout.apply(lockKey), metadata.getOwnerId());
+        }
+        
+        if (keys.isEmpty()) {
+            return false;
+        }
+        
+        try {
+            Collection<List<String>> groups = keyLayout.groupBySlot(new ArrayList<>(ownerByRedisKey.keySet()));
+            log.debug("Attempting to release Redis Lua locks: keys={}, slotGroups={}", keys, groups.size());
+            
+            List<CompletableFuture<Long>> results = new ArrayList<>();
+            for (List<String> group : groups) {
+                results.add(commandExecutor.releaseAllAsync(group, group.stream().map(ownerByRedisKey::get).toList()));
+            }
+            
+            long released = 0;
+            CompletionException failure = null;
+            for (CompletableFuture<Long> result : results) {
+                try {
+                    released += result.join();
+                } catch (CompletionException e) {
+                    failure = e;
+                }
+            }
+            
+            for (String lockKey : keys) {
+                lockOwnerMap.remove(lockKey);
+            }
+            ownerByRedisKey.keySet().forEach(leaseWatchdog::unwatch);
+            
+            if (failure != null) {
+                throw failure;
+            }
+            
+            if (released == requestedKeys.size()) {
+                log.debug("Successfully released Redis Lua locks: keys={}", keys);
+            } else {
+                log.warn("Released {} of {} Redis Lua locks (owner mismatch or not exists): keys={}", 
+                        released, requestedKeys.size(), keys);
+            }
+            
+            return released == requestedKeys.size();
+            
+        } catch (Exception e) {
+            log.error("Error while releasing Redis Lua locks: keys={}", keys, e);
+            throw new LockConnectionException("Redis", String.join(",", keys), e);
+        }
+    }
+    
+    private List<String> distinctKeys(Collection<String> lockKeys) {
+        if (lockKeys == null || lockKeys.isEmpty()) {
+            throw new IllegalArgumentException("Lock keys cannot be null or empty");
+        }
+        return new ArrayList<>(new LinkedHashSet<>(lockKeys));
+    }
+    
     /**
      * 락의 현재 소유자 ID를 반환합니다.
      * 테스트용 메서드입니다.
@@ -260,6 +678,71 @@ public class RedisLuaLockService implements DistributedLockService {
      * @return 소유자 ID (없으면 null)
      */
     public String getOwnerIdForKey(String lockKey) {
+        LockMetadata metadata = lockOwnerMap.get(lockKey);
+        return metadata != null ? metadata.getOwnerId() : null;
+    }
+    
+    /**
+     * 보유 중인 락의 메타데이터를 반환합니다.
+     * 보호 대상 저장소에 쓸 때 함께 전달할 펜싱 토큰을 포함합니다.
+     * 
+     * @param lockKey 락 식별자
+     * @return 락 메타데이터 (보유하지 않았으면 null)
+     */
+    public LockMetadata getLockMetadata(String lockKey) {
         return lockOwnerMap.get(lockKey);
     }
+    
+    /**
+     * 획득 실패 응답으로 받은 보유자의 남은 만료 시간을 현재 스레드에 기록합니다.
+     * 재시도 서비스와 대기 루프가 보유자가 만료될 때까지 기다리는 시간을 정할 때 사용합니다.
+     */
+    private void rememberHolder(String lockKey, long remainingMillis) {
+        if (remainingMillis > 0) {
+            lastHolderLease.set(new HolderLease(lockKey, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(remainingMillis)));
+        } else {
+            lastHolderLease.remove();
+        }
+    }
+    
+    /**
+     * 현재 스레드가 마지막으로 실패한 키가 lockKey이면 보유자의 남은 만료 시간을 반환합니다.
+     * 
+     * @param lockKey 락 식별자
+     * @return 남은 만료 시간 (나노초, 기록이 없거나 지났으면 0)
+     */
+    private long holderRemainingNanos(String lockKey) {
+        HolderLease lease = lastHolderLease.get();
+        if (lease == null || !lease.lockKey().equals(lockKey)) {
+            return 0;
+        }
+        return Math.max(0, lease.expiresAtNanos() - System.nanoTime());
+    }
+    
+    /**
+     * 타임아웃이 0 이하이면 기본값을 사용하고, 워치독 모드에서는 짧은 임대 시간으로 바꿉니다.
+     */
+    private Duration effectiveTimeout(Duration timeout) {
+        return leaseWatchdog.effectiveTimeout(
+                timeout.isNegative() || timeout.isZero() ? Duration.ofSeconds(DEFAULT_TIMEOUT_SECONDS) : timeout);
+    }
+    
+    /**
+     * Redis 키와 같은 슬롯에 있는 펜싱 카운터 키를 반환합니다.
+     * 
+     * @param redisKey 레이아웃이 적용된 Redis 키
+     * @return 펜싱 카운터 키
+     */
+    static String fenceKey(String redisKey) {
+        int slot = RedisLockKeyLayout.slot(redisKey);
+        String fenceKey = FENCE_KEYS.get(slot);
+        if (fenceKey == null) {
+            fenceKey = FENCE_KEY_PREFIX + "{" + RedisLockKeyLayout.slotTag(slot) + "}";
+            FENCE_KEYS.set(slot, fenceKey);
+        }
+        return fenceKey;
+    }
+    
+    private record HolderLease(String lockKey, long expiresAtNanos) {
+    }
 }
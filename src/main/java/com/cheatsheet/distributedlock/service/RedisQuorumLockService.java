@@ -0,0 +1,428 @@
+package com.cheatsheet.distributedlock.service;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.ScriptOutputType;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.StringCodec;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DefaultClientResources;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import com.cheatsheet.distributedlock.enums.LockType;
+import com.cheatsheet.distributedlock.util.LockOwnerIds;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 독립된 여러 Redis 노드의 과반수(quorum)에서 락을 획득하는 Redlock 방식 구현
+ *
+ * 각 노드에 대한 획득 시도는 Lettuce 비동기 명령으로 동시에 보내고,
+ * 과반수 성공(또는 과반수 불가능)이 확정되는 즉시 결과를 판단하므로
+ * 획득 지연은 노드 지연의 합이 아니라 중간값 노드의 지연에 가깝습니다.
+ *
+ * 락의 유효 시간은 요청 만료 시간에서 획득에 걸린 시간과 노드 간 시계 오차 여유분을 뺀 값입니다.
+ * 과반수를 얻지 못했거나 유효 시간이 남지 않으면 모든 노드에서 즉시 해제합니다.
+ *
+ * 노드 연결은 시작 시 비동기로 열고 기다리지 않으므로, 일부 노드가 내려가 있어도 애플리케이션은 시작됩니다.
+ * 연결하지 못한 노드는 실패한 표로 세고, 요청이 들어오면 일정 간격으로 다시 연결합니다.
+ *
+ * distributed-lock.redis.quorum.nodes가 설정된 경우에만 등록됩니다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "distributed-lock.redis.quorum", name = "nodes")
+public class RedisQuorumLockService implements DistributedLockService {
+
+    /**
+     * 노드별 락 획득 Lua Script
+     * - 키가 없을 때만 소유자 ID와 만료 시간(ms)으로 설정
+     */
+    private static final String ACQUIRE_LOCK_SCRIPT = """
+        if redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then
+            return 1
+        end
+        return 0
+        """;
+
+    /**
+     * 노드별 락 해제 Lua Script
+     * - 락 소유자를 검증한 후 삭제
+     */
+    private static final String RELEASE_LOCK_SCRIPT = """
+        if redis.call('GET', KEYS[1]) == ARGV[1] then
+            return redis.call('DEL', KEYS[1])
+        end
+        return 0
+        """;
+
+    /**
+     * 기본 만료 시간 (초) - 데드락 방지용
+     */
+    private static final int DEFAULT_TIMEOUT_SECONDS = 30;
+
+    /**
+     * 만료 시간 대비 시계 오차 여유 비율 및 고정 여유분 (Redlock 권장값)
+     */
+    private static final double CLOCK_DRIFT_FACTOR = 0.01;
+    private static final long CLOCK_DRIFT_MILLIS = 2;
+
+    /**
+     * 재시도 간 최대 대기 시간 (밀리초) - 경합 시 동시 재시도를 흩뜨리기 위한 무작위 지연 상한
+     */
+    private static final long MAX_RETRY_DELAY_MILLIS = 200;
+
+    /**
+     * 연결하지 못한 노드에 다시 연결을 시도하는 최소 간격
+     */
+    private static final long RECONNECT_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final List<String> nodeUris;
+    private final long nodeTimeoutMillis;
+
+    private ClientResources clientResources;
+    private final List<RedisClient> clients = new ArrayList<>();
+    private final List<Node> nodes = new ArrayList<>();
+
+    /**
+     * 락 키별 보유 정보
+     */
+    private final Map<String, QuorumLock> heldLocks = new ConcurrentHashMap<>();
+
+    public RedisQuorumLockService(@Value("${distributed-lock.redis.quorum.nodes}") List<String> nodeUris,
+                                  @Value("${distributed-lock.redis.quorum.node-timeout-millis:50}") long nodeTimeoutMillis) {
+        this.nodeUris = nodeUris;
+        this.nodeTimeoutMillis = nodeTimeoutMillis;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (nodeUris.size() < 3) {
+            log.warn("Quorum lock configured with {} node(s); at least 3 independent nodes are recommended",
+                    nodeUris.size());
+        }
+        clientResources = DefaultClientResources.create();
+        for (String nodeUri : nodeUris) {
+            RedisURI redisUri = RedisURI.create(nodeUri.trim());
+            redisUri.setTimeout(Duration.ofMillis(nodeTimeoutMillis));
+            RedisClient client = RedisClient.create(clientResources, redisUri);
+            clients.add(client);
+            nodes.add(new Node(nodes.size(), client, redisUri));
+        }
+        log.info("Redis quorum lock initialized: nodes={}, quorum={}, nodeTimeout={}ms",
+                nodeUris.size(), quorum(), nodeTimeoutMillis);
+    }
+
+    @PreDestroy
+    public void destroy() {
+        nodes.forEach(Node::close);
+        clients.forEach(RedisClient::shutdown);
+        if (clientResources != null) {
+            clientResources.shutdown();
+        }
+    }
+
+    @Override
+    public LockType getSupportedType() {
+        return LockType.REDIS_QUORUM;
+    }
+
+    /**
+     * 모든 노드에 동시에 락 획득을 시도하고, 과반수에서 성공하면 락을 획득한 것으로 봅니다.
+     *
+     * @param lockKey 락 식별자
+     * @param timeoutSeconds 타임아웃 (초) - 0 이하인 경우 기본값 사용
+     * @return 락 획득 성공 여부
+     */
+    @Override
+    public boolean acquireLock(String lockKey, int timeoutSeconds) {
+        return acquireLock(lockKey, Duration.ofSeconds(timeoutSeconds));
+    }
+
+    /**
+     * 밀리초 정밀도의 만료 시간으로 모든 노드에 동시에 락 획득을 시도합니다.
+     *
+     * @param lockKey 락 식별자
+     * @param timeout 타임아웃 - 0 이하인 경우 기본값 사용
+     * @return 락 획득 성공 여부
+     */
+    @Override
+    public boolean acquireLock(String lockKey, Duration timeout) {
+        String ownerId = LockOwnerIds.next();
+        long ttlMillis = timeout.isNegative() || timeout.isZero()
+                ? TimeUnit.SECONDS.toMillis(DEFAULT_TIMEOUT_SECONDS)
+                : timeout.toMillis();
+        long startNanos = System.nanoTime();
+
+        log.debug("Attempting to acquire Redis quorum lock: key={}, ttl={}ms, ownerId={}", lockKey, ttlMillis, ownerId);
+
+        int acquiredNodes = awaitQuorum(lockKey, ownerId, ttlMillis);
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        long validityMillis = validityMillis(ttlMillis, elapsedMillis);
+
+        if (acquiredNodes >= quorum() && validityMillis > 0) {
+            heldLocks.put(lockKey, new QuorumLock(ownerId, startNanos + TimeUnit.MILLISECONDS.toNanos(validityMillis)));
+            log.debug("Successfully acquired Redis quorum lock: key={}, nodes={}/{}, validity={}ms",
+                    lockKey, acquiredNodes, nodes.size(), validityMillis);
+            return true;
+        }
+
+        log.debug("Failed to acquire Redis quorum lock: key={}, nodes={}/{}, validity={}ms",
+                lockKey, acquiredNodes, nodes.size(), validityMillis);
+        // 일부 노드에서 성공한 획득을 되돌림
+        releaseOnAllNodes(lockKey, ownerId);
+        return false;
+    }
+
+    /**
+     * 대기 시간 동안 무작위 지연을 두고 과반수 획득을 반복 시도합니다.
+     * 여러 클라이언트가 동시에 재시도하여 표가 계속 갈리는 상황을 피하기 위해 지연을 무작위로 둡니다.
+     *
+     * @param lockKey 락 식별자
+     * @param timeoutSeconds 타임아웃 (초) - 0 이하인 경우 기본값 사용
+     * @param waitMillis 최대 대기 시간 (밀리초)
+     * @return 락 획득 성공 여부
+     */
+    @Override
+    public boolean tryAcquireLock(String lockKey, int timeoutSeconds, long waitMillis) {
+        return tryAcquireLock(lockKey, Duration.ofSeconds(timeoutSeconds), waitMillis);
+    }
+
+    /**
+     * 밀리초 정밀도의 만료 시간으로 대기 시간 동안 과반수 획득을 반복 시도합니다.
+     *
+     * @param lockKey 락 식별자
+     * @param timeout 타임아웃 - 0 이하인 경우 기본값 사용
+     * @param waitMillis 최대 대기 시간 (밀리초)
+     * @return 락 획득 성공 여부
+     */
+    @Override
+    public boolean tryAcquireLock(String lockKey, Duration timeout, long waitMillis) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(waitMillis, 0));
+
+        while (true) {
+            if (acquireLock(lockKey, timeout)) {
+                return true;
+            }
+
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+            if (remainingMillis <= 0) {
+                return false;
+            }
+
+            long delayMillis = ThreadLocalRandom.current().nextLong(1, MAX_RETRY_DELAY_MILLIS + 1);
+            try {
+                Thread.sleep(Math.min(delayMillis, remainingMillis));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+    }
+
+    /**
+     * 모든 노드에서 동시에 락을 해제합니다.
+     *
+     * @param lockKey 락 식별자
+     * @return 유효 시간 안에 과반수 노드에서 해제되었는지 여부
+     */
+    @Override
+    public boolean releaseLock(String lockKey) {
+        QuorumLock lock = heldLocks.remove(lockKey);
+        if (lock == null) {
+            log.warn("Attempted to release lock without owner ID: key={}", lockKey);
+            return false;
+        }
+
+        int releasedNodes = releaseOnAllNodes(lockKey, lock.ownerId());
+        boolean valid = System.nanoTime() < lock.validUntilNanos();
+
+        if (releasedNodes >= quorum() && valid) {
+            log.debug("Successfully released Redis quorum lock: key={}, nodes={}/{}",
+                    lockKey, releasedNodes, nodes.size());
+            return true;
+        }
+
+        log.warn("Redis quorum lock was no longer valid at release: key={}, nodes={}/{}, expired={}",
+                lockKey, releasedNodes, nodes.size(), !valid);
+        return false;
+    }
+
+    /**
+     * 락의 남은 유효 시간을 반환합니다.
+     *
+     * @param lockKey 락 식별자
+     * @return 남은 유효 시간 (밀리초, 보유하지 않았거나 만료되었으면 0)
+     */
+    public long getRemainingValidityMillis(String lockKey) {
+        QuorumLock lock = heldLocks.get(lockKey);
+        if (lock == null) {
+            return 0;
+        }
+        return Math.max(TimeUnit.NANOSECONDS.toMillis(lock.validUntilNanos() - System.nanoTime()), 0);
+    }
+
+    /**
+     * 모든 노드에 획득 스크립트를 동시에 보내고, 과반수 성공 또는 과반수 불가능이 확정되면 반환합니다.
+     * 남은 노드의 응답은 기다리지 않으며, 늦게 성공한 노드의 키는 해제 시 함께 삭제됩니다.
+     */
+    private int awaitQuorum(String lockKey, String ownerId, long ttlMillis) {
+        int nodeCount = nodes.size();
+        int quorum = quorum();
+        AtomicInteger successes = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+        CompletableFuture<Void> decided = new CompletableFuture<>();
+
+        for (int i = 0; i < nodeCount; i++) {
+            int node = i;
+            evalOnNode(node, ACQUIRE_LOCK_SCRIPT, lockKey, ownerId, String.valueOf(ttlMillis))
+                    .whenComplete((result, error) -> {
+                        if (error == null && result != null && result == 1) {
+                            if (successes.incrementAndGet() >= quorum) {
+                                decided.complete(null);
+                            }
+                        } else {
+                            if (error != null) {
+                                log.debug("Quorum lock node {} failed: key={}, error={}", node, lockKey, error.toString());
+                            }
+                            if (failures.incrementAndGet() > nodeCount - quorum) {
+                                decided.complete(null);
+                            }
+                        }
+                    });
+        }
+
+        try {
+            decided.get(nodeTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // 노드 타임아웃 - 그때까지 성공한 노드 수로 판단
+        }
+        return successes.get();
+    }
+
+    /**
+     * 모든 노드에 해제 스크립트를 동시에 보내고 응답을 기다립니다.
+     *
+     * @return 해제된 노드 수
+     */
+    private int releaseOnAllNodes(String lockKey, String ownerId) {
+        List<CompletableFuture<Long>> releases = new ArrayList<>(nodes.size());
+        for (int i = 0; i < nodes.size(); i++) {
+            releases.add(evalOnNode(i, RELEASE_LOCK_SCRIPT, lockKey, ownerId)
+                    .exceptionally(error -> 0L));
+        }
+
+        try {
+            CompletableFuture.allOf(releases.toArray(CompletableFuture[]::new))
+                    .get(nodeTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.debug("Some quorum lock nodes did not answer release in time: key={}", lockKey);
+        }
+
+        return (int) releases.stream()
+                .filter(release -> release.isDone() && release.join() == 1)
+                .count();
+    }
+
+    private CompletableFuture<Long> evalOnNode(int node, String script, String lockKey, String... args) {
+        // 아직 연결 중이거나 연결하지 못한 노드는 노드 타임아웃 또는 연결 오류로 실패한 표가 됨
+        return nodes.get(node).connection()
+                .thenCompose(connection -> connection.async()
+                        .<Long>eval(script, ScriptOutputType.INTEGER, new String[] {lockKey}, args))
+                .orTimeout(nodeTimeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 요청 만료 시간에서 획득 소요 시간과 시계 오차 여유분을 뺀 유효 시간을 계산합니다.
+     *
+     * @param ttlMillis 요청 만료 시간 (밀리초)
+     * @param elapsedMillis 획득에 걸린 시간 (밀리초)
+     * @return 유효 시간 (밀리초)
+     */
+    static long validityMillis(long ttlMillis, long elapsedMillis) {
+        long driftMillis = (long) (ttlMillis * CLOCK_DRIFT_FACTOR) + CLOCK_DRIFT_MILLIS;
+        return ttlMillis - elapsedMillis - driftMillis;
+    }
+
+    private int quorum() {
+        return nodes.size() / 2 + 1;
+    }
+
+    /**
+     * 보유 중인 과반수 락 정보
+     *
+     * @param ownerId 소유자 ID
+     * @param validUntilNanos 유효 기한 (System.nanoTime 기준)
+     */
+    private record QuorumLock(String ownerId, long validUntilNanos) {
+    }
+
+    /**
+     * 노드 하나의 연결
+     * 한 번 연결되면 끊겨도 Lettuce가 자동으로 다시 연결하므로, 연결 자체에 실패한 경우에만 새로 엽니다.
+     */
+    private static final class Node {
+
+        private final int index;
+        private final RedisClient client;
+        private final RedisURI redisUri;
+        private volatile CompletableFuture<StatefulRedisConnection<String, String>> connection;
+        private long nextConnectNanos;
+
+        private Node(int index, RedisClient client, RedisURI redisUri) {
+            this.index = index;
+            this.client = client;
+            this.redisUri = redisUri;
+            connect();
+        }
+
+        /**
+         * 노드 연결을 반환합니다. 연결에 실패했으면 재연결 간격이 지난 경우 다시 연결합니다.
+         */
+        CompletableFuture<StatefulRedisConnection<String, String>> connection() {
+            CompletableFuture<StatefulRedisConnection<String, String>> current = connection;
+            if (current.isCompletedExceptionally()) {
+                synchronized (this) {
+                    if (connection.isCompletedExceptionally() && System.nanoTime() - nextConnectNanos >= 0) {
+                        connect();
+                    }
+                    current = connection;
+                }
+            }
+            return current;
+        }
+
+        private void connect() {
+            nextConnectNanos = System.nanoTime() + RECONNECT_INTERVAL_NANOS;
+            connection = client.connectAsync(StringCodec.UTF8, redisUri).toCompletableFuture()
+                    .whenComplete((connected, error) -> {
+                        if (error != null) {
+                            log.warn("Quorum lock node {} unavailable; counting it as a failed vote: {}",
+                                    index, error.toString());
+                        }
+                    });
+        }
+
+        void close() {
+            connection.thenAccept(StatefulRedisConnection::close);
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package com.cheatsheet.distributedlock.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import com.cheatsheet.distributedlock.enums.LockType;
+import com.cheatsheet.distributedlock.exception.LockAcquisitionException;
+import com.cheatsheet.distributedlock.exception.LockConnectionException;
+import com.cheatsheet.distributedlock.model.LockHandle;
+import com.cheatsheet.distributedlock.util.LockOwnerIds;
+
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ReactiveStringRedisTemplate을 사용한 Redis Lua 락의 Reactor 구현
+ *
+ * RedisLuaLockService와 같은 스크립트와 키 배치(RedisLockKeyLayout)를 사용하므로 두 서비스가 같은 락을 두고 경합할 수 있습니다.
+ * 획득 대기는 해제 알림과 Reactor 타이머로 이어지므로 어떤 스레드도 블로킹하지 않습니다.
+ */
+@Slf4j
+@Service
+public class RedisReactiveLockService implements ReactiveDistributedLockService {
+
+    /**
+     * 기본 만료 시간 (초) - 데드락 방지용
+     */
+    private static final int DEFAULT_TIMEOUT_SECONDS = 30;
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final RedisLockReleaseSubscriber releaseSubscriber;
+    private final RedisLeaseWatchdog leaseWatchdog;
+    private final RedisLockKeyLayout keyLayout;
+    private RedisScript<Long> acquireLockScript;
+    private RedisScript<Long> releaseLockScript;
+
+    public RedisReactiveLockService(ReactiveStringRedisTemplate redisTemplate,
+                                    RedisLockReleaseSubscriber releaseSubscriber,
+                                    RedisLeaseWatchdog leaseWatchdog,
+                                    RedisLockKeyLayout keyLayout) {
+        this.redisTemplate = redisTemplate;
+        this.releaseSubscriber = releaseSubscriber;
+        this.leaseWatchdog = leaseWatchdog;
+        this.keyLayout = keyLayout;
+    }
+
+    @PostConstruct
+    public void init() {
+        this.acquireLockScript = RedisScript.of(RedisLuaLockService.ACQUIRE_LOCK_SCRIPT, Long.class);
+        this.releaseLockScript = RedisScript.of(RedisLuaLockService.RELEASE_LOCK_SCRIPT, Long.class);
+    }
+
+    @Override
+    public LockType getSupportedType() {
+        return LockType.REDIS_LUA;
+    }
+
+    /**
+     * 구독 시 Lua 스크립트로 락 획득을 한 번 시도합니다.
+     *
+     * @param lockKey 락 식별자
+     * @param timeoutSeconds 타임아웃 (초) - 0 이하인 경우 기본값 사용
+     * @return 획득한 락 핸들 (이미 보유 중이면 LockAcquisitionException)
+     */
+    @Override
+    public Mono<LockHandle> acquireLock(String lockKey, int timeoutSeconds) {
+        return acquireLock(lockKey, Duration.ofSeconds(timeoutSeconds));
+    }
+
+    /**
+     * 구독 시 밀리초 정밀도의 만료 시간(PX)으로 락 획득을 한 번 시도합니다.
+     *
+     * @param lockKey 락 식별자
+     * @param timeout 타임아웃 - 0 이하인 경우 기본값 사용
+     * @return 획득한 락 핸들 (이미 보유 중이면 LockAcquisitionException)
+     */
+    @Override
+    public Mono<LockHandle> acquireLock(String lockKey, Duration timeout) {
+        return attempt(lockKey, timeout)
+                .switchIfEmpty(Mono.error(() -> new LockAcquisitionException("Lock is already held: " + lockKey, lockKey)));
+    }
+
+    /**
+     * 구독 시 해제 알림을 받을 때까지 대기하며 락 획득을 시도합니다.
+     *
+     * @param lockKey 락 식별자
+     * @param timeoutSeconds 타임아웃 (초) - 0 이하인 경우 기본값 사용
+     * @param waitMillis 최대 대기 시간 (밀리초)
+     * @return 획득한 락 핸들 (대기 시간 안에 획득하지 못하면 LockAcquisitionException)
+     */
+    @Override
+    public Mono<LockHandle> tryAcquireLock(String lockKey, int timeoutSeconds, long waitMillis) {
+        return tryAcquireLock(lockKey, Duration.ofSeconds(timeoutSeconds), waitMillis);
+    }
+
+    /**
+     * 구독 시 밀리초 정밀도의 만료 시간으로 해제 알림을 받을 때까지 대기하며 락 획득을 시도합니다.
+     *
+     * @param lockKey 락 식별자
+     * @param timeout 타임아웃 - 0 이하인 경우 기본값 사용
+     * @param waitMillis 최대 대기 시간 (밀리초)
+     * @return 획득한 락 핸들 (대기 시간 안에 획득하지 못하면 LockAcquisitionException)
+     */
+    @Override
+    public Mono<LockHandle> tryAcquireLock(String lockKey, Duration timeout, long waitMillis) {
+        return Mono.defer(() -> {
+                    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(waitMillis, 0));
+                    return attemptUntil(lockKey, timeout, deadline);
+                })
+                .switchIfEmpty(Mono.error(() -> new LockAcquisitionException("Lock is already held: " + lockKey, lockKey)));
+    }
+
+    /**
+     * 구독 시 핸들의 소유자 ID로 검증하여 락을 해제합니다.
+     *
+     * @param handle 획득 시 받은 락 핸들
+     * @return 락 해제 성공 여부
+     */
+    @Override
+    public Mono<Boolean> releaseLock(LockHandle handle) {
+        String lockKey = handle.getLockKey();
+        String redisKey = keyLayout.apply(lockKey);
+        return redisTemplate.execute(
+                        releaseLockScript,
+                        Collections.singletonList(redisKey),
+                        List.of(handle.getOwnerId(), RedisLockReleaseSubscriber.releaseChannel(redisKey)))
+                .next()
+                .map(result -> result == 1)
+                .defaultIfEmpty(false)
+                .doOnNext(released -> {
+                    leaseWatchdog.unwatch(redisKey, handle.getOwnerId());
+                    if (released) {
+                        log.debug("Successfully released Redis Lua lock reactively: key={}", lockKey);
+                    } else {
+                        log.warn("Failed to release Redis Lua lock (owner mismatch or not exists): key={}", lockKey);
+                    }
+                })
+                .onErrorMap(error -> !(error instanceof LockConnectionException),
+                        error -> new LockConnectionException("Redis", lockKey, error));
+    }
+
+    /**
+     * 대기 시간이 끝날 때까지 해제 알림마다 재시도합니다.
+     * 신호 유실을 막기 위해 각 시도 전에 대기자로 먼저 등록합니다.
+     *
+     * @return 획득한 락 핸들 (실패 시 empty)
+     */
+    private Mono<LockHandle> attemptUntil(String lockKey, Duration timeout, long deadline) {
+        return Mono.defer(() -> {
+            String redisKey = keyLayout.apply(lockKey);
+            CompletableFuture<Void> released = releaseSubscriber.register(redisKey);
+
+            return attempt(lockKey, timeout)
+                    .switchIfEmpty(Mono.defer(() -> {
+                        long remainingNanos = deadline - System.nanoTime();
+                        if (remainingNanos <= 0) {
+                            return Mono.empty();
+                        }
+
+                        log.debug("Waiting for Redis Lua lock release reactively: key={}, remaining={}ms",
+                                lockKey, TimeUnit.NANOSECONDS.toMillis(remainingNanos));
+                        return Mono.fromFuture(released)
+                                .timeout(Duration.ofNanos(remainingNanos), Mono.empty())
+                                .then(Mono.defer(() -> System.nanoTime() - deadline >= 0
+                                        // 대기 시간이 소진되었으면 마지막 시도
+                                        ? attempt(lockKey, timeout)
+                                        : attemptUntil(lockKey, timeout, deadline)));
+                    }))
+                    .doFinally(signal -> releaseSubscriber.unregister(redisKey, released));
+        });
+    }
+
+    /**
+     * 락 획득 스크립트를 한 번 실행합니다.
+     *
+     * @return 획득한 락 핸들 (이미 보유 중이면 empty)
+     */
+    private Mono<LockHandle> attempt(String lockKey, Duration timeout) {
+        return Mono.defer(() -> {
+            String redisKey = keyLayout.apply(lockKey);
+            String ownerId = LockOwnerIds.next();
+            Duration effectiveTimeout = leaseWatchdog.effectiveTimeout(
+                    timeout.isNegative() || timeout.isZero() ? Duration.ofSeconds(DEFAULT_TIMEOUT_SECONDS) : timeout);
+
+            log.debug("Attempting to acquire Redis Lua lock reactively: key={}, timeout={}ms, ownerId={}",
+                    lockKey, effectiveTimeout.toMillis(), ownerId);
+
+            return redisTemplate.execute(
+                            acquireLockScript,
+                            List.of(redisKey, RedisLuaLockService.fenceKey(redisKey)),
+                            List.of(ownerId, String.valueOf(effectiveTimeout.toMillis())))
+                    .next()
+                    .onErrorMap(error -> new LockConnectionException("Redis", lockKey, error))
+                    .filter(token -> token > 0)
+                    .map(token -> {
+                        leaseWatchdog.watch(redisKey, ownerId);
+                        log.debug("Successfully acquired Redis Lua lock reactively: key={}, ownerId={}, fencingToken={}",
+                                lockKey, ownerId, token);
+                        return new LockHandle(lockKey, ownerId, LockType.REDIS_LUA, Instant.now(), token);
+                    });
+        });
+    }
+}
@@ -0,0 +1,555 @@
+package com.cheatsheet.distributedlock.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import com.cheatsheet.distributedlock.enums.LockMode;
+import com.cheatsheet.distributedlock.enums.LockType;
+import com.cheatsheet.distributedlock.exception.LockConnectionException;
+import com.cheatsheet.distributedlock.util.LockOwnerIds;
+
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Redis Hash를 사용한 읽기/쓰기 분산 락 구현
+ *
+ * 락 키는 mode 필드로 현재 모드를 구분하는 Hash로 저장됩니다.
+ * - 쓰기 모드: mode=write, owner=소유자 ID
+ * - 읽기 모드: mode=read, r:{소유자 ID}=읽기 보유 만료 시각(ms)
+ *
+ * 읽기 보유자는 각자 만료 시각을 가지므로, 해제하지 못하고 죽은 읽기 보유자는
+ * 만료 시각이 지나면 쓰기 락 획득 시 정리됩니다.
+ * 소유권은 스레드 단위로 추적하며, 재진입은 지원하지 않습니다.
+ */
+@Slf4j
+@Service
+public class RedisReadWriteLockService implements ReadWriteLockService {
+
+    /**
+     * 공통 Lua 코드
+     * - Redis 서버 시각(ms) 계산
+     * - 만료된 읽기 보유자를 정리하고 남은 읽기 보유자 수를 반환하는 함수
+     */
+    private static final String SCRIPT_PRELUDE = """
+        local lockKey = KEYS[1]
+        local time = redis.call('TIME')
+        local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+        local function activeReaders()
+            local count = 0
+            local fields = redis.call('HGETALL', lockKey)
+            for i = 1, #fields, 2 do
+                if string.sub(fields[i], 1, 2) == 'r:' then
+                    if tonumber(fields[i + 1]) <= now then
+                        redis.call('HDEL', lockKey, fields[i])
+                    else
+                        count = count + 1
+                    end
+                end
+            end
+            return count
+        end
+        """;
+
+    /**
+     * 읽기 락 획득 Lua Script
+     * - 쓰기 모드면 실패
+     * - 읽기 보유자로 등록하고 키 만료 시간을 가장 늦은 읽기 보유자에 맞춤
+     */
+    private static final String ACQUIRE_READ_SCRIPT = SCRIPT_PRELUDE + """
+        local ownerId = ARGV[1]
+        local ttl = tonumber(ARGV[2])
+
+        if redis.call('HGET', lockKey, 'mode') == 'write' then
+            return 0
+        end
+
+        redis.call('HSET', lockKey, 'mode', 'read', 'r:' .. ownerId, now + ttl)
+        if redis.call('PTTL', lockKey) < ttl then
+            redis.call('PEXPIRE', lockKey, ttl)
+        end
+        return 1
+        """;
+
+    /**
+     * 쓰기 락 획득 Lua Script
+     * - 쓰기 모드거나 유효한 읽기 보유자가 있으면 실패
+     * - 성공 시 쓰기 모드로 전환하고 소유자 설정
+     */
+    private static final String ACQUIRE_WRITE_SCRIPT = SCRIPT_PRELUDE + """
+        local ownerId = ARGV[1]
+        local ttl = tonumber(ARGV[2])
+        local mode = redis.call('HGET', lockKey, 'mode')
+
+        if mode == 'write' then
+            return 0
+        end
+        if mode == 'read' then
+            if activeReaders() > 0 then
+                return 0
+            end
+            redis.call('DEL', lockKey)
+        end
+
+        redis.call('HSET', lockKey, 'mode', 'write', 'owner', ownerId)
+        redis.call('PEXPIRE', lockKey, ttl)
+        return 1
+        """;
+
+    /**
+     * 읽기 락 해제 Lua Script
+     * - 읽기 보유자에서 제거하고, 마지막 읽기 보유자였으면 삭제 후 해제 채널에 발행
+     */
+    private static final String RELEASE_READ_SCRIPT = SCRIPT_PRELUDE + """
+        local ownerId = ARGV[1]
+        local channel = ARGV[2]
+
+        if redis.call('HDEL', lockKey, 'r:' .. ownerId) == 0 then
+            return 0
+        end
+
+        if activeReaders() == 0 then
+            redis.call('DEL', lockKey)
+            redis.call('PUBLISH', channel, lockKey)
+        end
+        return 1
+        """;
+
+    /**
+     * 쓰기 락 해제 Lua Script
+     * - 쓰기 소유자를 검증한 후 삭제하고 해제 채널에 발행
+     */
+    private static final String RELEASE_WRITE_SCRIPT = """
+        local lockKey = KEYS[1]
+        local ownerId = ARGV[1]
+        local channel = ARGV[2]
+
+        if redis.call('HGET', lockKey, 'mode') == 'write' and redis.call('HGET', lockKey, 'owner') == ownerId then
+            redis.call('DEL', lockKey)
+            redis.call('PUBLISH', channel, lockKey)
+            return 1
+        end
+        return 0
+        """;
+
+    /**
+     * 쓰기 -> 읽기 전환 Lua Script
+     * - 쓰기 소유자를 검증한 후 같은 소유자의 읽기 보유로 원자적으로 전환
+     * - 대기 중인 읽기 요청자를 깨우기 위해 해제 채널에 발행
+     */
+    private static final String DOWNGRADE_SCRIPT = SCRIPT_PRELUDE + """
+        local ownerId = ARGV[1]
+        local ttl = tonumber(ARGV[2])
+        local channel = ARGV[3]
+
+        if redis.call('HGET', lockKey, 'mode') ~= 'write' or redis.call('HGET', lockKey, 'owner') ~= ownerId then
+            return 0
+        end
+
+        redis.call('HDEL', lockKey, 'owner')
+        redis.call('HSET', lockKey, 'mode', 'read', 'r:' .. ownerId, now + ttl)
+        redis.call('PEXPIRE', lockKey, ttl)
+        redis.call('PUBLISH', channel, lockKey)
+        return 1
+        """;
+
+    /**
+     * 읽기 -> 쓰기 전환 Lua Script
+     * - 자신이 유일한 유효 읽기 보유자일 때만 쓰기 모드로 전환
+     */
+    private static final String UPGRADE_SCRIPT = SCRIPT_PRELUDE + """
+        local ownerId = ARGV[1]
+        local ttl = tonumber(ARGV[2])
+
+        if redis.call('HGET', lockKey, 'mode') ~= 'read' then
+            return 0
+        end
+
+        local readers = activeReaders()
+        if readers ~= 1 or redis.call('HEXISTS', lockKey, 'r:' .. ownerId) == 0 then
+            return 0
+        end
+
+        redis.call('DEL', lockKey)
+        redis.call('HSET', lockKey, 'mode', 'write', 'owner', ownerId)
+        redis.call('PEXPIRE', lockKey, ttl)
+        return 1
+        """;
+
+    /**
+     * 기본 만료 시간 (초) - 데드락 방지용
+     */
+    private static final int DEFAULT_TIMEOUT_SECONDS = 30;
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisLeaseWatchdog leaseWatchdog;
+    private final RedisLockReleaseSubscriber releaseSubscriber;
+    private RedisScript<Long> acquireReadScript;
+    private RedisScript<Long> acquireWriteScript;
+    private RedisScript<Long> releaseReadScript;
+    private RedisScript<Long> releaseWriteScript;
+    private RedisScript<Long> downgradeScript;
+    private RedisScript<Long> upgradeScript;
+
+    /**
+     * 스레드별 보유 락 (락 키 -> 보유 정보)
+     */
+    private final ThreadLocal<Map<String, Hold>> holds = ThreadLocal.withInitial(HashMap::new);
+
+    public RedisReadWriteLockService(StringRedisTemplate redisTemplate,
+                                     RedisLockReleaseSubscriber releaseSubscriber,
+                                     RedisLeaseWatchdog leaseWatchdog) {
+        this.redisTemplate = redisTemplate;
+        this.releaseSubscriber = releaseSubscriber;
+        this.leaseWatchdog = leaseWatchdog;
+    }
+
+    @PostConstruct
+    public void init() {
+        this.acquireReadScript = RedisScript.of(ACQUIRE_READ_SCRIPT, Long.class);
+        this.acquireWriteScript = RedisScript.of(ACQUIRE_WRITE_SCRIPT, Long.class);
+        this.releaseReadScript = RedisScript.of(RELEASE_READ_SCRIPT, Long.class);
+        this.releaseWriteScript = RedisScript.of(RELEASE_WRITE_SCRIPT, Long.class);
+        this.downgradeScript = RedisScript.of(DOWNGRADE_SCRIPT, Long.class);
+        this.upgradeScript = RedisScript.of(UPGRADE_SCRIPT, Long.class);
+    }
+
+    @Override
+    public LockType getSupportedType() {
+        return LockType.REDIS_READ_WRITE;
+    }
+
+    /**
+     * 소유자 ID를 스레드 로컬로 관리하므로 획득한 스레드에서만 해제할 수 있습니다.
+     */
+    @Override
+    public boolean isThreadBound() {
+        return true;
+    }
+
+    /**
+     * 쓰기 락을 획득합니다.
+     *
+     * @param lockKey 락 식별자
+     * @param timeoutSeconds 타임아웃 (초) - 0 이하인 경우 기본값 사용
+     * @return 락 획득 성공 여부
+     */
+    @Override
+    public boolean acquireLock(String lockKey, int timeoutSeconds) {
+        return acquireLock(lockKey, Duration.ofSeconds(timeoutSeconds));
+    }
+
+    @Override
+    public boolean tryAcquireLock(String lockKey, int timeoutSeconds, long waitMillis) {
+        return tryAcquireLock(lockKey, Duration.ofSeconds(timeoutSeconds), waitMillis);
+    }
+
+    /**
+     * 밀리초 정밀도의 만료 시간으로 쓰기 락을 획득합니다.
+     *
+     * @param lockKey 락 식별자
+     * @param timeout 타임아웃 - 0 이하인 경우 기본값 사용
+     * @return 락 획득 성공 여부
+     */
+    @Override
+    public boolean acquireLock(String lockKey, Duration timeout) {
+        return acquire(lockKey, timeout, LockMode.WRITE);
+    }
+
+    @Override
+    public boolean tryAcquireLock(String lockKey, Duration timeout, long waitMillis) {
+        return awaitRelease(lockKey, waitMillis, () -> acquire(lockKey, timeout, LockMode.WRITE));
+    }
+
+    /**
+     * 읽기 락을 획득합니다.
+     * 쓰기 락이 보유 중이 아니면 다른 읽기 보유자와 관계없이 성공합니다.
+     *
+     * @param lockKey 락 식별자
+     * @param timeoutSeconds 타임아웃 (초) - 0 이하인 경우 기본값 사용
+     * @return 락 획득 성공 여부
+     */
+    @Override
+    public boolean acquireReadLock(String lockKey, int timeoutSeconds) {
+        return acquireReadLock(lockKey, Duration.ofSeconds(timeoutSeconds));
+    }
+
+    @Override
+    public boolean tryAcquireReadLock(String lockKey, int timeoutSeconds, long waitMillis) {
+        return tryAcquireReadLock(lockKey, Duration.ofSeconds(timeoutSeconds), waitMillis);
+    }
+
+    /**
+     * 밀리초 정밀도의 만료 시간으로 읽기 락을 획득합니다.
+     *
+     * @param lockKey 락 식별자
+     * @param timeout 타임아웃 - 0 이하인 경우 기본값 사용
+     * @return 락 획득 성공 여부
+     */
+    @Override
+    public boolean acquireReadLock(String lockKey, Duration timeout) {
+        return acquire(lockKey, timeout, LockMode.READ);
+    }
+
+    @Override
+    public boolean tryAcquireReadLock(String lockKey, Duration timeout, long waitMillis) {
+        return awaitRelease(lockKey, waitMillis, () -> acquire(lockKey, timeout, LockMode.READ));
+    }
+
+    /**
+     * 현재 스레드가 보유한 락을 모드에 관계없이 해제합니다.
+     * 쓰기 락을 읽기 락으로 전환한 경우에도 이 메서드로 해제할 수 있습니다.
+     *
+     * @param lockKey 락 식별자
+     * @return 락 해제 성공 여부
+     */
+    @Override
+    public boolean releaseLock(String lockKey) {
+        Hold hold = removeHold(lockKey);
+        if (hold == null) {
+            log.warn("Attempted to release read-write lock not held by current thread: key={}", lockKey);
+            return false;
+        }
+        return release(lockKey, hold);
+    }
+
+    @Override
+    public boolean releaseReadLock(String lockKey) {
+        Hold hold = holds.get().get(lockKey);
+        if (hold == null || hold.mode != LockMode.READ) {
+            log.warn("Attempted to release read lock not held by current thread: key={}", lockKey);
+            return false;
+        }
+        return release(lockKey, removeHold(lockKey));
+    }
+
+    /**
+     * 보유 중인 쓰기 락을 읽기 락으로 전환합니다.
+     * 한 번의 Lua 호출로 전환하므로 다른 쓰기 요청자가 끼어들 틈이 없습니다.
+     *
+     * @param lockKey 락 식별자
+     * @return 전환 성공 여부
+     */
+    @Override
+    public boolean downgradeToReadLock(String lockKey) {
+        Hold hold = holds.get().get(lockKey);
+        if (hold == null || hold.mode != LockMode.WRITE) {
+            log.warn("Attempted to downgrade write lock not held by current thread: key={}", lockKey);
+            return false;
+        }
+
+        try {
+            Long result = redisTemplate.execute(
+                    downgradeScript,
+                    Collections.singletonList(lockKey),
+                    hold.ownerId,
+                    String.valueOf(hold.timeout.toMillis()),
+                    RedisLockReleaseSubscriber.releaseChannel(lockKey)
+            );
+
+            boolean downgraded = result != null && result == 1;
+            // 읽기 보유는 워치독 대상이 아님 (요청 타임아웃으로 만료)
+            leaseWatchdog.unwatch(lockKey);
+            if (downgraded) {
+                hold.mode = LockMode.READ;
+                log.debug("Downgraded Redis write lock to read lock: key={}", lockKey);
+            } else {
+                removeHold(lockKey);
+                log.warn("Failed to downgrade Redis write lock (owner mismatch or not exists): key={}", lockKey);
+            }
+            return downgraded;
+
+        } catch (Exception e) {
+            log.error("Error while downgrading Redis write lock: key={}", lockKey, e);
+            throw new LockConnectionException("Redis", lockKey, e);
+        }
+    }
+
+    /**
+     * 보유 중인 읽기 락을 쓰기 락으로 전환합니다.
+     * 다른 읽기 보유자가 있으면 대기하지 않고 실패하며, 이때 읽기 락은 그대로 유지됩니다.
+     *
+     * @param lockKey 락 식별자
+     * @return 전환 성공 여부
+     */
+    @Override
+    public boolean tryUpgradeToWriteLock(String lockKey) {
+        Hold hold = holds.get().get(lockKey);
+        if (hold == null || hold.mode != LockMode.READ) {
+            log.warn("Attempted to upgrade read lock not held by current thread: key={}", lockKey);
+            return false;
+        }
+
+        try {
+            Duration effectiveTimeout = leaseWatchdog.effectiveTimeout(hold.timeout);
+            Long result = redisTemplate.execute(
+                    upgradeScript,
+                    Collections.singletonList(lockKey),
+                    hold.ownerId,
+                    String.valueOf(effectiveTimeout.toMillis())
+            );
+
+            boolean upgraded = result != null && result == 1;
+            if (upgraded) {
+                hold.mode = LockMode.WRITE;
+                leaseWatchdog.watch(lockKey, hold.ownerId);
+                log.debug("Upgraded Redis read lock to write lock: key={}", lockKey);
+            } else {
+                log.debug("Failed to upgrade Redis read lock (other readers present): key={}", lockKey);
+            }
+            return upgraded;
+
+        } catch (Exception e) {
+            log.error("Error while upgrading Redis read lock: key={}", lockKey, e);
+            throw new LockConnectionException("Redis", lockKey, e);
+        }
+    }
+
+    private boolean acquire(String lockKey, Duration timeout, LockMode mode) {
+        Map<String, Hold> current = holds.get();
+        if (current.containsKey(lockKey)) {
+            log.warn("Read-write lock is not reentrant, already held by current thread: key={}, mode={}",
+                    lockKey, current.get(lockKey).mode);
+            return false;
+        }
+
+        try {
+            String ownerId = LockOwnerIds.next();
+            Duration requestedTimeout = timeout.isNegative() || timeout.isZero()
+                    ? Duration.ofSeconds(DEFAULT_TIMEOUT_SECONDS)
+                    : timeout;
+            // 쓰기 락만 워치독 임대 대상 (읽기 보유자는 요청 타임아웃으로 만료)
+            Duration effectiveTimeout = mode == LockMode.WRITE
+                    ? leaseWatchdog.effectiveTimeout(requestedTimeout)
+                    : requestedTimeout;
+
+            log.debug("Attempting to acquire Redis {} lock: key={}, timeout={}ms, ownerId={}",
+                    mode, lockKey, effectiveTimeout.toMillis(), ownerId);
+
+            Long result = redisTemplate.execute(
+                    mode == LockMode.WRITE ? acquireWriteScript : acquireReadScript,
+                    Collections.singletonList(lockKey),
+                    ownerId,
+                    String.valueOf(effectiveTimeout.toMillis())
+            );
+
+            boolean acquired = result != null && result == 1;
+
+            if (acquired) {
+                current.put(lockKey, new Hold(ownerId, mode, requestedTimeout));
+                if (mode == LockMode.WRITE) {
+                    leaseWatchdog.watch(lockKey, ownerId);
+                }
+                log.debug("Successfully acquired Redis {} lock: key={}, ownerId={}", mode, lockKey, ownerId);
+            } else {
+                log.debug("Failed to acquire Redis {} lock (conflicting holder): key={}", mode, lockKey);
+            }
+
+            return acquired;
+
+        } catch (Exception e) {
+            log.error("Error while acquiring Redis {} lock: key={}", mode, lockKey, e);
+            throw new LockConnectionException("Redis", lockKey, e);
+        }
+    }
+
+    private boolean release(String lockKey, Hold hold) {
+        try {
+            log.debug("Attempting to release Redis {} lock: key={}, ownerId={}", hold.mode, lockKey, hold.ownerId);
+
+            Long result = redisTemplate.execute(
+                    hold.mode == LockMode.WRITE ? releaseWriteScript : releaseReadScript,
+                    Collections.singletonList(lockKey),
+                    hold.ownerId,
+                    RedisLockReleaseSubscriber.releaseChannel(lockKey)
+            );
+
+            boolean released = result != null && result == 1;
+            leaseWatchdog.unwatch(lockKey);
+
+            if (released) {
+                log.debug("Successfully released Redis {} lock: key={}", hold.mode, lockKey);
+            } else {
+                log.warn("Failed to release Redis {} lock (owner mismatch or not exists): key={}", hold.mode, lockKey);
+            }
+
+            return released;
+
+        } catch (Exception e) {
+            log.error("Error while releasing Redis {} lock: key={}", hold.mode, lockKey, e);
+            throw new LockConnectionException("Redis", lockKey, e);
+        }
+    }
+
+    /**
+     * 해제 알림을 받을 때까지 대기하며 획득을 시도합니다.
+     */
+    private boolean awaitRelease(String lockKey, long waitMillis, BooleanSupplier attempt) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(waitMillis, 0));
+
+        while (true) {
+            // 신호 유실을 막기 위해 획득 시도 전에 대기자로 먼저 등록
+            CompletableFuture<Void> released = releaseSubscriber.register(lockKey);
+            try {
+                if (attempt.getAsBoolean()) {
+                    return true;
+                }
+
+                long remainingNanos = deadline - System.nanoTime();
+                if (remainingNanos <= 0) {
+                    return false;
+                }
+
+                log.debug("Waiting for Redis read-write lock release: key={}, remaining={}ms",
+                        lockKey, TimeUnit.NANOSECONDS.toMillis(remainingNanos));
+                released.get(remainingNanos, TimeUnit.NANOSECONDS);
+
+            } catch (TimeoutException e) {
+                // 대기 시간 소진 - 마지막 시도
+                return attempt.getAsBoolean();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Release signal completed exceptionally", e);
+            } finally {
+                releaseSubscriber.unregister(lockKey, released);
+            }
+        }
+    }
+
+    private Hold removeHold(String lockKey) {
+        Map<String, Hold> current = holds.get();
+        Hold hold = current.remove(lockKey);
+        if (current.isEmpty()) {
+            holds.remove();
+        }
+        return hold;
+    }
+
+    /**
+     * 현재 스레드의 락 보유 정보
+     */
+    private static final class Hold {
+        private final String ownerId;
+        private final Duration timeout;
+        private LockMode mode;
+
+        private Hold(String ownerId, LockMode mode, Duration timeout) {
+            this.ownerId = ownerId;
+            this.mode = mode;
+            this.timeout = timeout;
+        }
+    }
+}
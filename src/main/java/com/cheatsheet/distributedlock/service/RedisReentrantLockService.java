@@ -0,0 +1,371 @@
+package com.cheatsheet.distributedlock.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import com.cheatsheet.distributedlock.enums.LockType;
+import com.cheatsheet.distributedlock.exception.LockConnectionException;
+
+import jakarta.annotation.PostConstruct;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Redis Hash를 사용한 재진입 가능 분산 락 구현
+ *
+ * 락 키는 소유자(owner)와 보유 횟수(count) 필드를 가진 Hash로 저장됩니다.
+ * 같은 소유자가 다시 획득하면 Lua 스크립트에서 보유 횟수를 증가시키고,
+ * 해제 시 감소시켜 0이 되면 키를 삭제합니다.
+ *
+ * 같은 스레드의 중첩 획득은 스레드 로컬 보유 횟수만 증가시키므로 네트워크 왕복이 없습니다.
+ * 소유자 ID는 "서비스 인스턴스 ID:스레드 ID" 형식입니다.
+ */
+@Slf4j
+@Service
+public class RedisReentrantLockService implements DistributedLockService {
+
+    /**
+     * 재진입 락 획득 Lua Script
+     * - 락이 없으면 소유자와 보유 횟수 1로 생성
+     * - 같은 소유자면 보유 횟수 증가 후 만료 시간 갱신
+     * - 만료 시간은 밀리초 단위(PEXPIRE)
+     * - 다른 소유자가 보유 중이면 0 반환
+     * - 성공 시 현재 보유 횟수 반환
+     */
+    private static final String ACQUIRE_LOCK_SCRIPT = """
+        local lockKey = KEYS[1]
+        local ownerId = ARGV[1]
+        local ttl = ARGV[2]
+
+        if redis.call('EXISTS', lockKey) == 0 then
+            redis.call('HSET', lockKey, 'owner', ownerId, 'count', 1)
+            redis.call('PEXPIRE', lockKey, ttl)
+            return 1
+        end
+
+        if redis.call('HGET', lockKey, 'owner') == ownerId then
+            local count = redis.call('HINCRBY', lockKey, 'count', 1)
+            redis.call('PEXPIRE', lockKey, ttl)
+            return count
+        end
+
+        return 0
+        """;
+
+    /**
+     * 재진입 락 해제 Lua Script
+     * - 소유자가 일치하지 않으면 -1 반환
+     * - 보유 횟수를 감소시키고 0이 되면 삭제 후 해제 채널에 발행
+     * - 남은 보유 횟수 반환
+     */
+    private static final String RELEASE_LOCK_SCRIPT = """
+        local lockKey = KEYS[1]
+        local ownerId = ARGV[1]
+        local channel = ARGV[2]
+
+        if redis.call('HGET', lockKey, 'owner') ~= ownerId then
+            return -1
+        end
+
+        local count = redis.call('HINCRBY', lockKey, 'count', -1)
+        if count > 0 then
+            return count
+        end
+
+        redis.call('DEL', lockKey)
+        redis.call('PUBLISH', channel, lockKey)
+        return 0
+        """;
+
+    /**
+     * 기본 만료 시간 (초) - 데드락 방지용
+     */
+    private static final int DEFAULT_TIMEOUT_SECONDS = 30;
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisLeaseWatchdog leaseWatchdog;
+    private final RedisLockReleaseSubscriber releaseSubscriber;
+    private RedisScript<Long> acquireLockScript;
+    private RedisScript<Long> releaseLockScript;
+
+    /**
+     * 서비스 인스턴스 식별자 (JVM 간 소유자 ID 충돌 방지)
+     */
+    private final String instanceId = UUID.randomUUID().toString();
+
+    /**
+     * 스레드별 락 보유 횟수 (락 키 -> 보유 횟수)
+     */
+    private final ThreadLocal<Map<String, Integer>> holdCounts = ThreadLocal.withInitial(HashMap::new);
+
+    public RedisReentrantLockService(StringRedisTemplate redisTemplate,
+                                     RedisLockReleaseSubscriber releaseSubscriber,
+                                     RedisLeaseWatchdog leaseWatchdog) {
+        this.redisTemplate = redisTemplate;
+        this.releaseSubscriber = releaseSubscriber;
+        this.leaseWatchdog = leaseWatchdog;
+    }
+
+    @PostConstruct
+    public void init() {
+        this.acquireLockScript = RedisScript.of(ACQUIRE_LOCK_SCRIPT, Long.class);
+        this.releaseLockScript = RedisScript.of(RELEASE_LOCK_SCRIPT, Long.class);
+    }
+
+    @Override
+    public LockType getSupportedType() {
+        return LockType.REDIS_REENTRANT;
+    }
+
+    /**
+     * 보유 횟수를 스레드 로컬로 관리하므로 획득한 스레드에서만 해제할 수 있습니다.
+     */
+    @Override
+    public boolean isThreadBound() {
+        return true;
+    }
+
+    /**
+     * 재진입 락을 획득합니다.
+     * 현재 스레드가 이미 보유 중이면 네트워크 호출 없이 보유 횟수만 증가시킵니다.
+     *
+     * @param lockKey 락 식별자
+     * @param timeoutSeconds 타임아웃 (초) - 0 이하인 경우 기본값 사용
+     * @return 락 획득 성공 여부
+     */
+    @Override
+    public boolean acquireLock(String lockKey, int timeoutSeconds) {
+        return acquireLock(lockKey, Duration.ofSeconds(timeoutSeconds));
+    }
+
+    /**
+     * 밀리초 정밀도의 만료 시간으로 재진입 락을 획득합니다.
+     *
+     * @param lockKey 락 식별자
+     * @param timeout 타임아웃 - 0 이하인 경우 기본값 사용
+     * @return 락 획득 성공 여부
+     */
+    @Override
+    public boolean acquireLock(String lockKey, Duration timeout) {
+        Map<String, Integer> counts = holdCounts.get();
+        Integer held = counts.get(lockKey);
+        if (held != null) {
+            counts.put(lockKey, held + 1);
+            log.debug("Re-entered Redis reentrant lock locally: key={}, holdCount={}", lockKey, held + 1);
+            return true;
+        }
+
+        if (acquireLockWithOwner(lockKey, timeout, currentOwnerId())) {
+            counts.put(lockKey, 1);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 해제 알림을 받을 때까지 대기하며 락 획득을 시도합니다.
+     *
+     * @param lockKey 락 식별자
+     * @param timeoutSeconds 타임아웃 (초) - 0 이하인 경우 기본값 사용
+     * @param waitMillis 최대 대기 시간 (밀리초)
+     * @return 락 획득 성공 여부
+     */
+    @Override
+    public boolean tryAcquireLock(String lockKey, int timeoutSeconds, long waitMillis) {
+        return tryAcquireLock(lockKey, Duration.ofSeconds(timeoutSeconds), waitMillis);
+    }
+
+    /**
+     * 밀리초 정밀도의 만료 시간으로 해제 알림을 받을 때까지 대기하며 락 획득을 시도합니다.
+     *
+     * @param lockKey 락 식별자
+     * @param timeout 타임아웃 - 0 이하인 경우 기본값 사용
+     * @param waitMillis 최대 대기 시간 (밀리초)
+     * @return 락 획득 성공 여부
+     */
+    @Override
+    public boolean tryAcquireLock(String lockKey, Duration timeout, long waitMillis) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(waitMillis, 0));
+
+        while (true) {
+            // 신호 유실을 막기 위해 획득 시도 전에 대기자로 먼저 등록
+            CompletableFuture<Void> released = releaseSubscriber.register(lockKey);
+            try {
+                if (acquireLock(lockKey, timeout)) {
+                    return true;
+                }
+
+                long remainingNanos = deadline - System.nanoTime();
+                if (remainingNanos <= 0) {
+                    return false;
+                }
+
+                log.debug("Waiting for Redis reentrant lock release: key={}, remaining={}ms",
+                        lockKey, TimeUnit.NANOSECONDS.toMillis(remainingNanos));
+                released.get(remainingNanos, TimeUnit.NANOSECONDS);
+
+            } catch (TimeoutException e) {
+                // 대기 시간 소진 - 마지막 시도
+                return acquireLock(lockKey, timeout);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Release signal completed exceptionally", e);
+            } finally {
+                releaseSubscriber.unregister(lockKey, released);
+            }
+        }
+    }
+
+    /**
+     * 재진입 락을 해제합니다.
+     * 중첩 획득한 경우 스레드 로컬 보유 횟수만 감소시키고, 마지막 해제에서만 Redis를 호출합니다.
+     *
+     * @param lockKey 락 식별자
+     * @return 락 해제 성공 여부
+     */
+    @Override
+    public boolean releaseLock(String lockKey) {
+        Map<String, Integer> counts = holdCounts.get();
+        Integer held = counts.get(lockKey);
+        if (held == null) {
+            log.warn("Attempted to release reentrant lock not held by current thread: key={}", lockKey);
+            return false;
+        }
+
+        if (held > 1) {
+            counts.put(lockKey, held - 1);
+            log.debug("Released nested Redis reentrant lock locally: key={}, holdCount={}", lockKey, held - 1);
+            return true;
+        }
+
+        counts.remove(lockKey);
+        if (counts.isEmpty()) {
+            holdCounts.remove();
+        }
+        return releaseLockWithOwner(lockKey, currentOwnerId()) >= 0;
+    }
+
+    /**
+     * 특정 소유자 ID로 락 획득을 시도합니다.
+     * 스레드 로컬 보유 횟수를 거치지 않으므로, 같은 소유자 ID를 공유하는
+     * 여러 스레드나 비동기 호출 체인에서 Redis의 보유 횟수로 재진입을 처리합니다.
+     *
+     * @param lockKey 락 식별자
+     * @param timeoutSeconds 타임아웃 (초) - 0 이하인 경우 기본값 사용
+     * @param ownerId 소유자 ID
+     * @return 락 획득 성공 여부
+     */
+    public boolean acquireLockWithOwner(String lockKey, int timeoutSeconds, String ownerId) {
+        return acquireLockWithOwner(lockKey, Duration.ofSeconds(timeoutSeconds), ownerId);
+    }
+
+    /**
+     * 특정 소유자 ID로 밀리초 정밀도의 만료 시간을 두고 락 획득을 시도합니다.
+     *
+     * @param lockKey 락 식별자
+     * @param timeout 타임아웃 - 0 이하인 경우 기본값 사용
+     * @param ownerId 소유자 ID
+     * @return 락 획득 성공 여부
+     */
+    public boolean acquireLockWithOwner(String lockKey, Duration timeout, String ownerId) {
+        try {
+            Duration effectiveTimeout = leaseWatchdog.effectiveTimeout(
+                    timeout.isNegative() || timeout.isZero() ? Duration.ofSeconds(DEFAULT_TIMEOUT_SECONDS) : timeout);
+
+            log.debug("Attempting to acquire Redis reentrant lock: key={}, timeout={}ms, ownerId={}",
+                    lockKey, effectiveTimeout.toMillis(), ownerId);
+
+            Long result = redisTemplate.execute(
+                    acquireLockScript,
+                    Collections.singletonList(lockKey),
+                    ownerId,
+                    String.valueOf(effectiveTimeout.toMillis())
+            );
+
+            boolean acquired = result != null && result > 0;
+
+            if (acquired) {
+                leaseWatchdog.watch(lockKey, ownerId);
+                log.debug("Successfully acquired Redis reentrant lock: key={}, ownerId={}, holdCount={}",
+                        lockKey, ownerId, result);
+            } else {
+                log.debug("Failed to acquire Redis reentrant lock (held by another owner): key={}", lockKey);
+            }
+
+            return acquired;
+
+        } catch (Exception e) {
+            log.error("Error while acquiring Redis reentrant lock: key={}", lockKey, e);
+            throw new LockConnectionException("Redis", lockKey, e);
+        }
+    }
+
+    /**
+     * 특정 소유자 ID로 보유 횟수를 하나 감소시킵니다.
+     *
+     * @param lockKey 락 식별자
+     * @param ownerId 소유자 ID
+     * @return 남은 보유 횟수 (0이면 완전히 해제됨, -1이면 소유자 불일치 또는 락 없음)
+     */
+    public long releaseLockWithOwner(String lockKey, String ownerId) {
+        try {
+            log.debug("Attempting to release Redis reentrant lock: key={}, ownerId={}", lockKey, ownerId);
+
+            Long result = redisTemplate.execute(
+                    releaseLockScript,
+                    Collections.singletonList(lockKey),
+                    ownerId,
+                    RedisLockReleaseSubscriber.releaseChannel(lockKey)
+            );
+
+            long remaining = result != null ? result : -1;
+
+            if (remaining == 0) {
+                leaseWatchdog.unwatch(lockKey);
+                log.debug("Successfully released Redis reentrant lock: key={}", lockKey);
+            } else if (remaining > 0) {
+                log.debug("Decremented Redis reentrant lock hold count: key={}, holdCount={}", lockKey, remaining);
+            } else {
+                // 이미 만료되었거나 다른 소유자에게 넘어간 락은 더 이상 연장하지 않음
+                leaseWatchdog.unwatch(lockKey);
+                log.warn("Failed to release Redis reentrant lock (owner mismatch or not exists): key={}", lockKey);
+            }
+
+            return remaining;
+
+        } catch (Exception e) {
+            log.error("Error while releasing Redis reentrant lock: key={}", lockKey, e);
+            throw new LockConnectionException("Redis", lockKey, e);
+        }
+    }
+
+    /**
+     * 현재 스레드의 락 보유 횟수를 반환합니다.
+     *
+     * @param lockKey 락 식별자
+     * @return 보유 횟수 (보유하지 않으면 0)
+     */
+    public int getHoldCount(String lockKey) {
+        return holdCounts.get().getOrDefault(lockKey, 0);
+    }
+
+    /**
+     * 현재 스레드의 소유자 ID를 반환합니다.
+     *
+     * @return 소유자 ID
+     */
+    public String currentOwnerId() {
+        return instanceId + ":" + Thread.currentThread().threadId();
+    }
+}
@@ -0,0 +1,298 @@
+package com.cheatsheet.distributedlock.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import com.cheatsheet.distributedlock.enums.LockType;
+import com.cheatsheet.distributedlock.exception.LockConnectionException;
+import com.cheatsheet.distributedlock.util.LockOwnerIds;
+
+import jakarta.annotation.PostConstruct;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Redis Sorted Set을 사용한 분산 세마포어 구현
+ *
+ * 보유 슬롯은 "{락 키}:permits" 키에 보유자 ID를 멤버로, 보유 만료 시각(ms)을 점수로 갖는 Sorted Set으로 저장합니다.
+ * 같은 락 키를 쓰는 문자열 락(REDIS_LUA)과 키가 겹치지 않도록 접미사를 붙이고,
+ * 클러스터에서는 다른 락 키와 같은 규칙으로 해시 태그를 적용합니다.
+ * 획득 스크립트가 만료 시각이 지난 멤버를 먼저 제거하므로,
+ * 해제하지 못하고 죽은 보유자의 슬롯은 만료 후 자동으로 회수됩니다.
+ * 획득과 반환은 각각 한 번의 Lua 스크립트 호출입니다.
+ * 획득에 실패하면 가장 먼저 만료되는 보유 슬롯까지 남은 시간을 함께 받아,
+ * 해제 알림 없이 만료로 풀리는 슬롯도 만료 시각에 다시 시도합니다.
+ */
+@Slf4j
+@Service
+public class RedisSemaphoreService implements SemaphoreLockService {
+
+    /**
+     * 보유 슬롯 획득 Lua Script
+     * - 만료된 보유자 제거
+     * - 보유자 수가 허용 개수 미만이면 만료 시각을 점수로 등록
+     * - 키 만료 시간은 가장 늦은 보유자에 맞춤
+     * - 성공 시 1, 실패 시 가장 먼저 만료되는 보유 슬롯까지 남은 시간(ms)을 음수로 반환
+     */
+    private static final String ACQUIRE_PERMIT_SCRIPT = """
+        local permitsKey = KEYS[1]
+        local ownerId = ARGV[1]
+        local permits = tonumber(ARGV[2])
+        local ttl = tonumber(ARGV[3])
+        local time = redis.call('TIME')
+        local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+        redis.call('ZREMRANGEBYSCORE', permitsKey, '-inf', now)
+        if redis.call('ZCARD', permitsKey) >= permits then
+            local earliest = redis.call('ZRANGE', permitsKey, 0, 0, 'WITHSCORES')
+            return now - tonumber(earliest[2])
+        end
+
+        redis.call('ZADD', permitsKey, now + ttl, ownerId)
+        if redis.call('PTTL', permitsKey) < ttl then
+            redis.call('PEXPIRE', permitsKey, ttl)
+        end
+        return 1
+        """;
+
+    /**
+     * 보유 슬롯 반환 Lua Script
+     * - 보유자를 제거하고 해제 채널에 발행하여 대기자를 깨움
+     */
+    private static final String RELEASE_PERMIT_SCRIPT = """
+        local permitsKey = KEYS[1]
+        local ownerId = ARGV[1]
+        local channel = ARGV[2]
+        local lockKey = ARGV[3]
+
+        if redis.call('ZREM', permitsKey, ownerId) == 1 then
+            redis.call('PUBLISH', channel, lockKey)
+            return 1
+        end
+        return 0
+        """;
+
+    /**
+     * 기본 만료 시간 (초) - 데드락 방지용
+     */
+    private static final int DEFAULT_TIMEOUT_SECONDS = 30;
+
+    /**
+     * 보유 슬롯 Sorted Set 키 접미사
+     */
+    private static final String PERMITS_SUFFIX = ":permits";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisLockReleaseSubscriber releaseSubscriber;
+    private final RedisLockKeyLayout keyLayout;
+    private RedisScript<Long> acquirePermitScript;
+    private RedisScript<Long> releasePermitScript;
+
+    /**
+     * 스레드별 보유 슬롯 (락 키 -> 보유자 ID 스택)
+     */
+    private final ThreadLocal<Map<String, Deque<String>>> permitOwners = ThreadLocal.withInitial(HashMap::new);
+
+    public RedisSemaphoreService(StringRedisTemplate redisTemplate,
+                                 RedisLockReleaseSubscriber releaseSubscriber,
+                                 RedisLockKeyLayout keyLayout) {
+        this.redisTemplate = redisTemplate;
+        this.releaseSubscriber = releaseSubscriber;
+        this.keyLayout = keyLayout;
+    }
+
+    @PostConstruct
+    public void init() {
+        this.acquirePermitScript = RedisScript.of(ACQUIRE_PERMIT_SCRIPT, Long.class);
+        this.releasePermitScript = RedisScript.of(RELEASE_PERMIT_SCRIPT, Long.class);
+    }
+
+    @Override
+    public LockType getSupportedType() {
+        return LockType.REDIS_LUA;
+    }
+
+    /**
+     * 허용 개수 안에서 보유 슬롯을 하나 획득합니다.
+     *
+     * @param lockKey 락 식별자
+     * @param permits 최대 동시 보유자 수
+     * @param timeoutSeconds 보유 슬롯 만료 시간 (초) - 0 이하인 경우 기본값 사용
+     * @return 획득 성공 여부
+     */
+    @Override
+    public boolean acquirePermit(String lockKey, int permits, int timeoutSeconds) {
+        return tryAcquire(lockKey, permits, timeoutSeconds) == 1;
+    }
+
+    /**
+     * 획득 스크립트를 실행합니다.
+     *
+     * @return 성공 시 1, 실패 시 가장 먼저 만료되는 보유 슬롯까지 남은 시간 (밀리초, 음수)
+     */
+    private long tryAcquire(String lockKey, int permits, int timeoutSeconds) {
+        if (permits < 1) {
+            throw new IllegalArgumentException("Permits must be positive: " + permits);
+        }
+
+        try {
+            String ownerId = LockOwnerIds.next();
+            int effectiveTimeout = timeoutSeconds > 0 ? timeoutSeconds : DEFAULT_TIMEOUT_SECONDS;
+
+            log.debug("Attempting to acquire Redis semaphore permit: key={}, permits={}, timeout={}s, ownerId={}",
+                    lockKey, permits, effectiveTimeout, ownerId);
+
+            Long result = redisTemplate.execute(
+                    acquirePermitScript,
+                    Collections.singletonList(permitsKey(lockKey)),
+                    ownerId,
+                    String.valueOf(permits),
+                    String.valueOf(TimeUnit.SECONDS.toMillis(effectiveTimeout))
+            );
+
+            long acquired = result != null ? result : 0;
+
+            if (acquired == 1) {
+                permitOwners.get().computeIfAbsent(lockKey, key -> new ArrayDeque<>()).push(ownerId);
+                log.debug("Successfully acquired Redis semaphore permit: key={}, ownerId={}", lockKey, ownerId);
+            } else {
+                log.debug("Failed to acquire Redis semaphore permit (all {} permits in use): key={}, earliestExpiry={}ms",
+                        permits, lockKey, -acquired);
+            }
+
+            return acquired;
+
+        } catch (Exception e) {
+            log.error("Error while acquiring Redis semaphore permit: key={}", lockKey, e);
+            throw new LockConnectionException("Redis", lockKey, e);
+        }
+    }
+
+    /**
+     * 해제 알림을 받을 때까지 대기하며 보유 슬롯 획득을 시도합니다.
+     *
+     * @param lockKey 락 식별자
+     * @param permits 최대 동시 보유자 수
+     * @param timeoutSeconds 보유 슬롯 만료 시간 (초) - 0 이하인 경우 기본값 사용
+     * @param waitMillis 최대 대기 시간 (밀리초)
+     * @return 획득 성공 여부
+     */
+    @Override
+    public boolean tryAcquirePermit(String lockKey, int permits, int timeoutSeconds, long waitMillis) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(waitMillis, 0));
+
+        while (true) {
+            // 신호 유실을 막기 위해 획득 시도 전에 대기자로 먼저 등록
+            CompletableFuture<Void> released = releaseSubscriber.register(lockKey);
+            try {
+                long result = tryAcquire(lockKey, permits, timeoutSeconds);
+                if (result == 1) {
+                    return true;
+                }
+
+                long remainingNanos = deadline - System.nanoTime();
+                if (remainingNanos <= 0) {
+                    return false;
+                }
+
+                // 반환하지 않고 죽은 보유자의 슬롯은 해제 알림 없이 만료되므로, 가장 빠른 만료 시각에는 다시 시도
+                long expiryNanos = TimeUnit.MILLISECONDS.toNanos(-result);
+                long waitNanos = expiryNanos > 0 ? Math.min(remainingNanos, expiryNanos) : remainingNanos;
+                log.debug("Waiting for Redis semaphore permit: key={}, remaining={}ms",
+                        lockKey, TimeUnit.NANOSECONDS.toMillis(remainingNanos));
+                released.get(waitNanos, TimeUnit.NANOSECONDS);
+
+            } catch (TimeoutException e) {
+                if (deadline - System.nanoTime() > 0) {
+                    continue;
+                }
+                // 대기 시간 소진 - 마지막 시도
+                return acquirePermit(lockKey, permits, timeoutSeconds);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Release signal completed exceptionally", e);
+            } finally {
+                releaseSubscriber.unregister(lockKey, released);
+            }
+        }
+    }
+
+    /**
+     * 현재 스레드가 가장 최근에 획득한 보유 슬롯을 반환합니다.
+     *
+     * @param lockKey 락 식별자
+     * @return 반환 성공 여부
+     */
+    @Override
+    public boolean releasePermit(String lockKey) {
+        String ownerId = popOwner(lockKey);
+        if (ownerId == null) {
+            log.warn("Attempted to release semaphore permit not held by current thread: key={}", lockKey);
+            return false;
+        }
+
+        try {
+            log.debug("Attempting to release Redis semaphore permit: key={}, ownerId={}", lockKey, ownerId);
+
+            Long result = redisTemplate.execute(
+                    releasePermitScript,
+                    Collections.singletonList(permitsKey(lockKey)),
+                    ownerId,
+                    RedisLockReleaseSubscriber.releaseChannel(lockKey),
+                    lockKey
+            );
+
+            boolean released = result != null && result == 1;
+
+            if (released) {
+                log.debug("Successfully released Redis semaphore permit: key={}", lockKey);
+            } else {
+                log.warn("Failed to release Redis semaphore permit (already expired): key={}, ownerId={}",
+                        lockKey, ownerId);
+            }
+
+            return released;
+
+        } catch (Exception e) {
+            log.error("Error while releasing Redis semaphore permit: key={}", lockKey, e);
+            throw new LockConnectionException("Redis", lockKey, e);
+        }
+    }
+
+    /**
+     * 보유 슬롯을 저장할 Redis 키를 반환합니다.
+     *
+     * @param lockKey 락 식별자
+     * @return 해시 태그가 적용된 보유 슬롯 Sorted Set 키
+     */
+    String permitsKey(String lockKey) {
+        return keyLayout.apply(lockKey + PERMITS_SUFFIX);
+    }
+
+    private String popOwner(String lockKey) {
+        Map<String, Deque<String>> owners = permitOwners.get();
+        Deque<String> stack = owners.get(lockKey);
+        if (stack == null) {
+            return null;
+        }
+        String ownerId = stack.pop();
+        if (stack.isEmpty()) {
+            owners.remove(lockKey);
+            if (owners.isEmpty()) {
+                permitOwners.remove();
+            }
+        }
+        return ownerId;
+    }
+}
@@ -6,11 +6,11 @@ import org.springframework.stereotype.Service;
 
 import com.cheatsheet.distributedlock.enums.LockType;
 import com.cheatsheet.distributedlock.exception.LockConnectionException;
+import com.cheatsheet.distributedlock.util.LockOwnerIds;
 
+import java.time.Duration;
 import java.util.Map;
-import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.TimeUnit;
 
 /**
  * Redis SETNX를 사용한 분산 락 구현
@@ -26,6 +26,7 @@ public class RedisSetnxLockService implements DistributedLockService {
     private static final int DEFAULT_TIMEOUT_SECONDS = 30;
     
     private final StringRedisTemplate redisTemplate;
+    private final RedisLeaseWatchdog leaseWatchdog;
     
     /**
      * 스레드별 락 소유자 ID 저장
@@ -33,8 +34,9 @@ public class RedisSetnxLockService implements DistributedLockService {
      */
     private final Map<String, String> lockOwnerMap = new ConcurrentHashMap<>();
     
-    public RedisSetnxLockService(StringRedisTemplate redisTemplate) {
+    public RedisSetnxLockService(StringRedisTemplate redisTemplate, RedisLeaseWatchdog leaseWatchdog) {
         this.redisTemplate = redisTemplate;
+        this.leaseWatchdog = leaseWatchdog;
     }
     
     @Override
@@ -44,7 +46,7 @@ public class RedisSetnxLockService implements DistributedLockService {
     
     /**
      * SETNX를 사용하여 락을 획득합니다.
-     * SET NX EX 명령을 사용하여 원자적으로 락을 설정하고 만료 시간을 지정합니다.
+     * SET NX EX/PX 명령을 사용하여 원자적으로 락을 설정하고 만료 시간을 지정합니다.
      * 
      * @param lockKey 락 식별자
      * @param timeoutSeconds 타임아웃 (초) - 0 이하인 경우 기본값 사용
@@ -52,25 +54,39 @@ public class RedisSetnxLockService implements DistributedLockService {
      */
     @Override
     public boolean acquireLock(String lockKey, int timeoutSeconds) {
+        return acquireLock(lockKey, Duration.ofSeconds(timeoutSeconds));
+    }
+    
+    /**
+     * SETNX를 사용하여 밀리초 정밀도의 만료 시간으로 락을 획득합니다.
+     * 1초 미만이거나 초 단위로 나누어떨어지지 않는 만료 시간은 SET NX PX로 설정됩니다.
+     * 
+     * @param lockKey 락 식별자
+     * @param timeout 타임아웃 - 0 이하인 경우 기본값 사용
+     * @return 락 획득 성공 여부
+     */
+    @Override
+    public boolean acquireLock(String lockKey, Duration timeout) {
         try {
-            // 고유 소유자 ID 생성 (UUID 기반)
-            String ownerId = UUID.randomUUID().toString();
+            // 고유 소유자 ID 생성 (노드 접두사 + 순번)
+            String ownerId = LockOwnerIds.next();
             
-            // 타임아웃이 0 이하인 경우 기본값 사용
-            int effectiveTimeout = timeoutSeconds > 0 ? timeoutSeconds : DEFAULT_TIMEOUT_SECONDS;
+            // 타임아웃이 0 이하인 경우 기본값 사용 (워치독 모드에서는 짧은 임대 시간 사용)
+            Duration effectiveTimeout = effectiveTimeout(timeout);
             
-            log.debug("Attempting to acquire Redis SETNX lock: key={}, timeout={}s, ownerId={}", 
-                    lockKey, effectiveTimeout, ownerId);
+            log.debug("Attempting to acquire Redis SETNX lock: key={}, timeout={}ms, ownerId={}", 
+                    lockKey, effectiveTimeout.toMillis(), ownerId);
             
-            // SET NX EX 명령 실행 (원자적 연산)
+            // SET NX PX 명령 실행 (원자적 연산)
             Boolean result = redisTemplate.opsForValue()
-                    .setIfAbsent(lockKey, ownerId, effectiveTimeout, TimeUnit.SECONDS);
+                    .setIfAbsent(lockKey, ownerId, effectiveTimeout);
             
             boolean acquired = Boolean.TRUE.equals(result);
             
             if (acquired) {
                 // 소유자 ID 저장 (해제 시 사용)
                 lockOwnerMap.put(lockKey, ownerId);
+                leaseWatchdog.watch(lockKey, ownerId);
                 log.debug("Successfully acquired Redis SETNX lock: key={}, ownerId={}", lockKey, ownerId);
             } else {
                 log.debug("Failed to acquire Redis SETNX lock (already held): key={}", lockKey);
@@ -107,6 +123,7 @@ public class RedisSetnxLockService implements DistributedLockService {
             Boolean result = redisTemplate.delete(lockKey);
             
             boolean released = Boolean.TRUE.equals(result);
+            leaseWatchdog.unwatch(lockKey);
             
             if (released) {
                 lockOwnerMap.remove(lockKey);
@@ -134,18 +151,19 @@ public class RedisSetnxLockService implements DistributedLockService {
      */
     public boolean acquireLockWithOwner(String lockKey, int timeoutSeconds, String ownerId) {
         try {
-            int effectiveTimeout = timeoutSeconds > 0 ? timeoutSeconds : DEFAULT_TIMEOUT_SECONDS;
+            Duration effectiveTimeout = effectiveTimeout(Duration.ofSeconds(timeoutSeconds));
             
-            log.debug("Attempting to acquire Redis SETNX lock with specific owner: key={}, timeout={}s, ownerId={}", 
-                    lockKey, effectiveTimeout, ownerId);
+            log.debug("Attempting to acquire Redis SETNX lock with specific owner: key={}, timeout={}ms, ownerId={}", 
+                    lockKey, effectiveTimeout.toMillis(), ownerId);
             
             Boolean result = redisTemplate.opsForValue()
-                    .setIfAbsent(lockKey, ownerId, effectiveTimeout, TimeUnit.SECONDS);
+                    .setIfAbsent(lockKey, ownerId, effectiveTimeout);
             
             boolean acquired = Boolean.TRUE.equals(result);
             
             if (acquired) {
                 lockOwnerMap.put(lockKey, ownerId);
+                leaseWatchdog.watch(lockKey, ownerId);
                 log.debug("Successfully acquired Redis SETNX lock: key={}, ownerId={}", lockKey, ownerId);
             } else {
                 log.debug("Failed to acquire Redis SETNX lock (already held): key={}", lockKey);
@@ -159,6 +177,14 @@ public class RedisSetnxLockService implements DistributedLockService {
         }
     }
     
+    /**
+     * 타임아웃이 0 이하이면 기본값을 사용하고, 워치독 모드에서는 짧은 임대 시간으로 바꿉니다.
+     */
+    private Duration effectiveTimeout(Duration timeout) {
+        return leaseWatchdog.effectiveTimeout(
+                timeout.isNegative() || timeout.isZero() ? Duration.ofSeconds(DEFAULT_TIMEOUT_SECONDS) : timeout);
+    }
+    
     /**
      * 락의 현재 소유자 ID를 반환합니다.
      * 테스트용 메서드입니다.
@@ -0,0 +1,78 @@
+package com.cheatsheet.distributedlock.service;
+
+import com.cheatsheet.distributedlock.enums.LockType;
+
+/**
+ * 허용 개수(permits)만큼 동시 보유를 허용하는 세마포어 구현이 따르는 인터페이스
+ */
+public interface SemaphoreLockService {
+    
+    /**
+     * 허용 개수 안에서 보유 슬롯(permit)을 하나 획득합니다.
+     * @param lockKey 락 식별자
+     * @param permits 최대 동시 보유자 수
+     * @param timeoutSeconds 보유 슬롯 만료 시간 (초)
+     * @return 획득 성공 여부
+     */
+    boolean acquirePermit(String lockKey, int permits, int timeoutSeconds);
+    
+    /**
+     * 지정한 대기 시간 동안 보유 슬롯 획득을 시도합니다.
+     * @param lockKey 락 식별자
+     * @param permits 최대 동시 보유자 수
+     * @param timeoutSeconds 보유 슬롯 만료 시간 (초)
+     * @param waitMillis 최대 대기 시간 (밀리초)
+     * @return 획득 성공 여부
+     */
+    boolean tryAcquirePermit(String lockKey, int permits, int timeoutSeconds, long waitMillis);
+    
+    /**
+     * 현재 스레드가 가장 최근에 획득한 보유 슬롯을 반환합니다.
+     * @param lockKey 락 식별자
+     * @return 반환 성공 여부
+     */
+    boolean releasePermit(String lockKey);
+    
+    /**
+     * 이 서비스가 지원하는 락 타입을 반환합니다.
+     * @return 지원하는 락 타입
+     */
+    LockType getSupportedType();
+    
+    /**
+     * 허용 개수를 고정한 세마포어를 DistributedLockService 형태로 노출합니다.
+     * 재시도, 대기 등 배타 락과 같은 획득 경로에서 세마포어를 사용할 수 있습니다.
+     * @param permits 최대 동시 보유자 수
+     * @return 세마포어 뷰
+     */
+    default DistributedLockService withPermits(int permits) {
+        SemaphoreLockService semaphoreLockService = this;
+        return new DistributedLockService() {
+            
+            @Override
+            public boolean acquireLock(String lockKey, int timeoutSeconds) {
+                return semaphoreLockService.acquirePermit(lockKey, permits, timeoutSeconds);
+            }
+            
+            @Override
+            public boolean tryAcquireLock(String lockKey, int timeoutSeconds, long waitMillis) {
+                return semaphoreLockService.tryAcquirePermit(lockKey, permits, timeoutSeconds, waitMillis);
+            }
+            
+            @Override
+            public boolean releaseLock(String lockKey) {
+                return semaphoreLockService.releasePermit(lockKey);
+            }
+            
+            @Override
+            public boolean isThreadBound() {
+                return true;
+            }
+            
+            @Override
+            public LockType getSupportedType() {
+                return semaphoreLockService.getSupportedType();
+            }
+        };
+    }
+}
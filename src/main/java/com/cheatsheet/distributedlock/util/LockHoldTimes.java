@@ -0,0 +1,74 @@
+package com.cheatsheet.distributedlock.util;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 락 보유 시간의 지수 가중 이동 평균(EWMA)을 키별로 기록하는 통계
+ *
+ * 재시도 대기 시간을 정할 때 "이 키는 보통 얼마나 오래 잡혀 있는가"를 추정하는 데 사용합니다.
+ * - 최근 보유 시간에 1/8 가중치를 주어 평균이 부하 변화를 따라가도록 함
+ * - 키 수가 maxKeys를 넘으면 새 키는 기록하지 않고 전체 평균으로 대신함
+ * 값은 락을 해제한 노드가 직접 잰 보유 시간이므로 같은 코드 경로를 쓰는 다른 노드의 보유 시간도 비슷하다고 봅니다.
+ */
+public final class LockHoldTimes {
+
+    /**
+     * 새 표본 가중치 = 1 / 2^WEIGHT_SHIFT
+     */
+    private static final int WEIGHT_SHIFT = 3;
+
+    private final int maxKeys;
+    private final Map<String, AtomicLong> byKey = new ConcurrentHashMap<>();
+    private final AtomicLong overall = new AtomicLong();
+
+    public LockHoldTimes(int maxKeys) {
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * 락 보유 시간을 기록합니다.
+     *
+     * @param lockKey 락 식별자
+     * @param held 획득부터 해제까지 걸린 시간
+     */
+    public void record(String lockKey, Duration held) {
+        long micros = Math.max(1, held.toNanos() / 1_000);
+        update(overall, micros);
+        AtomicLong average = byKey.get(lockKey);
+        if (average == null) {
+            if (byKey.size() >= maxKeys) {
+                return;
+            }
+            average = byKey.computeIfAbsent(lockKey, key -> new AtomicLong());
+        }
+        update(average, micros);
+    }
+
+    /**
+     * 키의 평균 보유 시간을 반환합니다.
+     *
+     * @param lockKey 락 식별자
+     * @return 평균 보유 시간 (밀리초, 키 기록이 없으면 전체 평균, 기록이 전혀 없으면 0)
+     */
+    public long typicalMillis(String lockKey) {
+        AtomicLong average = byKey.get(lockKey);
+        long micros = average != null ? average.get() : overall.get();
+        return micros == 0 ? 0 : Math.max(1, micros / 1_000);
+    }
+
+    /**
+     * 기록 중인 키 수를 반환합니다.
+     */
+    public int size() {
+        return byKey.size();
+    }
+
+    private static void update(AtomicLong average, long sample) {
+        // 첫 표본은 그대로 사용하고, 이후는 avg += (sample - avg) / 8
+        average.accumulateAndGet(sample, (current, value) ->
+                current == 0 ? value : current + ((value - current) >> WEIGHT_SHIFT));
+    }
+}
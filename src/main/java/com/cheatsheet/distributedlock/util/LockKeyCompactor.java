@@ -0,0 +1,209 @@
+package com.cheatsheet.distributedlock.util;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 해석된 락 키를 고정 길이 해시 키로 줄이는 변환기
+ *
+ * "warehouse:12:product:3456"처럼 긴 키는 획득, 해제, 연장마다 그대로 전송되고 Redis에 저장됩니다.
+ * 활성화하면 키를 128비트 해시(MurmurHash3 x64 128, 16바이트)로 바꾸고 URL-safe Base64(22자)로 인코딩하여
+ * "{유지할 세그먼트}{접두사}{해시}" 형태의 고정 길이 키를 만듭니다. 예: "lk:Q2hhbmdlIHRoaXMga2V5IQ"
+ * - 키가 "{...}" 해시 태그로 시작하면 태그는 그대로 남기고 나머지만 해시하여 클러스터 슬롯이 바뀌지 않도록 함
+ * - keepSegments개의 앞 ':' 세그먼트(태그 뒤부터 셈)는 그대로 남겨 Hash 락 네임스페이스가 유지되도록 함
+ * - 디버그 모드에서는 해시 키 → 원래 키 매핑을 최대 MAX_MAPPINGS개 기록하고, 서로 다른 키가 같은 해시가 되면 경고
+ * 비활성화 상태에서는 키를 바꾸지 않습니다.
+ */
+@Slf4j
+public final class LockKeyCompactor {
+
+    /**
+     * 디버그 모드에서 기록할 최대 매핑 수
+     */
+    static final int MAX_MAPPINGS = 10_000;
+
+    private static final long C1 = 0x87c37b91114253d5L;
+    private static final long C2 = 0x4cf5ad432745937fL;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final LockKeyCompactor DISABLED = new LockKeyCompactor(false, "", 0, false);
+
+    private final boolean enabled;
+    private final String prefix;
+    private final int keepSegments;
+    private final boolean debug;
+
+    /**
+     * 해시 키 → 원래 키 (디버그 모드에서만 사용)
+     */
+    private final Map<String, String> originals = new ConcurrentHashMap<>();
+
+    public LockKeyCompactor(boolean enabled, String prefix, int keepSegments, boolean debug) {
+        this.enabled = enabled;
+        this.prefix = prefix;
+        this.keepSegments = Math.max(0, keepSegments);
+        this.debug = debug;
+    }
+
+    /**
+     * 키를 바꾸지 않는 변환기를 반환합니다.
+     */
+    public static LockKeyCompactor disabled() {
+        return DISABLED;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 락 키를 고정 길이 해시 키로 변환합니다.
+     *
+     * @param lockKey 해석된 락 키
+     * @return 해시 키 (비활성화 상태면 원래 키)
+     */
+    public String compact(String lockKey) {
+        if (!enabled) {
+            return lockKey;
+        }
+        int split = namespaceEnd(lockKey);
+        byte[] hash = hash128(lockKey.substring(split).getBytes(StandardCharsets.UTF_8));
+        String compacted = lockKey.substring(0, split) + prefix + ENCODER.encodeToString(hash);
+
+        if (debug) {
+            record(compacted, lockKey);
+        }
+        return compacted;
+    }
+
+    /**
+     * 디버그 모드에서 기록한 원래 키를 반환합니다.
+     *
+     * @param compactedKey compact()가 반환한 키
+     * @return 원래 키 (기록이 없으면 null)
+     */
+    public String original(String compactedKey) {
+        return originals.get(compactedKey);
+    }
+
+    private void record(String compacted, String lockKey) {
+        String previous = originals.get(compacted);
+        if (previous == null) {
+            if (originals.size() >= MAX_MAPPINGS) {
+                return;
+            }
+            previous = originals.putIfAbsent(compacted, lockKey);
+            if (previous == null) {
+                log.debug("Compacted lock key: {} -> {}", lockKey, compacted);
+                return;
+            }
+        }
+        if (!previous.equals(lockKey)) {
+            log.warn("Lock key hash collision: {} and {} both map to {}", previous, lockKey, compacted);
+        }
+    }
+
+    /**
+     * 유지할 앞부분의 끝 위치 (해시 태그와 그 뒤 keepSegments개 ':' 세그먼트, 구분자 포함)
+     * 해시 태그 안의 ':'는 세그먼트 구분자로 보지 않습니다.
+     */
+    private int namespaceEnd(String lockKey) {
+        int tagEnd = hashTagEnd(lockKey);
+        int end = tagEnd;
+        for (int i = 0; i < keepSegments; i++) {
+            int separator = lockKey.indexOf(':', end);
+            if (separator < 0) {
+                return tagEnd;
+            }
+            end = separator + 1;
+        }
+        return end;
+    }
+
+    /**
+     * 키 맨 앞 해시 태그의 끝 위치 ('}' 다음). 태그가 없거나 비어 있으면 0
+     * Redis와 같이 첫 '{' 뒤의 첫 '}'까지를 태그로 봅니다.
+     */
+    static int hashTagEnd(String lockKey) {
+        if (!lockKey.startsWith("{")) {
+            return 0;
+        }
+        int close = lockKey.indexOf('}', 1);
+        return close > 1 ? close + 1 : 0;
+    }
+
+    /**
+     * MurmurHash3 x64 128비트 (seed 0)
+     */
+    static byte[] hash128(byte[] data) {
+        long h1 = 0;
+        long h2 = 0;
+        int blocks = data.length / 16;
+        ByteBuffer buffer = ByteBuffer.wrap(data).order(ByteOrder.LITTLE_ENDIAN);
+
+        for (int i = 0; i < blocks; i++) {
+            long k1 = buffer.getLong(i * 16);
+            long k2 = buffer.getLong(i * 16 + 8);
+
+            h1 ^= mixK1(k1);
+            h1 = Long.rotateLeft(h1, 27);
+            h1 += h2;
+            h1 = h1 * 5 + 0x52dce729;
+
+            h2 ^= mixK2(k2);
+            h2 = Long.rotateLeft(h2, 31);
+            h2 += h1;
+            h2 = h2 * 5 + 0x38495ab5;
+        }
+
+        long k1 = 0;
+        long k2 = 0;
+        int tail = blocks * 16;
+        int remaining = data.length - tail;
+        for (int i = remaining - 1; i >= 8; i--) {
+            k2 ^= (data[tail + i] & 0xFFL) << ((i - 8) * 8);
+        }
+        for (int i = Math.min(remaining, 8) - 1; i >= 0; i--) {
+            k1 ^= (data[tail + i] & 0xFFL) << (i * 8);
+        }
+        h1 ^= mixK1(k1);
+        h2 ^= mixK2(k2);
+
+        h1 ^= data.length;
+        h2 ^= data.length;
+        h1 += h2;
+        h2 += h1;
+        h1 = fmix(h1);
+        h2 = fmix(h2);
+        h1 += h2;
+        h2 += h1;
+
+        return ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN).putLong(h1).putLong(h2).array();
+    }
+
+    private static long mixK1(long k1) {
+        k1 *= C1;
+        k1 = Long.rotateLeft(k1, 31);
+        return k1 * C2;
+    }
+
+    private static long mixK2(long k2) {
+        k2 *= C2;
+        k2 = Long.rotateLeft(k2, 33);
+        return k2 * C1;
+    }
+
+    private static long fmix(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
@@ -0,0 +1,72 @@
+package com.cheatsheet.distributedlock;
+
+import io.lettuce.core.internal.HostAndPort;
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.resource.DnsResolvers;
+import io.lettuce.core.resource.MappingSocketAddressResolver;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Redis Cluster 대용 Testcontainers 설정
+ *
+ * 컨테이너 하나에서 redis-server 프로세스 3개를 클러스터 모드로 띄우고 슬롯을 나누어 배정합니다.
+ * 노드는 127.0.0.1:7000~7002로 자신을 알리므로, 클라이언트는 이 주소를 컨테이너의 매핑 포트로 바꿔 접속합니다.
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class RedisClusterTestConfiguration {
+
+    static final List<Integer> PORTS = List.of(7000, 7001, 7002);
+
+    private static final String STARTUP_SCRIPT = """
+            for port in 7000 7001 7002; do
+              redis-server --port $port --cluster-enabled yes --cluster-config-file nodes-$port.conf \
+                --save '' --appendonly no --daemonize yes
+            done
+            sleep 1
+            redis-cli --cluster create 127.0.0.1:7000 127.0.0.1:7001 127.0.0.1:7002 --cluster-replicas 0 --cluster-yes
+            until redis-cli -p 7000 cluster info | grep -q cluster_state:ok; do sleep 0.2; done
+            echo CLUSTER READY
+            tail -f /dev/null
+            """;
+
+    @Bean(destroyMethod = "stop")
+    GenericContainer<?> redisClusterContainer() {
+        GenericContainer<?> container = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+                .withExposedPorts(PORTS.toArray(Integer[]::new))
+                .withCommand("sh", "-c", STARTUP_SCRIPT)
+                .waitingFor(Wait.forLogMessage(".*CLUSTER READY.*", 1).withStartupTimeout(Duration.ofMinutes(2)));
+        container.start();
+        return container;
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    ClientResources clusterClientResources(GenericContainer<?> redisClusterContainer) {
+        // 노드가 알리는 내부 주소를 컨테이너의 매핑 포트로 변환
+        MappingSocketAddressResolver resolver = MappingSocketAddressResolver.create(DnsResolvers.UNRESOLVED,
+                hostAndPort -> PORTS.contains(hostAndPort.getPort())
+                        ? HostAndPort.of(redisClusterContainer.getHost(),
+                                redisClusterContainer.getMappedPort(hostAndPort.getPort()))
+                        : hostAndPort);
+        return ClientResources.builder().socketAddressResolver(resolver).build();
+    }
+
+    @Bean
+    LettuceConnectionFactory redisConnectionFactory(GenericContainer<?> redisClusterContainer,
+                                                    ClientResources clusterClientResources) {
+        RedisClusterConfiguration cluster = new RedisClusterConfiguration(List.of("127.0.0.1:7000"));
+        LettuceClientConfiguration client = LettuceClientConfiguration.builder()
+                .clientResources(clusterClientResources)
+                .build();
+        return new LettuceConnectionFactory(cluster, client);
+    }
+}
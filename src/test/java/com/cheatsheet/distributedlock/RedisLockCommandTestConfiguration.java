@@ -0,0 +1,29 @@
+package com.cheatsheet.distributedlock;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+
+import com.cheatsheet.distributedlock.service.LockConnectionMetrics;
+import com.cheatsheet.distributedlock.service.RedisLeaseWatchdog;
+import com.cheatsheet.distributedlock.service.RedisLockAcquirePipeline;
+import com.cheatsheet.distributedlock.service.RedisLockCommandExecutor;
+import com.cheatsheet.distributedlock.service.RedisLockConnections;
+import com.cheatsheet.distributedlock.service.RedisLockFunctions;
+import com.cheatsheet.distributedlock.service.RedisLockKeyLayout;
+
+/**
+ * 락 전용 연결, 명령 실행기와 임대 연장 워치독 빈 설정
+ * Redis 연결 설정(RedisTestConfiguration 또는 RedisClusterTestConfiguration)과 함께 사용
+ */
+@TestConfiguration(proxyBeanMethods = false)
+@Import({
+        LockConnectionMetrics.class,
+        RedisLockConnections.class,
+        RedisLockFunctions.class,
+        RedisLockAcquirePipeline.class,
+        RedisLockCommandExecutor.class,
+        RedisLockKeyLayout.class,
+        RedisLeaseWatchdog.class
+})
+public class RedisLockCommandTestConfiguration {
+}
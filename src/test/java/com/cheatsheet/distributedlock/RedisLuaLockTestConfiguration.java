@@ -0,0 +1,24 @@
+package com.cheatsheet.distributedlock;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+
+import com.cheatsheet.distributedlock.service.RedisLockReleaseCoalescer;
+import com.cheatsheet.distributedlock.service.RedisLockReleaseSubscriber;
+import com.cheatsheet.distributedlock.service.RedisLockTrackingCache;
+import com.cheatsheet.distributedlock.service.RedisLuaLockService;
+
+/**
+ * RedisLuaLockService와 의존 빈 설정
+ * Redis 연결 설정(RedisTestConfiguration 또는 RedisClusterTestConfiguration)과 함께 사용
+ */
+@TestConfiguration(proxyBeanMethods = false)
+@Import({
+        RedisLockCommandTestConfiguration.class,
+        RedisLockReleaseSubscriber.class,
+        RedisLockReleaseCoalescer.class,
+        RedisLockTrackingCache.class,
+        RedisLuaLockService.class
+})
+public class RedisLuaLockTestConfiguration {
+}
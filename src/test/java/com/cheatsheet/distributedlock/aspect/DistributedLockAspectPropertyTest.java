@@ -1,10 +1,17 @@
 package com.cheatsheet.distributedlock.aspect;
 
 import com.cheatsheet.distributedlock.annotation.DistributedLock;
+import com.cheatsheet.distributedlock.enums.LockMode;
 import com.cheatsheet.distributedlock.enums.LockType;
+import com.cheatsheet.distributedlock.enums.ReleaseMode;
 import com.cheatsheet.distributedlock.exception.LockAcquisitionException;
+import com.cheatsheet.distributedlock.model.LockHandle;
 import com.cheatsheet.distributedlock.service.DistributedLockService;
 import com.cheatsheet.distributedlock.service.LockRetryService;
+import com.cheatsheet.distributedlock.service.ReactiveDistributedLockService;
+import com.cheatsheet.distributedlock.service.ReadWriteLockService;
+import com.cheatsheet.distributedlock.service.SemaphoreLockService;
+import com.cheatsheet.distributedlock.util.LockKeyCompactor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.RepeatedTest;
@@ -14,10 +21,16 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
 import org.springframework.retry.annotation.EnableRetry;
+import org.springframework.retry.interceptor.RetryOperationsInterceptor;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.UUID;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -45,10 +58,22 @@ class DistributedLockAspectPropertyTest {
     @Autowired
     private DistributedLockService mockLockService;
     
+    @Autowired
+    private ReadWriteLockService mockReadWriteLockService;
+    
+    @Autowired
+    private SemaphoreLockService mockSemaphoreLockService;
+    
+    @Autowired
+    private ReactiveDistributedLockService mockReactiveLockService;
+    
     @BeforeEach
     void setUp() {
         // 각 테스트 전에 mock 초기화
         reset(mockLockService);
+        clearInvocations(mockReadWriteLockService, mockReadWriteLockService.readLock());
+        clearInvocations(mockSemaphoreLockService);
+        clearInvocations(mockReactiveLockService);
     }
     
     @RepeatedTest(100)
@@ -210,6 +235,153 @@ class DistributedLockAspectPropertyTest {
         verify(mockLockService, times(1)).releaseLock(eq(expectedLockKey));
     }
     
+    @RepeatedTest(100)
+    @DisplayName("Property 24: 락 모드 기반 서비스 선택 - READ 모드는 읽기 락 사용")
+    // Feature: distributed-lock-samples, Property 24: 락 모드 기반 서비스 선택
+    void readModeUsesReadLock() {
+        // Given: 랜덤 락 키
+        String lockKey = "test:" + UUID.randomUUID().toString().substring(0, 10);
+        DistributedLockService readLock = mockReadWriteLockService.readLock();
+        when(readLock.acquireLock(anyString(), anyInt())).thenReturn(true);
+        when(readLock.releaseLock(anyString())).thenReturn(true);
+        
+        // When: READ 모드로 메서드 호출
+        testService.methodWithReadLock(lockKey);
+        
+        // Then: 읽기 락으로 획득/해제하고 쓰기 락은 사용하지 않아야 함
+        verify(readLock, times(1)).acquireLock(eq(lockKey), anyInt());
+        verify(readLock, times(1)).releaseLock(eq(lockKey));
+        verify(mockReadWriteLockService, never()).acquireLock(anyString(), anyInt());
+    }
+    
+    @RepeatedTest(100)
+    @DisplayName("Property 24: 락 모드 기반 서비스 선택 - 읽기 락 미지원 타입은 예외 발생")
+    // Feature: distributed-lock-samples, Property 24: 락 모드 기반 서비스 선택
+    void readModeOnExclusiveOnlyTypeFails() {
+        // Given: 랜덤 락 키
+        String lockKey = "test:" + UUID.randomUUID().toString().substring(0, 10);
+        
+        // When & Then: REDIS_LUA 타입은 READ 모드를 지원하지 않음
+        assertThatThrownBy(() -> testService.methodWithUnsupportedReadLock(lockKey))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("READ mode");
+        verify(mockLockService, never()).acquireLock(anyString(), anyInt());
+    }
+    
+    @RepeatedTest(100)
+    @DisplayName("Property 25: 허용 개수 기반 서비스 선택 - permits > 1은 세마포어 사용")
+    // Feature: distributed-lock-samples, Property 25: 허용 개수 기반 서비스 선택
+    void permitsSelectSemaphore() {
+        // Given: 랜덤 락 키
+        String lockKey = "test:" + UUID.randomUUID().toString().substring(0, 10);
+        when(mockSemaphoreLockService.acquirePermit(anyString(), anyInt(), anyInt())).thenReturn(true);
+        when(mockSemaphoreLockService.releasePermit(anyString())).thenReturn(true);
+        
+        // When: permits = 8로 메서드 호출
+        testService.methodWithPermits(lockKey);
+        
+        // Then: 세마포어로 획득/반환하고 배타 락은 사용하지 않아야 함
+        verify(mockSemaphoreLockService, times(1)).acquirePermit(eq(lockKey), eq(8), anyInt());
+        verify(mockSemaphoreLockService, times(1)).releasePermit(eq(lockKey));
+        verify(mockLockService, never()).acquireLock(anyString(), anyInt());
+    }
+    
+    @RepeatedTest(100)
+    @DisplayName("Property 26: Reactive 락 - 구독 시 획득하고 완료 시 해제")
+    // Feature: distributed-lock-samples, Property 26: Reactive 락
+    void reactiveLockAcquiredOnSubscribe() {
+        // Given: 랜덤 락 키
+        String lockKey = "test:" + UUID.randomUUID().toString().substring(0, 10);
+        LockHandle handle = new LockHandle(lockKey, UUID.randomUUID().toString(), LockType.REDIS_LUA, Instant.now());
+        when(mockReactiveLockService.acquireLock(anyString(), anyInt())).thenReturn(Mono.just(handle));
+        when(mockReactiveLockService.releaseLock(any())).thenReturn(Mono.just(true));
+        
+        // When: Mono를 반환하는 메서드 호출 (아직 구독하지 않음)
+        Mono<String> result = testService.reactiveMethodWithLock(lockKey);
+        
+        // Then: 구독 전에는 락을 획득하지 않아야 함
+        verify(mockReactiveLockService, never()).acquireLock(anyString(), anyInt());
+        
+        // When: 구독
+        assertThat(result.block()).isEqualTo("success");
+        
+        // Then: 구독 시 획득하고 완료 후 같은 핸들로 해제, 블로킹 락 서비스는 사용하지 않아야 함
+        verify(mockReactiveLockService, times(1)).acquireLock(eq(lockKey), eq(10));
+        verify(mockReactiveLockService, times(1)).releaseLock(eq(handle));
+        verify(mockLockService, never()).acquireLock(anyString(), anyInt());
+    }
+    
+    @RepeatedTest(100)
+    @DisplayName("Property 26: Reactive 락 - 구독 취소 시 해제")
+    // Feature: distributed-lock-samples, Property 26: Reactive 락
+    void reactiveLockReleasedOnCancel() {
+        // Given: 랜덤 락 키
+        String lockKey = "test:" + UUID.randomUUID().toString().substring(0, 10);
+        LockHandle handle = new LockHandle(lockKey, UUID.randomUUID().toString(), LockType.REDIS_LUA, Instant.now());
+        when(mockReactiveLockService.acquireLock(anyString(), anyInt())).thenReturn(Mono.just(handle));
+        when(mockReactiveLockService.releaseLock(any())).thenReturn(Mono.just(true));
+        
+        // When: 끝나지 않는 Flux에서 일부만 받고 취소
+        assertThat(testService.reactiveStreamWithLock(lockKey).take(3).collectList().block()).hasSize(3);
+        
+        // Then: 취소 신호에서 락이 해제되어야 함
+        verify(mockReactiveLockService, times(1)).releaseLock(eq(handle));
+    }
+    
+    @RepeatedTest(100)
+    @DisplayName("Property 26: Reactive 락 - 획득 실패 시 원본 메서드를 호출하지 않음")
+    // Feature: distributed-lock-samples, Property 26: Reactive 락
+    void reactiveLockFailureSkipsMethod() {
+        // Given: 랜덤 락 키, 락 획득 실패
+        String lockKey = "test:" + UUID.randomUUID().toString().substring(0, 10);
+        when(mockReactiveLockService.acquireLock(anyString(), anyInt()))
+                .thenReturn(Mono.error(new LockAcquisitionException("Lock is already held: " + lockKey, lockKey)));
+        AtomicInteger invocations = new AtomicInteger(0);
+        
+        // When & Then: LockAcquisitionException이 발생하고 해제는 호출되지 않아야 함
+        assertThatThrownBy(() -> testService.reactiveMethodCounting(lockKey, invocations).block())
+                .isInstanceOf(LockAcquisitionException.class);
+        assertThat(invocations.get()).isZero();
+        verify(mockReactiveLockService, never()).releaseLock(any());
+    }
+    
+    @RepeatedTest(100)
+    @DisplayName("Property 27: 밀리초 타임아웃 - timeUnit이 밀리초이면 올림 없이 Duration으로 전달")
+    // Feature: distributed-lock-samples, Property 27: 밀리초 타임아웃
+    void millisecondTimeoutIsPassedAsDuration() {
+        // Given: 랜덤 락 키
+        String lockKey = "test:" + UUID.randomUUID().toString().substring(0, 10);
+        when(mockLockService.getSupportedType()).thenReturn(LockType.REDIS_LUA);
+        when(mockLockService.acquireLock(anyString(), any(Duration.class))).thenReturn(true);
+        when(mockLockService.releaseLock(anyString())).thenReturn(true);
+        
+        // When: timeout = 20, timeUnit = MILLISECONDS로 메서드 호출
+        assertThat(testService.methodWithMillisecondLease(lockKey)).isEqualTo("success");
+        
+        // Then: 20ms 만료 시간이 그대로 전달되고 초 단위 API는 사용하지 않아야 함
+        verify(mockLockService, times(1)).acquireLock(eq(lockKey), eq(Duration.ofMillis(20)));
+        verify(mockLockService, never()).acquireLock(anyString(), anyInt());
+        verify(mockLockService, times(1)).releaseLock(eq(lockKey));
+    }
+    
+    @RepeatedTest(100)
+    @DisplayName("Property 28: 비동기 해제 - releaseMode가 ASYNC이면 백그라운드 해제를 사용")
+    // Feature: distributed-lock-samples, Property 28: 비동기 해제
+    void asyncReleaseModeUsesBackgroundRelease() {
+        // Given: 랜덤 락 키
+        String lockKey = "test:" + UUID.randomUUID().toString().substring(0, 10);
+        when(mockLockService.getSupportedType()).thenReturn(LockType.REDIS_LUA);
+        when(mockLockService.acquireLock(anyString(), anyInt())).thenReturn(true);
+        when(mockLockService.releaseLockInBackground(anyString())).thenReturn(true);
+        
+        // When: releaseMode = ASYNC로 메서드 호출
+        assertThat(testService.methodWithAsyncRelease(lockKey)).isEqualTo("success");
+        
+        // Then: 백그라운드 해제만 한 번 호출되고 동기 해제는 사용하지 않아야 함
+        verify(mockLockService, times(1)).releaseLockInBackground(eq(lockKey));
+        verify(mockLockService, never()).releaseLock(anyString());
+    }
+    
     /**
      * 테스트용 서비스 클래스
      */
@@ -221,6 +393,16 @@ class DistributedLockAspectPropertyTest {
             return "success";
         }
         
+        @DistributedLock(key = "#lockKey", type = LockType.REDIS_LUA, timeout = 20, timeUnit = TimeUnit.MILLISECONDS)
+        public String methodWithMillisecondLease(String lockKey) {
+            return "success";
+        }
+        
+        @DistributedLock(key = "#lockKey", type = LockType.REDIS_LUA, timeout = 10, releaseMode = ReleaseMode.ASYNC)
+        public String methodWithAsyncRelease(String lockKey) {
+            return "success";
+        }
+        
         @DistributedLock(key = "#lockKey", type = LockType.MYSQL_SESSION, timeout = 10)
         public String methodWithMysqlLock(String lockKey) {
             return "success";
@@ -241,6 +423,21 @@ class DistributedLockAspectPropertyTest {
             return "success";
         }
         
+        @DistributedLock(key = "#lockKey", type = LockType.REDIS_READ_WRITE, mode = LockMode.READ, timeout = 10)
+        public String methodWithReadLock(String lockKey) {
+            return "success";
+        }
+        
+        @DistributedLock(key = "#lockKey", type = LockType.REDIS_LUA, permits = 8, timeout = 10)
+        public String methodWithPermits(String lockKey) {
+            return "success";
+        }
+        
+        @DistributedLock(key = "#lockKey", type = LockType.REDIS_LUA, mode = LockMode.READ, timeout = 10)
+        public String methodWithUnsupportedReadLock(String lockKey) {
+            return "success";
+        }
+        
         @DistributedLock(key = "#lockKey", type = LockType.REDIS_LUA, timeout = 10)
         public String methodThatThrowsException(String lockKey) {
             throw new RuntimeException("Test exception");
@@ -261,6 +458,22 @@ class DistributedLockAspectPropertyTest {
         public String methodWithSpelKey(String productId) {
             return "success";
         }
+        
+        @DistributedLock(key = "#lockKey", type = LockType.REDIS_LUA, timeout = 10)
+        public Mono<String> reactiveMethodWithLock(String lockKey) {
+            return Mono.just("success");
+        }
+        
+        @DistributedLock(key = "#lockKey", type = LockType.REDIS_LUA, timeout = 10)
+        public Flux<Integer> reactiveStreamWithLock(String lockKey) {
+            return Flux.range(1, Integer.MAX_VALUE);
+        }
+        
+        @DistributedLock(key = "#lockKey", type = LockType.REDIS_LUA, timeout = 10)
+        public Mono<String> reactiveMethodCounting(String lockKey, AtomicInteger invocations) {
+            invocations.incrementAndGet();
+            return Mono.just("success");
+        }
     }
     
     /**
@@ -279,16 +492,54 @@ class DistributedLockAspectPropertyTest {
             return mock;
         }
         
+        @Bean
+        public ReadWriteLockService mockReadWriteLockService() {
+            ReadWriteLockService mock = mock(ReadWriteLockService.class);
+            DistributedLockService readLock = mock(DistributedLockService.class);
+            when(mock.getSupportedType()).thenReturn(LockType.REDIS_READ_WRITE);
+            when(mock.isThreadBound()).thenReturn(true);
+            when(mock.readLock()).thenReturn(readLock);
+            return mock;
+        }
+        
+        @Bean
+        public SemaphoreLockService mockSemaphoreLockService() {
+            SemaphoreLockService mock = mock(SemaphoreLockService.class);
+            when(mock.getSupportedType()).thenReturn(LockType.REDIS_LUA);
+            when(mock.withPermits(anyInt())).thenCallRealMethod();
+            return mock;
+        }
+        
+        @Bean
+        public ReactiveDistributedLockService mockReactiveLockService() {
+            ReactiveDistributedLockService mock = mock(ReactiveDistributedLockService.class);
+            when(mock.getSupportedType()).thenReturn(LockType.REDIS_LUA);
+            return mock;
+        }
+        
         @Bean
         public LockRetryService lockRetryService() {
             return new LockRetryService();
         }
         
+        @Bean(name = LockRetryService.INTERCEPTOR)
+        public RetryOperationsInterceptor lockRetryInterceptor() {
+            return LockRetryService.interceptor(4, 100, 20, 1000);
+        }
+        
         @Bean
         public DistributedLockAspect distributedLockAspect(
                 DistributedLockService mockLockService,
+                ReadWriteLockService mockReadWriteLockService,
+                SemaphoreLockService mockSemaphoreLockService,
+                ReactiveDistributedLockService mockReactiveLockService,
                 LockRetryService lockRetryService) {
-            return new DistributedLockAspect(java.util.List.of(mockLockService), lockRetryService);
+            return new DistributedLockAspect(
+                    java.util.List.of(mockLockService, mockReadWriteLockService),
+                    java.util.List.of(mockSemaphoreLockService),
+                    java.util.List.of(mockReactiveLockService),
+                    lockRetryService,
+                    LockKeyCompactor.disabled());
         }
  
     }
@@ -22,6 +22,7 @@ import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * InventoryService 사용 예제 테스트
@@ -237,6 +238,43 @@ class InventoryServiceExampleTest {
         assertThat(finalStock).isEqualTo(initialStock - (successCount.get() * decreaseAmount));
     }
     
+    @Test
+    @DisplayName("펜싱 토큰으로 이전 보유자의 쓰기를 거부하는 예제")
+    void exampleFencingToken() {
+        // Given: 상품 재고 초기화, 만료된 이전 보유자(토큰 1)와 새 보유자(토큰 2)
+        String productId = "PROD-FENCE";
+        inventoryService.initializeStock(productId, 100);
+        
+        // When: 새 보유자가 먼저 쓰기를 반영
+        int remainingStock = inventoryService.decreaseStockWithFencingToken(productId, 10, 2);
+        
+        // Then: 이전 보유자의 늦은 쓰기는 거부되고 재고는 그대로 유지
+        assertThat(remainingStock).isEqualTo(90);
+        assertThatThrownBy(() -> inventoryService.decreaseStockWithFencingToken(productId, 10, 1))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Stale fencing token");
+        assertThat(inventoryService.getStock(productId)).isEqualTo(90);
+        
+        System.out.println("✓ 펜싱 토큰 예제 완료: 오래된 토큰(1)의 쓰기 거부");
+    }
+    
+    @Test
+    @DisplayName("밀리초 만료 시간을 사용한 재고 감소 예제")
+    void exampleShortLease() {
+        // Given: 상품 재고 초기화
+        String productId = "PROD-SHORT-LEASE";
+        inventoryService.initializeStock(productId, 100);
+        
+        // When: 200ms 만료 시간의 락으로 재고 감소
+        int remainingStock = inventoryService.decreaseStockWithShortLease(productId, 10);
+        
+        // Then: 재고가 정상적으로 감소
+        assertThat(remainingStock).isEqualTo(90);
+        assertThat(inventoryService.getStock(productId)).isEqualTo(90);
+        
+        System.out.println("✓ 밀리초 만료 시간 예제 완료: 재고 100 -> 90");
+    }
+    
     @Test
     @DisplayName("다양한 락 타입 비교 예제")
     void exampleCompareDifferentLockTypes() {
@@ -0,0 +1,109 @@
+package com.cheatsheet.distributedlock.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.cheatsheet.distributedlock.enums.LockType;
+import com.cheatsheet.distributedlock.exception.LockAcquisitionException;
+import com.cheatsheet.distributedlock.model.LockHandle;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 전용 Executor 비동기 어댑터 JUnit 5 테스트
+ */
+@DisplayName("전용 Executor 비동기 어댑터 테스트")
+class ExecutorAsyncLockServiceTest {
+
+    private DistributedLockService delegate;
+    private ExecutorService executor;
+    private ExecutorAsyncLockService lockService;
+    private String testKey;
+
+    @BeforeEach
+    void setUp() {
+        delegate = mock(DistributedLockService.class);
+        when(delegate.getSupportedType()).thenReturn(LockType.MYSQL_SESSION);
+        executor = Executors.newSingleThreadExecutor(Thread.ofPlatform().name("jdbc-lock-test").factory());
+        lockService = new ExecutorAsyncLockService(delegate, executor);
+        testKey = "test:async-executor:" + UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Nested
+    @DisplayName("획득/해제 테스트")
+    class AcquireReleaseTests {
+
+        @Test
+        @DisplayName("블로킹 획득은 호출 스레드가 아닌 전용 Executor에서 실행됨")
+        void acquireRunsOnDedicatedExecutor() throws Exception {
+            AtomicReference<String> acquiringThread = new AtomicReference<>();
+            when(delegate.acquireLock(anyString(), anyInt())).thenAnswer(invocation -> {
+                acquiringThread.set(Thread.currentThread().getName());
+                return true;
+            });
+
+            LockHandle handle = lockService.acquireLockAsync(testKey, 10).get(5, TimeUnit.SECONDS);
+
+            assertThat(acquiringThread.get()).isEqualTo("jdbc-lock-test");
+            assertThat(handle.getLockKey()).isEqualTo(testKey);
+            assertThat(handle.getLockType()).isEqualTo(LockType.MYSQL_SESSION);
+        }
+
+        @Test
+        @DisplayName("획득 실패는 LockAcquisitionException으로 완료됨")
+        void failedAcquireCompletesExceptionally() {
+            when(delegate.tryAcquireLock(anyString(), anyInt(), anyLong())).thenReturn(false);
+
+            CompletableFuture<LockHandle> future = lockService.tryAcquireLockAsync(testKey, 10, 100);
+
+            assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(LockAcquisitionException.class);
+        }
+
+        @Test
+        @DisplayName("핸들로 해제하면 위임 서비스의 해제가 호출됨")
+        void releaseDelegatesWithHandleKey() throws Exception {
+            when(delegate.acquireLock(anyString(), anyInt())).thenReturn(true);
+            when(delegate.releaseLock(testKey)).thenReturn(true);
+
+            LockHandle handle = lockService.acquireLockAsync(testKey, 10).get(5, TimeUnit.SECONDS);
+
+            assertThat(lockService.releaseLockAsync(handle).get(5, TimeUnit.SECONDS)).isTrue();
+            verify(delegate).releaseLock(testKey);
+        }
+    }
+
+    @Test
+    @DisplayName("스레드에 묶인 락 서비스는 감쌀 수 없음")
+    void threadBoundServiceIsRejected() {
+        DistributedLockService threadBound = mock(DistributedLockService.class);
+        when(threadBound.isThreadBound()).thenReturn(true);
+
+        assertThatThrownBy(() -> new ExecutorAsyncLockService(threadBound, executor))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
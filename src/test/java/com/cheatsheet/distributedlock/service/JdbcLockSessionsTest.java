@@ -0,0 +1,256 @@
+package com.cheatsheet.distributedlock.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 세션 락 커넥션 고정 JUnit 5 단위 테스트 (MySQL GET_LOCK/RELEASE_LOCK 문장 사용)
+ *
+ * 모의 DataSource가 빌려준 커넥션별로 GET_LOCK/RELEASE_LOCK이 어디서 실행되었는지,
+ * 커넥션이 언제 풀에 반납(close)되는지 검증합니다.
+ */
+@DisplayName("세션 락 커넥션 고정 테스트")
+class JdbcLockSessionsTest {
+
+    private static final BigDecimal TIMEOUT = BigDecimal.ONE;
+
+    private DataSource dataSource;
+    private Connection first;
+    private Connection second;
+    private JdbcLockSessions sessions;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        dataSource = mock(DataSource.class);
+        first = connectionReturning(1);
+        second = connectionReturning(1);
+        when(dataSource.getConnection()).thenReturn(first, second);
+        sessions = new JdbcLockSessions(dataSource);
+    }
+
+    @Nested
+    @DisplayName("커넥션 고정")
+    class PinningTests {
+
+        @Test
+        @DisplayName("해제는 획득한 커넥션에서 실행되고, 그 뒤에 커넥션이 반납됨")
+        void releasesOnAcquiringConnection() throws SQLException {
+            assertThat(acquire("a")).isEqualTo(1);
+            assertThat(sessions.pinnedConnectionCount()).isEqualTo(1);
+            verify(first, never()).close();
+
+            assertThat(release("a")).isEqualTo(1);
+
+            verify(first).prepareStatement("SELECT RELEASE_LOCK(?)");
+            verify(first).close();
+            assertThat(sessions.pinnedConnectionCount()).isZero();
+            assertThat(sessions.heldLockCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("다른 스레드에서 해제해도 획득한 커넥션에서 실행됨")
+        void releasesFromOtherThread() throws Exception {
+            assertThat(acquire("a")).isEqualTo(1);
+
+            Integer result = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return release("a");
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            }).get(5, TimeUnit.SECONDS);
+
+            assertThat(result).isEqualTo(1);
+            verify(first).prepareStatement("SELECT RELEASE_LOCK(?)");
+            verify(second, never()).prepareStatement(anyString());
+            verify(first).close();
+        }
+
+        @Test
+        @DisplayName("한 스레드가 잡은 여러 락도 락마다 다른 커넥션에 고정됨")
+        void eachLockPinsOwnConnection() throws SQLException {
+            acquire("a");
+            acquire("b");
+
+            assertThat(sessions.pinnedConnectionCount()).isEqualTo(2);
+            assertThat(sessions.heldLockCount()).isEqualTo(2);
+
+            release("a");
+            verify(first).close();
+            verify(second, never()).close();
+
+            release("b");
+            verify(second).prepareStatement("SELECT RELEASE_LOCK(?)");
+            verify(second).close();
+        }
+
+        @Test
+        @DisplayName("넘겨받은 락을 해제하는 동안에도 원래 스레드의 다음 획득은 다른 커넥션을 사용함")
+        void handedOffLockDoesNotShareConnection() throws Exception {
+            acquire("a");
+
+            CompletableFuture.runAsync(() -> {
+                try {
+                    release("a");
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            }).get(5, TimeUnit.SECONDS);
+            acquire("a");
+
+            verify(first).prepareStatement("SELECT RELEASE_LOCK(?)");
+            verify(second).prepareStatement("SELECT GET_LOCK(?, ?)");
+            assertThat(sessions.heldLockCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("같은 키의 해제가 두 번 들어와도 한 번만 실행됨")
+        void releasesOnce() throws SQLException {
+            acquire("a");
+
+            assertThat(release("a")).isEqualTo(1);
+            assertThat(release("a")).isNull();
+
+            verify(first).close();
+        }
+    }
+
+    @Nested
+    @DisplayName("반납과 제거")
+    class ReturnTests {
+
+        @Test
+        @DisplayName("획득에 실패하면 락이 없는 커넥션을 바로 반납함")
+        void returnsConnectionOnTimeout() throws SQLException {
+            Connection timingOut = connectionReturning(0);
+            when(dataSource.getConnection()).thenReturn(timingOut);
+
+            assertThat(acquire("a")).isZero();
+
+            verify(timingOut).close();
+            assertThat(sessions.pinnedConnectionCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("보유하지 않은 락은 커넥션을 빌리지 않고 null을 반환함")
+        void unknownKeyIsNotReleased() throws SQLException {
+            assertThat(release("unknown")).isNull();
+
+            verify(dataSource, never()).getConnection();
+        }
+
+        @Test
+        @DisplayName("해제 중 오류가 난 커넥션은 반납하지 않고 버리며 다른 락의 커넥션에는 영향이 없음")
+        void evictsBrokenConnection() throws SQLException {
+            acquire("a");
+            acquire("b");
+            when(first.prepareStatement("SELECT RELEASE_LOCK(?)")).thenThrow(new SQLException("connection reset"));
+
+            assertThatThrownBy(() -> release("a")).isInstanceOf(SQLException.class);
+
+            verify(first).close();
+            assertThat(sessions.pinnedConnectionCount()).isEqualTo(1);
+            assertThat(sessions.heldLockCount()).isEqualTo(1);
+            assertThat(release("a")).isNull();
+            assertThat(release("b")).isEqualTo(1);
+            verify(second).close();
+        }
+    }
+
+    @Nested
+    @DisplayName("풀 대기")
+    class PoolWaitTests {
+
+        @Test
+        @DisplayName("풀이 가득 차 커넥션을 빌리지 못하면 대기 시간이 남은 동안 다시 빌림")
+        void retriesWithinWaitBudget() throws SQLException {
+            when(dataSource.getConnection())
+                    .thenThrow(new SQLTransientConnectionException("mysql-lock - Connection is not available"))
+                    .thenReturn(first);
+
+            assertThat(acquire("a", 10_000)).isEqualTo(1);
+
+            verify(dataSource, times(2)).getConnection();
+            assertThat(sessions.pinnedConnectionCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("대기 시간이 없으면 한 번만 빌려 보고 실패함")
+        void failsWithoutWaitBudget() throws SQLException {
+            when(dataSource.getConnection())
+                    .thenThrow(new SQLTransientConnectionException("mysql-lock - Connection is not available"))
+                    .thenReturn(first);
+
+            assertThatThrownBy(() -> acquire("a")).isInstanceOf(SQLTransientConnectionException.class);
+
+            verify(dataSource, times(1)).getConnection();
+            assertThat(sessions.pinnedConnectionCount()).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("고정 커넥션 수와 보유 락 수를 게이지로 노출함")
+    void exposesGauges() throws SQLException {
+        LockConnectionMetrics metrics = new LockConnectionMetrics();
+        metrics.gauge("mysql-lock.pinned-connections", sessions::pinnedConnectionCount);
+        metrics.gauge("mysql-lock.held-locks", sessions::heldLockCount);
+
+        acquire("a");
+        acquire("b");
+
+        assertThat(metrics.gaugeValue("mysql-lock.pinned-connections")).isEqualTo(2);
+        assertThat(metrics.gaugeValue("mysql-lock.held-locks")).isEqualTo(2);
+        assertThat(metrics.snapshot()).containsEntry("mysql-lock.held-locks", "2");
+        assertThat(metrics.gaugeValue("unknown")).isNull();
+    }
+
+    private Integer acquire(String lockKey) throws SQLException {
+        return acquire(lockKey, 0);
+    }
+
+    private Integer acquire(String lockKey, long waitMillis) throws SQLException {
+        return sessions.acquire(lockKey, waitMillis,
+                connection -> JdbcLockSessions.queryForObject(connection, Integer.class,
+                        "SELECT GET_LOCK(?, ?)", lockKey, TIMEOUT),
+                value -> value != null && value == 1);
+    }
+
+    private Integer release(String lockKey) throws SQLException {
+        return sessions.release(lockKey,
+                connection -> JdbcLockSessions.queryForObject(connection, Integer.class,
+                        "SELECT RELEASE_LOCK(?)", lockKey));
+    }
+
+    private static Connection connectionReturning(int value) throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getInt(1)).thenReturn(value);
+        return connection;
+    }
+}
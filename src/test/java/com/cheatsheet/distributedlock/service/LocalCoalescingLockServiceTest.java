@@ -0,0 +1,325 @@
+package com.cheatsheet.distributedlock.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import com.cheatsheet.distributedlock.enums.LockType;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JVM 내부 대기자 병합 데코레이터 JUnit 5 테스트
+ *
+ * 원격 저장소 대신 호출 횟수를 세는 인메모리 락 서비스를 사용합니다.
+ */
+@DisplayName("JVM 내부 대기자 병합 데코레이터 테스트")
+class LocalCoalescingLockServiceTest {
+
+    private CountingLockService remote;
+    private LocalCoalescingLockService lockService;
+    private String testKey;
+
+    @BeforeEach
+    void setUp() {
+        remote = new CountingLockService();
+        lockService = new LocalCoalescingLockService(remote);
+        testKey = "test:coalescing:" + UUID.randomUUID();
+    }
+
+    @Nested
+    @DisplayName("원격 호출 병합 테스트")
+    class CoalescingTests {
+
+        @Test
+        @DisplayName("같은 키를 기다리는 로컬 스레드들은 원격 락을 한 번만 획득하고 한 번만 해제함")
+        void localWaitersShareSingleRemoteAcquisition() throws InterruptedException {
+            int threadCount = 20;
+            AtomicInteger successCount = new AtomicInteger(0);
+            AtomicInteger concurrentHolders = new AtomicInteger(0);
+            AtomicInteger maxConcurrentHolders = new AtomicInteger(0);
+            CountDownLatch startLatch = new CountDownLatch(1);
+            CountDownLatch doneLatch = new CountDownLatch(threadCount);
+            ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+            for (int i = 0; i < threadCount; i++) {
+                executorService.submit(() -> {
+                    try {
+                        startLatch.await();
+                        if (lockService.tryAcquireLock(testKey, 30, 5000)) {
+                            int holders = concurrentHolders.incrementAndGet();
+                            maxConcurrentHolders.accumulateAndGet(holders, Math::max);
+                            Thread.sleep(20);
+                            concurrentHolders.decrementAndGet();
+                            successCount.incrementAndGet();
+                            lockService.releaseLock(testKey);
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        doneLatch.countDown();
+                    }
+                });
+            }
+
+            startLatch.countDown();
+            doneLatch.await(10, TimeUnit.SECONDS);
+            executorService.shutdown();
+
+            assertThat(successCount.get()).isEqualTo(threadCount);
+            assertThat(maxConcurrentHolders.get()).isEqualTo(1);
+            assertThat(remote.acquireCount.get()).isEqualTo(1);
+            assertThat(remote.releaseCount.get()).isEqualTo(1);
+            assertThat(remote.isHeld(testKey)).isFalse();
+        }
+
+        @Test
+        @DisplayName("로컬 대기자는 FIFO 순서로 락을 넘겨받음")
+        void localWaitersAreServedInFifoOrder() throws InterruptedException {
+            List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+            assertThat(lockService.acquireLock(testKey, 30)).isTrue();
+
+            List<Thread> threads = new ArrayList<>();
+            for (int i = 0; i < 5; i++) {
+                int index = i;
+                Thread thread = new Thread(() -> {
+                    if (lockService.tryAcquireLock(testKey, 30, 5000)) {
+                        order.add(index);
+                        lockService.releaseLock(testKey);
+                    }
+                });
+                threads.add(thread);
+                thread.start();
+                // 큐에 들어간 뒤 다음 스레드 시작
+                while (thread.getState() != Thread.State.TIMED_WAITING) {
+                    Thread.onSpinWait();
+                }
+            }
+
+            lockService.releaseLock(testKey);
+            for (Thread thread : threads) {
+                thread.join(5000);
+            }
+
+            assertThat(order).containsExactly(0, 1, 2, 3, 4);
+        }
+
+        @Test
+        @DisplayName("대기 시간이 없으면 로컬 보유자가 있을 때 원격 호출 없이 실패")
+        void failsLocallyWithoutWaitTime() throws InterruptedException {
+            assertThat(lockService.acquireLock(testKey, 30)).isTrue();
+
+            AtomicInteger otherResult = new AtomicInteger(-1);
+            Thread other = new Thread(() -> otherResult.set(lockService.acquireLock(testKey, 30) ? 1 : 0));
+            other.start();
+            other.join(5000);
+
+            assertThat(otherResult.get()).isZero();
+            assertThat(remote.acquireCount.get()).isEqualTo(1);
+            assertThat(lockService.releaseLock(testKey)).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("원격 해제 테스트")
+    class RemoteReleaseTests {
+
+        @Test
+        @DisplayName("대기자가 없으면 원격 락을 즉시 해제함")
+        void releasesRemotelyWithoutWaiters() {
+            assertThat(lockService.acquireLock(testKey, 30)).isTrue();
+            assertThat(lockService.releaseLock(testKey)).isTrue();
+
+            assertThat(remote.releaseCount.get()).isEqualTo(1);
+            assertThat(remote.isHeld(testKey)).isFalse();
+        }
+
+        @Test
+        @DisplayName("만료 시간 정보가 없으면 넘기지 않고 대기자가 원격에서 다시 획득함")
+        void doesNotHandOffWithoutKnownLease() throws InterruptedException {
+            assertThat(lockService.acquireLock(testKey, 0)).isTrue();
+
+            AtomicInteger otherResult = new AtomicInteger(-1);
+            Thread other = new Thread(() -> {
+                boolean acquired = lockService.tryAcquireLock(testKey, 0, 5000);
+                otherResult.set(acquired ? 1 : 0);
+                if (acquired) {
+                    lockService.releaseLock(testKey);
+                }
+            });
+            other.start();
+            while (other.getState() != Thread.State.TIMED_WAITING) {
+                Thread.onSpinWait();
+            }
+
+            lockService.releaseLock(testKey);
+            other.join(5000);
+
+            assertThat(otherResult.get()).isEqualTo(1);
+            assertThat(remote.acquireCount.get()).isEqualTo(2);
+            assertThat(remote.releaseCount.get()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("백그라운드 해제는 대기자가 없으면 원격 구현체의 백그라운드 해제로 넘김")
+        void backgroundReleaseIsDelegated() {
+            assertThat(lockService.acquireLock(testKey, 30)).isTrue();
+            assertThat(lockService.releaseLockInBackground(testKey)).isTrue();
+
+            assertThat(remote.backgroundReleaseCount.get()).isEqualTo(1);
+            assertThat(remote.releaseCount.get()).isZero();
+            assertThat(lockService.acquireLock(testKey, 30)).isTrue();
+        }
+
+        @Test
+        @DisplayName("백그라운드 해제도 로컬 대기자가 있으면 원격 호출 없이 넘김")
+        void backgroundReleaseHandsOffLocally() throws InterruptedException {
+            assertThat(lockService.acquireLock(testKey, 30)).isTrue();
+
+            AtomicInteger otherResult = new AtomicInteger(-1);
+            Thread other = new Thread(() -> {
+                boolean acquired = lockService.tryAcquireLock(testKey, 30, 5000);
+                otherResult.set(acquired ? 1 : 0);
+                if (acquired) {
+                    lockService.releaseLockInBackground(testKey);
+                }
+            });
+            other.start();
+            while (other.getState() != Thread.State.TIMED_WAITING) {
+                Thread.onSpinWait();
+            }
+
+            lockService.releaseLockInBackground(testKey);
+            other.join(5000);
+
+            assertThat(otherResult.get()).isEqualTo(1);
+            assertThat(remote.acquireCount.get()).isEqualTo(1);
+            assertThat(remote.backgroundReleaseCount.get()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("원격 획득 실패 시 로컬 소유권을 비워 다음 시도가 가능함")
+        void remoteFailureFreesLocalOwnership() {
+            remote.heldKeys.add(testKey);
+
+            assertThat(lockService.acquireLock(testKey, 30)).isFalse();
+
+            remote.heldKeys.remove(testKey);
+            assertThat(lockService.acquireLock(testKey, 30)).isTrue();
+            assertThat(lockService.releaseLock(testKey)).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("중첩 획득 테스트")
+    class NestedAcquisitionTests {
+
+        @Test
+        @DisplayName("보유 스레드의 중첩 획득은 원격 구현체에 그대로 위임됨")
+        void nestedAcquisitionIsDelegated() {
+            assertThat(lockService.acquireLock(testKey, 30)).isTrue();
+
+            // CountingLockService는 재진입을 지원하지 않으므로 실패해야 함 (대기로 교착되지 않음)
+            assertThat(lockService.tryAcquireLock(testKey, 30, 100)).isFalse();
+            assertThat(remote.acquireCount.get()).isEqualTo(2);
+            assertThat(lockService.releaseLock(testKey)).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("밀리초 타임아웃 테스트")
+    class MillisecondTimeoutTests {
+
+        @Test
+        @DisplayName("밀리초 타임아웃은 올림 없이 원격 구현체의 Duration API로 전달됨")
+        void subSecondTimeoutIsDelegatedAsDuration() {
+            assertThat(lockService.acquireLock(testKey, Duration.ofMillis(20))).isTrue();
+
+            assertThat(remote.lastTimeout).isEqualTo(Duration.ofMillis(20));
+            assertThat(remote.durationAcquireCount.get()).isEqualTo(1);
+            assertThat(lockService.releaseLock(testKey)).isTrue();
+        }
+
+        @Test
+        @DisplayName("초 단위로 나누어떨어지는 타임아웃은 초 단위 API로 전달됨")
+        void wholeSecondTimeoutIsDelegatedAsSeconds() {
+            assertThat(lockService.acquireLock(testKey, Duration.ofSeconds(3))).isTrue();
+
+            assertThat(remote.lastTimeout).isEqualTo(Duration.ofSeconds(3));
+            assertThat(remote.durationAcquireCount.get()).isZero();
+            assertThat(lockService.releaseLock(testKey)).isTrue();
+        }
+
+        @Test
+        @DisplayName("Duration API를 재정의하지 않은 구현체는 초 단위로 올림됨")
+        void defaultDurationApiRoundsUpToSeconds() {
+            assertThat(DistributedLockService.toTimeoutSeconds(Duration.ofMillis(5))).isEqualTo(1);
+            assertThat(DistributedLockService.toTimeoutSeconds(Duration.ofMillis(1500))).isEqualTo(2);
+            assertThat(DistributedLockService.toTimeoutSeconds(Duration.ofSeconds(10))).isEqualTo(10);
+            assertThat(DistributedLockService.toTimeoutSeconds(Duration.ZERO)).isZero();
+        }
+    }
+
+    /**
+     * 원격 호출 횟수를 세는 인메모리 락 서비스
+     */
+    static class CountingLockService implements DistributedLockService {
+
+        private final Set<String> heldKeys = ConcurrentHashMap.newKeySet();
+        private final AtomicInteger acquireCount = new AtomicInteger(0);
+        private final AtomicInteger releaseCount = new AtomicInteger(0);
+        private final AtomicInteger backgroundReleaseCount = new AtomicInteger(0);
+        private final AtomicInteger durationAcquireCount = new AtomicInteger(0);
+        private volatile Duration lastTimeout;
+
+        @Override
+        public boolean acquireLock(String lockKey, int timeoutSeconds) {
+            acquireCount.incrementAndGet();
+            lastTimeout = Duration.ofSeconds(timeoutSeconds);
+            return heldKeys.add(lockKey);
+        }
+
+        @Override
+        public boolean acquireLock(String lockKey, Duration timeout) {
+            acquireCount.incrementAndGet();
+            durationAcquireCount.incrementAndGet();
+            lastTimeout = timeout;
+            return heldKeys.add(lockKey);
+        }
+
+        @Override
+        public boolean releaseLock(String lockKey) {
+            releaseCount.incrementAndGet();
+            return heldKeys.remove(lockKey);
+        }
+
+        @Override
+        public boolean releaseLockInBackground(String lockKey) {
+            backgroundReleaseCount.incrementAndGet();
+            return heldKeys.remove(lockKey);
+        }
+
+        @Override
+        public LockType getSupportedType() {
+            return LockType.REDIS_LUA;
+        }
+
+        boolean isHeld(String lockKey) {
+            return heldKeys.contains(lockKey);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.cheatsheet.distributedlock.service;
+
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.PoolStats;
+import io.lettuce.core.RedisCredentials;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.protocol.CommandType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 락 전용 연결 지표와 전용 Redis 클라이언트 설정 JUnit 5 단위 테스트
+ */
+@DisplayName("락 전용 연결 지표 테스트")
+class LockConnectionMetricsTest {
+
+    @Nested
+    @DisplayName("지연 시간 집계")
+    class LatencyTests {
+
+        @Test
+        @DisplayName("Redis 명령 완료 지연 시간을 명령 종류별로 기록함")
+        void recordsRedisCommands() {
+            LockConnectionMetrics metrics = new LockConnectionMetrics();
+
+            metrics.redisRecorder().recordCommandLatency(null, null, CommandType.FCALL,
+                    TimeUnit.MICROSECONDS.toNanos(100), TimeUnit.MICROSECONDS.toNanos(300));
+            metrics.redisRecorder().recordCommandLatency(null, null, CommandType.FCALL,
+                    TimeUnit.MICROSECONDS.toNanos(100), TimeUnit.MICROSECONDS.toNanos(100));
+
+            LockConnectionMetrics.Latency fcall = metrics.latency("redis.FCALL");
+            assertThat(fcall.count()).isEqualTo(2);
+            assertThat(fcall.meanMicros()).isEqualTo(200);
+            assertThat(fcall.maxMicros()).isEqualTo(300);
+            assertThat(metrics.snapshot()).containsEntry("redis.FCALL", "count=2, mean=200us, max=300us");
+        }
+
+        @Test
+        @DisplayName("Hikari 풀의 커넥션 대기/사용 시간과 대기 초과 횟수를 풀 이름별로 기록함")
+        void recordsHikariPool() {
+            LockConnectionMetrics metrics = new LockConnectionMetrics();
+            PoolStats stats = new PoolStats(0) {
+                @Override
+                protected void update() {
+                    this.maxConnections = 8;
+                    this.activeConnections = 1;
+                }
+            };
+
+            try (IMetricsTracker tracker = metrics.create("mysql-lock", stats)) {
+                tracker.recordConnectionAcquiredNanos(TimeUnit.MILLISECONDS.toNanos(2));
+                tracker.recordConnectionUsageMillis(5);
+                tracker.recordConnectionTimeout();
+
+                assertThat(metrics.latency("mysql-lock.acquire").maxMicros()).isEqualTo(2000);
+                assertThat(metrics.latency("mysql-lock.usage").meanMicros()).isEqualTo(5000);
+                assertThat(metrics.latency("mysql-lock.timeout").count()).isEqualTo(1);
+                assertThat(metrics.poolStats("mysql-lock")).isSameAs(stats);
+                assertThat(metrics.snapshot().get("mysql-lock.pool")).contains("active=1", "total=0/8");
+            }
+            assertThat(metrics.poolStats("mysql-lock")).isNull();
+        }
+    }
+
+    @Nested
+    @DisplayName("전용 Redis 클라이언트 접속 정보")
+    class RedisUriTests {
+
+        @Test
+        @DisplayName("단독 Redis 설정의 호스트, 데이터베이스, 인증, 타임아웃을 그대로 사용함")
+        void standalone() {
+            RedisStandaloneConfiguration standalone = new RedisStandaloneConfiguration("redis.internal", 6380);
+            standalone.setDatabase(2);
+            standalone.setUsername("locker");
+            standalone.setPassword("secret");
+            LettuceClientConfiguration client = LettuceClientConfiguration.builder()
+                    .commandTimeout(Duration.ofMillis(500))
+                    .build();
+
+            RedisURI uri = RedisLockConnections.standaloneUri(standalone, client);
+
+            assertThat(uri.getHost()).isEqualTo("redis.internal");
+            assertThat(uri.getPort()).isEqualTo(6380);
+            assertThat(uri.getDatabase()).isEqualTo(2);
+            RedisCredentials credentials = uri.getCredentialsProvider().resolveCredentials().block();
+            assertThat(credentials.getUsername()).isEqualTo("locker");
+            assertThat(credentials.getPassword()).isEqualTo("secret".toCharArray());
+            assertThat(uri.getTimeout()).isEqualTo(Duration.ofMillis(500));
+            assertThat(uri.isSsl()).isFalse();
+        }
+
+        @Test
+        @DisplayName("클러스터 설정의 모든 시드 노드로 접속 정보를 만듦")
+        void cluster() {
+            RedisClusterConfiguration cluster = new RedisClusterConfiguration(List.of("127.0.0.1:7000", "127.0.0.1:7001"));
+
+            List<RedisURI> uris = RedisLockConnections.clusterUris(cluster, LettuceClientConfiguration.defaultConfiguration());
+
+            assertThat(uris).extracting(RedisURI::getPort).containsExactlyInAnyOrder(7000, 7001);
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.cheatsheet.distributedlock.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.retry.backoff.BackOffContext;
+import org.springframework.retry.context.RetryContextSupport;
+
+import com.cheatsheet.distributedlock.exception.LockAcquisitionException;
+import com.cheatsheet.distributedlock.exception.LockConnectionException;
+import com.cheatsheet.distributedlock.service.LockRetryService.RetryAfterBackOffPolicy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 보유 시간 기반 재시도 백오프 정책 JUnit 5 단위 테스트
+ */
+@DisplayName("락 재시도 백오프 정책 테스트")
+class LockRetryServiceTest {
+
+    @Nested
+    @DisplayName("대기 시간")
+    class DelayTests {
+
+        private final RetryAfterBackOffPolicy policy = new RetryAfterBackOffPolicy(100, 20, 1000);
+
+        @Test
+        @DisplayName("재시도 시점을 모르면 고정 간격을 사용함")
+        void unknownUsesFixedDelay() {
+            assertThat(policy.nextDelayMillis(new LockAcquisitionException("held", "order:1"))).isEqualTo(100);
+            assertThat(policy.nextDelayMillis(new LockConnectionException("Redis", "order:1", new IllegalStateException("down")))).isEqualTo(100);
+            assertThat(policy.nextDelayMillis(null)).isEqualTo(100);
+        }
+
+        @RepeatedTest(20)
+        @DisplayName("재시도 시점을 알면 그 시간에 지터를 더해 기다림")
+        void retryAfterWithJitter() {
+            long delay = policy.nextDelayMillis(new LockAcquisitionException("held", "order:1", 15));
+
+            assertThat(delay).isBetween(15L, 35L);
+        }
+
+        @Test
+        @DisplayName("최대 대기 시간을 넘지 않음")
+        void cappedAtMaxDelay() {
+            assertThat(policy.nextDelayMillis(new LockAcquisitionException("held", "order:1", 30_000))).isEqualTo(1000);
+        }
+    }
+
+    @Test
+    @DisplayName("직전 실패 예외의 재시도 시점으로 잠듦")
+    void sleepsForLastFailure() {
+        List<Long> sleeps = new ArrayList<>();
+        RetryAfterBackOffPolicy policy = new RetryAfterBackOffPolicy(100, 0, 1000, sleeps::add);
+        RetryContextSupport context = new RetryContextSupport(null);
+        BackOffContext backOffContext = policy.start(context);
+
+        context.registerThrowable(new LockAcquisitionException("held", "order:1", 7));
+        policy.backOff(backOffContext);
+        context.registerThrowable(new LockAcquisitionException("held", "order:1"));
+        policy.backOff(backOffContext);
+
+        assertThat(sleeps).containsExactly(7L, 100L);
+    }
+}
@@ -1,6 +1,7 @@
 package com.cheatsheet.distributedlock.service;
 
 import com.cheatsheet.distributedlock.enums.LockType;
+import com.zaxxer.hikari.HikariDataSource;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
@@ -14,7 +15,10 @@ import org.testcontainers.containers.MySQLContainer;
 import org.testcontainers.junit.jupiter.Container;
 import org.testcontainers.junit.jupiter.Testcontainers;
 
+import java.math.BigDecimal;
+import java.time.Duration;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -99,6 +103,19 @@ class MysqlSessionLockServiceTest {
                 lockService.releaseLock(testKey);
             }
         }
+        
+        @Test
+        @DisplayName("밀리초 타임아웃은 소수 초로 GET_LOCK에 전달됨")
+        void acquireLockWithMillisecondTimeout() {
+            String testKey = generateUniqueKey("timeout-millis");
+            assertThat(MysqlSessionLockService.toFractionalSeconds(Duration.ofMillis(5)))
+                    .isEqualByComparingTo(new BigDecimal("0.005"));
+            try {
+                assertThat(lockService.acquireLock(testKey, Duration.ofMillis(5))).isTrue();
+            } finally {
+                lockService.releaseLock(testKey);
+            }
+        }
     }
     
     @Nested
@@ -216,6 +233,59 @@ class MysqlSessionLockServiceTest {
         }
     }
     
+    @Nested
+    @DisplayName("커넥션 고정 테스트")
+    class PinnedConnectionTests {
+        @Test
+        @DisplayName("풀에서 다른 스레드가 해제해도 락을 획득한 커넥션에서 해제되어 다시 획득 가능")
+        void releaseFromOtherThreadUsesAcquiringConnection() throws Exception {
+            try (HikariDataSource pool = newPool()) {
+                MysqlSessionLockService pooledService = new MysqlSessionLockService(new JdbcTemplate(pool));
+                String testKey = generateUniqueKey("pinned");
+                
+                assertThat(pooledService.acquireLock(testKey, 1)).isTrue();
+                assertThat(pooledService.pinnedConnectionCount()).isEqualTo(1);
+                
+                boolean released = CompletableFuture.supplyAsync(() -> pooledService.releaseLock(testKey))
+                        .get(5, TimeUnit.SECONDS);
+                
+                assertThat(released).isTrue();
+                assertThat(pooledService.pinnedConnectionCount()).isZero();
+                assertThat(lockService.acquireLock(testKey, 0)).isTrue();
+                lockService.releaseLock(testKey);
+            }
+        }
+        
+        @Test
+        @DisplayName("풀에 반납된 커넥션은 락을 물려주지 않음")
+        void returnedConnectionHoldsNoLocks() throws Exception {
+            try (HikariDataSource pool = newPool()) {
+                MysqlSessionLockService pooledService = new MysqlSessionLockService(new JdbcTemplate(pool));
+                String testKey = generateUniqueKey("inherit");
+                
+                for (int i = 0; i < 5; i++) {
+                    assertThat(CompletableFuture.supplyAsync(() -> pooledService.acquireLock(testKey, 1))
+                            .get(5, TimeUnit.SECONDS)).isTrue();
+                    assertThat(pooledService.releaseLock(testKey)).isTrue();
+                }
+                
+                Integer held = new JdbcTemplate(pool).queryForObject(
+                        "SELECT IS_USED_LOCK(?)", Integer.class, testKey);
+                assertThat(held).isNull();
+                assertThat(pool.getHikariPoolMXBean().getActiveConnections()).isZero();
+            }
+        }
+        
+        private HikariDataSource newPool() {
+            HikariDataSource pool = new HikariDataSource();
+            pool.setJdbcUrl(mysql.getJdbcUrl());
+            pool.setUsername(mysql.getUsername());
+            pool.setPassword(mysql.getPassword());
+            pool.setMaximumPoolSize(2);
+            return pool;
+        }
+    }
+    
     private static String generateUniqueKey(String prefix) {
         return "test_mysql_" + prefix + "_" + UUID.randomUUID().toString().substring(0, 8);
     }
@@ -1,5 +1,6 @@
 package com.cheatsheet.distributedlock.service;
 
+import com.zaxxer.hikari.HikariDataSource;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,7 +17,10 @@ import org.testcontainers.junit.jupiter.Testcontainers;
 import com.cheatsheet.distributedlock.enums.LockType;
 import com.cheatsheet.distributedlock.service.PostgresAdvisoryLockService;
 
+import java.time.Duration;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -98,6 +102,87 @@ class PostgresAdvisoryLockServiceTest {
         }
     }
     
+    @Nested
+    @DisplayName("lock_timeout 대기 테스트")
+    class LockTimeoutTests {
+        @Test
+        @DisplayName("대기 시간을 주면 보유자가 없는 락을 획득함")
+        void acquireWithWaitTime() {
+            testKey = generateUniqueKey("lock-timeout");
+            assertThat(lockService.tryAcquireLock(testKey, Duration.ofSeconds(10), 50)).isTrue();
+        }
+        
+        @Test
+        @DisplayName("다른 세션이 보유 중이면 대기 시간(lock_timeout) 후 실패함")
+        void failsAfterLockTimeoutWhenHeldByOtherSession() {
+            String key = generateUniqueKey("lock-timeout-held");
+            SingleConnectionDataSource otherDataSource = new SingleConnectionDataSource(
+                    postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword(), true);
+            PostgresAdvisoryLockService otherSession = new PostgresAdvisoryLockService(new JdbcTemplate(otherDataSource));
+            try {
+                assertThat(otherSession.acquireLock(key, 10)).isTrue();
+                
+                long startTime = System.currentTimeMillis();
+                boolean acquired = lockService.tryAcquireLock(key, Duration.ofSeconds(10), 100);
+                long elapsedTime = System.currentTimeMillis() - startTime;
+                
+                assertThat(acquired).isFalse();
+                assertThat(elapsedTime).isBetween(100L, 1000L);
+            } finally {
+                otherSession.releaseLock(key);
+                otherDataSource.destroy();
+            }
+        }
+        
+        @Test
+        @DisplayName("초 단위와 밀리초 단위 획득은 모두 대기하지 않음")
+        void acquireOverloadsDoNotWait() {
+            String key = generateUniqueKey("no-wait");
+            SingleConnectionDataSource otherDataSource = new SingleConnectionDataSource(
+                    postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword(), true);
+            PostgresAdvisoryLockService otherSession = new PostgresAdvisoryLockService(new JdbcTemplate(otherDataSource));
+            try {
+                assertThat(otherSession.acquireLock(key, 10)).isTrue();
+                
+                long startTime = System.currentTimeMillis();
+                assertThat(lockService.acquireLock(key, 1)).isFalse();
+                assertThat(lockService.acquireLock(key, Duration.ofMillis(1500))).isFalse();
+                
+                assertThat(System.currentTimeMillis() - startTime).isLessThan(1000L);
+            } finally {
+                otherSession.releaseLock(key);
+                otherDataSource.destroy();
+            }
+        }
+    }
+    
+    @Nested
+    @DisplayName("커넥션 고정 테스트")
+    class PinnedConnectionTests {
+        @Test
+        @DisplayName("풀에서 다른 스레드가 해제해도 락을 획득한 커넥션에서 해제됨")
+        void releaseFromOtherThreadUsesAcquiringConnection() throws Exception {
+            try (HikariDataSource pool = new HikariDataSource()) {
+                pool.setJdbcUrl(postgres.getJdbcUrl());
+                pool.setUsername(postgres.getUsername());
+                pool.setPassword(postgres.getPassword());
+                pool.setMaximumPoolSize(2);
+                PostgresAdvisoryLockService pooledService = new PostgresAdvisoryLockService(new JdbcTemplate(pool));
+                String key = generateUniqueKey("pinned");
+                
+                assertThat(pooledService.acquireLock(key, 10)).isTrue();
+                boolean released = CompletableFuture.supplyAsync(() -> pooledService.releaseLock(key))
+                        .get(5, TimeUnit.SECONDS);
+                
+                assertThat(released).isTrue();
+                assertThat(pooledService.pinnedConnectionCount()).isZero();
+                assertThat(pool.getHikariPoolMXBean().getActiveConnections()).isZero();
+                testKey = key;
+                assertThat(lockService.acquireLock(key, 10)).isTrue();
+            }
+        }
+    }
+    
     @Nested
     @DisplayName("락 해제 테스트 - Requirements 2.3")
     class LockReleaseTests {
@@ -0,0 +1,154 @@
+package com.cheatsheet.distributedlock.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import com.cheatsheet.distributedlock.RedisLuaLockTestConfiguration;
+import com.cheatsheet.distributedlock.RedisTestConfiguration;
+import com.cheatsheet.distributedlock.config.RedisConfig;
+import com.cheatsheet.distributedlock.exception.LockAcquisitionException;
+import com.cheatsheet.distributedlock.model.LockHandle;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Redis 비동기 락 서비스 JUnit 5 테스트
+ */
+@SpringJUnitConfig(classes = {
+        RedisTestConfiguration.class,
+        RedisAutoConfiguration.class,
+        RedisConfig.class,
+        RedisLuaLockTestConfiguration.class,
+        RedisAsyncLockService.class
+})
+@DisplayName("Redis 비동기 락 서비스 테스트")
+class RedisAsyncLockServiceTest {
+
+    @Autowired
+    private RedisAsyncLockService asyncLockService;
+
+    @Autowired
+    private RedisLuaLockService lockService;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private String testKey;
+
+    @AfterEach
+    void cleanup() {
+        if (testKey != null) {
+            redisTemplate.delete(testKey);
+        }
+    }
+
+    @Nested
+    @DisplayName("획득/해제 테스트")
+    class AcquireReleaseTests {
+
+        @Test
+        @DisplayName("비동기로 획득한 핸들의 소유자 ID가 Redis에 저장됨")
+        void acquireStoresHandleOwner() throws Exception {
+            testKey = generateUniqueKey("acquire");
+
+            LockHandle handle = asyncLockService.acquireLockAsync(testKey, 10).get(5, TimeUnit.SECONDS);
+
+            assertThat(redisTemplate.opsForValue().get(testKey)).isEqualTo(handle.getOwnerId());
+        }
+
+        @Test
+        @DisplayName("이미 보유 중인 락은 LockAcquisitionException으로 완료됨")
+        void heldLockCompletesExceptionally() {
+            testKey = generateUniqueKey("held");
+            assertThat(lockService.acquireLock(testKey, 10)).isTrue();
+
+            CompletableFuture<LockHandle> future = asyncLockService.acquireLockAsync(testKey, 10);
+
+            assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(LockAcquisitionException.class);
+        }
+
+        @Test
+        @DisplayName("핸들로 다른 스레드에서 해제할 수 있음")
+        void releaseFromAnotherThread() throws Exception {
+            testKey = generateUniqueKey("release");
+            LockHandle handle = asyncLockService.acquireLockAsync(testKey, 10).get(5, TimeUnit.SECONDS);
+
+            Boolean released = CompletableFuture.supplyAsync(() -> asyncLockService.releaseLockAsync(handle))
+                    .thenCompose(future -> future)
+                    .get(5, TimeUnit.SECONDS);
+
+            assertThat(released).isTrue();
+            assertThat(redisTemplate.hasKey(testKey)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("대기 테스트")
+    class WaitTests {
+
+        @Test
+        @DisplayName("해제 알림을 받으면 대기 중인 획득이 완료됨")
+        void waitingAcquireCompletesOnRelease() throws Exception {
+            testKey = generateUniqueKey("wait");
+            LockHandle holder = asyncLockService.acquireLockAsync(testKey, 10).get(5, TimeUnit.SECONDS);
+
+            CompletableFuture<LockHandle> waiter = asyncLockService.tryAcquireLockAsync(testKey, 10, 5000);
+            Thread.sleep(100);
+            assertThat(waiter).isNotDone();
+
+            asyncLockService.releaseLockAsync(holder).get(5, TimeUnit.SECONDS);
+
+            assertThat(waiter.get(5, TimeUnit.SECONDS).getOwnerId()).isNotEqualTo(holder.getOwnerId());
+        }
+
+        @Test
+        @DisplayName("적은 수의 스레드로 많은 획득 요청을 동시에 진행할 수 있음")
+        void manyAcquisitionsInFlight() throws Exception {
+            testKey = generateUniqueKey("inflight");
+            int requestCount = 200;
+            List<CompletableFuture<Void>> requests = new ArrayList<>();
+
+            for (int i = 0; i < requestCount; i++) {
+                requests.add(asyncLockService.tryAcquireLockAsync(testKey, 10, 10000)
+                        .thenCompose(asyncLockService::releaseLockAsync)
+                        .thenAccept(released -> assertThat(released).isTrue()));
+            }
+
+            CompletableFuture.allOf(requests.toArray(CompletableFuture[]::new)).get(15, TimeUnit.SECONDS);
+            assertThat(requests).allMatch(request -> !request.isCompletedExceptionally());
+        }
+
+        @Test
+        @DisplayName("대기 시간 안에 해제되지 않으면 LockAcquisitionException으로 완료됨")
+        void waitTimesOut() {
+            testKey = generateUniqueKey("timeout");
+            assertThat(lockService.acquireLock(testKey, 10)).isTrue();
+
+            CompletableFuture<LockHandle> future = asyncLockService.tryAcquireLockAsync(testKey, 10, 300);
+
+            assertThatThrownBy(() -> future.get(5, TimeUnit.SECONDS))
+                    .isInstanceOf(ExecutionException.class)
+                    .hasCauseInstanceOf(LockAcquisitionException.class);
+        }
+    }
+
+    private String generateUniqueKey(String prefix) {
+        return "test:async:" + prefix + ":" + UUID.randomUUID();
+    }
+}
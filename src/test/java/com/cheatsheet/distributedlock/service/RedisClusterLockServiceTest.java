@@ -0,0 +1,158 @@
+package com.cheatsheet.distributedlock.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import com.cheatsheet.distributedlock.RedisClusterTestConfiguration;
+import com.cheatsheet.distributedlock.RedisLuaLockTestConfiguration;
+import com.cheatsheet.distributedlock.config.RedisConfig;
+import com.cheatsheet.distributedlock.util.LockOwnerIds;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis Cluster에서의 Lua 락 서비스 JUnit 5 테스트
+ *
+ * 프로세스 3개로 구성한 클러스터에서 해시 태그 배치와 슬롯별 일괄 연산을 검증합니다.
+ */
+@SpringJUnitConfig(classes = {
+        RedisClusterTestConfiguration.class,
+        RedisConfig.class,
+        RedisLuaLockTestConfiguration.class,
+        RedisFairLockService.class
+})
+@TestPropertySource(properties = "distributed-lock.redis.cluster.hash-tag-segments=2")
+@DisplayName("Redis Cluster Lua 락 서비스 테스트")
+class RedisClusterLockServiceTest {
+
+    @Autowired
+    private RedisLuaLockService lockService;
+
+    @Autowired
+    private RedisFairLockService fairLockService;
+
+    @Autowired
+    private RedisLockKeyLayout keyLayout;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private final List<String> lockKeys = new ArrayList<>();
+
+    @AfterEach
+    void cleanup() {
+        for (String lockKey : lockKeys) {
+            lockService.releaseLock(lockKey);
+            fairLockService.releaseLock(lockKey);
+            redisTemplate.delete(RedisFairLockService.keys(keyLayout.apply(lockKey)));
+        }
+        lockKeys.clear();
+    }
+
+    @Test
+    @DisplayName("클러스터 연결을 감지하고 Function 대신 스크립트 경로를 사용함")
+    void detectsCluster() {
+        assertThat(keyLayout.isCluster()).isTrue();
+    }
+
+    @Test
+    @DisplayName("해시 태그가 없는 키도 펜싱 키와 같은 슬롯에 저장되어 CROSSSLOT 없이 획득함")
+    void singleLockWithoutHashTag() {
+        String lockKey = track("order-" + UUID.randomUUID());
+
+        assertThat(lockService.acquireLock(lockKey, 10)).isTrue();
+        assertThat(lockService.getLockMetadata(lockKey).getFencingToken()).isPositive();
+        assertThat(redisTemplate.hasKey("{" + lockKey + "}")).isTrue();
+        assertThat(lockService.releaseLock(lockKey)).isTrue();
+    }
+
+    @Test
+    @DisplayName("같은 창고의 락은 같은 해시 태그로 묶여 한 슬롯에 저장됨")
+    void sameWarehouseSharesSlot() {
+        String warehouse = "warehouse:" + UUID.randomUUID();
+        String first = track(warehouse + ":product:P1");
+        String second = track(warehouse + ":product:P2");
+
+        assertThat(RedisLockKeyLayout.slot(keyLayout.apply(first)))
+                .isEqualTo(RedisLockKeyLayout.slot(keyLayout.apply(second)));
+        assertThat(lockService.acquireAll(List.of(first, second), 10)).isTrue();
+        assertThat(redisTemplate.hasKey("{" + warehouse + "}:product:P1")).isTrue();
+        assertThat(lockService.releaseAll(List.of(first, second))).isTrue();
+    }
+
+    @Test
+    @DisplayName("여러 슬롯에 걸친 일괄 획득/해제는 슬롯별로 나누어 모두 처리됨")
+    void batchAcrossSlots() {
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            keys.add(track("warehouse:WH" + i + "-" + UUID.randomUUID() + ":product:P1"));
+        }
+        assertThat(keyLayout.groupBySlot(keys.stream().map(keyLayout::apply).toList())).hasSizeGreaterThan(1);
+
+        assertThat(lockService.acquireAll(keys, 10)).isTrue();
+        for (String lockKey : keys) {
+            assertThat(redisTemplate.hasKey(keyLayout.apply(lockKey))).isTrue();
+        }
+
+        assertThat(lockService.releaseAll(keys)).isTrue();
+        for (String lockKey : keys) {
+            assertThat(redisTemplate.hasKey(keyLayout.apply(lockKey))).isFalse();
+        }
+    }
+
+    @Test
+    @DisplayName("한 슬롯이라도 이미 잠겨 있으면 다른 슬롯에서 획득한 락을 되돌림")
+    void batchRollsBackOnPartialFailure() {
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            keys.add(track("warehouse:WH" + i + "-" + UUID.randomUUID() + ":product:P1"));
+        }
+        String held = keys.get(keys.size() - 1);
+        assertThat(lockService.acquireLockWithOwner(held, 10, LockOwnerIds.next())).isTrue();
+
+        assertThat(lockService.acquireAll(keys, 10)).isFalse();
+
+        for (String lockKey : keys.subList(0, keys.size() - 1)) {
+            assertThat(redisTemplate.hasKey(keyLayout.apply(lockKey))).isFalse();
+        }
+        assertThat(redisTemplate.hasKey(keyLayout.apply(held))).isTrue();
+    }
+
+    @Test
+    @DisplayName("공정 락의 대기열 키도 락 키와 같은 슬롯에 저장되어 CROSSSLOT 없이 대기 후 넘겨받음")
+    void fairLockQueueSharesSlot() throws InterruptedException {
+        String lockKey = track("order-" + UUID.randomUUID());
+        String redisKey = keyLayout.apply(lockKey);
+        assertThat(RedisFairLockService.keys(redisKey))
+                .allSatisfy(key -> assertThat(RedisLockKeyLayout.slot(key)).isEqualTo(RedisLockKeyLayout.slot(redisKey)));
+
+        assertThat(fairLockService.acquireLock(lockKey, 10)).isTrue();
+        AtomicBoolean waiterAcquired = new AtomicBoolean(false);
+        Thread waiter = new Thread(() -> waiterAcquired.set(fairLockService.tryAcquireLock(lockKey, 10, 5000)));
+        waiter.start();
+        while (redisTemplate.opsForList().size(redisKey + ":queue") < 1) {
+            Thread.onSpinWait();
+        }
+
+        assertThat(fairLockService.releaseLock(lockKey)).isTrue();
+        waiter.join(5000);
+
+        assertThat(waiterAcquired.get()).isTrue();
+        assertThat(redisTemplate.hasKey(redisKey)).isTrue();
+    }
+
+    private String track(String lockKey) {
+        lockKeys.add(lockKey);
+        return lockKey;
+    }
+}
@@ -0,0 +1,226 @@
+package com.cheatsheet.distributedlock.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import com.cheatsheet.distributedlock.RedisLockCommandTestConfiguration;
+import com.cheatsheet.distributedlock.RedisTestConfiguration;
+import com.cheatsheet.distributedlock.config.RedisConfig;
+import com.cheatsheet.distributedlock.enums.LockType;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis 공정 락 서비스 JUnit 5 테스트
+ */
+@SpringJUnitConfig(classes = {
+        RedisTestConfiguration.class,
+        RedisAutoConfiguration.class,
+        RedisConfig.class,
+        RedisLockCommandTestConfiguration.class,
+        RedisLockReleaseSubscriber.class,
+        RedisFairLockService.class
+})
+@TestPropertySource(properties = "distributed-lock.redis.fair.heartbeat-interval-millis=200")
+@DisplayName("Redis 공정 락 서비스 테스트")
+class RedisFairLockServiceTest {
+
+    @Autowired
+    private RedisFairLockService lockService;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private String testKey;
+
+    @AfterEach
+    void cleanup() {
+        if (testKey != null) {
+            lockService.releaseLock(testKey);
+            redisTemplate.delete(RedisFairLockService.keys(testKey));
+        }
+    }
+
+    @Test
+    @DisplayName("지원하는 락 타입은 REDIS_FAIR이다")
+    void supportedTypeIsRedisFair() {
+        assertThat(lockService.getSupportedType()).isEqualTo(LockType.REDIS_FAIR);
+    }
+
+    @Nested
+    @DisplayName("FIFO 순서 테스트")
+    class FifoTests {
+
+        @Test
+        @DisplayName("대기자는 도착 순서대로 락을 넘겨받음")
+        void waitersAcquireInArrivalOrder() throws InterruptedException {
+            testKey = generateUniqueKey("fifo");
+            String holder = UUID.randomUUID().toString();
+            redisTemplate.opsForValue().set(testKey, holder, 30, TimeUnit.SECONDS);
+
+            List<Integer> order = Collections.synchronizedList(new ArrayList<>());
+            List<Thread> threads = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                int index = i;
+                Thread thread = new Thread(() -> {
+                    if (lockService.tryAcquireLock(testKey, 10, 10000)) {
+                        order.add(index);
+                        lockService.releaseLock(testKey);
+                    }
+                });
+                threads.add(thread);
+                thread.start();
+                // 대기열에 들어간 뒤 다음 스레드 시작
+                long queued = index + 1;
+                while (redisTemplate.opsForList().size(testKey + ":queue") < queued) {
+                    Thread.onSpinWait();
+                }
+            }
+
+            // 외부 보유자 해제 (만료와 같은 효과)
+            redisTemplate.delete(testKey);
+            for (Thread thread : threads) {
+                thread.join(10000);
+            }
+
+            assertThat(order).containsExactly(0, 1, 2, 3);
+        }
+
+        @Test
+        @DisplayName("대기자가 있으면 락이 비어 있어도 대기 없는 획득은 새치기하지 않음")
+        void noBargingWhenWaitersQueued() throws InterruptedException {
+            testKey = generateUniqueKey("barging");
+            assertThat(lockService.acquireLock(testKey, 10)).isTrue();
+
+            AtomicBoolean waiterAcquired = new AtomicBoolean(false);
+            Thread waiter = new Thread(() -> waiterAcquired.set(lockService.tryAcquireLock(testKey, 10, 5000)));
+            waiter.start();
+            while (redisTemplate.opsForList().size(testKey + ":queue") < 1) {
+                Thread.onSpinWait();
+            }
+
+            // 보유자가 해제하면 락은 대기자에게 바로 넘어감
+            assertThat(lockService.releaseLock(testKey)).isTrue();
+            assertThat(redisTemplate.hasKey(testKey)).isTrue();
+            waiter.join(5000);
+
+            assertThat(waiterAcquired.get()).isTrue();
+        }
+
+        @Test
+        @DisplayName("먼저 대기한 다른 노드의 대기자가 나중에 온 로컬 대기자보다 먼저 획득함")
+        void remoteWaiterBeforeLaterLocalWaiter() throws InterruptedException {
+            testKey = generateUniqueKey("coalescing");
+            DistributedLockService local = LocalCoalescingLockService.decorate(lockService);
+            assertThat(local.acquireLock(testKey, 10)).isTrue();
+
+            List<String> order = Collections.synchronizedList(new ArrayList<>());
+            // 다른 노드의 대기자는 병합 없이 Redis 대기열에 직접 들어감
+            Thread remote = new Thread(() -> {
+                if (lockService.tryAcquireLock(testKey, 10, 10000)) {
+                    order.add("remote");
+                    lockService.releaseLock(testKey);
+                }
+            });
+            remote.start();
+            while (redisTemplate.opsForList().size(testKey + ":queue") < 1) {
+                Thread.onSpinWait();
+            }
+
+            Thread localWaiter = new Thread(() -> {
+                if (local.tryAcquireLock(testKey, 10, 10000)) {
+                    order.add("local");
+                    local.releaseLock(testKey);
+                }
+            });
+            localWaiter.start();
+            while (redisTemplate.opsForList().size(testKey + ":queue") < 2) {
+                Thread.onSpinWait();
+            }
+
+            assertThat(local.releaseLock(testKey)).isTrue();
+            remote.join(10000);
+            localWaiter.join(10000);
+
+            assertThat(local).isSameAs(lockService);
+            assertThat(order).containsExactly("remote", "local");
+        }
+    }
+
+    @Nested
+    @DisplayName("heartbeat 테스트")
+    class HeartbeatTests {
+
+        @Test
+        @DisplayName("heartbeat가 끊긴 대기자는 건너뛰고 다음 생존 대기자에게 넘김")
+        void deadWaiterIsSkipped() throws InterruptedException {
+            testKey = generateUniqueKey("dead");
+            assertThat(lockService.acquireLock(testKey, 10)).isTrue();
+
+            // 대기 중 죽은 노드의 대기열 항목 (heartbeat 만료)
+            String deadOwner = UUID.randomUUID().toString();
+            redisTemplate.opsForList().rightPush(testKey + ":queue", deadOwner);
+            redisTemplate.opsForHash().put(testKey + ":waiters", deadOwner, "10000");
+            redisTemplate.opsForZSet().add(testKey + ":heartbeats", deadOwner, 0);
+
+            AtomicBoolean liveAcquired = new AtomicBoolean(false);
+            Thread live = new Thread(() -> liveAcquired.set(lockService.tryAcquireLock(testKey, 10, 5000)));
+            live.start();
+            while (redisTemplate.opsForList().size(testKey + ":queue") < 2) {
+                Thread.onSpinWait();
+            }
+
+            assertThat(lockService.releaseLock(testKey)).isTrue();
+            live.join(5000);
+
+            assertThat(liveAcquired.get()).isTrue();
+            assertThat(redisTemplate.opsForValue().get(testKey)).isNotEqualTo(deadOwner);
+        }
+
+        @Test
+        @DisplayName("대기 시간이 끝나면 대기열에서 빠짐")
+        void waiterLeavesQueueOnTimeout() {
+            testKey = generateUniqueKey("timeout");
+            redisTemplate.opsForValue().set(testKey, UUID.randomUUID().toString(), 30, TimeUnit.SECONDS);
+
+            assertThat(lockService.tryAcquireLock(testKey, 10, 300)).isFalse();
+
+            assertThat(redisTemplate.hasKey(testKey + ":queue")).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("밀리초 만료 시간 테스트")
+    class MillisecondLeaseTests {
+
+        @Test
+        @DisplayName("1초 미만의 만료 시간은 올림하지 않고 밀리초로 설정됨")
+        void subSecondLeaseIsNotRoundedUp() {
+            testKey = generateUniqueKey("millis");
+
+            assertThat(lockService.acquireLock(testKey, Duration.ofMillis(300))).isTrue();
+
+            assertThat(redisTemplate.getExpire(testKey, TimeUnit.MILLISECONDS)).isPositive().isLessThanOrEqualTo(300L);
+            assertThat(lockService.releaseLock(testKey)).isTrue();
+        }
+    }
+
+    private String generateUniqueKey(String prefix) {
+        return "test:fair:" + prefix + ":" + UUID.randomUUID();
+    }
+}
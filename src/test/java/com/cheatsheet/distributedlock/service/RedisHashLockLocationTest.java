@@ -0,0 +1,51 @@
+package com.cheatsheet.distributedlock.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.cheatsheet.distributedlock.service.RedisHashLockService.HashLocation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 네임스페이스 Hash 락의 키 배치 JUnit 5 단위 테스트
+ */
+@DisplayName("Redis 네임스페이스 Hash 락 키 배치 테스트")
+class RedisHashLockLocationTest {
+
+    @Test
+    @DisplayName("첫 세그먼트를 네임스페이스 Hash로, 나머지를 필드로 사용함")
+    void splitsFirstSegment() {
+        assertThat(RedisHashLockService.locate("product:42", 1))
+                .isEqualTo(new HashLocation("product:locks", "42"));
+        assertThat(RedisHashLockService.locate("product:42:option", 1))
+                .isEqualTo(new HashLocation("product:locks", "42:option"));
+    }
+
+    @Test
+    @DisplayName("세그먼트 수를 늘리면 더 좁은 네임스페이스로 나뉨")
+    void splitsMoreSegments() {
+        assertThat(RedisHashLockService.locate("tenant:7:product:42", 2))
+                .isEqualTo(new HashLocation("tenant:7:locks", "product:42"));
+    }
+
+    @Test
+    @DisplayName("네임스페이스가 없거나 필드가 비면 공용 Hash에 키 전체를 필드로 저장함")
+    void fallsBackToSharedHash() {
+        assertThat(RedisHashLockService.locate("order42", 1))
+                .isEqualTo(new HashLocation("locks", "order42"));
+        assertThat(RedisHashLockService.locate("product:", 1))
+                .isEqualTo(new HashLocation("locks", "product:"));
+        assertThat(RedisHashLockService.locate("product:42", 2))
+                .isEqualTo(new HashLocation("locks", "product:42"));
+    }
+
+    @Test
+    @DisplayName("서로 다른 락 키는 서로 다른 위치에 놓임")
+    void distinctKeysDoNotCollide() {
+        assertThat(RedisHashLockService.locate("locks", 1))
+                .isNotEqualTo(RedisHashLockService.locate("a:locks", 1));
+        assertThat(RedisHashLockService.locate("a:b", 1))
+                .isNotEqualTo(RedisHashLockService.locate("a:b:c", 2));
+    }
+}
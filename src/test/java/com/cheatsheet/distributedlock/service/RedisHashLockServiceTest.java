@@ -0,0 +1,233 @@
+package com.cheatsheet.distributedlock.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import com.cheatsheet.distributedlock.RedisLuaLockTestConfiguration;
+import com.cheatsheet.distributedlock.RedisTestConfiguration;
+import com.cheatsheet.distributedlock.config.RedisConfig;
+import com.cheatsheet.distributedlock.enums.LockType;
+import com.cheatsheet.distributedlock.model.LockMetadata;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 네임스페이스 Hash 락 서비스 JUnit 5 테스트
+ *
+ * 필드 단위 만료와 네임스페이스 펜싱 카운터를 검증하고,
+ * 같은 수의 락을 키-락 구성(RedisLuaLockService)과 비교하여 Redis 메모리 사용량을 측정합니다.
+ */
+@SpringJUnitConfig(classes = {
+        RedisTestConfiguration.class,
+        RedisAutoConfiguration.class,
+        RedisConfig.class,
+        RedisLuaLockTestConfiguration.class,
+        RedisHashLockService.class
+})
+@DisplayName("Redis 네임스페이스 Hash 락 서비스 테스트")
+class RedisHashLockServiceTest {
+
+    @Autowired
+    private RedisHashLockService lockService;
+
+    @Autowired
+    private RedisLuaLockService luaLockService;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private String namespace;
+
+    @AfterEach
+    void cleanup() {
+        if (namespace != null) {
+            redisTemplate.delete(namespace + RedisHashLockService.HASH_KEY_SUFFIX);
+        }
+    }
+
+    @Test
+    @DisplayName("지원하는 락 타입은 REDIS_HASH이다")
+    void supportedTypeIsRedisHash() {
+        assertThat(lockService.getSupportedType()).isEqualTo(LockType.REDIS_HASH);
+    }
+
+    @Nested
+    @DisplayName("획득과 해제")
+    class AcquireReleaseTests {
+
+        @Test
+        @DisplayName("락은 네임스페이스 Hash의 필드로 저장되고 필드에만 만료 시간이 지정됨")
+        void storesFieldWithExpiry() {
+            String lockKey = newNamespace("field") + "42";
+            String hashKey = namespace + RedisHashLockService.HASH_KEY_SUFFIX;
+
+            assertThat(lockService.acquireLock(lockKey, 10)).isTrue();
+
+            assertThat(redisTemplate.hasKey(lockKey)).isFalse();
+            assertThat(redisTemplate.opsForHash().hasKey(hashKey, "42")).isTrue();
+            assertThat(redisTemplate.getExpire(hashKey)).isEqualTo(-1);
+            assertThat(fieldTtlMillis(hashKey, "42")).isBetween(1L, 10_000L);
+        }
+
+        @Test
+        @DisplayName("보유 중인 필드는 다시 획득할 수 없고 해제 후 획득할 수 있음")
+        void exclusiveUntilReleased() throws Exception {
+            String lockKey = newNamespace("exclusive") + "1";
+
+            assertThat(lockService.acquireLock(lockKey, 10)).isTrue();
+            boolean otherThread = CompletableFuture.supplyAsync(() -> lockService.acquireLock(lockKey, 10))
+                    .get(5, TimeUnit.SECONDS);
+            assertThat(otherThread).isFalse();
+
+            assertThat(lockService.releaseLock(lockKey)).isTrue();
+            assertThat(lockService.acquireLock(lockKey, 10)).isTrue();
+            assertThat(lockService.releaseLock(lockKey)).isTrue();
+        }
+
+        @Test
+        @DisplayName("같은 네임스페이스의 다른 필드는 독립적으로 획득됨")
+        void fieldsAreIndependent() {
+            newNamespace("independent");
+
+            assertThat(lockService.acquireLock(namespace + "a", 10)).isTrue();
+            assertThat(lockService.acquireLock(namespace + "b", 10)).isTrue();
+
+            assertThat(lockService.releaseLock(namespace + "a")).isTrue();
+            assertThat(lockService.releaseLock(namespace + "b")).isTrue();
+        }
+
+        @Test
+        @DisplayName("필드 만료 후에는 다른 소유자가 획득할 수 있음")
+        void expiredFieldCanBeAcquired() throws Exception {
+            String lockKey = newNamespace("expire") + "1";
+
+            assertThat(lockService.acquireLock(lockKey, Duration.ofMillis(200))).isTrue();
+            Thread.sleep(300);
+
+            boolean otherThread = CompletableFuture.supplyAsync(() -> lockService.acquireLock(lockKey, 10))
+                    .get(5, TimeUnit.SECONDS);
+            assertThat(otherThread).isTrue();
+        }
+
+        @Test
+        @DisplayName("펜싱 토큰은 네임스페이스 안에서 획득할 때마다 증가함")
+        void fencingTokenIncreases() {
+            String lockKey = newNamespace("fence") + "1";
+
+            assertThat(lockService.acquireLock(lockKey, 10)).isTrue();
+            long first = lockService.getLockMetadata(lockKey).getFencingToken();
+            assertThat(lockService.releaseLock(lockKey)).isTrue();
+            assertThat(lockService.acquireLock(lockKey, 10)).isTrue();
+            LockMetadata second = lockService.getLockMetadata(lockKey);
+
+            assertThat(first).isPositive();
+            assertThat(second.getFencingToken()).isGreaterThan(first);
+            assertThat(lockService.releaseLock(lockKey)).isTrue();
+        }
+
+        @Test
+        @DisplayName("대기 중인 스레드는 해제 알림으로 바로 획득함")
+        void waiterWakesOnRelease() throws Exception {
+            String lockKey = newNamespace("wait") + "1";
+            assertThat(lockService.acquireLock(lockKey, 10)).isTrue();
+
+            CompletableFuture<Boolean> waiter = CompletableFuture.supplyAsync(
+                    () -> lockService.tryAcquireLock(lockKey, 10, 5000));
+            Thread.sleep(100);
+            long releasedAt = System.nanoTime();
+            assertThat(lockService.releaseLock(lockKey)).isTrue();
+
+            assertThat(waiter.get(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - releasedAt)).isLessThan(1000);
+        }
+
+        @Test
+        @DisplayName("대기 중인 스레드는 알림이 없어도 필드 만료 후 획득함")
+        void waiterAcquiresAfterFieldExpiry() throws Exception {
+            String lockKey = newNamespace("wait-expire") + "1";
+            assertThat(lockService.acquireLock(lockKey, Duration.ofMillis(300))).isTrue();
+
+            boolean acquired = CompletableFuture.supplyAsync(() -> lockService.tryAcquireLock(lockKey, 10, 3000))
+                    .get(5, TimeUnit.SECONDS);
+
+            assertThat(acquired).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("메모리 비교")
+    class MemoryBenchmarkTests {
+
+        private static final int LOCKS = 20_000;
+
+        @Test
+        @DisplayName("Hash 구성은 키-락 구성보다 락당 메모리를 적게 사용함")
+        void hashLayoutUsesLessMemory() {
+            newNamespace("memory");
+            String luaNamespace = "test:hash-memory-lua:" + UUID.randomUUID() + ":";
+            List<String> luaKeys = new ArrayList<>();
+            for (int i = 0; i < LOCKS; i++) {
+                luaKeys.add(luaNamespace + i);
+            }
+
+            long luaBytes;
+            long hashBytes;
+            try {
+                long before = usedMemory();
+                for (String lockKey : luaKeys) {
+                    assertThat(luaLockService.acquireLock(lockKey, 60)).isTrue();
+                }
+                luaBytes = usedMemory() - before;
+
+                before = usedMemory();
+                for (int i = 0; i < LOCKS; i++) {
+                    assertThat(lockService.acquireLock(namespace + i, 60)).isTrue();
+                }
+                hashBytes = usedMemory() - before;
+            } finally {
+                luaKeys.forEach(luaLockService::releaseLock);
+                for (int i = 0; i < LOCKS; i++) {
+                    lockService.releaseLock(namespace + i);
+                }
+            }
+
+            System.out.printf("✓ 키-락 구성 (REDIS_LUA, 펜싱 키 포함): %d bytes/lock%n", luaBytes / LOCKS);
+            System.out.printf("✓ Hash 구성 (REDIS_HASH): %d bytes/lock (%.0f%% 절감)%n",
+                    hashBytes / LOCKS, 100.0 * (luaBytes - hashBytes) / luaBytes);
+            assertThat(hashBytes).isLessThan(luaBytes);
+        }
+
+        private long usedMemory() {
+            Properties info = redisTemplate.execute(
+                    (RedisCallback<Properties>) connection -> connection.serverCommands().info("memory"));
+            return Long.parseLong(info.getProperty("used_memory"));
+        }
+    }
+
+    private String newNamespace(String prefix) {
+        namespace = "test-hash-" + prefix + "-" + UUID.randomUUID() + ":";
+        return namespace;
+    }
+
+    private long fieldTtlMillis(String hashKey, String field) {
+        List<?> result = redisTemplate.execute(
+                (RedisCallback<List<?>>) connection -> (List<?>) connection.execute(
+                        "HPTTL", hashKey.getBytes(), "FIELDS".getBytes(), "1".getBytes(), field.getBytes()));
+        return ((Number) result.get(0)).longValue();
+    }
+}
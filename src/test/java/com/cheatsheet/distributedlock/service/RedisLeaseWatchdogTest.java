@@ -0,0 +1,112 @@
+package com.cheatsheet.distributedlock.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import com.cheatsheet.distributedlock.RedisLuaLockTestConfiguration;
+import com.cheatsheet.distributedlock.RedisTestConfiguration;
+import com.cheatsheet.distributedlock.config.RedisConfig;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis 임대 연장 워치독 JUnit 5 테스트
+ *
+ * 임대 시간을 1초로 설정하고, 보유 중인 락이 임대 시간을 넘겨서도 유지되는지 검증합니다.
+ */
+@SpringJUnitConfig(classes = {
+        RedisTestConfiguration.class,
+        RedisAutoConfiguration.class,
+        RedisConfig.class,
+        RedisLuaLockTestConfiguration.class,
+        RedisSetnxLockService.class
+})
+@TestPropertySource(properties = {
+        "distributed-lock.redis.watchdog.enabled=true",
+        "distributed-lock.redis.watchdog.lease-seconds=1"
+})
+@DisplayName("Redis 임대 연장 워치독 테스트")
+class RedisLeaseWatchdogTest {
+
+    @Autowired
+    private RedisLuaLockService luaLockService;
+
+    @Autowired
+    private RedisSetnxLockService setnxLockService;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private String testKey;
+
+    @AfterEach
+    void cleanup() {
+        if (testKey != null) {
+            redisTemplate.delete(testKey);
+        }
+    }
+
+    @Test
+    @DisplayName("워치독 모드에서는 요청 타임아웃 대신 짧은 임대 시간이 설정됨")
+    void leaseLengthReplacesRequestedTimeout() {
+        testKey = generateUniqueKey("lease");
+
+        assertThat(luaLockService.acquireLock(testKey, 30)).isTrue();
+
+        Long ttl = redisTemplate.getExpire(testKey, TimeUnit.MILLISECONDS);
+        assertThat(ttl).isNotNull();
+        assertThat(ttl).isLessThanOrEqualTo(1000L);
+        luaLockService.releaseLock(testKey);
+    }
+
+    @Test
+    @DisplayName("Lua 락은 임대 시간이 지나도 해제 전까지 유지됨")
+    void luaLockSurvivesPastLeaseWhileHeld() throws InterruptedException {
+        testKey = generateUniqueKey("lua-renew");
+
+        assertThat(luaLockService.acquireLock(testKey, 30)).isTrue();
+        Thread.sleep(2500);
+
+        assertThat(redisTemplate.hasKey(testKey)).isTrue();
+        assertThat(luaLockService.releaseLock(testKey)).isTrue();
+        assertThat(redisTemplate.hasKey(testKey)).isFalse();
+    }
+
+    @Test
+    @DisplayName("SETNX 락은 임대 시간이 지나도 해제 전까지 유지됨")
+    void setnxLockSurvivesPastLeaseWhileHeld() throws InterruptedException {
+        testKey = generateUniqueKey("setnx-renew");
+
+        assertThat(setnxLockService.acquireLock(testKey, 30)).isTrue();
+        Thread.sleep(2500);
+
+        assertThat(redisTemplate.hasKey(testKey)).isTrue();
+        assertThat(setnxLockService.releaseLock(testKey)).isTrue();
+    }
+
+    @Test
+    @DisplayName("다른 소유자에게 넘어간 락은 연장하지 않음")
+    void lockTakenOverByAnotherOwnerIsNotRenewed() throws InterruptedException {
+        testKey = generateUniqueKey("lost");
+
+        assertThat(luaLockService.acquireLock(testKey, 30)).isTrue();
+        // 다른 노드가 락을 가로챈 상황을 흉내냄 (1초 TTL)
+        redisTemplate.opsForValue().set(testKey, UUID.randomUUID().toString(), 1, TimeUnit.SECONDS);
+        Thread.sleep(2500);
+
+        assertThat(redisTemplate.hasKey(testKey)).isFalse();
+    }
+
+    private String generateUniqueKey(String prefix) {
+        return "test:watchdog:" + prefix + ":" + UUID.randomUUID();
+    }
+}
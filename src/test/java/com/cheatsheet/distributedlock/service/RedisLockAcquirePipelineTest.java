@@ -0,0 +1,159 @@
+package com.cheatsheet.distributedlock.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import com.cheatsheet.distributedlock.RedisTestConfiguration;
+import com.cheatsheet.distributedlock.config.RedisConfig;
+import com.cheatsheet.distributedlock.util.LockOwnerIds;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis 락 획득 자동 파이프라이닝 JUnit 5 테스트
+ *
+ * 여러 스레드가 동시에 서로 다른 키를 획득할 때 요청이 배치로 묶여 기록되는지,
+ * 각 호출자가 자신의 결과를 받는지 검증합니다. 스크립트 캐시 복구를 확인하기 위해 EVALSHA 경로를 사용합니다.
+ */
+@SpringJUnitConfig(classes = {
+        RedisTestConfiguration.class,
+        RedisAutoConfiguration.class,
+        RedisConfig.class,
+        RedisLockFunctions.class,
+        LockConnectionMetrics.class,
+        RedisLockConnections.class,
+        RedisLockAcquirePipeline.class,
+        RedisLockCommandExecutor.class
+})
+@TestPropertySource(properties = {
+        "distributed-lock.redis.pipelining.enabled=true",
+        "distributed-lock.redis.pipelining.window-micros=200",
+        "distributed-lock.redis.functions.enabled=false"
+})
+@DisplayName("Redis 락 획득 자동 파이프라이닝 테스트")
+class RedisLockAcquirePipelineTest {
+
+    private static final int THREADS = 64;
+    private static final int PER_THREAD = 50;
+
+    @Autowired
+    private RedisLockAcquirePipeline acquirePipeline;
+
+    @Autowired
+    private RedisLockCommandExecutor commandExecutor;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private final ConcurrentLinkedQueue<String> keys = new ConcurrentLinkedQueue<>();
+
+    @AfterEach
+    void cleanup() {
+        for (String key : keys) {
+            redisTemplate.delete(key);
+        }
+        keys.clear();
+    }
+
+    @Nested
+    @DisplayName("배치 기록")
+    class BatchTests {
+
+        @Test
+        @DisplayName("동시에 들어온 획득 요청을 배치로 묶고 호출자마다 자신의 펜싱 토큰을 받음")
+        void batchesConcurrentAcquires() throws Exception {
+            long batchesBefore = acquirePipeline.batchCount();
+            long requestsBefore = acquirePipeline.requestCount();
+
+            ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Integer>> results = new ArrayList<>();
+            long startedAt = System.nanoTime();
+            for (int t = 0; t < THREADS; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    int acquired = 0;
+                    for (int i = 0; i < PER_THREAD; i++) {
+                        String key = track(generateUniqueKey("batch"));
+                        String ownerId = LockOwnerIds.next();
+                        if (commandExecutor.acquire(key, ownerId, 10_000) > 0
+                                && ownerId.equals(redisTemplate.opsForValue().get(key))) {
+                            acquired++;
+                        }
+                    }
+                    return acquired;
+                }));
+            }
+            start.countDown();
+            int total = 0;
+            for (Future<Integer> result : results) {
+                total += result.get(60, TimeUnit.SECONDS);
+            }
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+            executor.shutdown();
+
+            long batches = acquirePipeline.batchCount() - batchesBefore;
+            long requests = acquirePipeline.requestCount() - requestsBefore;
+            System.out.printf("✓ 획득 %d건, 배치 %d개 (평균 %.1f건/배치), %dms%n",
+                    requests, batches, (double) requests / batches, elapsedMillis);
+
+            assertThat(total).isEqualTo(THREADS * PER_THREAD);
+            assertThat(requests).isEqualTo(THREADS * PER_THREAD);
+            assertThat(batches).isLessThan(requests);
+        }
+
+        @Test
+        @DisplayName("이미 잠긴 키는 보유자의 남은 만료 시간을 음수로 받고 다른 요청의 결과에 영향을 주지 않음")
+        void heldKeyInSameBatch() {
+            String held = track(generateUniqueKey("held"));
+            String free = track(generateUniqueKey("free"));
+            assertThat(commandExecutor.acquire(held, LockOwnerIds.next(), 10_000)).isPositive();
+
+            CompletableFuture<Long> first = acquirePipeline.acquireAsync(held, LockOwnerIds.next(), 10_000);
+            CompletableFuture<Long> second = acquirePipeline.acquireAsync(free, LockOwnerIds.next(), 10_000);
+
+            assertThat(first.join()).isBetween(-10_000L, -1L);
+            assertThat(second.join()).isPositive();
+        }
+    }
+
+    @Test
+    @DisplayName("스크립트 캐시가 비워져도 본문으로 다시 보내 획득함")
+    void recoversFromNoScript() {
+        redisTemplate.execute((RedisConnection connection) -> {
+            connection.scriptingCommands().scriptFlush();
+            return null;
+        });
+        String key = track(generateUniqueKey("noscript"));
+
+        assertThat(commandExecutor.acquire(key, LockOwnerIds.next(), 10_000)).isPositive();
+    }
+
+    private String track(String key) {
+        keys.add(key);
+        return key;
+    }
+
+    private String generateUniqueKey(String prefix) {
+        return "test:pipeline:" + prefix + ":" + UUID.randomUUID();
+    }
+}
@@ -0,0 +1,198 @@
+package com.cheatsheet.distributedlock.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import com.cheatsheet.distributedlock.RedisTestConfiguration;
+import com.cheatsheet.distributedlock.config.RedisConfig;
+import com.cheatsheet.distributedlock.util.LockOwnerIds;
+
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis 락 명령 실행기 JUnit 5 테스트
+ *
+ * EVALSHA 경로를 검증하기 위해 Function 라이브러리를 끄고 실행합니다.
+ * 할당량 벤치마크는 호출 스레드에서 연산당 할당한 바이트를 템플릿 경로와 비교합니다.
+ */
+@SpringJUnitConfig(classes = {
+        RedisTestConfiguration.class,
+        RedisAutoConfiguration.class,
+        RedisConfig.class,
+        RedisLockFunctions.class,
+        LockConnectionMetrics.class,
+        RedisLockConnections.class,
+        RedisLockAcquirePipeline.class,
+        RedisLockCommandExecutor.class
+})
+@TestPropertySource(properties = "distributed-lock.redis.functions.enabled=false")
+@DisplayName("Redis 락 명령 실행기 테스트")
+class RedisLockCommandExecutorTest {
+
+    @Autowired
+    private RedisLockCommandExecutor commandExecutor;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    @Autowired
+    private RedisLockConnections lockConnections;
+
+    @Autowired
+    private LockConnectionMetrics lockConnectionMetrics;
+
+    private String testKey;
+
+    @AfterEach
+    void cleanup() {
+        if (testKey != null) {
+            redisTemplate.delete(testKey);
+        }
+    }
+
+    @Nested
+    @DisplayName("스크립트 실행 테스트")
+    class ScriptTests {
+
+        @Test
+        @DisplayName("획득 시 소유자, 밀리초 만료 시간, 펜싱 카운터가 설정됨")
+        void acquireSetsOwnerTtlAndFence() {
+            testKey = generateUniqueKey("acquire");
+            String ownerId = LockOwnerIds.next();
+
+            long first = commandExecutor.acquire(testKey, ownerId, 10_000);
+
+            assertThat(first).isPositive();
+            assertThat(redisTemplate.opsForValue().get(testKey)).isEqualTo(ownerId);
+            assertThat(redisTemplate.getExpire(testKey, TimeUnit.MILLISECONDS)).isBetween(9000L, 10000L);
+            assertThat(redisTemplate.opsForValue().get(RedisLuaLockService.fenceKey(testKey)))
+                    .isEqualTo(String.valueOf(first));
+            // 실패 시 보유자의 남은 만료 시간을 음수로 반환
+            assertThat(commandExecutor.acquire(testKey, LockOwnerIds.next(), 10_000)).isBetween(-10_000L, -9_000L);
+        }
+
+        @Test
+        @DisplayName("해제는 소유자가 일치할 때만 성공하고 해제 채널 형식을 유지함")
+        void releaseChecksOwner() {
+            testKey = generateUniqueKey("release");
+            String ownerId = LockOwnerIds.next();
+            commandExecutor.acquire(testKey, ownerId, 10_000);
+
+            assertThat(commandExecutor.release(testKey, LockOwnerIds.next())).isFalse();
+            assertThat(commandExecutor.release(testKey, ownerId)).isTrue();
+            assertThat(redisTemplate.hasKey(testKey)).isFalse();
+        }
+
+        @Test
+        @DisplayName("스크립트 캐시가 비워져도 본문을 다시 보내 획득함")
+        void recoversFromNoScript() {
+            testKey = generateUniqueKey("noscript");
+            redisTemplate.execute((RedisConnection connection) -> {
+                connection.scriptingCommands().scriptFlush();
+                return null;
+            });
+
+            String ownerId = LockOwnerIds.next();
+            assertThat(commandExecutor.acquire(testKey, ownerId, 10_000)).isPositive();
+            assertThat(commandExecutor.release(testKey, ownerId)).isTrue();
+        }
+
+        @Test
+        @DisplayName("UTF-8 멀티바이트 키도 템플릿 경로와 같은 키로 기록됨")
+        void multibyteKey() {
+            testKey = generateUniqueKey("재고-락");
+            String ownerId = LockOwnerIds.next();
+
+            assertThat(commandExecutor.acquire(testKey, ownerId, 10_000)).isPositive();
+            assertThat(redisTemplate.opsForValue().get(testKey)).isEqualTo(ownerId);
+            assertThat(redisTemplate.hasKey(RedisLuaLockService.fenceKey(testKey))).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("전용 연결 자원 테스트")
+    class DedicatedConnectionTests {
+
+        @Test
+        @DisplayName("락 명령은 애플리케이션과 분리된 클라이언트로 보내고 명령별 지연 시간을 기록함")
+        void recordsLatencyOnDedicatedClient() {
+            testKey = generateUniqueKey("dedicated");
+            long before = lockConnectionMetrics.latency("redis.EVALSHA").count();
+
+            String ownerId = LockOwnerIds.next();
+            commandExecutor.acquire(testKey, ownerId, 10_000);
+            commandExecutor.release(testKey, ownerId);
+
+            assertThat(lockConnections.isDedicated()).isTrue();
+            assertThat(lockConnectionMetrics.latency("redis.EVALSHA").count()).isGreaterThanOrEqualTo(before + 2);
+        }
+    }
+
+    @Nested
+    @DisplayName("할당량 벤치마크")
+    class AllocationBenchmark {
+
+        private static final int WARMUP = 2_000;
+        private static final int ITERATIONS = 5_000;
+
+        @Test
+        @DisplayName("획득/해제 한 쌍당 호출 스레드 할당량이 템플릿 경로보다 적음")
+        void allocatesLessThanTemplate() {
+            testKey = generateUniqueKey("alloc");
+            String ownerId = LockOwnerIds.next();
+            RedisScript<Long> acquireScript = RedisScript.of(RedisLuaLockService.ACQUIRE_LOCK_SCRIPT, Long.class);
+            RedisScript<Long> releaseScript = RedisScript.of(RedisLuaLockService.RELEASE_LOCK_SCRIPT, Long.class);
+
+            Runnable template = () -> {
+                redisTemplate.execute(acquireScript, List.of(testKey, RedisLuaLockService.fenceKey(testKey)),
+                        ownerId, String.valueOf(10_000L));
+                redisTemplate.execute(releaseScript, Collections.singletonList(testKey),
+                        ownerId, RedisLockReleaseSubscriber.releaseChannel(testKey));
+            };
+            Runnable direct = () -> {
+                commandExecutor.acquire(testKey, ownerId, 10_000);
+                commandExecutor.release(testKey, ownerId);
+            };
+
+            long templateBytes = bytesPerOperation(template);
+            long directBytes = bytesPerOperation(direct);
+
+            System.out.printf("✓ 획득/해제 한 쌍당 할당량: 템플릿 %d bytes, 직접 실행 %d bytes%n",
+                    templateBytes, directBytes);
+            assertThat(directBytes).isLessThan(templateBytes);
+        }
+
+        private long bytesPerOperation(Runnable operation) {
+            for (int i = 0; i < WARMUP; i++) {
+                operation.run();
+            }
+            com.sun.management.ThreadMXBean threads =
+                    (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            long threadId = Thread.currentThread().threadId();
+            long before = threads.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < ITERATIONS; i++) {
+                operation.run();
+            }
+            return (threads.getThreadAllocatedBytes(threadId) - before) / ITERATIONS;
+        }
+    }
+
+    private String generateUniqueKey(String prefix) {
+        return "test:executor:" + prefix + ":" + UUID.randomUUID();
+    }
+}
@@ -0,0 +1,191 @@
+package com.cheatsheet.distributedlock.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import com.cheatsheet.distributedlock.RedisLuaLockTestConfiguration;
+import com.cheatsheet.distributedlock.RedisTestConfiguration;
+import com.cheatsheet.distributedlock.config.RedisConfig;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis 락 Function 라이브러리 JUnit 5 테스트
+ */
+@SpringJUnitConfig(classes = {
+        RedisTestConfiguration.class,
+        RedisAutoConfiguration.class,
+        RedisConfig.class,
+        RedisLuaLockTestConfiguration.class
+})
+@DisplayName("Redis 락 Function 라이브러리 테스트")
+class RedisLockFunctionsTest {
+
+    @Autowired
+    private RedisLockFunctions lockFunctions;
+
+    @Autowired
+    private RedisLuaLockService lockService;
+
+    @Autowired
+    private RedisLockConnections lockConnections;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private String testKey;
+
+    @AfterEach
+    void cleanup() {
+        if (testKey != null) {
+            redisTemplate.delete(testKey);
+        }
+    }
+
+    @Nested
+    @DisplayName("라이브러리 등록 테스트")
+    class LoadTests {
+
+        @Test
+        @DisplayName("시작 시 라이브러리가 등록되어 FCALL 경로를 사용함")
+        void libraryLoadedAtStartup() {
+            assertThat(lockFunctions.isAvailable()).isTrue();
+            assertThat(lockFunctions.call(RedisLockFunctions.VERSION_FUNCTION, List.of()))
+                    .isEqualTo(RedisLockFunctions.LIBRARY_VERSION);
+        }
+
+        @Test
+        @DisplayName("같은 버전이 이미 등록되어 있으면 다시 초기화해도 사용 가능함")
+        void reinitWithLoadedVersion() {
+            lockFunctions.init();
+
+            assertThat(lockFunctions.isAvailable()).isTrue();
+        }
+
+        @Test
+        @DisplayName("라이브러리가 삭제되면 첫 호출에서 다시 등록함")
+        void reloadsAfterFlush() {
+            testKey = generateUniqueKey("flush");
+            redisTemplate.execute((RedisConnection connection) ->
+                    connection.execute("FUNCTION", "FLUSH".getBytes(StandardCharsets.UTF_8)));
+
+            assertThat(lockService.acquireLock(testKey, 10)).isTrue();
+            assertThat(lockService.releaseLock(testKey)).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("FCALL 사용 가능 여부 테스트")
+    class AvailabilityTests {
+
+        @Test
+        @DisplayName("시작 시 확인하지 못하면 FCALL 경로를 사용하지 않음")
+        void unavailableWhenStartupCheckFails() {
+            LettuceConnectionFactory unreachable = new LettuceConnectionFactory(
+                    new RedisStandaloneConfiguration("localhost", 1),
+                    LettuceClientConfiguration.builder().commandTimeout(Duration.ofMillis(200)).build());
+            unreachable.afterPropertiesSet();
+            unreachable.start();
+            try {
+                RedisLockConnections connections = new RedisLockConnections(unreachable, new LockConnectionMetrics(), true, 1);
+                connections.init();
+                RedisLockFunctions functions = new RedisLockFunctions(connections, true);
+                try {
+                    functions.init();
+
+                    assertThat(functions.isAvailable()).isFalse();
+                } finally {
+                    functions.destroy();
+                    connections.destroy();
+                }
+            } finally {
+                unreachable.destroy();
+            }
+        }
+
+        @Test
+        @DisplayName("FCALL이 unknown command로 실패하면 EVAL 경로로 전환함")
+        void fallsBackOnUnknownCommand() {
+            RedisLockFunctions functions = new RedisLockFunctions(lockConnections, true);
+            try {
+                functions.init();
+                assertThat(functions.isAvailable()).isTrue();
+
+                assertThat(functions.fallBackIfUnsupported(new RuntimeException("ERR other"))).isFalse();
+                assertThat(functions.isAvailable()).isTrue();
+
+                RuntimeException unsupported = new RuntimeException("wrapped",
+                        new IllegalStateException("ERR unknown command 'FCALL'"));
+                assertThat(functions.fallBackIfUnsupported(unsupported)).isTrue();
+                assertThat(functions.isAvailable()).isFalse();
+            } finally {
+                functions.destroy();
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("EVAL 경로 호환 테스트")
+    class CompatibilityTests {
+
+        @Test
+        @DisplayName("FCALL로 획득한 락은 EVAL 스크립트로 해제할 수 있음")
+        void functionAndScriptShareKeys() {
+            testKey = generateUniqueKey("compat");
+            String ownerId = UUID.randomUUID().toString();
+
+            Long token = lockFunctions.call(RedisLockFunctions.ACQUIRE_FUNCTION,
+                    List.of(testKey, RedisLuaLockService.fenceKey(testKey)), ownerId, "10000");
+
+            assertThat(token).isPositive();
+            assertThat(redisTemplate.opsForValue().get(testKey)).isEqualTo(ownerId);
+
+            Long released = redisTemplate.execute(
+                    RedisScript.of(RedisLuaLockService.RELEASE_LOCK_SCRIPT, Long.class),
+                    List.of(testKey), ownerId, RedisLockReleaseSubscriber.releaseChannel(testKey));
+            assertThat(released).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("획득 함수는 실패 시 보유자의 남은 만료 시간을 음수로 반환함")
+        void acquireReturnsRemainingLeaseOnFailure() {
+            testKey = generateUniqueKey("held");
+            List<String> keys = List.of(testKey, RedisLuaLockService.fenceKey(testKey));
+            assertThat(lockFunctions.call(RedisLockFunctions.ACQUIRE_FUNCTION, keys, UUID.randomUUID().toString(), "10000"))
+                    .isPositive();
+
+            assertThat(lockFunctions.call(RedisLockFunctions.ACQUIRE_FUNCTION, keys, UUID.randomUUID().toString(), "10000"))
+                    .isBetween(-10_000L, -9_000L);
+        }
+    }
+
+    @Test
+    @DisplayName("함수 미등록 오류를 원인 체인에서 식별함")
+    void detectsFunctionMissing() {
+        RuntimeException error = new RuntimeException("wrapped",
+                new IllegalStateException("ERR Function not found"));
+
+        assertThat(RedisLockFunctions.isFunctionMissing(error)).isTrue();
+        assertThat(RedisLockFunctions.isFunctionMissing(new RuntimeException("ERR other"))).isFalse();
+    }
+
+    private String generateUniqueKey(String prefix) {
+        return "test:function:" + prefix + ":" + UUID.randomUUID();
+    }
+}
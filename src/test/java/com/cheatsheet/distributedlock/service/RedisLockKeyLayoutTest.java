@@ -0,0 +1,139 @@
+package com.cheatsheet.distributedlock.service;
+
+import io.lettuce.core.cluster.SlotHash;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisClusterConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis 락 키 배치 JUnit 5 단위 테스트
+ *
+ * 연결 팩토리는 시작하지 않고 단독/클러스터 설정 여부만 사용합니다.
+ */
+@DisplayName("Redis 락 키 배치 테스트")
+class RedisLockKeyLayoutTest {
+
+    private static RedisLockKeyLayout standalone(int hashTagSegments) {
+        return new RedisLockKeyLayout(new LettuceConnectionFactory(), hashTagSegments);
+    }
+
+    private static RedisLockKeyLayout cluster(int hashTagSegments) {
+        return new RedisLockKeyLayout(
+                new LettuceConnectionFactory(new RedisClusterConfiguration(List.of("127.0.0.1:7000"))),
+                hashTagSegments);
+    }
+
+    @Nested
+    @DisplayName("단독 Redis")
+    class StandaloneTests {
+
+        @Test
+        @DisplayName("해시 태그 설정이 없으면 키를 바꾸지 않음")
+        void keepsKeys() {
+            RedisLockKeyLayout layout = standalone(0);
+
+            assertThat(layout.isCluster()).isFalse();
+            assertThat(layout.apply("product:123")).isEqualTo("product:123");
+        }
+
+        @Test
+        @DisplayName("일괄 연산은 슬롯과 관계없이 한 그룹으로 처리함")
+        void singleGroup() {
+            List<String> keys = List.of("a", "b", "c");
+
+            assertThat(standalone(0).groupBySlot(keys)).containsExactly(keys);
+        }
+    }
+
+    @Nested
+    @DisplayName("Redis Cluster")
+    class ClusterTests {
+
+        @Test
+        @DisplayName("해시 태그가 없는 키는 전체를 태그로 감싸 펜싱 키와 같은 슬롯에 둠")
+        void wrapsWholeKey() {
+            RedisLockKeyLayout layout = cluster(0);
+            String redisKey = layout.apply("product:123");
+
+            assertThat(redisKey).isEqualTo("{product:123}");
+            assertThat(RedisLockKeyLayout.slot(RedisLuaLockService.fenceKey(redisKey)))
+                    .isEqualTo(RedisLockKeyLayout.slot(redisKey))
+                    .isEqualTo(RedisLockKeyLayout.slot("product:123"));
+        }
+
+        @Test
+        @DisplayName("펜싱 카운터는 슬롯마다 하나만 만들어짐")
+        void fenceCounterPerSlot() {
+            RedisLockKeyLayout layout = cluster(0);
+            Set<String> fenceKeys = IntStream.range(0, 100_000)
+                    .mapToObj(i -> RedisLuaLockService.fenceKey(layout.apply("product:" + i)))
+                    .collect(Collectors.toSet());
+
+            assertThat(fenceKeys).hasSizeLessThanOrEqualTo(SlotHash.SLOT_COUNT);
+            assertThat(RedisLuaLockService.fenceKey("{warehouse:WH001}:product:P1"))
+                    .isEqualTo(RedisLuaLockService.fenceKey("{warehouse:WH001}:product:P2"));
+        }
+
+        @Test
+        @DisplayName("슬롯 태그는 모든 슬롯에 대해 해당 슬롯으로 배치됨")
+        void slotTagsCoverAllSlots() {
+            for (int slot = 0; slot < SlotHash.SLOT_COUNT; slot++) {
+                assertThat(RedisLockKeyLayout.slot("{" + RedisLockKeyLayout.slotTag(slot) + "}:x")).isEqualTo(slot);
+            }
+        }
+
+        @Test
+        @DisplayName("이미 해시 태그가 있는 키는 그대로 사용함")
+        void keepsExistingTag() {
+            assertThat(cluster(2).apply("{warehouse:WH001}:product:P1")).isEqualTo("{warehouse:WH001}:product:P1");
+        }
+
+        @Test
+        @DisplayName("빈 해시 태그는 태그로 보지 않음")
+        void emptyTagIsNotATag() {
+            assertThat(RedisLockKeyLayout.hasHashTag("{}product")).isFalse();
+            assertThat(cluster(0).apply("{}product")).isEqualTo("{{}product}");
+        }
+
+        @Test
+        @DisplayName("앞의 세그먼트를 해시 태그로 감싸 같은 창고의 락을 한 슬롯에 모음")
+        void segmentHashTag() {
+            RedisLockKeyLayout layout = cluster(2);
+
+            String first = layout.apply("warehouse:WH001:product:P1");
+            String second = layout.apply("warehouse:WH001:product:P2");
+
+            assertThat(first).isEqualTo("{warehouse:WH001}:product:P1");
+            assertThat(RedisLockKeyLayout.slot(first)).isEqualTo(RedisLockKeyLayout.slot(second));
+        }
+
+        @Test
+        @DisplayName("세그먼트가 부족한 키는 전체를 태그로 감쌈")
+        void shortKeyFallsBackToWholeKey() {
+            assertThat(cluster(2).apply("warehouse:WH001")).isEqualTo("{warehouse:WH001}");
+        }
+
+        @Test
+        @DisplayName("일괄 연산 키를 슬롯별로 묶고 입력 순서를 유지함")
+        void groupsBySlot() {
+            RedisLockKeyLayout layout = cluster(2);
+            List<String> keys = List.of(
+                    layout.apply("warehouse:A:product:1"),
+                    layout.apply("warehouse:B:product:1"),
+                    layout.apply("warehouse:A:product:2"));
+
+            assertThat(layout.groupBySlot(keys)).containsExactly(
+                    List.of(keys.get(0), keys.get(2)),
+                    List.of(keys.get(1)));
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.cheatsheet.distributedlock.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 락 해제 알림 구독자의 keyspace 알림 설정 JUnit 5 단위 테스트
+ */
+@DisplayName("Redis 락 해제 알림 구독자 설정 테스트")
+class RedisLockReleaseSubscriberTest {
+
+    @Test
+    @DisplayName("꺼져 있으면 keyevent 만료 플래그만 켬")
+    void enablesFromEmpty() {
+        assertThat(RedisLockReleaseSubscriber.withExpiredEvents("")).isEqualTo("Ex");
+    }
+
+    @Test
+    @DisplayName("기존 플래그는 유지하고 빠진 플래그만 더함")
+    void keepsExistingFlags() {
+        assertThat(RedisLockReleaseSubscriber.withExpiredEvents("Kg$")).isEqualTo("Kg$Ex");
+        assertThat(RedisLockReleaseSubscriber.withExpiredEvents("Eg")).isEqualTo("Egx");
+        assertThat(RedisLockReleaseSubscriber.withExpiredEvents("Kx")).isEqualTo("KxE");
+    }
+
+    @Test
+    @DisplayName("이미 포함하면 값을 바꾸지 않음")
+    void keepsEnabledValue() {
+        assertThat(RedisLockReleaseSubscriber.withExpiredEvents("Ex")).isEqualTo("Ex");
+        assertThat(RedisLockReleaseSubscriber.withExpiredEvents("AKE")).isEqualTo("AKE");
+    }
+}
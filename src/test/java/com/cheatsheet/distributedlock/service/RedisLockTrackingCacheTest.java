@@ -0,0 +1,168 @@
+package com.cheatsheet.distributedlock.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import com.cheatsheet.distributedlock.RedisLuaLockTestConfiguration;
+import com.cheatsheet.distributedlock.RedisTestConfiguration;
+import com.cheatsheet.distributedlock.config.RedisConfig;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis 클라이언트 측 추적 캐시 JUnit 5 테스트
+ *
+ * 다른 소유자가 보유 중인 키의 획득 시도가 서버로 가지 않는지,
+ * 해제 시 무효화 메시지로 캐시가 비워지고 대기자가 깨어나는지 검증합니다.
+ */
+@SpringJUnitConfig(classes = {
+        RedisTestConfiguration.class,
+        RedisAutoConfiguration.class,
+        RedisConfig.class,
+        RedisLuaLockTestConfiguration.class
+})
+@TestPropertySource(properties = "distributed-lock.redis.tracking.enabled=true")
+@DisplayName("Redis 클라이언트 측 추적 캐시 테스트")
+class RedisLockTrackingCacheTest {
+
+    private static final String HOLDER = "other-node:1";
+
+    @Autowired
+    private RedisLockTrackingCache trackingCache;
+
+    @Autowired
+    private RedisLuaLockService lockService;
+
+    @Autowired
+    private RedisLockKeyLayout keyLayout;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private String lockKey;
+
+    @AfterEach
+    void cleanup() {
+        if (lockKey != null) {
+            lockService.releaseLock(lockKey);
+            String redisKey = keyLayout.apply(lockKey);
+            redisTemplate.delete(redisKey);
+        }
+    }
+
+    @Nested
+    @DisplayName("보유 중인 키")
+    class HeldKeyTests {
+
+        @Test
+        @DisplayName("한 번 실패한 키는 무효화 전까지 서버에 보내지 않고 실패함")
+        void skipsKnownHeldKey() throws InterruptedException {
+            assertThat(trackingCache.isTracking()).isTrue();
+            String redisKey = holdByOtherNode("skip");
+
+            assertThat(lockService.acquireLock(lockKey, 10)).isFalse();
+            awaitKnownHeld(redisKey);
+
+            long skippedBefore = trackingCache.skippedCount();
+            for (int i = 0; i < 10; i++) {
+                assertThat(lockService.acquireLock(lockKey, 10)).isFalse();
+            }
+            assertThat(trackingCache.skippedCount() - skippedBefore).isEqualTo(10);
+        }
+
+        @Test
+        @DisplayName("만료 시간 연장은 다시 읽어 보유 상태를 유지함")
+        void extensionKeepsKeyHeld() throws InterruptedException {
+            String redisKey = holdByOtherNode("extend");
+            assertThat(lockService.acquireLock(lockKey, 10)).isFalse();
+            awaitKnownHeld(redisKey);
+
+            long invalidationsBefore = trackingCache.invalidationCount();
+            redisTemplate.expire(redisKey, Duration.ofSeconds(20));
+            awaitInvalidation(invalidationsBefore);
+            awaitKnownHeld(redisKey);
+
+            assertThat(trackingCache.heldNanos(redisKey)).isGreaterThan(TimeUnit.SECONDS.toNanos(10));
+        }
+    }
+
+    @Nested
+    @DisplayName("해제")
+    class ReleaseTests {
+
+        @Test
+        @DisplayName("다른 노드가 해제하면 무효화로 캐시가 비워지고 획득할 수 있음")
+        void invalidationForgetsKey() throws InterruptedException {
+            String redisKey = holdByOtherNode("release");
+            assertThat(lockService.acquireLock(lockKey, 10)).isFalse();
+            awaitKnownHeld(redisKey);
+
+            redisTemplate.delete(redisKey);
+            awaitForgotten(redisKey);
+
+            assertThat(lockService.acquireLock(lockKey, 10)).isTrue();
+        }
+
+        @Test
+        @DisplayName("보유 중으로 알고 대기하던 스레드가 해제 후 바로 획득함")
+        void waiterAcquiresAfterRelease() throws Exception {
+            String redisKey = holdByOtherNode("waiter");
+            assertThat(lockService.acquireLock(lockKey, 10)).isFalse();
+            awaitKnownHeld(redisKey);
+
+            CompletableFuture<Boolean> waiter = CompletableFuture.supplyAsync(
+                    () -> lockService.tryAcquireLock(lockKey, 10, 5000));
+            Thread.sleep(100);
+            long releasedAt = System.nanoTime();
+            redisTemplate.delete(redisKey);
+
+            assertThat(waiter.get(5, TimeUnit.SECONDS)).isTrue();
+            long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - releasedAt);
+            System.out.printf("✓ 해제 후 %dms 만에 획득%n", waitedMillis);
+            assertThat(waitedMillis).isLessThan(1000);
+        }
+    }
+
+    private String holdByOtherNode(String prefix) {
+        lockKey = "test:tracking:" + prefix + ":" + UUID.randomUUID();
+        String redisKey = keyLayout.apply(lockKey);
+        redisTemplate.opsForValue().set(redisKey, HOLDER, Duration.ofSeconds(10));
+        return redisKey;
+    }
+
+    private void awaitKnownHeld(String redisKey) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (trackingCache.heldNanos(redisKey) == 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(trackingCache.heldNanos(redisKey)).isPositive();
+    }
+
+    private void awaitForgotten(String redisKey) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (trackingCache.heldNanos(redisKey) > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(trackingCache.heldNanos(redisKey)).isZero();
+    }
+
+    private void awaitInvalidation(long before) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 2000;
+        while (trackingCache.invalidationCount() == before && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        assertThat(trackingCache.invalidationCount()).isGreaterThan(before);
+    }
+}
@@ -10,18 +10,23 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 
+import com.cheatsheet.distributedlock.RedisLuaLockTestConfiguration;
 import com.cheatsheet.distributedlock.RedisTestConfiguration;
 import com.cheatsheet.distributedlock.config.RedisConfig;
 import com.cheatsheet.distributedlock.enums.LockType;
 
 import org.springframework.data.redis.core.StringRedisTemplate;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * Redis Lua Script 락 서비스 JUnit 5 테스트
@@ -32,7 +37,7 @@ import static org.assertj.core.api.Assertions.assertThat;
         RedisTestConfiguration.class,
         RedisAutoConfiguration.class,
         RedisConfig.class,
-        RedisLuaLockService.class
+        RedisLuaLockTestConfiguration.class
 })
 @DisplayName("Redis Lua Script 락 서비스 테스트")
 class RedisLuaLockServiceTest {
@@ -43,6 +48,9 @@ class RedisLuaLockServiceTest {
     @Autowired
     private StringRedisTemplate redisTemplate;
     
+    @Autowired
+    private RedisLockReleaseCoalescer releaseCoalescer;
+    
     private String testKey;
     
     @AfterEach
@@ -269,6 +277,312 @@ class RedisLuaLockServiceTest {
             boolean secondAcquired = lockService.acquireLockWithOwner(testKey, 30, secondOwnerId);
             assertThat(secondAcquired).isTrue();
         }
+        
+        @Test
+        @DisplayName("밀리초 만료 시간은 PX로 설정되어 1초 안에 만료됨")
+        void millisecondLeaseExpires() throws InterruptedException {
+            testKey = generateUniqueKey("expire-millis");
+            
+            assertThat(lockService.acquireLock(testKey, Duration.ofMillis(50))).isTrue();
+            Long pttl = redisTemplate.getExpire(testKey, TimeUnit.MILLISECONDS);
+            assertThat(pttl).isBetween(1L, 50L);
+            assertThat(lockService.getLockMetadata(testKey).getTimeout()).isEqualTo(Duration.ofMillis(50));
+            
+            Thread.sleep(100);
+            
+            assertThat(lockService.acquireLock(testKey, Duration.ofMillis(50))).isTrue();
+        }
+    }
+    
+    @Nested
+    @DisplayName("해제 알림 대기 테스트")
+    class ReleaseNotificationWaitTests {
+        
+        @Test
+        @DisplayName("보유자가 해제하면 대기자가 대기 시간 전에 락을 획득함")
+        void waiterAcquiresLockWhenHolderReleases() throws InterruptedException {
+            testKey = generateUniqueKey("wait-release");
+            String holderOwnerId = UUID.randomUUID().toString();
+            assertThat(lockService.acquireLockWithOwner(testKey, 30, holderOwnerId)).isTrue();
+            
+            // 200ms 후 보유자가 락 해제
+            Thread releaser = new Thread(() -> {
+                try {
+                    Thread.sleep(200);
+                    lockService.releaseLockWithOwner(testKey, holderOwnerId);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            releaser.start();
+            
+            long startTime = System.currentTimeMillis();
+            boolean acquired = lockService.tryAcquireLock(testKey, 10, 5000);
+            long elapsedTime = System.currentTimeMillis() - startTime;
+            releaser.join();
+            
+            assertThat(acquired).isTrue();
+            assertThat(elapsedTime).isLessThan(5000L);
+        }
+        
+        @Test
+        @DisplayName("보유자의 TTL이 만료되면 대기자가 깨어나 락을 획득함")
+        void waiterAcquiresLockWhenHolderExpires() {
+            testKey = generateUniqueKey("wait-expire");
+            assertThat(lockService.acquireLockWithOwner(testKey, 1, UUID.randomUUID().toString())).isTrue();
+            
+            long startTime = System.currentTimeMillis();
+            boolean acquired = lockService.tryAcquireLock(testKey, 10, 5000);
+            long elapsedTime = System.currentTimeMillis() - startTime;
+            
+            assertThat(acquired).isTrue();
+            // 만료 알림 없이도 보유자의 남은 만료 시간이 지나면 다시 시도하므로 대기 시간을 다 쓰지 않음
+            assertThat(elapsedTime).isLessThan(3000L);
+        }
+        
+        @Test
+        @DisplayName("해제되지 않으면 대기 시간 후 실패")
+        void waiterGivesUpAfterWaitTime() {
+            testKey = generateUniqueKey("wait-timeout");
+            assertThat(lockService.acquireLockWithOwner(testKey, 30, UUID.randomUUID().toString())).isTrue();
+            
+            long startTime = System.currentTimeMillis();
+            boolean acquired = lockService.tryAcquireLock(testKey, 10, 300);
+            long elapsedTime = System.currentTimeMillis() - startTime;
+            
+            assertThat(acquired).isFalse();
+            assertThat(elapsedTime).isGreaterThanOrEqualTo(300L);
+        }
+    }
+    
+    @Nested
+    @DisplayName("펜싱 토큰 테스트")
+    class FencingTokenTests {
+        
+        @Test
+        @DisplayName("획득할 때마다 같은 키의 펜싱 토큰이 증가함")
+        void tokenIncreasesOnEachAcquisition() {
+            testKey = generateUniqueKey("fence");
+            
+            assertThat(lockService.acquireLock(testKey, 10)).isTrue();
+            long first = lockService.getLockMetadata(testKey).getFencingToken();
+            assertThat(lockService.releaseLock(testKey)).isTrue();
+            
+            assertThat(lockService.acquireLock(testKey, 10)).isTrue();
+            long second = lockService.getLockMetadata(testKey).getFencingToken();
+            
+            assertThat(first).isPositive();
+            assertThat(second).isGreaterThan(first);
+        }
+        
+        @Test
+        @DisplayName("만료 후 재획득해도 펜싱 토큰이 증가함")
+        void tokenIncreasesAfterExpiry() throws InterruptedException {
+            testKey = generateUniqueKey("fence-expiry");
+            
+            assertThat(lockService.acquireLock(testKey, 1)).isTrue();
+            long expiredToken = lockService.getLockMetadata(testKey).getFencingToken();
+            Thread.sleep(1500);
+            
+            assertThat(lockService.acquireLock(testKey, 10)).isTrue();
+            
+            assertThat(lockService.getLockMetadata(testKey).getFencingToken()).isGreaterThan(expiredToken);
+        }
+        
+        @Test
+        @DisplayName("획득에 실패하면 펜싱 토큰이 증가하지 않음")
+        void failedAcquisitionDoesNotIncrementToken() {
+            testKey = generateUniqueKey("fence-failed");
+            assertThat(lockService.acquireLock(testKey, 10)).isTrue();
+            long token = lockService.getLockMetadata(testKey).getFencingToken();
+            
+            assertThat(lockService.acquireLockWithOwner(testKey, 10, UUID.randomUUID().toString())).isFalse();
+            
+            assertThat(redisTemplate.opsForValue().get(RedisLuaLockService.fenceKey(testKey)))
+                    .isEqualTo(String.valueOf(token));
+        }
+    }
+    
+    @Nested
+    @DisplayName("다중 키 일괄 획득 테스트")
+    class MultiKeyTests {
+        
+        @Test
+        @DisplayName("모든 키가 비어 있으면 한 번에 모두 획득하고 일괄 해제함")
+        void acquiresAndReleasesAllKeys() {
+            List<String> keys = List.of(generateUniqueKey("all-1"), generateUniqueKey("all-2"), generateUniqueKey("all-3"));
+            
+            assertThat(lockService.acquireAll(keys, 10)).isTrue();
+            keys.forEach(key -> assertThat(redisTemplate.hasKey(key)).isTrue());
+            assertThat(keys.stream().map(lockService::getOwnerIdForKey).distinct()).hasSize(1);
+            
+            assertThat(lockService.releaseAll(keys)).isTrue();
+            keys.forEach(key -> assertThat(redisTemplate.hasKey(key)).isFalse());
+        }
+        
+        @Test
+        @DisplayName("일괄 획득한 락도 키별로 단조 증가하는 펜싱 토큰을 받음")
+        void acquireAllIssuesFencingTokens() {
+            List<String> keys = List.of(generateUniqueKey("fenced-all-1"), generateUniqueKey("fenced-all-2"));
+            assertThat(lockService.acquireLock(keys.get(0), 10)).isTrue();
+            long previous = lockService.getLockMetadata(keys.get(0)).getFencingToken();
+            assertThat(lockService.releaseLock(keys.get(0))).isTrue();
+            
+            assertThat(lockService.acquireAll(keys, 10)).isTrue();
+            long allToken = lockService.getLockMetadata(keys.get(0)).getFencingToken();
+            assertThat(allToken).isGreaterThan(previous);
+            assertThat(lockService.getLockMetadata(keys.get(1)).getFencingToken()).isEqualTo(allToken);
+            assertThat(lockService.releaseAll(keys)).isTrue();
+            
+            testKey = keys.get(1);
+            assertThat(lockService.acquireLock(testKey, 10)).isTrue();
+            assertThat(lockService.getLockMetadata(testKey).getFencingToken()).isGreaterThan(allToken);
+        }
+        
+        @Test
+        @DisplayName("하나라도 점유되어 있으면 어떤 키도 획득하지 않음")
+        void acquiresNothingWhenAnyKeyIsHeld() {
+            List<String> keys = List.of(generateUniqueKey("partial-1"), generateUniqueKey("partial-2"));
+            testKey = keys.get(1);
+            assertThat(lockService.acquireLockWithOwner(testKey, 10, UUID.randomUUID().toString())).isTrue();
+            
+            assertThat(lockService.acquireAll(keys, 10)).isFalse();
+            
+            assertThat(redisTemplate.hasKey(keys.get(0))).isFalse();
+            assertThat(lockService.getOwnerIdForKey(keys.get(0))).isNull();
+        }
+        
+        @Test
+        @DisplayName("겹치는 키 집합을 교차 순서로 요청해도 교착 없이 한쪽만 성공함")
+        void overlappingRequestsDoNotDeadlock() throws InterruptedException {
+            String first = generateUniqueKey("overlap-1");
+            String second = generateUniqueKey("overlap-2");
+            AtomicInteger successCount = new AtomicInteger(0);
+            CountDownLatch startLatch = new CountDownLatch(1);
+            CountDownLatch doneLatch = new CountDownLatch(2);
+            
+            for (List<String> keys : List.of(List.of(first, second), List.of(second, first))) {
+                new Thread(() -> {
+                    try {
+                        startLatch.await();
+                        if (lockService.acquireAll(keys, 10)) {
+                            successCount.incrementAndGet();
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        doneLatch.countDown();
+                    }
+                }).start();
+            }
+            
+            startLatch.countDown();
+            assertThat(doneLatch.await(5, TimeUnit.SECONDS)).isTrue();
+            
+            assertThat(successCount.get()).isEqualTo(1);
+            assertThat(lockService.releaseAll(List.of(first, second))).isTrue();
+        }
+        
+        @Test
+        @DisplayName("빈 키 목록은 IllegalArgumentException 발생")
+        void emptyKeysThrows() {
+            assertThatThrownBy(() -> lockService.acquireAll(List.of(), 10))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+    
+    @Nested
+    @DisplayName("재시도 시점 테스트")
+    class RetryAfterTests {
+        
+        @Test
+        @DisplayName("획득 실패 시 보유자의 남은 만료 시간을 재시도 시점으로 제안함")
+        void suggestsHolderRemainingTime() {
+            testKey = generateUniqueKey("retry-after");
+            assertThat(lockService.acquireLockWithOwner(testKey, 10, "other-owner")).isTrue();
+            
+            assertThat(lockService.acquireLock(testKey, 10)).isFalse();
+            
+            assertThat(lockService.retryAfterMillis(testKey)).isBetween(1L, 10_000L);
+            assertThat(lockService.retryAfterMillis(generateUniqueKey("other"))).isZero();
+        }
+        
+        @Test
+        @DisplayName("평균 보유 시간이 남은 만료 시간보다 짧으면 평균 보유 시간을 제안함")
+        void prefersTypicalHoldTime() throws InterruptedException {
+            testKey = generateUniqueKey("retry-typical");
+            for (int i = 0; i < 3; i++) {
+                assertThat(lockService.acquireLock(testKey, 10)).isTrue();
+                Thread.sleep(20);
+                assertThat(lockService.releaseLock(testKey)).isTrue();
+            }
+            assertThat(lockService.acquireLockWithOwner(testKey, 10, "other-owner")).isTrue();
+            
+            assertThat(lockService.acquireLock(testKey, 10)).isFalse();
+            
+            assertThat(lockService.retryAfterMillis(testKey)).isBetween(20L, 1_000L);
+            assertThat(lockService.releaseLockWithOwner(testKey, "other-owner")).isTrue();
+        }
+    }
+    
+    @Nested
+    @DisplayName("백그라운드 해제 테스트")
+    class BackgroundReleaseTests {
+        
+        @Test
+        @DisplayName("백그라운드 해제는 바로 반환하고 해제기가 락을 지움")
+        void releasesInBackground() throws InterruptedException {
+            testKey = generateUniqueKey("background");
+            assertThat(lockService.acquireLock(testKey, 10)).isTrue();
+            
+            assertThat(lockService.releaseLockInBackground(testKey)).isTrue();
+            awaitFlushed();
+            
+            assertThat(redisTemplate.hasKey(testKey)).isFalse();
+            assertThat(lockService.releaseLockInBackground(testKey)).isFalse();
+        }
+        
+        @Test
+        @DisplayName("여러 스레드의 백그라운드 해제가 모두 반영됨")
+        void concurrentBackgroundReleases() throws InterruptedException {
+            List<String> keys = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                keys.add(generateUniqueKey("background-batch"));
+            }
+            keys.forEach(key -> assertThat(lockService.acquireLock(key, 10)).isTrue());
+            
+            keys.parallelStream().forEach(key -> assertThat(lockService.releaseLockInBackground(key)).isTrue());
+            awaitFlushed();
+            
+            for (String key : keys) {
+                assertThat(redisTemplate.hasKey(key)).isFalse();
+            }
+        }
+        
+        @Test
+        @DisplayName("해제 요청 시점의 소유자로 검증하므로 그 사이 다른 소유자가 획득한 락은 지우지 않음")
+        void checksOwnerCapturedAtRelease() throws InterruptedException {
+            testKey = generateUniqueKey("background-owner");
+            assertThat(lockService.acquireLock(testKey, 10)).isTrue();
+            String staleOwner = redisTemplate.opsForValue().get(testKey);
+            
+            // 만료 후 다른 소유자가 획득한 상황을 재현
+            assertThat(lockService.releaseLock(testKey)).isTrue();
+            assertThat(lockService.acquireLockWithOwner(testKey, 10, "other-owner")).isTrue();
+            assertThat(releaseCoalescer.submit(testKey, staleOwner)).isTrue();
+            awaitFlushed();
+            
+            assertThat(redisTemplate.opsForValue().get(testKey)).isEqualTo("other-owner");
+            assertThat(lockService.releaseLockWithOwner(testKey, "other-owner")).isTrue();
+        }
+        
+        private void awaitFlushed() throws InterruptedException {
+            long deadline = System.currentTimeMillis() + 5000;
+            while (releaseCoalescer.pendingCount() > 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+            assertThat(releaseCoalescer.pendingCount()).isZero();
+        }
     }
     
     private String generateUniqueKey(String prefix) {
@@ -0,0 +1,217 @@
+package com.cheatsheet.distributedlock.service;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import com.cheatsheet.distributedlock.enums.LockType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis 과반수(Redlock) 락 서비스 JUnit 5 테스트
+ *
+ * 서로 다른 포트의 독립 Redis 컨테이너 3대를 노드로 사용합니다.
+ */
+@Testcontainers
+@SpringJUnitConfig(classes = RedisQuorumLockService.class)
+@DisplayName("Redis 과반수 락 서비스 테스트")
+class RedisQuorumLockServiceTest {
+
+    @Container
+    static final GenericContainer<?> NODE_A = redisNode();
+
+    @Container
+    static final GenericContainer<?> NODE_B = redisNode();
+
+    @Container
+    static final GenericContainer<?> NODE_C = redisNode();
+
+    private static final List<LettuceConnectionFactory> connectionFactories = new ArrayList<>();
+    private static final List<StringRedisTemplate> nodeTemplates = new ArrayList<>();
+
+    @DynamicPropertySource
+    static void quorumNodes(DynamicPropertyRegistry registry) {
+        registry.add("distributed-lock.redis.quorum.nodes", () -> List.of(NODE_A, NODE_B, NODE_C).stream()
+                .map(node -> "redis://" + node.getHost() + ":" + node.getMappedPort(6379))
+                .collect(Collectors.joining(",")));
+        registry.add("distributed-lock.redis.quorum.node-timeout-millis", () -> "500");
+    }
+
+    @BeforeAll
+    static void connectNodes() {
+        for (GenericContainer<?> node : List.of(NODE_A, NODE_B, NODE_C)) {
+            LettuceConnectionFactory factory = new LettuceConnectionFactory(
+                    new RedisStandaloneConfiguration(node.getHost(), node.getMappedPort(6379)));
+            factory.afterPropertiesSet();
+            connectionFactories.add(factory);
+            nodeTemplates.add(new StringRedisTemplate(factory));
+        }
+    }
+
+    @AfterAll
+    static void closeNodes() {
+        connectionFactories.forEach(LettuceConnectionFactory::destroy);
+    }
+
+    @Autowired
+    private RedisQuorumLockService lockService;
+
+    private String testKey;
+
+    @AfterEach
+    void cleanup() {
+        if (testKey != null) {
+            lockService.releaseLock(testKey);
+            nodeTemplates.forEach(template -> template.delete(testKey));
+        }
+    }
+
+    @Test
+    @DisplayName("지원하는 락 타입은 REDIS_QUORUM이다")
+    void supportedTypeIsRedisQuorum() {
+        assertThat(lockService.getSupportedType()).isEqualTo(LockType.REDIS_QUORUM);
+    }
+
+    @Nested
+    @DisplayName("과반수 획득 테스트")
+    class QuorumTests {
+
+        @Test
+        @DisplayName("모든 노드가 비어 있으면 획득하고 해제 시 모든 노드에서 삭제됨")
+        void acquireAndReleaseOnAllNodes() {
+            testKey = generateUniqueKey("all");
+
+            assertThat(lockService.acquireLock(testKey, 10)).isTrue();
+            assertThat(nodeTemplates).allSatisfy(template -> assertThat(template.hasKey(testKey)).isTrue());
+
+            assertThat(lockService.releaseLock(testKey)).isTrue();
+            assertThat(nodeTemplates).allSatisfy(template -> assertThat(template.hasKey(testKey)).isFalse());
+        }
+
+        @Test
+        @DisplayName("보유 중인 락은 다른 요청자가 획득할 수 없음")
+        void heldLockIsExclusive() throws Exception {
+            testKey = generateUniqueKey("exclusive");
+            assertThat(lockService.acquireLock(testKey, 10)).isTrue();
+
+            assertThat(onOtherThread(() -> lockService.acquireLock(testKey, 10))).isFalse();
+        }
+
+        @Test
+        @DisplayName("소수 노드를 다른 소유자가 잡고 있어도 과반수에서 획득하면 성공")
+        void minorityHeldElsewhereStillAcquires() {
+            testKey = generateUniqueKey("minority");
+            nodeTemplates.get(0).opsForValue().set(testKey, UUID.randomUUID().toString(), 30, TimeUnit.SECONDS);
+
+            assertThat(lockService.acquireLock(testKey, 10)).isTrue();
+        }
+
+        @Test
+        @DisplayName("과반수를 얻지 못하면 실패하고 일부 노드에서 잡은 락을 되돌림")
+        void majorityHeldElsewhereFailsAndRollsBack() {
+            testKey = generateUniqueKey("majority");
+            String otherOwner = UUID.randomUUID().toString();
+            nodeTemplates.get(0).opsForValue().set(testKey, otherOwner, 30, TimeUnit.SECONDS);
+            nodeTemplates.get(1).opsForValue().set(testKey, otherOwner, 30, TimeUnit.SECONDS);
+
+            assertThat(lockService.acquireLock(testKey, 10)).isFalse();
+
+            assertThat(nodeTemplates.get(2).hasKey(testKey)).isFalse();
+            assertThat(nodeTemplates.get(0).opsForValue().get(testKey)).isEqualTo(otherOwner);
+        }
+
+        @Test
+        @DisplayName("대기 시간 안에 과반수가 풀리면 획득")
+        void tryAcquireSucceedsAfterRelease() throws Exception {
+            testKey = generateUniqueKey("wait");
+            assertThat(onOtherThread(() -> lockService.acquireLock(testKey, 1))).isTrue();
+
+            assertThat(lockService.tryAcquireLock(testKey, 10, 3000)).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("유효 시간 테스트")
+    class ValidityTests {
+
+        @Test
+        @DisplayName("유효 시간은 만료 시간에서 소요 시간과 시계 오차 여유분을 뺀 값")
+        void validitySubtractsElapsedAndDrift() {
+            assertThat(RedisQuorumLockService.validityMillis(10000, 30)).isEqualTo(10000 - 30 - 100 - 2);
+        }
+
+        @Test
+        @DisplayName("획득 직후 남은 유효 시간은 만료 시간보다 짧음")
+        void remainingValidityIsBelowTtl() {
+            testKey = generateUniqueKey("validity");
+            assertThat(lockService.acquireLock(testKey, 10)).isTrue();
+
+            assertThat(lockService.getRemainingValidityMillis(testKey)).isPositive().isLessThan(10000);
+        }
+    }
+
+    @Nested
+    @DisplayName("노드 장애 테스트")
+    class NodeFailureTests {
+
+        @Test
+        @DisplayName("시작 시 한 노드가 내려가 있어도 초기화되고 나머지 과반수로 획득함")
+        void startsAndAcquiresWithOneNodeDown() {
+            testKey = generateUniqueKey("node-down");
+            RedisQuorumLockService degraded = new RedisQuorumLockService(List.of(
+                    "redis://" + NODE_A.getHost() + ":" + NODE_A.getMappedPort(6379),
+                    "redis://" + NODE_B.getHost() + ":" + NODE_B.getMappedPort(6379),
+                    "redis://localhost:1"), 500);
+            try {
+                degraded.init();
+
+                assertThat(degraded.acquireLock(testKey, 10)).isTrue();
+                assertThat(nodeTemplates.get(0).hasKey(testKey)).isTrue();
+                assertThat(nodeTemplates.get(1).hasKey(testKey)).isTrue();
+                assertThat(degraded.releaseLock(testKey)).isTrue();
+            } finally {
+                degraded.destroy();
+            }
+        }
+    }
+
+    private static GenericContainer<?> redisNode() {
+        return new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+    }
+
+    /**
+     * 다른 스레드에서 실행합니다.
+     */
+    private <T> T onOtherThread(Supplier<T> action) throws Exception {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        new Thread(() -> result.complete(action.get())).start();
+        return result.get(5, TimeUnit.SECONDS);
+    }
+
+    private String generateUniqueKey(String prefix) {
+        return "test:quorum:" + prefix + ":" + UUID.randomUUID();
+    }
+}
@@ -0,0 +1,149 @@
+package com.cheatsheet.distributedlock.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import com.cheatsheet.distributedlock.RedisLuaLockTestConfiguration;
+import com.cheatsheet.distributedlock.RedisTestConfiguration;
+import com.cheatsheet.distributedlock.config.RedisConfig;
+import com.cheatsheet.distributedlock.exception.LockAcquisitionException;
+import com.cheatsheet.distributedlock.model.LockHandle;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Redis Reactive 락 서비스 JUnit 5 테스트
+ */
+@SpringJUnitConfig(classes = {
+        RedisTestConfiguration.class,
+        RedisAutoConfiguration.class,
+        RedisConfig.class,
+        RedisLuaLockTestConfiguration.class,
+        RedisReactiveLockService.class
+})
+@DisplayName("Redis Reactive 락 서비스 테스트")
+class RedisReactiveLockServiceTest {
+
+    @Autowired
+    private RedisReactiveLockService reactiveLockService;
+
+    @Autowired
+    private RedisLuaLockService lockService;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private String testKey;
+
+    @AfterEach
+    void cleanup() {
+        if (testKey != null) {
+            redisTemplate.delete(testKey);
+        }
+    }
+
+    @Nested
+    @DisplayName("획득/해제 테스트")
+    class AcquireReleaseTests {
+
+        @Test
+        @DisplayName("구독하기 전에는 락을 획득하지 않음")
+        void acquireIsLazy() {
+            testKey = generateUniqueKey("lazy");
+
+            Mono<LockHandle> acquisition = reactiveLockService.acquireLock(testKey, 10);
+            assertThat(redisTemplate.hasKey(testKey)).isFalse();
+
+            LockHandle handle = acquisition.block(Duration.ofSeconds(5));
+            assertThat(redisTemplate.opsForValue().get(testKey)).isEqualTo(handle.getOwnerId());
+        }
+
+        @Test
+        @DisplayName("이미 보유 중인 락은 LockAcquisitionException으로 종료됨")
+        void heldLockErrors() {
+            testKey = generateUniqueKey("held");
+            assertThat(lockService.acquireLock(testKey, 10)).isTrue();
+
+            assertThatThrownBy(() -> reactiveLockService.acquireLock(testKey, 10).block(Duration.ofSeconds(5)))
+                    .isInstanceOf(LockAcquisitionException.class);
+        }
+
+        @Test
+        @DisplayName("해제 알림을 받으면 대기 중인 획득이 완료됨")
+        void waitingAcquireCompletesOnRelease() throws InterruptedException {
+            testKey = generateUniqueKey("wait");
+            LockHandle holder = reactiveLockService.acquireLock(testKey, 10).block(Duration.ofSeconds(5));
+
+            Mono<LockHandle> waiter = reactiveLockService.tryAcquireLock(testKey, 10, 5000).cache();
+            waiter.subscribe();
+            Thread.sleep(100);
+            reactiveLockService.releaseLock(holder).block(Duration.ofSeconds(5));
+
+            assertThat(waiter.block(Duration.ofSeconds(5)).getOwnerId()).isNotEqualTo(holder.getOwnerId());
+        }
+    }
+
+    @Nested
+    @DisplayName("withLock 연산자 테스트")
+    class WithLockTests {
+
+        @Test
+        @DisplayName("Mono가 완료되면 락이 해제됨")
+        void releasesOnComplete() {
+            testKey = generateUniqueKey("complete");
+
+            String result = reactiveLockService.withLock(testKey, 10, 0,
+                            Mono.fromSupplier(() -> redisTemplate.hasKey(testKey) ? "locked" : "unlocked"))
+                    .block(Duration.ofSeconds(5));
+
+            assertThat(result).isEqualTo("locked");
+            assertThat(redisTemplate.hasKey(testKey)).isFalse();
+        }
+
+        @Test
+        @DisplayName("오류로 종료되어도 락이 해제됨")
+        void releasesOnError() {
+            testKey = generateUniqueKey("error");
+
+            assertThatThrownBy(() -> reactiveLockService.withLock(testKey, 10, 0,
+                            Mono.error(new IllegalStateException("boom")))
+                    .block(Duration.ofSeconds(5)))
+                    .isInstanceOf(IllegalStateException.class);
+
+            assertThat(redisTemplate.hasKey(testKey)).isFalse();
+        }
+
+        @Test
+        @DisplayName("구독을 취소하면 락이 해제됨")
+        void releasesOnCancel() throws InterruptedException {
+            testKey = generateUniqueKey("cancel");
+
+            Disposable subscription = reactiveLockService.withLock(testKey, 10, 0, Flux.interval(Duration.ofMillis(10)))
+                    .subscribe();
+            Thread.sleep(200);
+            assertThat(redisTemplate.hasKey(testKey)).isTrue();
+
+            subscription.dispose();
+            Thread.sleep(200);
+
+            assertThat(redisTemplate.hasKey(testKey)).isFalse();
+        }
+    }
+
+    private String generateUniqueKey(String prefix) {
+        return "test:reactive:" + prefix + ":" + UUID.randomUUID();
+    }
+}
@@ -0,0 +1,225 @@
+package com.cheatsheet.distributedlock.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import com.cheatsheet.distributedlock.RedisLockCommandTestConfiguration;
+import com.cheatsheet.distributedlock.RedisTestConfiguration;
+import com.cheatsheet.distributedlock.config.RedisConfig;
+import com.cheatsheet.distributedlock.enums.LockType;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis 읽기/쓰기 락 서비스 JUnit 5 테스트
+ *
+ * 소유권이 스레드 단위이므로 다른 보유자는 새 스레드에서 실행합니다.
+ */
+@SpringJUnitConfig(classes = {
+        RedisTestConfiguration.class,
+        RedisAutoConfiguration.class,
+        RedisConfig.class,
+        RedisLockCommandTestConfiguration.class,
+        RedisLockReleaseSubscriber.class,
+        RedisReadWriteLockService.class
+})
+@DisplayName("Redis 읽기/쓰기 락 서비스 테스트")
+class RedisReadWriteLockServiceTest {
+
+    @Autowired
+    private RedisReadWriteLockService lockService;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private String testKey;
+
+    @AfterEach
+    void cleanup() {
+        if (testKey != null) {
+            lockService.releaseLock(testKey);
+            redisTemplate.delete(testKey);
+        }
+    }
+
+    @Test
+    @DisplayName("지원하는 락 타입은 REDIS_READ_WRITE이다")
+    void supportedTypeIsRedisReadWrite() {
+        assertThat(lockService.getSupportedType()).isEqualTo(LockType.REDIS_READ_WRITE);
+    }
+
+    @Nested
+    @DisplayName("읽기/쓰기 배타성 테스트")
+    class ExclusionTests {
+
+        @Test
+        @DisplayName("여러 읽기 보유자가 동시에 락을 획득할 수 있음")
+        void readersShareLock() throws Exception {
+            testKey = generateUniqueKey("readers");
+
+            assertThat(lockService.acquireReadLock(testKey, 10)).isTrue();
+            assertThat(onOtherThread(() -> {
+                boolean acquired = lockService.acquireReadLock(testKey, 10);
+                lockService.releaseReadLock(testKey);
+                return acquired;
+            })).isTrue();
+        }
+
+        @Test
+        @DisplayName("읽기 보유자가 있으면 쓰기 락을 획득할 수 없음")
+        void readerBlocksWriter() throws Exception {
+            testKey = generateUniqueKey("reader-blocks");
+
+            assertThat(lockService.acquireReadLock(testKey, 10)).isTrue();
+
+            assertThat(onOtherThread(() -> lockService.acquireLock(testKey, 10))).isFalse();
+        }
+
+        @Test
+        @DisplayName("쓰기 보유자가 있으면 읽기 락을 획득할 수 없음")
+        void writerBlocksReader() throws Exception {
+            testKey = generateUniqueKey("writer-blocks");
+
+            assertThat(lockService.acquireLock(testKey, 10)).isTrue();
+
+            assertThat(onOtherThread(() -> lockService.acquireReadLock(testKey, 10))).isFalse();
+        }
+
+        @Test
+        @DisplayName("마지막 읽기 보유자가 해제하면 대기 중인 쓰기 요청자가 획득함")
+        void writerAcquiresAfterLastReaderReleases() throws Exception {
+            testKey = generateUniqueKey("writer-waits");
+            assertThat(lockService.acquireReadLock(testKey, 10)).isTrue();
+
+            CompletableFuture<Boolean> writer = new CompletableFuture<>();
+            new Thread(() -> {
+                boolean acquired = lockService.tryAcquireLock(testKey, 10, 5000);
+                lockService.releaseLock(testKey);
+                writer.complete(acquired);
+            }).start();
+            Thread.sleep(200);
+            assertThat(lockService.releaseReadLock(testKey)).isTrue();
+
+            assertThat(writer.get(5, TimeUnit.SECONDS)).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("모드 전환 테스트")
+    class ModeConversionTests {
+
+        @Test
+        @DisplayName("쓰기 락을 해제 없이 읽기 락으로 전환하면 다른 읽기 보유자가 합류할 수 있음")
+        void downgradeAllowsOtherReaders() throws Exception {
+            testKey = generateUniqueKey("downgrade");
+            assertThat(lockService.acquireLock(testKey, 10)).isTrue();
+
+            assertThat(lockService.downgradeToReadLock(testKey)).isTrue();
+
+            assertThat(redisTemplate.hasKey(testKey)).isTrue();
+            assertThat(onOtherThread(() -> {
+                boolean acquired = lockService.acquireReadLock(testKey, 10);
+                lockService.releaseReadLock(testKey);
+                return acquired;
+            })).isTrue();
+            assertThat(onOtherThread(() -> lockService.acquireLock(testKey, 10))).isFalse();
+            assertThat(lockService.releaseLock(testKey)).isTrue();
+            assertThat(redisTemplate.hasKey(testKey)).isFalse();
+        }
+
+        @Test
+        @DisplayName("유일한 읽기 보유자는 쓰기 락으로 전환할 수 있음")
+        void soleReaderCanUpgrade() {
+            testKey = generateUniqueKey("upgrade");
+            assertThat(lockService.acquireReadLock(testKey, 10)).isTrue();
+
+            assertThat(lockService.tryUpgradeToWriteLock(testKey)).isTrue();
+
+            assertThat(redisTemplate.opsForHash().get(testKey, "mode")).isEqualTo("write");
+        }
+
+        @Test
+        @DisplayName("다른 읽기 보유자가 있으면 전환에 실패하고 읽기 락은 유지됨")
+        void upgradeFailsWithOtherReaders() throws Exception {
+            testKey = generateUniqueKey("upgrade-conflict");
+            assertThat(lockService.acquireReadLock(testKey, 10)).isTrue();
+            assertThat(onOtherThread(() -> lockService.acquireReadLock(testKey, 10))).isTrue();
+
+            assertThat(lockService.tryUpgradeToWriteLock(testKey)).isFalse();
+
+            assertThat(redisTemplate.opsForHash().get(testKey, "mode")).isEqualTo("read");
+            assertThat(lockService.releaseReadLock(testKey)).isTrue();
+        }
+    }
+
+    @Nested
+    @DisplayName("만료 테스트")
+    class ExpirationTests {
+
+        @Test
+        @DisplayName("해제하지 않고 만료된 읽기 보유자는 쓰기 획득 시도 시 정리됨")
+        void expiredReaderIsPurgedOnWriteAttempt() throws Exception {
+            testKey = generateUniqueKey("expired-reader");
+            assertThat(onOtherThread(() -> lockService.acquireReadLock(testKey, 1))).isTrue();
+            // 다른 읽기 보유자가 키 만료 시간을 연장한 상황
+            assertThat(onOtherThread(() -> lockService.acquireReadLock(testKey, 10))).isTrue();
+            Thread.sleep(1500);
+
+            // 유효한 읽기 보유자가 남아 있으므로 실패하지만, 만료된 보유자는 제거됨 (mode + 읽기 보유자 1명)
+            assertThat(onOtherThread(() -> lockService.acquireLock(testKey, 10))).isFalse();
+            assertThat(redisTemplate.opsForHash().size(testKey)).isEqualTo(2L);
+        }
+    }
+
+    @Nested
+    @DisplayName("밀리초 만료 시간 테스트")
+    class MillisecondLeaseTests {
+
+        @Test
+        @DisplayName("1초 미만의 쓰기 락 만료 시간은 올림하지 않고 밀리초로 설정됨")
+        void subSecondWriteLeaseIsNotRoundedUp() {
+            testKey = generateUniqueKey("millis-write");
+
+            assertThat(lockService.acquireLock(testKey, Duration.ofMillis(300))).isTrue();
+
+            assertThat(redisTemplate.getExpire(testKey, TimeUnit.MILLISECONDS)).isPositive().isLessThanOrEqualTo(300L);
+            assertThat(lockService.releaseLock(testKey)).isTrue();
+        }
+
+        @Test
+        @DisplayName("읽기 락 뷰도 1초 미만의 만료 시간을 밀리초로 설정함")
+        void subSecondReadLeaseIsNotRoundedUp() {
+            testKey = generateUniqueKey("millis-read");
+
+            assertThat(lockService.readLock().acquireLock(testKey, Duration.ofMillis(300))).isTrue();
+
+            assertThat(redisTemplate.getExpire(testKey, TimeUnit.MILLISECONDS)).isPositive().isLessThanOrEqualTo(300L);
+            assertThat(lockService.releaseReadLock(testKey)).isTrue();
+        }
+    }
+
+    /**
+     * 매번 새 스레드에서 실행하여 스레드 로컬 보유 정보가 섞이지 않도록 합니다.
+     */
+    private <T> T onOtherThread(Supplier<T> action) throws Exception {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        new Thread(() -> result.complete(action.get())).start();
+        return result.get(5, TimeUnit.SECONDS);
+    }
+
+    private String generateUniqueKey(String prefix) {
+        return "test:rw:" + prefix + ":" + UUID.randomUUID();
+    }
+}
@@ -0,0 +1,173 @@
+package com.cheatsheet.distributedlock.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import com.cheatsheet.distributedlock.RedisLockCommandTestConfiguration;
+import com.cheatsheet.distributedlock.RedisTestConfiguration;
+import com.cheatsheet.distributedlock.config.RedisConfig;
+import com.cheatsheet.distributedlock.enums.LockType;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Redis 재진입 락 서비스 JUnit 5 테스트
+ */
+@SpringJUnitConfig(classes = {
+        RedisTestConfiguration.class,
+        RedisAutoConfiguration.class,
+        RedisConfig.class,
+        RedisLockCommandTestConfiguration.class,
+        RedisLockReleaseSubscriber.class,
+        RedisReentrantLockService.class
+})
+@DisplayName("Redis 재진입 락 서비스 테스트")
+class RedisReentrantLockServiceTest {
+
+    @Autowired
+    private RedisReentrantLockService lockService;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private String testKey;
+
+    @AfterEach
+    void cleanup() {
+        if (testKey != null) {
+            while (lockService.getHoldCount(testKey) > 0) {
+                lockService.releaseLock(testKey);
+            }
+            redisTemplate.delete(testKey);
+        }
+    }
+
+    @Test
+    @DisplayName("지원하는 락 타입은 REDIS_REENTRANT이다")
+    void supportedTypeIsRedisReentrant() {
+        assertThat(lockService.getSupportedType()).isEqualTo(LockType.REDIS_REENTRANT);
+    }
+
+    @Nested
+    @DisplayName("스레드 재진입 테스트")
+    class ThreadReentryTests {
+
+        @Test
+        @DisplayName("같은 스레드는 중첩 획득이 가능하고 마지막 해제에서만 키가 삭제됨")
+        void nestedAcquisitionReleasesOnLastUnlock() {
+            testKey = generateUniqueKey("nested");
+
+            assertThat(lockService.acquireLock(testKey, 10)).isTrue();
+            assertThat(lockService.acquireLock(testKey, 10)).isTrue();
+            assertThat(lockService.acquireLock(testKey, 10)).isTrue();
+            assertThat(lockService.getHoldCount(testKey)).isEqualTo(3);
+
+            assertThat(lockService.releaseLock(testKey)).isTrue();
+            assertThat(lockService.releaseLock(testKey)).isTrue();
+            assertThat(redisTemplate.hasKey(testKey)).isTrue();
+
+            assertThat(lockService.releaseLock(testKey)).isTrue();
+            assertThat(redisTemplate.hasKey(testKey)).isFalse();
+            assertThat(lockService.getHoldCount(testKey)).isZero();
+        }
+
+        @Test
+        @DisplayName("중첩 획득은 Redis 보유 횟수를 증가시키지 않음 (네트워크 호출 생략)")
+        void nestedAcquisitionSkipsRedis() {
+            testKey = generateUniqueKey("local");
+
+            assertThat(lockService.acquireLock(testKey, 10)).isTrue();
+            assertThat(lockService.acquireLock(testKey, 10)).isTrue();
+
+            assertThat(redisTemplate.opsForHash().get(testKey, "count")).isEqualTo("1");
+            assertThat(redisTemplate.opsForHash().get(testKey, "owner")).isEqualTo(lockService.currentOwnerId());
+        }
+
+        @Test
+        @DisplayName("다른 스레드는 보유 중인 락을 획득할 수 없음")
+        void otherThreadCannotAcquire() throws InterruptedException {
+            testKey = generateUniqueKey("other");
+            assertThat(lockService.acquireLock(testKey, 10)).isTrue();
+
+            AtomicBoolean otherAcquired = new AtomicBoolean(true);
+            Thread other = new Thread(() -> otherAcquired.set(lockService.acquireLock(testKey, 10)));
+            other.start();
+            other.join(5000);
+
+            assertThat(otherAcquired.get()).isFalse();
+        }
+
+        @Test
+        @DisplayName("보유하지 않은 락 해제는 실패")
+        void releaseWithoutHoldFails() {
+            testKey = generateUniqueKey("not-held");
+
+            assertThat(lockService.releaseLock(testKey)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("소유자 ID 기반 재진입 테스트")
+    class OwnerReentryTests {
+
+        @Test
+        @DisplayName("같은 소유자 ID의 재획득은 Redis 보유 횟수를 증감함")
+        void sameOwnerIncrementsAndDecrementsCount() {
+            testKey = generateUniqueKey("owner");
+            String ownerId = UUID.randomUUID().toString();
+
+            assertThat(lockService.acquireLockWithOwner(testKey, 10, ownerId)).isTrue();
+            assertThat(lockService.acquireLockWithOwner(testKey, 10, ownerId)).isTrue();
+            assertThat(redisTemplate.opsForHash().get(testKey, "count")).isEqualTo("2");
+
+            assertThat(lockService.releaseLockWithOwner(testKey, ownerId)).isEqualTo(1L);
+            assertThat(lockService.releaseLockWithOwner(testKey, ownerId)).isZero();
+            assertThat(redisTemplate.hasKey(testKey)).isFalse();
+        }
+
+        @Test
+        @DisplayName("다른 소유자 ID는 획득과 해제 모두 실패")
+        void differentOwnerIsRejected() {
+            testKey = generateUniqueKey("mismatch");
+            String ownerId = UUID.randomUUID().toString();
+            String otherOwnerId = UUID.randomUUID().toString();
+
+            assertThat(lockService.acquireLockWithOwner(testKey, 10, ownerId)).isTrue();
+
+            assertThat(lockService.acquireLockWithOwner(testKey, 10, otherOwnerId)).isFalse();
+            assertThat(lockService.releaseLockWithOwner(testKey, otherOwnerId)).isEqualTo(-1L);
+            assertThat(lockService.releaseLockWithOwner(testKey, ownerId)).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("밀리초 만료 시간 테스트")
+    class MillisecondLeaseTests {
+
+        @Test
+        @DisplayName("1초 미만의 만료 시간은 올림하지 않고 밀리초로 설정됨")
+        void subSecondLeaseIsNotRoundedUp() {
+            testKey = generateUniqueKey("millis");
+
+            assertThat(lockService.acquireLock(testKey, Duration.ofMillis(300))).isTrue();
+
+            assertThat(redisTemplate.getExpire(testKey, TimeUnit.MILLISECONDS)).isPositive().isLessThanOrEqualTo(300L);
+            assertThat(lockService.releaseLock(testKey)).isTrue();
+        }
+    }
+
+    private String generateUniqueKey(String prefix) {
+        return "test:reentrant:" + prefix + ":" + UUID.randomUUID();
+    }
+}
@@ -0,0 +1,194 @@
+package com.cheatsheet.distributedlock.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import com.cheatsheet.distributedlock.RedisTestConfiguration;
+import com.cheatsheet.distributedlock.config.RedisConfig;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Redis 세마포어 서비스 JUnit 5 테스트
+ */
+@SpringJUnitConfig(classes = {
+        RedisTestConfiguration.class,
+        RedisAutoConfiguration.class,
+        RedisConfig.class,
+        RedisLockReleaseSubscriber.class,
+        RedisLockKeyLayout.class,
+        RedisSemaphoreService.class
+})
+@DisplayName("Redis 세마포어 서비스 테스트")
+class RedisSemaphoreServiceTest {
+
+    @Autowired
+    private RedisSemaphoreService semaphoreService;
+
+    @Autowired
+    private StringRedisTemplate redisTemplate;
+
+    private String testKey;
+
+    @AfterEach
+    void cleanup() {
+        if (testKey != null) {
+            while (semaphoreService.releasePermit(testKey)) {
+                // 현재 스레드가 보유한 슬롯 모두 반환
+            }
+            redisTemplate.delete(semaphoreService.permitsKey(testKey));
+        }
+    }
+
+    @Nested
+    @DisplayName("허용 개수 테스트")
+    class PermitLimitTests {
+
+        @Test
+        @DisplayName("허용 개수만큼만 획득할 수 있음")
+        void acquiresUpToPermits() {
+            testKey = generateUniqueKey("limit");
+
+            assertThat(semaphoreService.acquirePermit(testKey, 3, 10)).isTrue();
+            assertThat(semaphoreService.acquirePermit(testKey, 3, 10)).isTrue();
+            assertThat(semaphoreService.acquirePermit(testKey, 3, 10)).isTrue();
+            assertThat(semaphoreService.acquirePermit(testKey, 3, 10)).isFalse();
+
+            assertThat(redisTemplate.opsForZSet().zCard(semaphoreService.permitsKey(testKey))).isEqualTo(3L);
+        }
+
+        @Test
+        @DisplayName("같은 락 키의 문자열 락과 키가 겹치지 않음")
+        void doesNotCollideWithStringLock() {
+            testKey = generateUniqueKey("shared");
+            redisTemplate.opsForValue().set(testKey, "string-lock-owner", Duration.ofSeconds(10));
+
+            try {
+                assertThat(semaphoreService.acquirePermit(testKey, 1, 10)).isTrue();
+                assertThat(semaphoreService.releasePermit(testKey)).isTrue();
+                assertThat(redisTemplate.opsForValue().get(testKey)).isEqualTo("string-lock-owner");
+            } finally {
+                redisTemplate.delete(testKey);
+            }
+        }
+
+        @Test
+        @DisplayName("반환하면 다른 요청자가 슬롯을 획득할 수 있음")
+        void releaseFreesPermit() throws Exception {
+            testKey = generateUniqueKey("release");
+            assertThat(semaphoreService.acquirePermit(testKey, 1, 10)).isTrue();
+            assertThat(onOtherThread(() -> semaphoreService.acquirePermit(testKey, 1, 10))).isFalse();
+
+            assertThat(semaphoreService.releasePermit(testKey)).isTrue();
+
+            assertThat(onOtherThread(() -> semaphoreService.acquirePermit(testKey, 1, 10))).isTrue();
+        }
+
+        @Test
+        @DisplayName("동시 요청에서도 동시 보유자 수가 허용 개수를 넘지 않음")
+        void concurrentHoldersNeverExceedPermits() throws InterruptedException {
+            testKey = generateUniqueKey("concurrent");
+            int permits = 4;
+            int threadCount = 20;
+            AtomicInteger holders = new AtomicInteger(0);
+            AtomicInteger maxHolders = new AtomicInteger(0);
+            AtomicInteger successCount = new AtomicInteger(0);
+            CountDownLatch startLatch = new CountDownLatch(1);
+            CountDownLatch doneLatch = new CountDownLatch(threadCount);
+            ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+            for (int i = 0; i < threadCount; i++) {
+                executorService.submit(() -> {
+                    try {
+                        startLatch.await();
+                        if (semaphoreService.tryAcquirePermit(testKey, permits, 10, 5000)) {
+                            maxHolders.accumulateAndGet(holders.incrementAndGet(), Math::max);
+                            Thread.sleep(50);
+                            holders.decrementAndGet();
+                            successCount.incrementAndGet();
+                            semaphoreService.releasePermit(testKey);
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        doneLatch.countDown();
+                    }
+                });
+            }
+
+            startLatch.countDown();
+            doneLatch.await(10, TimeUnit.SECONDS);
+            executorService.shutdown();
+
+            assertThat(successCount.get()).isEqualTo(threadCount);
+            assertThat(maxHolders.get()).isLessThanOrEqualTo(permits);
+        }
+
+        @Test
+        @DisplayName("허용 개수가 1보다 작으면 IllegalArgumentException 발생")
+        void nonPositivePermitsThrows() {
+            assertThatThrownBy(() -> semaphoreService.acquirePermit(generateUniqueKey("invalid"), 0, 10))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("만료 슬롯 회수 테스트")
+    class ExpirationTests {
+
+        @Test
+        @DisplayName("반환하지 않은 슬롯은 만료 시각이 지나면 회수됨")
+        void expiredPermitIsReclaimed() throws Exception {
+            testKey = generateUniqueKey("expired");
+            // 반환하지 않고 종료된 보유자
+            assertThat(onOtherThread(() -> semaphoreService.acquirePermit(testKey, 1, 1))).isTrue();
+            assertThat(semaphoreService.acquirePermit(testKey, 1, 10)).isFalse();
+
+            Thread.sleep(1200);
+
+            assertThat(semaphoreService.acquirePermit(testKey, 1, 10)).isTrue();
+        }
+
+        @Test
+        @DisplayName("대기 중에는 해제 알림이 없어도 가장 빠른 보유 슬롯의 만료 시각에 다시 시도함")
+        void waiterRetriesAtEarliestExpiry() throws Exception {
+            testKey = generateUniqueKey("expiry-wait");
+            assertThat(onOtherThread(() -> semaphoreService.acquirePermit(testKey, 1, 1))).isTrue();
+
+            long start = System.nanoTime();
+            assertThat(semaphoreService.tryAcquirePermit(testKey, 1, 10, 5000)).isTrue();
+
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(3000);
+        }
+    }
+
+    /**
+     * 매번 새 스레드에서 실행하여 스레드 로컬 보유 정보가 섞이지 않도록 합니다.
+     */
+    private <T> T onOtherThread(Supplier<T> action) throws Exception {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        new Thread(() -> result.complete(action.get())).start();
+        return result.get(5, TimeUnit.SECONDS);
+    }
+
+    private String generateUniqueKey(String prefix) {
+        return "test:semaphore:" + prefix + ":" + UUID.randomUUID();
+    }
+}
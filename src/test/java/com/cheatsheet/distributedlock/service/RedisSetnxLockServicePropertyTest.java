@@ -11,6 +11,7 @@ import org.springframework.boot.autoconfigure.data.redis.RedisAutoConfiguration;
 import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
 
+import com.cheatsheet.distributedlock.RedisLockCommandTestConfiguration;
 import com.cheatsheet.distributedlock.RedisTestConfiguration;
 import com.cheatsheet.distributedlock.config.RedisConfig;
 
@@ -28,6 +29,7 @@ import static org.assertj.core.api.Assertions.assertThat;
         RedisTestConfiguration.class,
         RedisAutoConfiguration.class,
         RedisConfig.class,
+        RedisLockCommandTestConfiguration.class,
         RedisSetnxLockService.class
 })
 @DisplayName("Redis SETNX 락 서비스 Property-Based 테스트")
@@ -0,0 +1,51 @@
+package com.cheatsheet.distributedlock.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 락 보유 시간 통계의 JUnit 5 기반 단위 테스트
+ */
+@DisplayName("락 보유 시간 통계 테스트")
+class LockHoldTimesTest {
+
+    @Test
+    @DisplayName("기록이 없으면 0을 반환하고 첫 표본은 그대로 평균이 됨")
+    void firstSample() {
+        LockHoldTimes holdTimes = new LockHoldTimes(10);
+
+        assertThat(holdTimes.typicalMillis("order:1")).isZero();
+
+        holdTimes.record("order:1", Duration.ofMillis(40));
+
+        assertThat(holdTimes.typicalMillis("order:1")).isEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("새 표본은 1/8 가중치로 평균에 반영됨")
+    void movingAverage() {
+        LockHoldTimes holdTimes = new LockHoldTimes(10);
+        holdTimes.record("order:1", Duration.ofMillis(80));
+
+        holdTimes.record("order:1", Duration.ofMillis(160));
+
+        assertThat(holdTimes.typicalMillis("order:1")).isEqualTo(90);
+    }
+
+    @Test
+    @DisplayName("기록이 없는 키와 한도를 넘은 키는 전체 평균을 사용함")
+    void fallsBackToOverall() {
+        LockHoldTimes holdTimes = new LockHoldTimes(1);
+        holdTimes.record("order:1", Duration.ofMillis(80));
+        holdTimes.record("order:2", Duration.ofMillis(160));
+
+        assertThat(holdTimes.size()).isEqualTo(1);
+        assertThat(holdTimes.typicalMillis("order:1")).isEqualTo(80);
+        assertThat(holdTimes.typicalMillis("order:2")).isEqualTo(90);
+        assertThat(holdTimes.typicalMillis("order:3")).isEqualTo(90);
+    }
+}
@@ -0,0 +1,150 @@
+package com.cheatsheet.distributedlock.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 락 키 압축 변환기의 JUnit 5 기반 단위 테스트
+ */
+@DisplayName("락 키 압축 변환기 테스트")
+class LockKeyCompactorTest {
+
+    private static final String LONG_KEY = "warehouse:seoul-gangnam-01:product:SKU-2024-000123456";
+
+    @Test
+    @DisplayName("비활성화 상태에서는 키를 바꾸지 않음")
+    void disabledKeepsKey() {
+        assertThat(LockKeyCompactor.disabled().compact(LONG_KEY)).isEqualTo(LONG_KEY);
+        assertThat(new LockKeyCompactor(false, "lk:", 0, true).compact(LONG_KEY)).isEqualTo(LONG_KEY);
+    }
+
+    @Test
+    @DisplayName("해시는 MurmurHash3 x64 128 참조 값과 같음")
+    void matchesReferenceHash() {
+        assertThat(hex("")).isEqualTo("00000000000000000000000000000000");
+        assertThat(hex("hello")).isEqualTo("029bbd41b3a7d8cb191dae486a901e5b");
+        assertThat(hex("The quick brown fox jumps over the lazy dog"))
+                .isEqualTo("6c1b07bc7bbc4be347939ac4a93c437a");
+    }
+
+    @Nested
+    @DisplayName("압축")
+    class CompactTests {
+
+        private final LockKeyCompactor compactor = new LockKeyCompactor(true, "lk:", 0, false);
+
+        @Test
+        @DisplayName("키 길이와 관계없이 접두사 + 22자 키가 됨")
+        void fixedLength() {
+            String compacted = compactor.compact(LONG_KEY);
+
+            assertThat(compacted).startsWith("lk:").hasSize(3 + 22);
+            assertThat(compactor.compact("a")).hasSize(3 + 22);
+            assertThat(compactor.compact(LONG_KEY.repeat(10))).hasSize(3 + 22);
+            System.out.printf("✓ %d bytes -> %d bytes: %s%n", LONG_KEY.length(), compacted.length(), compacted);
+        }
+
+        @Test
+        @DisplayName("같은 키는 항상 같은 키로, 다른 키는 다른 키로 변환됨")
+        void deterministicAndDistinct() {
+            assertThat(compactor.compact(LONG_KEY))
+                    .isEqualTo(new LockKeyCompactor(true, "lk:", 0, false).compact(LONG_KEY));
+
+            Set<String> compacted = IntStream.range(0, 100_000)
+                    .mapToObj(i -> compactor.compact("product:" + i))
+                    .collect(Collectors.toSet());
+            assertThat(compacted).hasSize(100_000);
+        }
+
+        @Test
+        @DisplayName("유지할 세그먼트는 해시하지 않고 앞에 남김")
+        void keepsLeadingSegments() {
+            LockKeyCompactor keepOne = new LockKeyCompactor(true, "lk:", 1, false);
+
+            String compacted = keepOne.compact(LONG_KEY);
+
+            assertThat(compacted).startsWith("warehouse:lk:").hasSize("warehouse:lk:".length() + 22);
+            assertThat(keepOne.compact("product")).startsWith("lk:");
+        }
+
+        @Test
+        @DisplayName("맨 앞 해시 태그는 해시하지 않고 그대로 남김")
+        void keepsHashTag() {
+            String tagged = "{warehouse:seoul}:product:SKU-2024-000123456";
+
+            String compacted = compactor.compact(tagged);
+
+            assertThat(compacted).startsWith("{warehouse:seoul}lk:").hasSize("{warehouse:seoul}lk:".length() + 22);
+            assertThat(compactor.compact("{seoul}:product:1").substring("{seoul}".length()))
+                    .isEqualTo(compactor.compact("{busan}:product:1").substring("{busan}".length()));
+        }
+
+        @Test
+        @DisplayName("세그먼트를 유지할 때 해시 태그 안의 ':'에서 나누지 않음")
+        void keepsSegmentsAfterHashTag() {
+            LockKeyCompactor keepOne = new LockKeyCompactor(true, "lk:", 1, false);
+
+            assertThat(keepOne.compact("{tenant:7}:product:42")).startsWith("{tenant:7}:lk:");
+            assertThat(keepOne.compact("{tenant:7}")).startsWith("{tenant:7}lk:");
+        }
+
+        @Test
+        @DisplayName("비어 있거나 맨 앞이 아닌 중괄호는 해시 태그로 보지 않음")
+        void ignoresNonTags() {
+            assertThat(compactor.compact("{}product:42")).startsWith("lk:");
+            assertThat(compactor.compact("product:{42}")).startsWith("lk:");
+            assertThat(compactor.compact("{product:42")).startsWith("lk:");
+        }
+    }
+
+    @Nested
+    @DisplayName("디버그 모드")
+    class DebugTests {
+
+        @Test
+        @DisplayName("압축한 키에서 원래 키를 찾을 수 있음")
+        void recordsOriginal() {
+            LockKeyCompactor compactor = new LockKeyCompactor(true, "lk:", 0, true);
+
+            String compacted = compactor.compact(LONG_KEY);
+
+            assertThat(compactor.original(compacted)).isEqualTo(LONG_KEY);
+            assertThat(compactor.original("lk:unknown")).isNull();
+        }
+
+        @Test
+        @DisplayName("디버그 모드가 아니면 매핑을 기록하지 않음")
+        void noRecordWithoutDebug() {
+            LockKeyCompactor compactor = new LockKeyCompactor(true, "lk:", 0, false);
+
+            assertThat(compactor.original(compactor.compact(LONG_KEY))).isNull();
+        }
+
+        @Test
+        @DisplayName("기록하는 매핑 수는 상한을 넘지 않음")
+        void boundedMappings() {
+            LockKeyCompactor compactor = new LockKeyCompactor(true, "lk:", 0, true);
+
+            for (int i = 0; i < LockKeyCompactor.MAX_MAPPINGS; i++) {
+                compactor.compact("product:" + i);
+            }
+            String overflow = compactor.compact("product:overflow");
+
+            assertThat(compactor.original(compactor.compact("product:0"))).isEqualTo("product:0");
+            assertThat(compactor.original(overflow)).isNull();
+        }
+    }
+
+    private static String hex(String value) {
+        return HexFormat.of().formatHex(LockKeyCompactor.hash128(value.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,95 @@
+package com.cheatsheet.distributedlock.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 락 소유자 ID 생성기의 JUnit 5 기반 단위 테스트
+ */
+@DisplayName("락 소유자 ID 생성기 테스트")
+class LockOwnerIdsTest {
+
+    @Test
+    @DisplayName("생성한 ID는 이 노드의 접두사로 시작함")
+    void idStartsWithNodePrefix() {
+        String ownerId = LockOwnerIds.next();
+
+        assertThat(ownerId).startsWith(LockOwnerIds.nodePrefix());
+        assertThat(LockOwnerIds.isLocal(ownerId)).isTrue();
+        assertThat(LockOwnerIds.isLocal("other-node-1")).isFalse();
+        assertThat(LockOwnerIds.isLocal(null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("생성한 ID는 UUID 문자열보다 짧음")
+    void idIsCompact() {
+        assertThat(LockOwnerIds.next().length()).isLessThan(36);
+    }
+
+    @Test
+    @DisplayName("여러 스레드에서 동시에 생성해도 ID가 중복되지 않음")
+    void idsAreUniqueAcrossThreads() throws Exception {
+        int threads = 32;
+        int perThread = 10_000;
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        ids.add(LockOwnerIds.next());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        assertThat(ids).hasSize(threads * perThread);
+    }
+
+    @Test
+    @DisplayName("이 생성기의 ID는 문자열보다 짧은 바이너리로 저장됨")
+    void bytesAreShorterThanText() {
+        String ownerId = LockOwnerIds.next();
+
+        byte[] bytes = LockOwnerIds.toBytes(ownerId);
+
+        assertThat(bytes.length).isLessThan(ownerId.getBytes(StandardCharsets.UTF_8).length);
+        assertThat(bytes.length).isLessThanOrEqualTo(18);
+    }
+
+    @Test
+    @DisplayName("서로 다른 ID는 서로 다른 바이너리가 됨")
+    void bytesAreDistinct() {
+        Set<String> encoded = IntStream.range(0, 10_000)
+                .mapToObj(i -> Arrays.toString(LockOwnerIds.toBytes(LockOwnerIds.next())))
+                .collect(Collectors.toSet());
+
+        assertThat(encoded).hasSize(10_000);
+    }
+
+    @Test
+    @DisplayName("다른 형식의 ID는 UTF-8 바이트를 그대로 사용함")
+    void foreignIdsKeepUtf8() {
+        for (String ownerId : new String[] {"other-node:1", "abc-007", "abc-+1", "-1", "holder"}) {
+            assertThat(LockOwnerIds.toBytes(ownerId)).isEqualTo(ownerId.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}